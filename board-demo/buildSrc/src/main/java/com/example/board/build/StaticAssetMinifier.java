@@ -0,0 +1,298 @@
+package com.example.board.build;
+
+import java.util.Set;
+
+/**
+ * 정적 리소스(css/js) 축약기
+ * 주석과 공백만 제거하고 코드 자체는 바꾸지 않음 (이름 변경, 구문 변환 없음)
+ * 문자열/템플릿 리터럴/정규식 리터럴은 글자 그대로 보존하고, 그 밖의 구간에서만 주석을 지우고 공백을 줄임
+ *
+ * - JS: 줄바꿈은 하나로 유지하여 세미콜론 자동 삽입 결과가 바뀌지 않도록 함
+ * - CSS: 줄바꿈도 공백으로 보고, 구분 기호({ } ; , >) 주변 공백은 제거
+ */
+public final class StaticAssetMinifier {
+
+  // 이 문자 뒤의 '/'는 나눗셈이 아니라 정규식 리터럴의 시작
+  private static final String REGEX_PRECEDING = "(,=:[!&|?{};+-*%<>~^";
+
+  // 이 키워드 뒤의 '/'도 정규식 리터럴의 시작
+  private static final Set<String> REGEX_PRECEDING_KEYWORDS = Set.of(
+      "return", "typeof", "case", "do", "else", "in", "of", "new", "delete", "void", "throw",
+      "instanceof", "yield", "await");
+
+  // 앞뒤 공백이 의미 없는 CSS 구분 기호
+  private static final String CSS_SEPARATORS = "{};,>";
+
+  private StaticAssetMinifier() {
+  }
+
+  /**
+   * CSS 축약
+   *
+   * @param css 원본 CSS
+   * @return 주석과 불필요한 공백을 제거한 CSS
+   */
+  public static String minifyCss(String css) {
+    StringBuilder out = new StringBuilder(css.length());
+    boolean pendingSpace = false;
+    int i = 0;
+    while (i < css.length()) {
+      char c = css.charAt(i);
+      if (c == '/' && startsWith(css, i, "/*")) {
+        i = blockCommentEnd(css, i);
+        pendingSpace = true;
+      } else if (Character.isWhitespace(c)) {
+        pendingSpace = true;
+        i++;
+      } else {
+        if (pendingSpace && out.length() > 0 && !isCssSeparator(out.charAt(out.length() - 1))
+            && !isCssSeparator(c)) {
+          out.append(' ');
+        }
+        pendingSpace = false;
+        if (c == '"' || c == '\'') {
+          int end = quotedEnd(css, i, c);
+          out.append(css, i, end);
+          i = end;
+        } else {
+          if (c == '}' && out.length() > 0 && out.charAt(out.length() - 1) == ';') {
+            out.setLength(out.length() - 1);
+          }
+          out.append(c);
+          i++;
+        }
+      }
+    }
+    return out.toString();
+  }
+
+  /**
+   * JS 축약
+   *
+   * @param js 원본 JS
+   * @return 주석, 들여쓰기, 빈 줄을 제거한 JS
+   */
+  public static String minifyJs(String js) {
+    StringBuilder out = new StringBuilder(js.length());
+    boolean pendingSpace = false;
+    boolean pendingNewline = false;
+    int i = 0;
+    while (i < js.length()) {
+      char c = js.charAt(i);
+      if (c == '/' && startsWith(js, i, "//")) {
+        while (i < js.length() && js.charAt(i) != '\n' && js.charAt(i) != '\r') {
+          i++;
+        }
+      } else if (c == '/' && startsWith(js, i, "/*")) {
+        int end = blockCommentEnd(js, i);
+        if (js.substring(i, end).indexOf('\n') >= 0) {
+          pendingNewline = true;
+        } else {
+          pendingSpace = true;
+        }
+        i = end;
+      } else if (Character.isWhitespace(c)) {
+        if (c == '\n' || c == '\r') {
+          pendingNewline = true;
+        } else {
+          pendingSpace = true;
+        }
+        i++;
+      } else {
+        if (out.length() > 0) {
+          if (pendingNewline) {
+            out.append('\n');
+          } else if (pendingSpace) {
+            out.append(' ');
+          }
+        }
+        pendingSpace = false;
+        pendingNewline = false;
+
+        int end;
+        if (c == '"' || c == '\'') {
+          end = quotedEnd(js, i, c);
+        } else if (c == '`') {
+          end = templateEnd(js, i);
+        } else if (c == '/' && startsRegex(out)) {
+          end = regexEnd(js, i);
+        } else {
+          end = i + 1;
+        }
+        out.append(js, i, end);
+        i = end;
+      }
+    }
+    if (out.length() > 0) {
+      out.append('\n');
+    }
+    return out.toString();
+  }
+
+  /**
+   * 축약 결과 검증: 원본에서 주석과 공백만 빠졌는지 확인
+   * 축약기와 별개로 공백을 무시하고 두 문자열을 맞춰 보며, 어긋난 위치가 주석의 시작일 때만 그 주석을 건너뜀
+   *
+   * @param source   원본
+   * @param minified 축약 결과
+   * @param js       JS 여부 (한 줄 주석 허용)
+   * @throws IllegalStateException 주석/공백 외의 내용이 달라진 경우
+   */
+  public static void verify(String source, String minified, boolean js) {
+    int s = skipWhitespace(source, 0);
+    int m = skipWhitespace(minified, 0);
+    while (s < source.length() || m < minified.length()) {
+      if (s < source.length() && m < minified.length() && source.charAt(s) == minified.charAt(m)) {
+        s = skipWhitespace(source, s + 1);
+        m = skipWhitespace(minified, m + 1);
+      } else if (startsWith(source, s, "/*")) {
+        s = skipWhitespace(source, blockCommentEnd(source, s));
+      } else if (!js && source.charAt(s) == ';' && m < minified.length() && minified.charAt(m) == '}') {
+        // 블록 마지막 선언의 세미콜론 생략
+        s = skipWhitespace(source, s + 1);
+      } else if (js && startsWith(source, s, "//")) {
+        int lineEnd = source.indexOf('\n', s);
+        s = skipWhitespace(source, lineEnd < 0 ? source.length() : lineEnd);
+      } else {
+        throw new IllegalStateException("축약 결과가 원본과 다릅니다: 원본 위치 " + s + " 근처 '"
+            + excerpt(source, s) + "', 축약 위치 " + m + " 근처 '" + excerpt(minified, m) + "'");
+      }
+    }
+  }
+
+  private static boolean isCssSeparator(char c) {
+    return CSS_SEPARATORS.indexOf(c) >= 0;
+  }
+
+  /**
+   * 직전 출력으로 '/'가 정규식 리터럴의 시작인지 판단
+   */
+  private static boolean startsRegex(StringBuilder out) {
+    int end = out.length();
+    while (end > 0 && Character.isWhitespace(out.charAt(end - 1))) {
+      end--;
+    }
+    if (end == 0) {
+      return true;
+    }
+    char last = out.charAt(end - 1);
+    if (REGEX_PRECEDING.indexOf(last) >= 0) {
+      return true;
+    }
+    int start = end;
+    while (start > 0 && Character.isJavaIdentifierPart(out.charAt(start - 1))) {
+      start--;
+    }
+    return start < end && REGEX_PRECEDING_KEYWORDS.contains(out.substring(start, end));
+  }
+
+  private static int blockCommentEnd(String text, int start) {
+    int end = text.indexOf("*/", start + 2);
+    return end < 0 ? text.length() : end + 2;
+  }
+
+  /**
+   * 따옴표 문자열의 끝 (이스케이프된 따옴표는 건너뜀)
+   */
+  private static int quotedEnd(String text, int start, char quote) {
+    int i = start + 1;
+    while (i < text.length()) {
+      char c = text.charAt(i);
+      if (c == '\\') {
+        i += 2;
+      } else if (c == quote) {
+        return i + 1;
+      } else {
+        i++;
+      }
+    }
+    return text.length();
+  }
+
+  /**
+   * 템플릿 리터럴의 끝 (${...} 안의 식도 그대로 보존하며, 식 안의 문자열/템플릿/중괄호를 따라감)
+   */
+  private static int templateEnd(String text, int start) {
+    int i = start + 1;
+    while (i < text.length()) {
+      char c = text.charAt(i);
+      if (c == '\\') {
+        i += 2;
+      } else if (c == '`') {
+        return i + 1;
+      } else if (c == '$' && startsWith(text, i, "${")) {
+        i = expressionEnd(text, i + 2);
+      } else {
+        i++;
+      }
+    }
+    return text.length();
+  }
+
+  private static int expressionEnd(String text, int start) {
+    int depth = 0;
+    int i = start;
+    while (i < text.length()) {
+      char c = text.charAt(i);
+      if (c == '"' || c == '\'') {
+        i = quotedEnd(text, i, c);
+      } else if (c == '`') {
+        i = templateEnd(text, i);
+      } else if (c == '{') {
+        depth++;
+        i++;
+      } else if (c == '}') {
+        if (depth == 0) {
+          return i + 1;
+        }
+        depth--;
+        i++;
+      } else {
+        i++;
+      }
+    }
+    return text.length();
+  }
+
+  /**
+   * 정규식 리터럴의 끝 (문자 클래스 [...] 안의 '/'와 이스케이프는 건너뛰고, 뒤의 플래그는 일반 코드로 처리)
+   */
+  private static int regexEnd(String text, int start) {
+    boolean inClass = false;
+    int i = start + 1;
+    while (i < text.length()) {
+      char c = text.charAt(i);
+      if (c == '\\') {
+        i += 2;
+      } else if (c == '\n') {
+        return i;
+      } else if (c == '[') {
+        inClass = true;
+        i++;
+      } else if (c == ']') {
+        inClass = false;
+        i++;
+      } else if (c == '/' && !inClass) {
+        return i + 1;
+      } else {
+        i++;
+      }
+    }
+    return text.length();
+  }
+
+  private static boolean startsWith(String text, int index, String prefix) {
+    return text.startsWith(prefix, index);
+  }
+
+  private static int skipWhitespace(String text, int index) {
+    while (index < text.length() && Character.isWhitespace(text.charAt(index))) {
+      index++;
+    }
+    return index;
+  }
+
+  private static String excerpt(String text, int index) {
+    return text.substring(index, Math.min(text.length(), index + 40)).replace('\n', ' ');
+  }
+}
@@ -0,0 +1,114 @@
+package com.example.board.build;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 정적 리소스 축약기 테스트
+ * 문자열/템플릿/정규식 리터럴을 건드리지 않는지, 배포되는 리소스 전체에서 주석/공백만 빠지는지 검증
+ */
+class StaticAssetMinifierTest {
+
+    private static final Pattern TEMPLATE_LITERAL = Pattern.compile("`[^`]*`");
+
+    @Test
+    void jsKeepsCodeAfterBlockCommentOnSameLine() {
+        assertThat(StaticAssetMinifier.minifyJs("a(); /* 주석 */ b();\n"))
+                .isEqualTo("a(); b();\n");
+    }
+
+    @Test
+    void jsKeepsTemplateLiteralWhitespace() {
+        String js = """
+                const html = `
+                    <li>  ${ item.name }  </li>
+                `;
+                """;
+
+        assertThat(StaticAssetMinifier.minifyJs(js)).contains("`\n    <li>  ${ item.name }  </li>\n`");
+    }
+
+    @Test
+    void jsKeepsCommentMarkersInsideStringsAndRegex() {
+        String js = """
+                const url = 'http://example.com/*';
+                const pattern = /\\/\\/[a/]*/g;
+                const half = total / 2 / 1; // 나눗셈
+                """;
+
+        assertThat(StaticAssetMinifier.minifyJs(js)).isEqualTo("""
+                const url = 'http://example.com/*';
+                const pattern = /\\/\\/[a/]*/g;
+                const half = total / 2 / 1;
+                """);
+    }
+
+    @Test
+    void jsKeepsLineBreaksForSemicolonInsertion() {
+        assertThat(StaticAssetMinifier.minifyJs("let a = 1\n\n    // 주석\n    let b = a\n"))
+                .isEqualTo("let a = 1\nlet b = a\n");
+    }
+
+    @Test
+    void cssKeepsEscapedQuotesAndCommentMarkersInStrings() {
+        String css = "a::after { content: \"\\\"  /* 유지 */ \" ; }\n/* 주석 */ b > c , d { margin: 0 auto; }";
+
+        assertThat(StaticAssetMinifier.minifyCss(css))
+                .isEqualTo("a::after{content: \"\\\"  /* 유지 */ \"}b>c,d{margin: 0 auto}");
+    }
+
+    @Test
+    void verifyRejectsLostCode() {
+        assertThatThrownBy(() -> StaticAssetMinifier.verify("a(); /* 주석 */ b();", "a();", true))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("b();");
+    }
+
+    @ParameterizedTest
+    @MethodSource("shippedAssets")
+    void shippedAssetsLoseOnlyCommentsAndWhitespace(Path asset) throws IOException {
+        String source = Files.readString(asset, StandardCharsets.UTF_8);
+        boolean js = asset.toString().endsWith(".js");
+
+        String minified = minify(source, js);
+
+        StaticAssetMinifier.verify(source, minified, js);
+        assertThat(minify(minified, js)).isEqualTo(minified);
+        assertThat(minified.length()).isLessThanOrEqualTo(source.length());
+        if (js) {
+            Matcher templates = TEMPLATE_LITERAL.matcher(source);
+            while (templates.find()) {
+                assertThat(minified).contains(templates.group());
+            }
+        }
+    }
+
+    static Stream<Path> shippedAssets() throws IOException {
+        Path root = Path.of(System.getProperty("static.dir", "../src/main/resources/static"));
+        try (Stream<Path> files = Files.walk(root)) {
+            List<Path> assets = files
+                    .filter(path -> path.toString().endsWith(".js") || path.toString().endsWith(".css"))
+                    .sorted()
+                    .toList();
+            assertThat(assets).isNotEmpty();
+            return assets.stream();
+        }
+    }
+
+    private static String minify(String source, boolean js) {
+        return js ? StaticAssetMinifier.minifyJs(source) : StaticAssetMinifier.minifyCss(source);
+    }
+}
@@ -0,0 +1,91 @@
+package com.example.board.benchmark;
+
+import com.example.board.domain.Comment;
+import com.example.board.domain.Post;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * 벤치마크용 합성 데이터 생성기
+ * DB 없이 메모리에서 ID와 생성일시가 채워진 엔티티를 만들어 냄
+ */
+final class BenchmarkFixtures {
+
+  private static final String CONTENT = "오늘은 눈이 많이 내려서 오두막 창밖을 한참 바라봤어요. ";
+
+  private BenchmarkFixtures() {
+  }
+
+  /**
+   * 게시글 목록 생성
+   *
+   * @param size 게시글 수
+   * @return ID가 1부터 채워진 게시글 목록
+   */
+  static List<Post> posts(int size) {
+    List<Post> posts = new ArrayList<>(size);
+    for (int i = 1; i <= size; i++) {
+      posts.add(post(i));
+    }
+    return posts;
+  }
+
+  /**
+   * 게시글 하나 생성
+   *
+   * @param id 게시글 ID
+   * @return 게시글 엔티티
+   */
+  static Post post(long id) {
+    Post post = Post.builder()
+        .title("숲속 오두막 일기 #" + id)
+        .content(CONTENT.repeat(10))
+        .author("user" + (id % 50))
+        .build();
+    ReflectionTestUtils.setField(post, "id", id);
+    post.prePersist();
+    return post;
+  }
+
+  /**
+   * 게시글의 평면 댓글 목록 생성 (생성 순서대로 정렬)
+   * 약 30%는 최상위 댓글, 나머지는 앞서 생성된 최상위 댓글에 대한 대댓글
+   *
+   * @param post 댓글이 달릴 게시글
+   * @param size 댓글 수
+   * @param seed 난수 시드 (실행마다 같은 구조를 만들기 위함)
+   * @return 댓글 목록
+   */
+  static List<Comment> flatComments(Post post, int size, long seed) {
+    Random random = new Random(seed);
+    List<Comment> comments = new ArrayList<>(size);
+    List<Comment> topLevel = new ArrayList<>();
+
+    for (int i = 1; i <= size; i++) {
+      Comment parent = null;
+      if (!topLevel.isEmpty() && random.nextInt(10) >= 3) {
+        parent = topLevel.get(random.nextInt(topLevel.size()));
+      }
+
+      Comment comment = Comment.builder()
+          .content("댓글 " + i + " - " + CONTENT)
+          .author("user" + random.nextInt(50))
+          .post(post)
+          .parent(parent)
+          .build();
+      ReflectionTestUtils.setField(comment, "id", (long) i);
+      comment.prePersist();
+
+      if (parent == null) {
+        topLevel.add(comment);
+      } else {
+        parent.addChild(comment);
+      }
+      comments.add(comment);
+    }
+    return comments;
+  }
+}
@@ -0,0 +1,42 @@
+package com.example.board.benchmark;
+
+import com.example.board.domain.Comment;
+import com.example.board.domain.Post;
+import com.example.board.dto.CommentViewDto;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 댓글 트리 조립 벤치마크
+ * 게시글의 평면 댓글 목록을 부모-자식 트리로 조립하는 비용을 측정
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class CommentTreeBenchmark {
+
+  @Param({"10", "100", "1000", "10000"})
+  private int size;
+
+  private List<Comment> comments;
+
+  @Setup
+  public void setUp() {
+    Post post = BenchmarkFixtures.post(1L);
+    comments = BenchmarkFixtures.flatComments(post, size, 42L);
+  }
+
+  @Benchmark
+  public List<CommentViewDto> buildTree() {
+    return CommentViewDto.buildTree(comments);
+  }
+}
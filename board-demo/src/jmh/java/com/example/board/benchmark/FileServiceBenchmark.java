@@ -0,0 +1,62 @@
+package com.example.board.benchmark;
+
+import com.example.board.service.FileService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.util.FileSystemUtils;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 파일 저장 벤치마크
+ * FileService.saveImage의 검증 + 디렉토리 확인 + 디스크 복사 경로를 파일 크기별로 측정
+ * 저장된 파일은 매 호출마다 삭제하여 디스크 사용량이 늘어나지 않도록 함
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class FileServiceBenchmark {
+
+  @Param({"10240", "1048576", "5242880"})
+  private int fileSize;
+
+  private Path uploadDir;
+  private FileService fileService;
+  private MockMultipartFile image;
+
+  @Setup
+  public void setUp() throws IOException {
+    uploadDir = Files.createTempDirectory("jmh-uploads");
+    fileService = new FileService();
+    ReflectionTestUtils.setField(fileService, "uploadDir", uploadDir.toString());
+
+    byte[] content = new byte[fileSize];
+    new Random(42L).nextBytes(content);
+    image = new MockMultipartFile("image", "snow.png", "image/png", content);
+  }
+
+  @TearDown
+  public void tearDown() throws IOException {
+    FileSystemUtils.deleteRecursively(uploadDir);
+  }
+
+  @Benchmark
+  public String saveAndDelete() throws IOException {
+    String imagePath = fileService.saveImage(image, "posts");
+    fileService.deleteImage(imagePath);
+    return imagePath;
+  }
+}
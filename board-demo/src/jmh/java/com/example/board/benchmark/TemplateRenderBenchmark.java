@@ -0,0 +1,103 @@
+package com.example.board.benchmark;
+
+import com.example.board.BoardApplication;
+import com.example.board.domain.Post;
+import com.example.board.dto.CommentDto;
+import com.example.board.dto.CommentViewDto;
+import com.example.board.dto.PostViewDto;
+import jakarta.servlet.ServletContext;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.context.WebApplicationContext;
+import org.springframework.web.servlet.DispatcherServlet;
+import org.springframework.web.servlet.View;
+import org.springframework.web.servlet.ViewResolver;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Thymeleaf 렌더링 벤치마크
+ * list.html, detail.html을 데이터 크기별로 렌더링하는 비용을 측정 (DB 조회 제외)
+ * 실제 애플리케이션 컨텍스트의 ThymeleafViewResolver를 그대로 사용
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class TemplateRenderBenchmark {
+
+  @Param({"10", "100", "1000"})
+  private int size;
+
+  private ConfigurableApplicationContext context;
+  private ServletContext servletContext;
+  private View listView;
+  private View detailView;
+  private Map<String, Object> listModel;
+  private Map<String, Object> detailModel;
+
+  @Setup
+  public void setUp() throws Exception {
+    context = new SpringApplicationBuilder(BoardApplication.class)
+        .properties(
+            "server.port=0",
+            "spring.datasource.url=jdbc:h2:mem:jmh-render;DB_CLOSE_DELAY=-1",
+            "spring.jpa.hibernate.ddl-auto=create-drop",
+            "logging.level.root=WARN")
+        .run();
+    servletContext = ((WebApplicationContext) context).getServletContext();
+
+    ViewResolver viewResolver = context.getBean("thymeleafViewResolver", ViewResolver.class);
+    listView = viewResolver.resolveViewName("list", Locale.KOREAN);
+    detailView = viewResolver.resolveViewName("detail", Locale.KOREAN);
+
+    List<Post> posts = BenchmarkFixtures.posts(size);
+    listModel = new HashMap<>();
+    listModel.put("posts", posts.stream().map(PostViewDto::from).toList());
+
+    Post post = posts.get(0);
+    List<CommentViewDto> comments = CommentViewDto.buildTree(BenchmarkFixtures.flatComments(post, size, 42L));
+    detailModel = new HashMap<>();
+    detailModel.put("post", PostViewDto.from(post));
+    detailModel.put("comments", comments);
+    detailModel.put("commentCount", (long) size);
+    detailModel.put("commentDto", new CommentDto());
+  }
+
+  @TearDown
+  public void tearDown() {
+    context.close();
+  }
+
+  @Benchmark
+  public String renderList() throws Exception {
+    return render(listView, listModel, "/posts");
+  }
+
+  @Benchmark
+  public String renderDetail() throws Exception {
+    return render(detailView, detailModel, "/posts/1");
+  }
+
+  private String render(View view, Map<String, Object> model, String uri) throws Exception {
+    MockHttpServletRequest request = new MockHttpServletRequest(servletContext, "GET", uri);
+    request.setAttribute(DispatcherServlet.WEB_APPLICATION_CONTEXT_ATTRIBUTE, context);
+    MockHttpServletResponse response = new MockHttpServletResponse();
+    view.render(model, request, response);
+    return response.getContentAsString();
+  }
+}
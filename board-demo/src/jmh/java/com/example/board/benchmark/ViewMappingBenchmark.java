@@ -0,0 +1,58 @@
+package com.example.board.benchmark;
+
+import com.example.board.domain.Comment;
+import com.example.board.domain.Post;
+import com.example.board.dto.CommentViewDto;
+import com.example.board.dto.PostViewDto;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 엔티티 -> 화면 DTO 변환 벤치마크
+ * 게시글/댓글 엔티티 목록을 PostViewDto/CommentViewDto로 변환하는 비용을 측정
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ViewMappingBenchmark {
+
+  @Param({"10", "100", "1000"})
+  private int size;
+
+  private List<Post> posts;
+  private List<Comment> comments;
+
+  @Setup
+  public void setUp() {
+    posts = BenchmarkFixtures.posts(size);
+    comments = BenchmarkFixtures.flatComments(posts.get(0), size, 42L);
+  }
+
+  @Benchmark
+  public List<PostViewDto> mapPosts() {
+    List<PostViewDto> views = new ArrayList<>(posts.size());
+    for (Post post : posts) {
+      views.add(PostViewDto.from(post));
+    }
+    return views;
+  }
+
+  @Benchmark
+  public List<CommentViewDto> mapComments() {
+    List<CommentViewDto> views = new ArrayList<>(comments.size());
+    for (Comment comment : comments) {
+      views.add(CommentViewDto.from(comment));
+    }
+    return views;
+  }
+}
@@ -0,0 +1,92 @@
+package com.example.board.loadtest;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * 엔드포인트별 응답 시간 기록기
+ * 여러 가상 사용자 스레드가 동시에 기록하며, 종료 후 백분위 요약을 계산
+ */
+final class LatencyRecorder {
+
+  private final ConcurrentMap<String, EndpointStats> stats = new ConcurrentHashMap<>();
+
+  /**
+   * 요청 결과 기록
+   *
+   * @param endpoint     엔드포인트 이름 (예: "GET /posts/{id}")
+   * @param elapsedNanos 응답 시간 (나노초)
+   * @param success      성공 여부
+   */
+  void record(String endpoint, long elapsedNanos, boolean success) {
+    stats.computeIfAbsent(endpoint, key -> new EndpointStats()).add(elapsedNanos, success);
+  }
+
+  /**
+   * 엔드포인트별 요약 계산
+   *
+   * @param elapsedSeconds 전체 실행 시간 (처리량 계산용)
+   * @return 엔드포인트 이름순 요약 목록
+   */
+  List<EndpointSummary> summarize(double elapsedSeconds) {
+    List<EndpointSummary> summaries = new ArrayList<>();
+    new TreeMap<>(stats).forEach((endpoint, endpointStats) ->
+        summaries.add(endpointStats.summarize(endpoint, elapsedSeconds)));
+    return summaries;
+  }
+
+  /**
+   * 엔드포인트 하나의 요약 결과 (시간 단위: 밀리초)
+   */
+  record EndpointSummary(String endpoint, long requests, long errors, double throughput,
+      double p50, double p95, double p99, double max) {
+  }
+
+  private static final class EndpointStats {
+
+    private long[] latencies = new long[1024];
+    private int size;
+    private long errors;
+
+    synchronized void add(long elapsedNanos, boolean success) {
+      if (size == latencies.length) {
+        latencies = Arrays.copyOf(latencies, size * 2);
+      }
+      latencies[size++] = elapsedNanos;
+      if (!success) {
+        errors++;
+      }
+    }
+
+    synchronized EndpointSummary summarize(String endpoint, double elapsedSeconds) {
+      long[] sorted = Arrays.copyOf(latencies, size);
+      Arrays.sort(sorted);
+      return new EndpointSummary(
+          endpoint,
+          size,
+          errors,
+          elapsedSeconds > 0 ? size / elapsedSeconds : 0,
+          percentile(sorted, 0.50),
+          percentile(sorted, 0.95),
+          percentile(sorted, 0.99),
+          sorted.length > 0 ? toMillis(sorted[sorted.length - 1]) : 0);
+    }
+
+    private static double percentile(long[] sorted, double percentile) {
+      if (sorted.length == 0) {
+        return 0;
+      }
+      int index = (int) Math.ceil(percentile * sorted.length) - 1;
+      return toMillis(sorted[Math.max(0, Math.min(index, sorted.length - 1))]);
+    }
+
+    private static double toMillis(long nanos) {
+      return nanos / 1_000_000.0;
+    }
+  }
+}
@@ -0,0 +1,101 @@
+package com.example.board.loadtest;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Random;
+
+/**
+ * 부하 테스트 설정
+ * 시스템 프로퍼티(load.*)로 가상 사용자 수, 실행 시간, 시나리오 비율을 지정
+ *
+ * <pre>
+ * load.users      가상 사용자 수 (기본 20)
+ * load.duration   실행 시간(초) (기본 30)
+ * load.seed-posts 미리 생성할 게시글 수 (기본 200)
+ * load.mix        시나리오 가중치 (기본 read:70,login:5,post:10,comment:15)
+ * load.seed       난수 시드 (기본 42)
+ * </pre>
+ */
+final class LoadProfile {
+
+  enum Scenario {
+    READ, LOGIN, POST, COMMENT
+  }
+
+  private final int users;
+  private final int durationSeconds;
+  private final int seedPosts;
+  private final long seed;
+  private final Map<Scenario, Integer> mix;
+  private final int totalWeight;
+
+  private LoadProfile(int users, int durationSeconds, int seedPosts, long seed, Map<Scenario, Integer> mix) {
+    this.users = users;
+    this.durationSeconds = durationSeconds;
+    this.seedPosts = seedPosts;
+    this.seed = seed;
+    this.mix = mix;
+    this.totalWeight = mix.values().stream().mapToInt(Integer::intValue).sum();
+    if (totalWeight <= 0) {
+      throw new IllegalArgumentException("load.mix 가중치 합은 0보다 커야 합니다.");
+    }
+  }
+
+  /**
+   * 시스템 프로퍼티로부터 설정 생성
+   */
+  static LoadProfile fromSystemProperties() {
+    return new LoadProfile(
+        Integer.getInteger("load.users", 20),
+        Integer.getInteger("load.duration", 30),
+        Integer.getInteger("load.seed-posts", 200),
+        Long.getLong("load.seed", 42L),
+        parseMix(System.getProperty("load.mix", "read:70,login:5,post:10,comment:15")));
+  }
+
+  private static Map<Scenario, Integer> parseMix(String value) {
+    Map<Scenario, Integer> mix = new LinkedHashMap<>();
+    for (String entry : value.split(",")) {
+      String[] pair = entry.trim().split(":");
+      if (pair.length != 2) {
+        throw new IllegalArgumentException("잘못된 load.mix 형식입니다: " + entry);
+      }
+      mix.put(Scenario.valueOf(pair[0].trim().toUpperCase()), Integer.parseInt(pair[1].trim()));
+    }
+    return mix;
+  }
+
+  /**
+   * 가중치에 따라 다음 시나리오 선택
+   */
+  Scenario pick(Random random) {
+    int point = random.nextInt(totalWeight);
+    for (Map.Entry<Scenario, Integer> entry : mix.entrySet()) {
+      point -= entry.getValue();
+      if (point < 0) {
+        return entry.getKey();
+      }
+    }
+    return Scenario.READ;
+  }
+
+  int users() {
+    return users;
+  }
+
+  int durationSeconds() {
+    return durationSeconds;
+  }
+
+  int seedPosts() {
+    return seedPosts;
+  }
+
+  long seed() {
+    return seed;
+  }
+
+  Map<Scenario, Integer> mix() {
+    return mix;
+  }
+}
@@ -0,0 +1,105 @@
+package com.example.board.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.springframework.web.util.HtmlUtils;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 부하 테스트 리포트
+ * 엔드포인트별 처리량과 p50/p95/p99 응답 시간을 JSON/HTML 파일로 저장
+ */
+final class LoadTestReport {
+
+  private final LoadProfile profile;
+  private final double elapsedSeconds;
+  private final List<LatencyRecorder.EndpointSummary> endpoints;
+
+  LoadTestReport(LoadProfile profile, double elapsedSeconds, List<LatencyRecorder.EndpointSummary> endpoints) {
+    this.profile = profile;
+    this.elapsedSeconds = elapsedSeconds;
+    this.endpoints = endpoints;
+  }
+
+  /**
+   * 리포트 파일 저장
+   *
+   * @param reportDir 저장 디렉토리
+   * @return 생성된 HTML 리포트 경로
+   */
+  Path write(Path reportDir) throws IOException {
+    Files.createDirectories(reportDir);
+
+    Map<String, Object> json = new LinkedHashMap<>();
+    json.put("generatedAt", LocalDateTime.now().toString());
+    json.put("users", profile.users());
+    json.put("durationSeconds", elapsedSeconds);
+    json.put("mix", profile.mix());
+    json.put("endpoints", endpoints);
+
+    new ObjectMapper()
+        .enable(SerializationFeature.INDENT_OUTPUT)
+        .writeValue(reportDir.resolve("load-test.json").toFile(), json);
+
+    Path html = reportDir.resolve("load-test.html");
+    Files.writeString(html, toHtml(), StandardCharsets.UTF_8);
+    return html;
+  }
+
+  /**
+   * 콘솔 출력용 요약 표
+   */
+  String toText() {
+    StringBuilder text = new StringBuilder();
+    text.append(String.format("%-45s %9s %7s %9s %9s %9s %9s%n",
+        "endpoint", "requests", "errors", "req/s", "p50(ms)", "p95(ms)", "p99(ms)"));
+    for (LatencyRecorder.EndpointSummary summary : endpoints) {
+      text.append(String.format("%-45s %9d %7d %9.1f %9.2f %9.2f %9.2f%n",
+          summary.endpoint(), summary.requests(), summary.errors(), summary.throughput(),
+          summary.p50(), summary.p95(), summary.p99()));
+    }
+    return text.toString();
+  }
+
+  private String toHtml() {
+    StringBuilder rows = new StringBuilder();
+    for (LatencyRecorder.EndpointSummary summary : endpoints) {
+      rows.append(String.format(
+          "<tr><td>%s</td><td>%d</td><td>%d</td><td>%.1f</td><td>%.2f</td><td>%.2f</td><td>%.2f</td><td>%.2f</td></tr>%n",
+          HtmlUtils.htmlEscape(summary.endpoint()), summary.requests(), summary.errors(), summary.throughput(),
+          summary.p50(), summary.p95(), summary.p99(), summary.max()));
+    }
+
+    return """
+        <!DOCTYPE html>
+        <html lang="ko">
+        <head>
+            <meta charset="UTF-8">
+            <title>우담 부하 테스트 리포트</title>
+            <style>
+                body { font-family: sans-serif; padding: 20px; }
+                table { border-collapse: collapse; }
+                th, td { border: 1px solid #ccc; padding: 6px 10px; text-align: right; }
+                th:first-child, td:first-child { text-align: left; }
+            </style>
+        </head>
+        <body>
+            <h1>우담 부하 테스트 리포트</h1>
+            <p>가상 사용자 %d명 / 실행 시간 %.1f초 / 시나리오 비율 %s</p>
+            <table>
+                <tr><th>endpoint</th><th>requests</th><th>errors</th><th>req/s</th>
+                    <th>p50(ms)</th><th>p95(ms)</th><th>p99(ms)</th><th>max(ms)</th></tr>
+        %s    </table>
+        </body>
+        </html>
+        """.formatted(profile.users(), elapsedSeconds, HtmlUtils.htmlEscape(profile.mix().toString()), rows);
+  }
+}
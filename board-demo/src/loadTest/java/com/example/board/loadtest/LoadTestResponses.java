@@ -0,0 +1,26 @@
+package com.example.board.loadtest;
+
+import java.net.http.HttpResponse;
+
+/**
+ * 응답 성공 판정 규칙
+ * 폼 처리 후 리다이렉트(302)는 정상 흐름이지만, 로그인/오류 페이지로의 리다이렉트는 실패로 간주
+ */
+final class LoadTestResponses {
+
+  private LoadTestResponses() {
+  }
+
+  static boolean isSuccessful(HttpResponse<String> response) {
+    if (response.statusCode() >= 400) {
+      return false;
+    }
+    String location = response.headers().firstValue("Location").orElse("");
+    return !location.contains("/login");
+  }
+
+  static boolean isSuccessfulLogin(HttpResponse<String> response) {
+    return response.statusCode() < 400
+        && !response.headers().firstValue("Location").orElse("").contains("error");
+  }
+}
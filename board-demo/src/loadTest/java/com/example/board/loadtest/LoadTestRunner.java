@@ -0,0 +1,115 @@
+package com.example.board.loadtest;
+
+import com.example.board.BoardApplication;
+import com.example.board.domain.Post;
+import com.example.board.dto.CommentDto;
+import com.example.board.dto.SignupRequestDto;
+import com.example.board.service.CommentService;
+import com.example.board.service.PostService;
+import com.example.board.service.UserService;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.net.URI;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 부하 테스트 실행기
+ * 애플리케이션을 H2 + 랜덤 포트로 띄운 뒤, 여러 가상 사용자가 동시에
+ * 조회/로그인/게시글 작성/댓글 작성 시나리오를 반복하고 리포트를 생성
+ */
+public final class LoadTestRunner {
+
+  private static final String PASSWORD = "load-test-password";
+
+  private LoadTestRunner() {
+  }
+
+  public static void main(String[] args) throws Exception {
+    LoadProfile profile = LoadProfile.fromSystemProperties();
+    Path reportDir = Path.of(System.getProperty("load.report-dir", "build/reports/load-test"));
+    Path uploadDir = Files.createTempDirectory("load-test-uploads");
+
+    try (ConfigurableApplicationContext context = new SpringApplicationBuilder(BoardApplication.class)
+        .properties(
+            "server.port=0",
+            "spring.datasource.url=jdbc:h2:mem:load-test;DB_CLOSE_DELAY=-1",
+            "spring.jpa.hibernate.ddl-auto=create-drop",
+            "file.upload-dir=" + uploadDir,
+            "logging.level.root=WARN")
+        .run(args)) {
+
+      int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+      URI baseUri = URI.create("http://localhost:" + port);
+
+      List<Long> postIds = seed(context, profile);
+      LatencyRecorder recorder = new LatencyRecorder();
+
+      System.out.printf("부하 테스트 시작: %s, 가상 사용자 %d명, %d초%n", baseUri, profile.users(), profile.durationSeconds());
+
+      long start = System.nanoTime();
+      long deadline = start + TimeUnit.SECONDS.toNanos(profile.durationSeconds());
+      ExecutorService executor = Executors.newFixedThreadPool(profile.users());
+      for (int i = 0; i < profile.users(); i++) {
+        executor.submit(new VirtualUser(baseUri, username(i), PASSWORD, "부하사용자" + i, profile,
+            recorder, postIds, deadline, profile.seed() + i));
+      }
+      executor.shutdown();
+      executor.awaitTermination(profile.durationSeconds() + 60L, TimeUnit.SECONDS);
+      double elapsedSeconds = (System.nanoTime() - start) / 1_000_000_000.0;
+
+      LoadTestReport report = new LoadTestReport(profile, elapsedSeconds, recorder.summarize(elapsedSeconds));
+      Path html = report.write(reportDir);
+      System.out.print(report.toText());
+      System.out.println("리포트: " + html.toAbsolutePath());
+    }
+  }
+
+  /**
+   * 가상 사용자 계정과 초기 게시글/댓글 생성
+   *
+   * @return 생성된 게시글 ID 목록 (부하 중 새로 작성된 게시글도 추가됨)
+   */
+  private static List<Long> seed(ConfigurableApplicationContext context, LoadProfile profile) {
+    UserService userService = context.getBean(UserService.class);
+    PostService postService = context.getBean(PostService.class);
+    CommentService commentService = context.getBean(CommentService.class);
+    Random random = new Random(profile.seed());
+
+    for (int i = 0; i < profile.users(); i++) {
+      SignupRequestDto dto = new SignupRequestDto();
+      dto.setUsername(username(i));
+      dto.setPassword(PASSWORD);
+      dto.setPasswordConfirm(PASSWORD);
+      dto.setName("부하사용자" + i);
+      userService.registerUser(dto);
+    }
+
+    List<Long> postIds = new CopyOnWriteArrayList<>();
+    for (int i = 0; i < profile.seedPosts(); i++) {
+      int user = random.nextInt(profile.users());
+      String author = "부하사용자" + user;
+      Post post = postService.createPost("초기 게시글 " + i, "오두막 창가에서 쓰는 기록 " + i, author, username(user));
+      postIds.add(post.getId());
+
+      int comments = random.nextInt(5);
+      for (int j = 0; j < comments; j++) {
+        commentService.createComment(post.getId(), new CommentDto("초기 댓글 " + j, author, post.getId()),
+            username(user));
+      }
+    }
+    return postIds;
+  }
+
+  private static String username(int index) {
+    return "loaduser" + index;
+  }
+}
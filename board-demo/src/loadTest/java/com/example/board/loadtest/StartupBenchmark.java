@@ -0,0 +1,181 @@
+package com.example.board.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 기동 시간 비교 실행기
+ * 표준 실행(bootJar)과 최적화 실행(AOT + CDS)을 별도 JVM으로 여러 번 띄워
+ * readiness가 UP이 되기까지의 시간과 첫 요청(GET /posts) 지연을 측정하고 중앙값을 리포트로 저장
+ *
+ * - 각 실행은 메모리 H2 + 빈 포트로 띄우므로 외부 DB가 필요 없음
+ * - CDS 아카이브가 없으면 측정 전에 학습 실행(-Dspring.context.exit=onRefresh)으로 먼저 생성
+ * - AOT는 -Paot로 빌드한 경우에만 켬 (startup.aot)
+ */
+public final class StartupBenchmark {
+
+  private static final Duration STARTUP_TIMEOUT = Duration.ofSeconds(120);
+
+  private StartupBenchmark() {
+  }
+
+  public static void main(String[] args) throws Exception {
+    Path bootJar = Path.of(System.getProperty("startup.boot-jar"));
+    Path cdsDir = Path.of(System.getProperty("startup.cds-dir"));
+    boolean aot = Boolean.parseBoolean(System.getProperty("startup.aot", "false"));
+    int runs = Integer.parseInt(System.getProperty("startup.runs", "3"));
+    Path reportDir = Path.of(System.getProperty("startup.report-dir", "build/reports/startup"));
+
+    String java = ProcessHandle.current().info().command().orElse("java");
+    Path archive = cdsDir.resolve("app.jsa");
+
+    List<String> optimizedFlags = new ArrayList<>();
+    if (aot) {
+      optimizedFlags.add("-Dspring.aot.enabled=true");
+    }
+    Files.deleteIfExists(archive);
+    List<String> training = new ArrayList<>(List.of(java, "-XX:ArchiveClassesAtExit=" + archive));
+    training.addAll(optimizedFlags);
+    training.addAll(List.of("-Dspring.context.exit=onRefresh", "-jar", cdsDir.resolve("app.jar").toString()));
+    training.addAll(appArguments(freePort()));
+    System.out.println("CDS 학습 실행 중...");
+    if (new ProcessBuilder(training).directory(cdsDir.toFile()).inheritIO().start().waitFor() != 0) {
+      throw new IllegalStateException("CDS 학습 실행 실패");
+    }
+
+    List<String> standard = List.of(java, "-jar", bootJar.toString());
+    List<String> optimized = new ArrayList<>(List.of(java, "-XX:SharedArchiveFile=" + archive));
+    optimized.addAll(optimizedFlags);
+    optimized.addAll(List.of("-jar", cdsDir.resolve("app.jar").toString()));
+
+    Map<String, Object> report = new LinkedHashMap<>();
+    report.put("generatedAt", LocalDateTime.now().toString());
+    report.put("runs", runs);
+    report.put("aot", aot);
+    report.put("standard", measure("standard", standard, runs));
+    report.put("optimized", measure(aot ? "aot+cds" : "cds", optimized, runs));
+
+    Files.createDirectories(reportDir);
+    Path json = reportDir.resolve("startup.json");
+    new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT).writeValue(json.toFile(), report);
+    System.out.println("리포트: " + json.toAbsolutePath());
+  }
+
+  /**
+   * 같은 실행 방식으로 여러 번 기동하여 측정
+   *
+   * @return 실행별 측정값과 중앙값
+   */
+  private static Map<String, Object> measure(String mode, List<String> command, int runs) throws Exception {
+    List<Long> readyMillis = new ArrayList<>();
+    List<Long> firstRequestMillis = new ArrayList<>();
+    for (int i = 0; i < runs; i++) {
+      long[] result = startOnce(command);
+      readyMillis.add(result[0]);
+      firstRequestMillis.add(result[1]);
+      System.out.printf("%-8s #%d  readiness %5dms  첫 요청 %4dms%n", mode, i + 1, result[0], result[1]);
+    }
+
+    Map<String, Object> summary = new LinkedHashMap<>();
+    summary.put("mode", mode);
+    summary.put("command", String.join(" ", command));
+    summary.put("readyMillis", readyMillis);
+    summary.put("firstRequestMillis", firstRequestMillis);
+    summary.put("medianReadyMillis", median(readyMillis));
+    summary.put("medianFirstRequestMillis", median(firstRequestMillis));
+    return summary;
+  }
+
+  /**
+   * 한 번 기동하여 readiness까지의 시간과 첫 요청 지연 측정 후 종료
+   *
+   * @return [readiness까지 ms, 첫 요청 ms]
+   */
+  private static long[] startOnce(List<String> command) throws Exception {
+    int port = freePort();
+    List<String> full = new ArrayList<>(command);
+    full.addAll(appArguments(port));
+
+    HttpClient client = HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(1)).build();
+    URI readiness = URI.create("http://localhost:" + port + "/actuator/health/readiness");
+    URI firstPage = URI.create("http://localhost:" + port + "/posts");
+
+    long start = System.nanoTime();
+    Process process = new ProcessBuilder(full)
+        .redirectOutput(ProcessBuilder.Redirect.DISCARD)
+        .redirectError(ProcessBuilder.Redirect.DISCARD)
+        .start();
+    try {
+      long deadline = start + STARTUP_TIMEOUT.toNanos();
+      while (!isUp(client, readiness)) {
+        if (!process.isAlive() || System.nanoTime() > deadline) {
+          throw new IllegalStateException("애플리케이션이 준비되지 않음: " + String.join(" ", command));
+        }
+        Thread.sleep(20);
+      }
+      long ready = System.nanoTime();
+
+      client.send(HttpRequest.newBuilder(firstPage).GET().build(), HttpResponse.BodyHandlers.discarding());
+      long firstResponse = System.nanoTime();
+
+      return new long[] {
+          TimeUnit.NANOSECONDS.toMillis(ready - start),
+          TimeUnit.NANOSECONDS.toMillis(firstResponse - ready)};
+    } finally {
+      process.destroy();
+      if (!process.waitFor(30, TimeUnit.SECONDS)) {
+        process.destroyForcibly();
+      }
+    }
+  }
+
+  private static boolean isUp(HttpClient client, URI uri) throws InterruptedException {
+    try {
+      HttpResponse<Void> response = client.send(HttpRequest.newBuilder(uri).GET().build(),
+          HttpResponse.BodyHandlers.discarding());
+      return response.statusCode() == 200;
+    } catch (IOException e) {
+      return false;
+    }
+  }
+
+  /**
+   * 측정용 애플리케이션 인자 (메모리 H2, 예열 페이지 요청 생략으로 실행 방식 간 차이만 측정)
+   */
+  private static List<String> appArguments(int port) {
+    return List.of(
+        "--server.port=" + port,
+        "--spring.datasource.url=jdbc:h2:mem:startup;DB_CLOSE_DELAY=-1",
+        "--spring.jpa.hibernate.ddl-auto=create-drop",
+        "--management.endpoint.health.probes.enabled=true",
+        "--warmup.render-iterations=0",
+        "--logging.level.root=WARN");
+  }
+
+  private static int freePort() throws IOException {
+    try (ServerSocket socket = new ServerSocket(0)) {
+      return socket.getLocalPort();
+    }
+  }
+
+  private static long median(List<Long> values) {
+    List<Long> sorted = values.stream().sorted().toList();
+    return sorted.get(sorted.size() / 2);
+  }
+}
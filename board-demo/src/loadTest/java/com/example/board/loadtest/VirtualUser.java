@@ -0,0 +1,251 @@
+package com.example.board.loadtest;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.net.CookieManager;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.StringJoiner;
+import java.util.UUID;
+import java.util.function.Predicate;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 가상 사용자
+ * 자신만의 세션(쿠키)을 가진 HTTP 클라이언트로 시나리오를 반복 실행
+ */
+final class VirtualUser implements Runnable {
+
+  private static final Pattern CSRF_PATTERN = Pattern.compile("name=\"_csrf\"\\s+value=\"([^\"]+)\"");
+  private static final Pattern COMMENT_ID_PATTERN = Pattern.compile("id=\"comment-(\\d+)\"");
+  private static final Pattern POST_ID_PATTERN = Pattern.compile("/posts/(\\d+)$");
+
+  private final URI baseUri;
+  private final String username;
+  private final String password;
+  private final String name;
+  private final LoadProfile profile;
+  private final LatencyRecorder recorder;
+  private final List<Long> postIds;
+  private final long deadlineNanos;
+  private final Random random;
+  private final byte[] image;
+  private final HttpClient client;
+
+  private String csrfToken;
+
+  VirtualUser(URI baseUri, String username, String password, String name, LoadProfile profile,
+      LatencyRecorder recorder, List<Long> postIds, long deadlineNanos, long seed) {
+    this.baseUri = baseUri;
+    this.username = username;
+    this.password = password;
+    this.name = name;
+    this.profile = profile;
+    this.recorder = recorder;
+    this.postIds = postIds;
+    this.deadlineNanos = deadlineNanos;
+    this.random = new Random(seed);
+    this.image = new byte[20 * 1024];
+    this.random.nextBytes(image);
+    this.client = HttpClient.newBuilder()
+        .cookieHandler(new CookieManager())
+        .followRedirects(HttpClient.Redirect.NEVER)
+        .connectTimeout(Duration.ofSeconds(5))
+        .build();
+  }
+
+  @Override
+  public void run() {
+    try {
+      login();
+      while (System.nanoTime() < deadlineNanos) {
+        switch (profile.pick(random)) {
+          case READ -> anonymousRead();
+          case LOGIN -> login();
+          case POST -> writePost();
+          case COMMENT -> writeComment();
+        }
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+
+  /**
+   * 목록 + 상세 조회
+   */
+  private void anonymousRead() throws InterruptedException {
+    send("GET /posts", get("/posts"));
+    send("GET /posts/{id}", get("/posts/" + randomPostId()));
+  }
+
+  /**
+   * 로그인 폼 조회 후 로그인 처리
+   */
+  private void login() throws InterruptedException {
+    HttpResponse<String> form = send("GET /login", get("/login"));
+    updateCsrfToken(form);
+
+    HttpResponse<String> response = send("POST /login", postForm("/login", Map.of(
+        "username", username,
+        "password", password)), LoadTestResponses::isSuccessfulLogin);
+    if (response != null) {
+      // 로그인 시 세션 ID와 CSRF 토큰이 새로 발급되므로 다시 받아옴
+      updateCsrfToken(send("GET /posts/write", get("/posts/write")));
+    }
+  }
+
+  /**
+   * 이미지를 포함한 게시글 작성
+   */
+  private void writePost() throws InterruptedException {
+    String boundary = "----woodam-" + UUID.randomUUID();
+    byte[] body = multipartBody(boundary, Map.of(
+        "title", "부하 테스트 게시글 " + random.nextInt(100_000),
+        "content", "오늘은 숲속 오두막에서 조용히 하루를 보냈어요. ".repeat(1 + random.nextInt(20)),
+        "author", name));
+
+    HttpRequest request = authorized("/posts/write")
+        .header("Content-Type", "multipart/form-data; boundary=" + boundary)
+        .POST(HttpRequest.BodyPublishers.ofByteArray(body))
+        .build();
+
+    HttpResponse<String> response = send("POST /posts/write", request);
+    if (response != null) {
+      response.headers().firstValue("Location").ifPresent(location -> {
+        Matcher matcher = POST_ID_PATTERN.matcher(location);
+        if (matcher.find()) {
+          postIds.add(Long.parseLong(matcher.group(1)));
+        }
+      });
+    }
+  }
+
+  /**
+   * 댓글 또는 대댓글 작성
+   * 상세 페이지에서 기존 댓글 ID를 읽어와 절반 확률로 대댓글을 작성
+   */
+  private void writeComment() throws InterruptedException {
+    long postId = randomPostId();
+    HttpResponse<String> detail = send("GET /posts/{id}", get("/posts/" + postId));
+    if (detail == null) {
+      return;
+    }
+
+    List<Long> commentIds = new ArrayList<>();
+    Matcher matcher = COMMENT_ID_PATTERN.matcher(detail.body());
+    while (matcher.find()) {
+      commentIds.add(Long.parseLong(matcher.group(1)));
+    }
+
+    Map<String, String> form = Map.of(
+        "content", "부하 테스트 댓글 " + random.nextInt(100_000),
+        "author", name);
+
+    if (!commentIds.isEmpty() && random.nextBoolean()) {
+      long parentId = commentIds.get(random.nextInt(commentIds.size()));
+      send("POST /posts/{id}/comments/{parentId}/reply",
+          postForm("/posts/" + postId + "/comments/" + parentId + "/reply", form));
+    } else {
+      send("POST /posts/{id}/comments", postForm("/posts/" + postId + "/comments", form));
+    }
+  }
+
+  private HttpResponse<String> send(String endpoint, HttpRequest request) throws InterruptedException {
+    return send(endpoint, request, LoadTestResponses::isSuccessful);
+  }
+
+  /**
+   * 요청 전송 및 응답 시간 기록
+   *
+   * @return 응답 (IO 오류 시 null)
+   */
+  private HttpResponse<String> send(String endpoint, HttpRequest request,
+      Predicate<HttpResponse<String>> successCheck) throws InterruptedException {
+    long start = System.nanoTime();
+    try {
+      HttpResponse<String> response = client.send(request, HttpResponse.BodyHandlers.ofString());
+      recorder.record(endpoint, System.nanoTime() - start, successCheck.test(response));
+      return response;
+    } catch (IOException e) {
+      recorder.record(endpoint, System.nanoTime() - start, false);
+      return null;
+    }
+  }
+
+  private void updateCsrfToken(HttpResponse<String> response) {
+    if (response == null) {
+      return;
+    }
+    Matcher matcher = CSRF_PATTERN.matcher(response.body());
+    if (matcher.find()) {
+      csrfToken = matcher.group(1);
+    }
+  }
+
+  private long randomPostId() {
+    return postIds.get(random.nextInt(postIds.size()));
+  }
+
+  private HttpRequest get(String path) {
+    return HttpRequest.newBuilder(baseUri.resolve(path))
+        .timeout(Duration.ofSeconds(30))
+        .GET()
+        .build();
+  }
+
+  private HttpRequest postForm(String path, Map<String, String> params) {
+    StringJoiner body = new StringJoiner("&");
+    params.forEach((key, value) -> body.add(
+        URLEncoder.encode(key, StandardCharsets.UTF_8) + "=" + URLEncoder.encode(value, StandardCharsets.UTF_8)));
+
+    return authorized(path)
+        .header("Content-Type", "application/x-www-form-urlencoded")
+        .POST(HttpRequest.BodyPublishers.ofString(body.toString()))
+        .build();
+  }
+
+  /**
+   * CSRF 토큰 헤더가 포함된 요청 빌더
+   */
+  private HttpRequest.Builder authorized(String path) {
+    HttpRequest.Builder builder = HttpRequest.newBuilder(baseUri.resolve(path))
+        .timeout(Duration.ofSeconds(30));
+    if (csrfToken != null) {
+      builder.header("X-CSRF-TOKEN", csrfToken);
+    }
+    return builder;
+  }
+
+  /**
+   * multipart/form-data 본문 생성 (텍스트 필드 + 이미지 파일)
+   */
+  private byte[] multipartBody(String boundary, Map<String, String> fields) {
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    fields.forEach((key, value) -> {
+      write(out, "--" + boundary + "\r\n");
+      write(out, "Content-Disposition: form-data; name=\"" + key + "\"\r\n\r\n");
+      write(out, value + "\r\n");
+    });
+    write(out, "--" + boundary + "\r\n");
+    write(out, "Content-Disposition: form-data; name=\"image\"; filename=\"snow.png\"\r\n");
+    write(out, "Content-Type: image/png\r\n\r\n");
+    out.writeBytes(image);
+    write(out, "\r\n--" + boundary + "--\r\n");
+    return out.toByteArray();
+  }
+
+  private static void write(ByteArrayOutputStream out, String value) {
+    out.writeBytes(value.getBytes(StandardCharsets.UTF_8));
+  }
+}
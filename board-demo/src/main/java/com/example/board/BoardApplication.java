@@ -2,12 +2,15 @@ package com.example.board;
 
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.context.annotation.PropertySource;
 
 /**
  * Board Demo 애플리케이션 메인 클래스
  * Spring Boot 애플리케이션의 진입점
+ * board-defaults.properties: 환경 설정 파일과 관계없이 항상 적용되는 기본 설정 (OSIV 비활성화 등)
  */
 @SpringBootApplication
+@PropertySource("classpath:board-defaults.properties")
 public class BoardApplication {
 
     public static void main(String[] args) {
@@ -0,0 +1,37 @@
+package com.example.board.config;
+
+import com.fasterxml.jackson.databind.ser.impl.SimpleBeanPropertyFilter;
+import com.fasterxml.jackson.databind.ser.impl.SimpleFilterProvider;
+import org.springframework.boot.autoconfigure.jackson.Jackson2ObjectMapperBuilderCustomizer;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.filter.ShallowEtagHeaderFilter;
+
+/**
+ * JSON API(/api/v1) 설정
+ */
+@Configuration
+public class ApiConfig {
+
+  /**
+   * 응답 본문 해시로 ETag를 붙이고, If-None-Match가 일치하면 본문 없이 304로 응답
+   * 본문을 버퍼링하므로 API 경로에만 적용 (스트리밍하는 HTML 목록에는 적용하지 않음)
+   */
+  @Bean
+  public FilterRegistrationBean<ShallowEtagHeaderFilter> apiEtagFilter() {
+    FilterRegistrationBean<ShallowEtagHeaderFilter> registration =
+        new FilterRegistrationBean<>(new ShallowEtagHeaderFilter());
+    registration.addUrlPatterns("/api/v1/*");
+    return registration;
+  }
+
+  /**
+   * 필드 선택(@JsonFilter)이 붙은 DTO를 필터 지정 없이 직렬화하면 전체 필드를 내보내도록 기본 필터 등록
+   */
+  @Bean
+  public Jackson2ObjectMapperBuilderCustomizer apiFieldsDefaultFilter() {
+    return builder -> builder.filters(
+        new SimpleFilterProvider().setDefaultFilter(SimpleBeanPropertyFilter.serializeAll()));
+  }
+}
@@ -0,0 +1,78 @@
+package com.example.board.config;
+
+import com.example.board.monitoring.ConnectionHoldFilter;
+import com.example.board.monitoring.ConnectionHoldMonitor;
+import com.example.board.monitoring.HoldTrackingDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+import javax.sql.DataSource;
+
+/**
+ * 커넥션 점유 모니터링 설정
+ * DataSource에 점유 추적 프록시를 적용하고, 엔드포인트별 집계 필터를 등록
+ */
+@Configuration
+public class ConnectionMonitoringConfig {
+
+  /**
+   * DataSource 감싸기 순서 (먼저 적용된 쪽이 안쪽)
+   * 점유 추적이 실제 풀 바로 바깥에 있어야 풀에서 빌린 커넥션만 집계되고,
+   * 서킷 브레이커(ResilienceConfig)는 그 바깥에서 OPEN 상태의 요청을 풀에 닿기 전에 차단
+   */
+  public static final int HOLD_TRACKING_ORDER = Ordered.HIGHEST_PRECEDENCE + 10;
+
+  /**
+   * 모든 DataSource를 점유 추적 DataSource로 감쌈
+   * BeanPostProcessor는 다른 빈보다 먼저 생성되어야 하므로 static으로 선언
+   */
+  @Bean
+  public static BeanPostProcessor holdTrackingDataSourcePostProcessor(
+      ObjectProvider<ConnectionHoldMonitor> monitorProvider) {
+    return new OrderedDataSourcePostProcessor(HOLD_TRACKING_ORDER) {
+      @Override
+      public Object postProcessAfterInitialization(Object bean, String beanName) {
+        if (bean instanceof DataSource dataSource && !(bean instanceof HoldTrackingDataSource)) {
+          return new HoldTrackingDataSource(dataSource, monitorProvider);
+        }
+        return bean;
+      }
+    };
+  }
+
+  /**
+   * 엔드포인트별 커넥션 점유 필터 등록
+   * Security 필터 체인의 DB 접근(로그인 등)까지 포함하도록 Security 필터보다 먼저 실행
+   */
+  @Bean
+  public FilterRegistrationBean<ConnectionHoldFilter> connectionHoldFilter(MeterRegistry meterRegistry,
+      ConnectionHoldMonitor connectionHoldMonitor) {
+    FilterRegistrationBean<ConnectionHoldFilter> registration = new FilterRegistrationBean<>(
+        new ConnectionHoldFilter(meterRegistry, connectionHoldMonitor.getSlowHoldMillis()));
+    registration.setOrder(Ordered.HIGHEST_PRECEDENCE + 2);
+    registration.addUrlPatterns("/*");
+    return registration;
+  }
+
+  /**
+   * 적용 순서를 지정한 DataSource 후처리기
+   */
+  abstract static class OrderedDataSourcePostProcessor implements BeanPostProcessor, Ordered {
+
+    private final int order;
+
+    OrderedDataSourcePostProcessor(int order) {
+      this.order = order;
+    }
+
+    @Override
+    public int getOrder() {
+      return order;
+    }
+  }
+}
@@ -0,0 +1,70 @@
+package com.example.board.config;
+
+import com.example.board.monitoring.RequestMetricsTaskDecorator;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.concurrent.ThreadPoolExecutor;
+
+/**
+ * 작업 실행기 설정
+ * 화면 하나를 위해 독립적인 조회를 병렬로 실행할 때 사용하는 크기 제한 스레드 풀과
+ * 실시간 댓글(SSE) 전송용 스레드 풀
+ */
+@Configuration
+public class ExecutorConfig {
+
+  // 동시에 실행할 조회 작업 수 (커넥션 풀 크기보다 작게 유지)
+  @Value("${read.executor.pool-size:8}")
+  private int poolSize;
+
+  // 0이면 대기열 없이 바로 넘김 (빈 스레드가 없으면 요청 스레드에서 실행)
+  @Value("${read.executor.queue-capacity:0}")
+  private int queueCapacity;
+
+  // 실시간 댓글 변경 조회 + SSE 전송 스레드 수 (연결 수와 무관, 대기 중인 연결은 스레드를 점유하지 않음)
+  @Value("${live.executor.pool-size:4}")
+  private int livePoolSize;
+
+  // 실시간 댓글 작업 대기열 크기 (채널 작업 + 전송 작업, 가득 차면 거절된 작업은 heartbeat에서 다시 예약)
+  @Value("${live.executor.queue-capacity:2000}")
+  private int liveQueueCapacity;
+
+  /**
+   * 병렬 조회용 실행기
+   * 큐가 가득 차면 요청 스레드에서 직접 실행하여(CallerRunsPolicy) 작업을 버리지 않고 자연스럽게 속도를 늦춤
+   * 큐에서 기다리는 작업은 조회 제한 시간만 소모하므로 기본은 대기열 없이 바로 넘기고(direct handoff),
+   * 모든 스레드가 바쁘면 요청 스레드가 직접 조회 (병렬성만 잃고 제한 시간 초과로 댓글이 빠지지 않음)
+   */
+  @Bean
+  public ThreadPoolTaskExecutor readExecutor() {
+    ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+    executor.setThreadNamePrefix("read-");
+    executor.setCorePoolSize(poolSize);
+    executor.setMaxPoolSize(poolSize);
+    executor.setQueueCapacity(queueCapacity);
+    executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+    executor.setTaskDecorator(new RequestMetricsTaskDecorator());
+    executor.setWaitForTasksToCompleteOnShutdown(true);
+    executor.setAwaitTerminationSeconds(10);
+    return executor;
+  }
+
+  /**
+   * 실시간 댓글 전송용 실행기 (LiveCommentHub)
+   * 대기열에는 이벤트가 있는 채널마다 작업 하나와 스레드 수만큼의 전송 작업만 올라가므로 연결 수와 무관하게 짧음
+   * 가득 차면 거절(TaskRejectedException)하고 LiveCommentHub가 다음 이벤트나 heartbeat에서 다시 예약
+   */
+  @Bean
+  public ThreadPoolTaskExecutor liveExecutor() {
+    ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+    executor.setThreadNamePrefix("live-");
+    executor.setCorePoolSize(livePoolSize);
+    executor.setMaxPoolSize(livePoolSize);
+    executor.setQueueCapacity(liveQueueCapacity);
+    executor.setRejectedExecutionHandler(new ThreadPoolExecutor.AbortPolicy());
+    return executor;
+  }
+}
@@ -0,0 +1,52 @@
+package com.example.board.config;
+
+import com.example.board.monitoring.QueryBudgetFilter;
+import com.example.board.monitoring.QueryCountInspector;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+/**
+ * SQL 예산 설정
+ * 요청 단위 SQL 집계 및 N+1 탐지 필터를 등록하는 설정 클래스
+ */
+@Configuration
+public class QueryBudgetConfig {
+
+  // 요청 하나당 허용되는 최대 SQL 실행 횟수
+  @Value("${query.budget.max-queries:10}")
+  private int maxQueries;
+
+  // 동일 SQL이 이 횟수 이상 반복되면 N+1로 간주
+  @Value("${query.budget.n-plus-one-threshold:3}")
+  private int nPlusOneThreshold;
+
+  // 예산 위반 시 예외 발생 여부 (통합 테스트에서 사용)
+  @Value("${query.budget.fail-on-exceed:false}")
+  private boolean failOnExceed;
+
+  /**
+   * Hibernate가 실행하는 모든 SQL을 집계하도록 StatementInspector 등록
+   */
+  @Bean
+  public HibernatePropertiesCustomizer queryCountHibernatePropertiesCustomizer() {
+    return properties -> properties.put(AvailableSettings.STATEMENT_INSPECTOR, new QueryCountInspector());
+  }
+
+  /**
+   * SQL 예산 필터 등록
+   * Security 필터 체인의 쿼리(로그인 등)까지 포함하도록 가장 먼저 실행
+   */
+  @Bean
+  public FilterRegistrationBean<QueryBudgetFilter> queryBudgetFilter() {
+    FilterRegistrationBean<QueryBudgetFilter> registration =
+        new FilterRegistrationBean<>(new QueryBudgetFilter(maxQueries, nPlusOneThreshold, failOnExceed));
+    registration.setOrder(Ordered.HIGHEST_PRECEDENCE);
+    registration.addUrlPatterns("/*");
+    return registration;
+  }
+}
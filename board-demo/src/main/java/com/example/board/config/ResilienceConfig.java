@@ -0,0 +1,59 @@
+package com.example.board.config;
+
+import com.example.board.resilience.CircuitBreakingDataSource;
+import com.example.board.resilience.DatabaseCircuitBreaker;
+import com.example.board.resilience.ReadOnlyModeFilter;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+import javax.sql.DataSource;
+import java.io.IOException;
+
+/**
+ * DB 장애 대응 설정
+ * DataSource에 서킷 브레이커를 적용하고, 읽기 전용 모드에서 쓰기 요청을 차단하는 필터를 등록
+ */
+@Configuration
+public class ResilienceConfig {
+
+  /**
+   * 점유 추적 다음에 적용되어 가장 바깥에서 감쌈 (ConnectionMonitoringConfig.HOLD_TRACKING_ORDER 참고)
+   */
+  public static final int CIRCUIT_BREAKER_ORDER = ConnectionMonitoringConfig.HOLD_TRACKING_ORDER + 10;
+
+  /**
+   * 모든 DataSource를 서킷 브레이커가 적용된 DataSource로 감쌈
+   * BeanPostProcessor는 다른 빈보다 먼저 생성되어야 하므로 static으로 선언
+   */
+  @Bean
+  public static BeanPostProcessor circuitBreakingDataSourcePostProcessor(
+      ObjectProvider<DatabaseCircuitBreaker> circuitBreakerProvider) {
+    return new ConnectionMonitoringConfig.OrderedDataSourcePostProcessor(CIRCUIT_BREAKER_ORDER) {
+      @Override
+      public Object postProcessAfterInitialization(Object bean, String beanName) {
+        if (bean instanceof DataSource dataSource && !(bean instanceof CircuitBreakingDataSource)) {
+          return new CircuitBreakingDataSource(dataSource, circuitBreakerProvider);
+        }
+        return bean;
+      }
+    };
+  }
+
+  /**
+   * 읽기 전용 모드 필터 등록
+   * 로그인 등 Security 필터 체인의 DB 접근보다 먼저 차단하도록 SQL 예산 필터 다음 순서로 실행
+   */
+  @Bean
+  public FilterRegistrationBean<ReadOnlyModeFilter> readOnlyModeFilter(DatabaseCircuitBreaker circuitBreaker)
+      throws IOException {
+    FilterRegistrationBean<ReadOnlyModeFilter> registration =
+        new FilterRegistrationBean<>(new ReadOnlyModeFilter(circuitBreaker));
+    registration.setOrder(Ordered.HIGHEST_PRECEDENCE + 1);
+    registration.addUrlPatterns("/*");
+    return registration;
+  }
+}
@@ -0,0 +1,14 @@
+package com.example.board.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * 스케줄링 설정
+ * @Scheduled 기반 주기 작업(통계 윈도우 교체 등)을 활성화
+ * 인스턴스 중 한 곳에서만 실행해야 하는 작업은 ClusterJobRunner를 통해 실행
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
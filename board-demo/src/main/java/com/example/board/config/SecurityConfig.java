@@ -4,6 +4,7 @@ import com.example.board.security.CustomUserDetailsService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.HttpMethod;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.config.annotation.authentication.configuration.AuthenticationConfiguration;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
@@ -73,6 +74,15 @@ public class SecurityConfig {
             // 마이페이지 - 인증된 사용자만 접근 가능
             .requestMatchers("/mypage/**").authenticated()
 
+            // 조회 API - 모든 사용자 접근 허용 (읽기 전용)
+            .requestMatchers(HttpMethod.GET, "/api/v1/**").permitAll()
+
+            // 헬스 체크 - 모든 사용자 접근 허용 (로드밸런서용)
+            .requestMatchers("/actuator/health/**").permitAll()
+
+            // 운영용 엔드포인트(인기 게시글 등) - 관리자만 접근 가능
+            .requestMatchers("/actuator/**").hasRole("ADMIN")
+
             // 그 외 모든 요청은 인증 필요
             .anyRequest().authenticated())
 
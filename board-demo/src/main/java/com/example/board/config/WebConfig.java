@@ -1,9 +1,17 @@
 package com.example.board.config;
 
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.CacheControl;
 import org.springframework.web.servlet.config.annotation.ResourceHandlerRegistry;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+import org.springframework.web.servlet.resource.EncodedResourceResolver;
+import org.springframework.web.servlet.resource.ResourceUrlEncodingFilter;
+import org.springframework.web.servlet.resource.VersionResourceResolver;
+
+import java.util.concurrent.TimeUnit;
 
 /**
  * 웹 MVC 설정
@@ -15,6 +23,14 @@ public class WebConfig implements WebMvcConfigurer {
   @Value("${file.upload-dir:uploads}")
   private String uploadDir;
 
+  // 지문이 붙은 정적 리소스(css/js)의 브라우저 캐시 기간
+  @Value("${web.assets.cache-days:365}")
+  private long assetCacheDays;
+
+  // 리소스 해석 결과(지문 계산) 캐싱 여부 - 로컬에서 CSS/JS를 수정하며 확인할 때만 false
+  @Value("${web.assets.cache-resolved:true}")
+  private boolean cacheResolvedAssets;
+
   /**
    * 정적 리소스 핸들러 설정
    * 업로드된 파일을 웹에서 접근할 수 있도록 매핑
@@ -29,5 +45,38 @@ public class WebConfig implements WebMvcConfigurer {
     // 일반 업로드 파일 서빙
     registry.addResourceHandler("/uploads/**")
         .addResourceLocations("file:" + uploadDir + "/");
+
+    // 템플릿에서 분리한 CSS/JS 번들
+    addVersionedAssets(registry, "css");
+    addVersionedAssets(registry, "js");
+  }
+
+  /**
+   * 지문(내용 해시)이 붙은 정적 리소스 핸들러 등록
+   * 템플릿의 @{/css/detail.css}는 /css/detail-{해시}.css로 바뀌어 렌더링되므로
+   * 내용이 바뀌면 URL도 바뀌고, 같은 URL은 immutable로 오래 캐싱해도 안전함
+   * 빌드 시 미리 만든 .br/.gz 파일이 있으면 Accept-Encoding에 맞춰 압축본을 서빙
+   *
+   * @param registry 리소스 핸들러 레지스트리
+   * @param directory static 하위 디렉터리 (css, js)
+   */
+  private void addVersionedAssets(ResourceHandlerRegistry registry, String directory) {
+    registry.addResourceHandler("/" + directory + "/**")
+        .addResourceLocations("classpath:/static/" + directory + "/")
+        .setCacheControl(CacheControl.maxAge(assetCacheDays, TimeUnit.DAYS).cachePublic().immutable())
+        .resourceChain(cacheResolvedAssets)
+        .addResolver(new EncodedResourceResolver())
+        .addResolver(new VersionResourceResolver().addContentVersionStrategy("/**"));
+  }
+
+  /**
+   * 템플릿의 리소스 URL(@{...})을 지문이 붙은 URL로 바꿔주는 필터
+   */
+  @Bean
+  public FilterRegistrationBean<ResourceUrlEncodingFilter> resourceUrlEncodingFilter() {
+    FilterRegistrationBean<ResourceUrlEncodingFilter> registration =
+        new FilterRegistrationBean<>(new ResourceUrlEncodingFilter());
+    registration.addUrlPatterns("/*");
+    return registration;
   }
 }
@@ -0,0 +1,37 @@
+package com.example.board.controller;
+
+import com.example.board.exception.InvalidApiRequestException;
+import com.example.board.exception.NotFoundException;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ProblemDetail;
+import org.springframework.web.bind.MissingServletRequestParameterException;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.method.annotation.MethodArgumentTypeMismatchException;
+
+/**
+ * API 예외 처리
+ * 화면 컨트롤러는 리다이렉트로 오류를 알리지만, API는 RFC 7807 형식(ProblemDetail)으로 응답
+ */
+@RestControllerAdvice(assignableTypes = {PostApiController.class, CommentApiController.class})
+public class ApiExceptionHandler {
+
+  /**
+   * 존재하지 않는 게시글/댓글
+   */
+  @ExceptionHandler(NotFoundException.class)
+  public ProblemDetail notFound(NotFoundException e) {
+    return ProblemDetail.forStatusAndDetail(HttpStatus.NOT_FOUND, e.getMessage());
+  }
+
+  /**
+   * 잘못된 커서, 필드, 페이지 크기, 파라미터 형식, 그 밖의 잘못된 인자
+   */
+  @ExceptionHandler({InvalidApiRequestException.class,
+      MissingServletRequestParameterException.class,
+      MethodArgumentTypeMismatchException.class,
+      IllegalArgumentException.class})
+  public ProblemDetail badRequest(Exception e) {
+    return ProblemDetail.forStatusAndDetail(HttpStatus.BAD_REQUEST, e.getMessage());
+  }
+}
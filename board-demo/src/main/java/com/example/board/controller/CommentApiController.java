@@ -0,0 +1,96 @@
+package com.example.board.controller;
+
+import com.example.board.dto.CommentDeltaDto;
+import com.example.board.dto.CommentTreeDto;
+import com.example.board.dto.CommentViewDto;
+import com.example.board.exception.InvalidApiRequestException;
+import com.example.board.live.LiveCommentHub;
+import com.example.board.service.CommentChangeService;
+import com.example.board.service.CommentService;
+import com.example.board.service.PostService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.List;
+
+/**
+ * 댓글 조회 API (v1)
+ * 게시글의 댓글을 대댓글까지 포함한 트리로 반환하고, 이후에는 변경분만 증분 동기화하거나 실시간(SSE)으로 구독
+ */
+@RestController
+@RequestMapping("/api/v1/posts/{postId}/comments")
+@RequiredArgsConstructor
+public class CommentApiController {
+
+  private static final int MAX_CHANGES = 500;
+
+  private final PostService postService;
+  private final CommentService commentService;
+  private final CommentChangeService commentChangeService;
+  private final LiveCommentHub liveCommentHub;
+
+  /**
+   * 댓글 트리
+   * GET /api/v1/posts/{postId}/comments
+   * 게시글이 없으면 404 (게시글 존재 확인도 프로젝션 조회)
+   */
+  @GetMapping
+  public ResponseEntity<CommentTreeDto> comments(@PathVariable Long postId) {
+    postService.findPostView(postId);
+    // 트리보다 먼저 읽어야 그 사이의 변경을 놓치지 않음 (다시 받은 변경은 그대로 덮어쓰면 됨)
+    long watermark = commentChangeService.currentWatermark(postId);
+    List<CommentViewDto> tree = commentService.findCommentTreeByPostId(postId);
+    return PostApiController.respond(new CommentTreeDto(postId, CommentViewDto.countAll(tree), watermark, tree));
+  }
+
+  /**
+   * 댓글 증분 동기화
+   * GET /api/v1/posts/{postId}/comments/changes?since=&limit=200
+   * since 이후에 작성/수정/삭제된 댓글만 반환 (삭제는 tombstone)
+   */
+  @GetMapping("/changes")
+  public ResponseEntity<CommentDeltaDto> changes(@PathVariable Long postId,
+      @RequestParam(defaultValue = "0") long since,
+      @RequestParam(defaultValue = "200") int limit) {
+    if (since < 0 || limit < 1 || limit > MAX_CHANGES) {
+      throw new InvalidApiRequestException("since는 0 이상, limit는 1 이상 " + MAX_CHANGES + " 이하여야 합니다.");
+    }
+    return PostApiController.respond(commentChangeService.findChangesSince(postId, since, limit));
+  }
+
+  /**
+   * 실시간 댓글 구독 (Server-Sent Events)
+   * GET /api/v1/posts/{postId}/comments/stream?since=
+   * comments 이벤트의 data는 증분 동기화 응답과 같은 형식이고 id는 워터마크
+   * EventSource가 재연결할 때 보내는 Last-Event-ID가 since보다 우선
+   * 최대 연결 수를 넘으면 503 + Retry-After
+   */
+  @GetMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+  public ResponseEntity<SseEmitter> stream(@PathVariable Long postId,
+      @RequestParam(required = false) Long since,
+      @RequestHeader(value = "Last-Event-ID", required = false) Long lastEventId) {
+    Long from = lastEventId != null ? lastEventId : since;
+    if (from != null && from < 0) {
+      throw new InvalidApiRequestException("since는 0 이상이어야 합니다.");
+    }
+    postService.findPostView(postId);
+    return liveCommentHub.subscribe(postId, from)
+        .map(emitter -> ResponseEntity.ok()
+            // 프록시(nginx 등)가 이벤트를 모아 두지 않도록
+            .header("X-Accel-Buffering", "no")
+            .body(emitter))
+        .orElseGet(() -> ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+            .header(HttpHeaders.RETRY_AFTER, "30")
+            .build());
+  }
+}
@@ -2,28 +2,49 @@ package com.example.board.controller;
 
 import com.example.board.domain.Comment;
 import com.example.board.dto.CommentDto;
+import com.example.board.dto.CommentViewDto;
+import com.example.board.exception.NotAuthorException;
+import com.example.board.exception.NotFoundException;
+import com.example.board.monitoring.HotPostTracker;
 import com.example.board.security.CustomUserDetails;
 import com.example.board.service.CommentService;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ProblemDetail;
+import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.stereotype.Controller;
 import org.springframework.ui.Model;
 import org.springframework.validation.BindingResult;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.server.ResponseStatusException;
 import org.springframework.web.servlet.mvc.support.RedirectAttributes;
 
 /**
  * 댓글 컨트롤러
  * 댓글 관련 웹 요청을 처리하는 컨트롤러 클래스
+ *
+ * 댓글/대댓글 작성은 요청 방식에 따라 세 가지로 응답
+ * - 일반 폼 제출: 게시글 상세 페이지로 리다이렉트 (JS 비활성 환경)
+ * - XHR/fetch (X-Requested-With 헤더): 새 댓글 카드 HTML 조각만 렌더링
+ * - Accept: application/json: 새 댓글 DTO
  */
 @Controller
 @RequiredArgsConstructor
 @Slf4j
 public class CommentController {
 
+  /**
+   * 비동기 댓글 작성 요청 식별 헤더 (detail.js가 fetch에 붙임)
+   */
+  static final String ASYNC_REQUEST_HEADER = "X-Requested-With=XMLHttpRequest";
+
   private final CommentService commentService;
+  private final HotPostTracker hotPostTracker;
 
   /**
    * 댓글 작성 처리 (최상위 댓글)
@@ -58,8 +79,10 @@ public class CommentController {
 
     try {
       // 댓글 생성
-      Comment savedComment = commentService.createComment(postId, commentDto);
+      Comment savedComment = commentService.createComment(postId, commentDto, userDetails.getUsername());
+      hotPostTracker.recordComment(postId);
       redirectAttributes.addFlashAttribute("successMessage", "댓글이 성공적으로 작성되었습니다.");
+      redirectAttributes.addFlashAttribute(PostController.AFTER_WRITE_ATTRIBUTE, true);
 
     } catch (IllegalArgumentException e) {
       redirectAttributes.addFlashAttribute("errorMessage", e.getMessage());
@@ -107,8 +130,10 @@ public class CommentController {
 
     try {
       // 대댓글 생성
-      Comment savedReply = commentService.createReply(postId, parentId, commentDto);
+      Comment savedReply = commentService.createReply(postId, parentId, commentDto, userDetails.getUsername());
+      hotPostTracker.recordComment(postId);
       redirectAttributes.addFlashAttribute("successMessage", "대댓글이 성공적으로 작성되었습니다.");
+      redirectAttributes.addFlashAttribute(PostController.AFTER_WRITE_ATTRIBUTE, true);
 
     } catch (IllegalArgumentException e) {
       redirectAttributes.addFlashAttribute("errorMessage", e.getMessage());
@@ -121,6 +146,119 @@ public class CommentController {
     return "redirect:/posts/" + postId;
   }
 
+  /**
+   * 댓글/대댓글 비동기 작성 - HTML 조각 응답
+   * 상세 페이지 전체를 다시 렌더링하지 않고 새 댓글 카드만 돌려주면 화면에서 제자리에 끼워 넣음
+   * 실패 시 오류 상태 코드와 함께 안내 조각을 렌더링
+   *
+   * @param postId        게시글 ID
+   * @param parentId      부모 댓글 ID (최상위 댓글이면 null)
+   * @param commentDto    댓글 데이터
+   * @param bindingResult 유효성 검사 결과
+   * @param userDetails   인증된 사용자 정보
+   * @param model         조각에 전달할 데이터
+   * @param response      오류 상태 코드 설정용
+   * @return 댓글 카드 또는 오류 안내 조각
+   */
+  @PostMapping(value = {"/posts/{postId}/comments", "/posts/{postId}/comments/{parentId}/reply"},
+      headers = ASYNC_REQUEST_HEADER, produces = MediaType.TEXT_HTML_VALUE)
+  public String createCommentFragment(@PathVariable Long postId,
+      @PathVariable(required = false) Long parentId,
+      @Valid @ModelAttribute CommentDto commentDto,
+      BindingResult bindingResult,
+      @AuthenticationPrincipal CustomUserDetails userDetails,
+      Model model,
+      HttpServletResponse response) {
+
+    try {
+      Comment saved = createAsync(postId, parentId, commentDto, bindingResult, userDetails);
+
+      model.addAttribute("postId", postId);
+      model.addAttribute("currentUserName", userDetails.getName());
+      model.addAttribute("defaultAuthor", userDetails.getName());
+      if (parentId == null) {
+        model.addAttribute("comment", CommentViewDto.from(saved));
+        return "fragments/comment :: card";
+      }
+      // 부모 댓글은 작성 트랜잭션에서 이미 로딩된 엔티티라 추가 조회 없음
+      model.addAttribute("reply", CommentViewDto.from(saved));
+      model.addAttribute("parentAuthor", saved.getParent().getAuthor());
+      return "fragments/comment :: reply";
+
+    } catch (ResponseStatusException e) {
+      response.setStatus(e.getStatusCode().value());
+      model.addAttribute("message", e.getReason());
+      return "fragments/comment :: error";
+    }
+  }
+
+  /**
+   * 댓글/대댓글 비동기 작성 - JSON 응답
+   *
+   * @param postId        게시글 ID
+   * @param parentId      부모 댓글 ID (최상위 댓글이면 null)
+   * @param commentDto    댓글 데이터
+   * @param bindingResult 유효성 검사 결과
+   * @param userDetails   인증된 사용자 정보
+   * @return 201 + 댓글 DTO, 실패 시 ProblemDetail
+   */
+  @PostMapping(value = {"/posts/{postId}/comments", "/posts/{postId}/comments/{parentId}/reply"},
+      produces = MediaType.APPLICATION_JSON_VALUE)
+  @ResponseBody
+  public ResponseEntity<?> createCommentJson(@PathVariable Long postId,
+      @PathVariable(required = false) Long parentId,
+      @Valid @ModelAttribute CommentDto commentDto,
+      BindingResult bindingResult,
+      @AuthenticationPrincipal CustomUserDetails userDetails) {
+
+    try {
+      Comment saved = createAsync(postId, parentId, commentDto, bindingResult, userDetails);
+      return ResponseEntity.status(HttpStatus.CREATED).body(CommentViewDto.from(saved));
+
+    } catch (ResponseStatusException e) {
+      return ResponseEntity.status(e.getStatusCode())
+          .body(ProblemDetail.forStatusAndDetail(e.getStatusCode(), e.getReason()));
+    }
+  }
+
+  /**
+   * 비동기 작성 공통 처리
+   * 리다이렉트 방식과 같은 검사 순서를 따르되, 실패를 상태 코드로 구분
+   *
+   * @return 저장된 댓글 (대댓글이면 부모 댓글 로딩됨)
+   * @throws ResponseStatusException 미인증(401), 입력 오류(400), 게시글/댓글 없음(404), 그 외(500)
+   */
+  private Comment createAsync(Long postId, Long parentId, CommentDto commentDto,
+      BindingResult bindingResult, CustomUserDetails userDetails) {
+
+    if (userDetails == null) {
+      throw new ResponseStatusException(HttpStatus.UNAUTHORIZED, "로그인이 필요합니다.");
+    }
+    if (bindingResult.hasErrors()) {
+      throw new ResponseStatusException(HttpStatus.BAD_REQUEST,
+          parentId == null ? "댓글 내용을 올바르게 입력해주세요." : "대댓글 내용을 올바르게 입력해주세요.");
+    }
+
+    try {
+      Comment saved = parentId == null
+          ? commentService.createComment(postId, commentDto, userDetails.getUsername())
+          : commentService.createReply(postId, parentId, commentDto, userDetails.getUsername());
+      hotPostTracker.recordComment(postId);
+      return saved;
+
+    } catch (NotFoundException e) {
+      throw new ResponseStatusException(HttpStatus.NOT_FOUND, e.getMessage());
+
+    } catch (IllegalArgumentException e) {
+      // 부모 댓글이 다른 게시글의 댓글인 경우 등
+      throw new ResponseStatusException(HttpStatus.BAD_REQUEST, e.getMessage());
+
+    } catch (Exception e) {
+      log.error("비동기 댓글 작성 실패", e);
+      throw new ResponseStatusException(HttpStatus.INTERNAL_SERVER_ERROR, "댓글 작성 중 오류가 발생했습니다.");
+    }
+  }
+
   /**
    * 댓글 수정 폼 페이지
    * GET /comments/{id}/edit
@@ -145,12 +283,12 @@ public class CommentController {
     }
 
     try {
-      Comment comment = commentService.findCommentById(id);
+      CommentViewDto comment = commentService.findCommentViewById(id);
 
       // 본인 댓글인지 확인
       if (!comment.getAuthor().equals(userDetails.getName())) {
         redirectAttributes.addFlashAttribute("errorMessage", "본인이 작성한 댓글만 수정할 수 있습니다.");
-        return "redirect:/posts/" + comment.getPost().getId();
+        return "redirect:/posts/" + comment.getPostId();
       }
 
       // CommentDto로 변환하여 폼에 전달
@@ -158,8 +296,8 @@ public class CommentController {
           .id(comment.getId())
           .content(comment.getContent())
           .author(comment.getAuthor())
-          .postId(comment.getPost().getId())
-          .parentId(comment.getParent() != null ? comment.getParent().getId() : null)
+          .postId(comment.getPostId())
+          .parentId(comment.getParentId())
           .build();
 
       model.addAttribute("comment", comment);
@@ -178,7 +316,7 @@ public class CommentController {
    * 인증된 사용자 + 본인 댓글만 수정 가능
    *
    * @param id                 댓글 ID
-   * @param commentDto         수정할 댓글 데이터
+   * @param commentDto         수정할 댓글 데이터 (postId는 리다이렉트 대상으로만 사용)
    * @param bindingResult      유효성 검사 결과
    * @param userDetails        인증된 사용자 정보
    * @param redirectAttributes 리다이렉트 시 전달할 메시지
@@ -197,30 +335,21 @@ public class CommentController {
       return "redirect:/login";
     }
 
-    Long postId = null;
-
-    try {
-      // 기존 댓글 조회하여 postId 획득
-      Comment existingComment = commentService.findCommentById(id);
-      postId = existingComment.getPost().getId();
+    Long postId = commentDto.getPostId();
 
-      // 본인 댓글인지 확인
-      if (!existingComment.getAuthor().equals(userDetails.getName())) {
-        redirectAttributes.addFlashAttribute("errorMessage", "본인이 작성한 댓글만 수정할 수 있습니다.");
-        return "redirect:/posts/" + postId;
-      }
-
-      // 유효성 검사 실패 시
-      if (bindingResult.hasErrors()) {
-        redirectAttributes.addFlashAttribute("errorMessage", "댓글 내용을 올바르게 입력해주세요.");
-        return "redirect:/posts/" + postId;
-      }
+    // 유효성 검사 실패 시
+    if (bindingResult.hasErrors()) {
+      redirectAttributes.addFlashAttribute("errorMessage", "댓글 내용을 올바르게 입력해주세요.");
+      return "redirect:/posts/" + (postId != null ? postId : "");
+    }
 
-      // 댓글 수정
-      Comment updatedComment = commentService.updateComment(id, commentDto);
+    try {
+      // 본인 댓글 확인과 수정을 하나의 UPDATE로 처리 (미리 조회하지 않음)
+      commentService.updateOwnComment(id, userDetails.getUsername(), userDetails.getName(), commentDto.getContent());
       redirectAttributes.addFlashAttribute("successMessage", "댓글이 성공적으로 수정되었습니다.");
+      redirectAttributes.addFlashAttribute(PostController.AFTER_WRITE_ATTRIBUTE, true);
 
-    } catch (IllegalArgumentException e) {
+    } catch (NotAuthorException | IllegalArgumentException e) {
       redirectAttributes.addFlashAttribute("errorMessage", e.getMessage());
 
     } catch (Exception e) {
@@ -238,12 +367,14 @@ public class CommentController {
    * 인증된 사용자 + 본인 댓글만 삭제 가능
    *
    * @param id                 댓글 ID
+   * @param postId             댓글이 속한 게시글 ID (리다이렉트 대상으로만 사용)
    * @param userDetails        인증된 사용자 정보
    * @param redirectAttributes 리다이렉트 시 전달할 메시지
    * @return 게시글 상세 페이지로 리다이렉트
    */
   @PostMapping("/comments/{id}/delete")
   public String deleteComment(@PathVariable Long id,
+      @RequestParam(required = false) Long postId,
       @AuthenticationPrincipal CustomUserDetails userDetails,
       RedirectAttributes redirectAttributes) {
 
@@ -253,24 +384,13 @@ public class CommentController {
       return "redirect:/login";
     }
 
-    Long postId = null;
-
     try {
-      // 삭제 전 댓글 조회
-      Comment comment = commentService.findCommentById(id);
-      postId = comment.getPost().getId();
-
-      // 본인 댓글인지 확인
-      if (!comment.getAuthor().equals(userDetails.getName())) {
-        redirectAttributes.addFlashAttribute("errorMessage", "본인이 작성한 댓글만 삭제할 수 있습니다.");
-        return "redirect:/posts/" + postId;
-      }
-
-      // 댓글 삭제
-      commentService.deleteComment(id);
+      // 본인 댓글 확인과 삭제(대댓글 포함)를 조건부 DELETE로 처리 (미리 조회하지 않음)
+      commentService.deleteOwnComment(id, userDetails.getUsername(), userDetails.getName());
       redirectAttributes.addFlashAttribute("successMessage", "댓글이 성공적으로 삭제되었습니다.");
+      redirectAttributes.addFlashAttribute(PostController.AFTER_WRITE_ATTRIBUTE, true);
 
-    } catch (IllegalArgumentException e) {
+    } catch (NotAuthorException | IllegalArgumentException e) {
       redirectAttributes.addFlashAttribute("errorMessage", e.getMessage());
 
     } catch (Exception e) {
@@ -281,26 +401,4 @@ public class CommentController {
     // postId가 null인 경우 게시글 목록으로 리다이렉트
     return "redirect:/posts/" + (postId != null ? postId : "");
   }
-
-  /**
-   * 특정 게시글의 댓글 목록 조회 (AJAX용 - 추후 확장 가능)
-   * GET /posts/{postId}/comments
-   *
-   * @param postId 게시글 ID
-   * @param model  뷰에 전달할 데이터
-   * @return 댓글 목록 JSON 또는 부분 템플릿
-   */
-  @GetMapping("/posts/{postId}/comments")
-  @ResponseBody
-  public String getComments(@PathVariable Long postId, Model model) {
-    try {
-      var comments = commentService.findTopLevelCommentsByPostId(postId);
-      // JSON 형태로 반환하거나 부분 템플릿 렌더링
-      // 현재는 단순 문자열 반환 (추후 JSON 변환 로직 추가 가능)
-      return "댓글 " + comments.size() + "개";
-
-    } catch (Exception e) {
-      return "댓글 조회 오류";
-    }
-  }
 }
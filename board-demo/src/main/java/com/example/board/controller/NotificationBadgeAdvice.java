@@ -0,0 +1,25 @@
+package com.example.board.controller;
+
+import com.example.board.security.CustomUserDetails;
+import com.example.board.service.NotificationService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.ControllerAdvice;
+import org.springframework.web.bind.annotation.ModelAttribute;
+
+/**
+ * 화면 상단 알림 배지
+ * 화면 컨트롤러의 모든 모델에 읽지 않은 알림 수를 넣음 (캐시된 카운터라 DB 조회 없음)
+ */
+@ControllerAdvice(assignableTypes = {HomeController.class, PostController.class, UserController.class,
+    NotificationController.class})
+@RequiredArgsConstructor
+public class NotificationBadgeAdvice {
+
+  private final NotificationService notificationService;
+
+  @ModelAttribute("unreadNotifications")
+  public long unreadNotifications(@AuthenticationPrincipal CustomUserDetails userDetails) {
+    return userDetails == null ? 0 : notificationService.countUnread(userDetails.getUsername());
+  }
+}
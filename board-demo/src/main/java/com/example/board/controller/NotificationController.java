@@ -0,0 +1,76 @@
+package com.example.board.controller;
+
+import com.example.board.security.CustomUserDetails;
+import com.example.board.service.NotificationService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.stereotype.Controller;
+import org.springframework.ui.Model;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.servlet.mvc.support.RedirectAttributes;
+
+/**
+ * 알림함 컨트롤러
+ * 인증된 사용자만 접근 가능 (본인 알림만 조회/읽음 처리, 알림함은 로그인 아이디로 구분)
+ */
+@Controller
+@RequiredArgsConstructor
+public class NotificationController {
+
+  private final NotificationService notificationService;
+
+  @Value("${notification.page-size:20}")
+  private int pageSize;
+
+  /**
+   * 알림함
+   * GET /notifications?before={이전 페이지 마지막 알림 ID}
+   */
+  @GetMapping("/notifications")
+  public String inbox(@RequestParam(required = false) Long before,
+      @AuthenticationPrincipal CustomUserDetails userDetails,
+      Model model) {
+    if (userDetails == null) {
+      return "redirect:/login";
+    }
+    model.addAttribute("page", notificationService.findInbox(userDetails.getUsername(), before, pageSize));
+    return "user/notifications";
+  }
+
+  /**
+   * 알림 열기 (읽음 처리 후 해당 댓글로 이동)
+   * POST /notifications/{id}/read
+   * 상태를 바꾸므로 GET이 아닌 POST (링크 미리 읽기/크롤러가 읽음 처리하지 않도록, CSRF 토큰 검사)
+   */
+  @PostMapping("/notifications/{id}/read")
+  public String open(@PathVariable Long id,
+      @AuthenticationPrincipal CustomUserDetails userDetails,
+      RedirectAttributes redirectAttributes) {
+    if (userDetails == null) {
+      return "redirect:/login";
+    }
+    try {
+      return "redirect:" + notificationService.markRead(id, userDetails.getUsername());
+    } catch (IllegalArgumentException e) {
+      redirectAttributes.addFlashAttribute("errorMessage", e.getMessage());
+      return "redirect:/notifications";
+    }
+  }
+
+  /**
+   * 모든 알림 읽음 처리
+   * POST /notifications/read-all
+   */
+  @PostMapping("/notifications/read-all")
+  public String readAll(@AuthenticationPrincipal CustomUserDetails userDetails) {
+    if (userDetails == null) {
+      return "redirect:/login";
+    }
+    notificationService.markAllRead(userDetails.getUsername());
+    return "redirect:/notifications";
+  }
+}
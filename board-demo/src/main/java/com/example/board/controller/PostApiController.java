@@ -0,0 +1,112 @@
+package com.example.board.controller;
+
+import com.example.board.dto.ApiFields;
+import com.example.board.dto.CursorPageDto;
+import com.example.board.dto.PostCursor;
+import com.example.board.dto.PostSummaryDto;
+import com.example.board.exception.InvalidApiRequestException;
+import com.example.board.service.PostService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.converter.json.MappingJacksonValue;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+import java.util.Set;
+import java.util.function.Function;
+
+/**
+ * 게시글 조회 API (v1)
+ * 모바일 클라이언트/외부 연동용 JSON 읽기 API
+ *
+ * - 목록/검색은 커서 기반 페이지 (?cursor=&size=), 본문(content)은 조회하지 않음
+ * - ?fields=id,title 로 필요한 필드만 선택
+ * - 모든 응답은 DTO 프로젝션에서 바로 직렬화 (엔티티를 만들지 않음)
+ * - 응답 본문 기반 ETag (If-None-Match 일치 시 304, ApiConfig)
+ */
+@RestController
+@RequestMapping("/api/v1/posts")
+@RequiredArgsConstructor
+public class PostApiController {
+
+  private static final int MAX_PAGE_SIZE = 100;
+
+  private static final Set<String> SUMMARY_FIELDS =
+      Set.of("id", "title", "author", "imagePath", "createdAt", "updatedAt");
+
+  private static final Set<String> DETAIL_FIELDS =
+      Set.of("id", "title", "content", "author", "imagePath", "createdAt", "updatedAt");
+
+  private final PostService postService;
+
+  /**
+   * 게시글 목록 (최신순)
+   * GET /api/v1/posts?cursor=&size=20&fields=
+   */
+  @GetMapping
+  public ResponseEntity<MappingJacksonValue> list(@RequestParam(required = false) String cursor,
+      @RequestParam(defaultValue = "20") int size,
+      @RequestParam(required = false) String fields) {
+    CursorPageDto<PostSummaryDto> page = page(cursor, size,
+        limit -> postService.findPostSummaries(PostCursor.decode(cursor), limit));
+    return respond(ApiFields.select(page, fields, SUMMARY_FIELDS));
+  }
+
+  /**
+   * 제목 검색 (최신순)
+   * GET /api/v1/posts/search?q=&cursor=&size=20&fields=
+   */
+  @GetMapping("/search")
+  public ResponseEntity<MappingJacksonValue> search(@RequestParam("q") String keyword,
+      @RequestParam(required = false) String cursor,
+      @RequestParam(defaultValue = "20") int size,
+      @RequestParam(required = false) String fields) {
+    if (keyword.isBlank()) {
+      throw new InvalidApiRequestException("검색어를 입력해주세요.");
+    }
+    CursorPageDto<PostSummaryDto> page = page(cursor, size,
+        limit -> postService.searchPostSummaries(keyword.trim(), PostCursor.decode(cursor), limit));
+    return respond(ApiFields.select(page, fields, SUMMARY_FIELDS));
+  }
+
+  /**
+   * 게시글 상세
+   * GET /api/v1/posts/{id}?fields=
+   */
+  @GetMapping("/{id}")
+  public ResponseEntity<MappingJacksonValue> detail(@PathVariable Long id,
+      @RequestParam(required = false) String fields) {
+    return respond(ApiFields.select(postService.findPostView(id), fields, DETAIL_FIELDS));
+  }
+
+  /**
+   * 한 페이지 조회
+   * 요청 크기보다 하나 더 조회하여 다음 페이지가 있는지 판단 (별도 COUNT 쿼리 없음)
+   */
+  private CursorPageDto<PostSummaryDto> page(String cursor, int size,
+      Function<Integer, List<PostSummaryDto>> loader) {
+    if (size < 1 || size > MAX_PAGE_SIZE) {
+      throw new InvalidApiRequestException("size는 1 이상 " + MAX_PAGE_SIZE + " 이하여야 합니다.");
+    }
+    List<PostSummaryDto> posts = loader.apply(size + 1);
+    if (posts.size() <= size) {
+      return new CursorPageDto<>(posts, null);
+    }
+    List<PostSummaryDto> items = posts.subList(0, size);
+    return new CursorPageDto<>(items, PostCursor.after(items.get(size - 1)).encode());
+  }
+
+  /**
+   * 캐시에 저장하되 매번 ETag로 재검증하도록 응답
+   */
+  static <T> ResponseEntity<T> respond(T body) {
+    return ResponseEntity.ok()
+        .cacheControl(CacheControl.noCache())
+        .body(body);
+  }
+}
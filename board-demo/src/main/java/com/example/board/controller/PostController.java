@@ -1,23 +1,36 @@
 package com.example.board.controller;
 
-import com.example.board.domain.Comment;
 import com.example.board.domain.Post;
 import com.example.board.dto.CommentDto;
+import com.example.board.dto.PostDetailViewDto;
+import com.example.board.dto.PostViewDto;
+import com.example.board.exception.NotAuthorException;
+import com.example.board.monitoring.HotPostTracker;
+import com.example.board.monitoring.QueryCountHolder;
+import com.example.board.resilience.DatabaseCircuitBreaker;
+import com.example.board.resilience.ReadSnapshotCache;
 import com.example.board.security.CustomUserDetails;
-import com.example.board.service.CommentService;
 import com.example.board.service.FileService;
+import com.example.board.service.PostDetailLoader;
 import com.example.board.service.PostService;
+import com.example.board.service.PostViewStream;
+import com.example.board.startup.WarmupRequestVerifier;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.stereotype.Controller;
+import org.springframework.transaction.TransactionException;
 import org.springframework.ui.Model;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
 import org.springframework.web.servlet.mvc.support.RedirectAttributes;
 
 import java.io.IOException;
-import java.util.List;
+import java.io.UncheckedIOException;
 
 /**
  * 게시글 컨트롤러
@@ -29,38 +42,84 @@ import java.util.List;
 @Slf4j
 public class PostController {
 
+  /**
+   * 쓰기 후 상세 페이지로 리다이렉트할 때 붙이는 플래시 속성
+   * 이 속성이 있는 상세 조회는 쓰기 이전에 시작된 조회에 합류하지 않음
+   */
+  public static final String AFTER_WRITE_ATTRIBUTE = "afterWrite";
+
   private final PostService postService;
-  private final CommentService commentService;
+  private final PostDetailLoader postDetailLoader;
   private final FileService fileService;
+  private final HotPostTracker hotPostTracker;
+  private final DatabaseCircuitBreaker circuitBreaker;
+  private final ReadSnapshotCache readSnapshotCache;
+  private final WarmupRequestVerifier warmupRequestVerifier;
+
+  // 목록 스트리밍 시 한 번에 조회/렌더링할 게시글 수
+  @Value("${post.list.chunk-size:50}")
+  private int listChunkSize;
+
+  // 읽기 전용 모드에 대비해 보관할 목록 앞부분 게시글 수
+  @Value("${post.list.snapshot-size:200}")
+  private int listSnapshotSize;
 
   /**
    * 게시글 목록 페이지
    * GET /posts
+   * 목록은 묶음 단위로 스트리밍하여 렌더링 (전체 목록을 메모리에 올리지 않음)
+   * 첫 묶음만 미리 조회하고, 이후 묶음은 렌더링한 HTML을 먼저 내보낸 뒤 조회하므로
+   * 목록이 길어져도 첫 바이트까지의 시간과 요청당 메모리는 일정함
    */
   @GetMapping
-  public String list(Model model) {
-    List<Post> posts = postService.findAllPosts();
-    model.addAttribute("posts", posts);
+  public String list(Model model, HttpServletResponse response) {
+    try {
+      // 스냅샷은 보관본이 오래된 경우에만 갱신 (요청마다 앞부분 목록을 복사하지 않음)
+      boolean refreshSnapshot = readSnapshotCache.isPostListStale();
+      // 묶음 조회는 목록 길이만큼 반복되므로 SQL 예산/N+1 검사에서 제외
+      PostViewStream posts = new PostViewStream(
+          (cursor, size) -> QueryCountHolder.paged(() -> postService.findPostViewsAfter(cursor, size)),
+          listChunkSize, () -> flushRenderedHtml(response), refreshSnapshot ? listSnapshotSize : 0,
+          refreshSnapshot ? readSnapshotCache::storePostList : snapshot -> { });
+      model.addAttribute("posts", posts);
+    } catch (DataAccessException | TransactionException e) {
+      // DB 장애 시 마지막으로 성공한 목록으로 응답 (스냅샷이 없으면 그대로 오류 처리)
+      log.warn("게시글 목록 조회 실패, 스냅샷으로 응답: {}", e.getMessage());
+      model.addAttribute("posts", readSnapshotCache.getPostList().orElseThrow(() -> e));
+      model.addAttribute("readOnlyMode", true);
+      return "list";
+    }
+    model.addAttribute("readOnlyMode", circuitBreaker.isReadOnlyMode());
     return "list";
   }
 
   /**
    * 게시글 상세 페이지
    * GET /posts/{id}
+   * 게시글과 전체 댓글을 병렬로 조회하여 DTO 트리로 조립한 뒤 렌더링
+   * 댓글 조회가 실패하거나 늦어지면 게시글만 먼저 보여줌
    */
   @GetMapping("/{id}")
   public String detail(@PathVariable Long id,
       Model model,
-      @AuthenticationPrincipal CustomUserDetails userDetails) {
+      @AuthenticationPrincipal CustomUserDetails userDetails,
+      HttpServletRequest request) {
     try {
-      Post post = postService.findPostById(id);
-      List<Comment> comments = commentService.findTopLevelCommentsByPostId(id);
-      Long commentCount = commentService.getCommentCount(id);
+      PostDetailViewDto detail = postDetailLoader.load(id, model.containsAttribute(AFTER_WRITE_ATTRIBUTE));
+      if (!warmupRequestVerifier.isWarmupRequest(request)) {
+        // 시작 시 예열 요청은 인기 게시글 집계에서 제외
+        hotPostTracker.recordView(id);
+      }
+      if (detail.isCommentsAvailable() && readSnapshotCache.isDetailStale(id)) {
+        readSnapshotCache.storeDetail(detail.getPost(), detail.getComments(), detail.getCommentCount());
+      }
 
-      model.addAttribute("post", post);
-      model.addAttribute("comments", comments);
-      model.addAttribute("commentCount", commentCount);
+      model.addAttribute("post", detail.getPost());
+      model.addAttribute("comments", detail.getComments());
+      model.addAttribute("commentCount", detail.getCommentCount());
+      model.addAttribute("commentsUnavailable", !detail.isCommentsAvailable());
       model.addAttribute("commentDto", new CommentDto()); // 댓글 작성 폼용
+      model.addAttribute("readOnlyMode", circuitBreaker.isReadOnlyMode());
 
       // 로그인한 사용자 정보를 모델에 추가
       if (userDetails != null) {
@@ -73,6 +132,20 @@ public class PostController {
     } catch (IllegalArgumentException e) {
       model.addAttribute("errorMessage", e.getMessage());
       return "redirect:/posts";
+    } catch (DataAccessException | TransactionException e) {
+      // DB 장애 시 마지막으로 조회된 상세 스냅샷으로 응답 (스냅샷이 없으면 그대로 오류 처리)
+      log.warn("게시글 상세 조회 실패, 스냅샷으로 응답: postId={}, {}", id, e.getMessage());
+      ReadSnapshotCache.DetailSnapshot snapshot = readSnapshotCache.getDetail(id).orElseThrow(() -> e);
+      model.addAttribute("post", snapshot.post());
+      model.addAttribute("comments", snapshot.comments());
+      model.addAttribute("commentCount", snapshot.commentCount());
+      model.addAttribute("commentDto", new CommentDto());
+      model.addAttribute("readOnlyMode", true);
+      if (userDetails != null) {
+        model.addAttribute("defaultAuthor", userDetails.getName());
+        model.addAttribute("currentUserName", userDetails.getName());
+      }
+      return "detail";
     }
   }
 
@@ -117,8 +190,9 @@ public class PostController {
         log.info("이미지 업로드 완료: {}", imagePath);
       }
 
-      Post savedPost = postService.createPostWithImage(title, content, author, imagePath);
+      Post savedPost = postService.createPostWithImage(title, content, author, userDetails.getUsername(), imagePath);
       redirectAttributes.addFlashAttribute("successMessage", "게시글이 성공적으로 작성되었습니다.");
+      redirectAttributes.addFlashAttribute(AFTER_WRITE_ATTRIBUTE, true);
       return "redirect:/posts/" + savedPost.getId();
     } catch (IllegalArgumentException e) {
       redirectAttributes.addFlashAttribute("errorMessage", e.getMessage());
@@ -152,7 +226,7 @@ public class PostController {
     }
 
     try {
-      Post post = postService.findPostById(id);
+      PostViewDto post = postService.findPostView(id);
 
       // 본인 게시글인지 확인
       if (!post.getAuthor().equals(userDetails.getName())) {
@@ -188,36 +262,33 @@ public class PostController {
       return "redirect:/login";
     }
 
-    try {
-      Post post = postService.findPostById(id);
+    // 저장했지만 게시글에 반영되지 못한 새 이미지 (실패 시 정리 대상)
+    String newImagePath = null;
 
-      // 본인 게시글인지 확인
-      if (!post.getAuthor().equals(userDetails.getName())) {
-        redirectAttributes.addFlashAttribute("errorMessage", "본인이 작성한 게시글만 수정할 수 있습니다.");
-        return "redirect:/posts/" + id;
+    try {
+      // 새 이미지는 먼저 저장하고, 교체된 기존 이미지는 DB 반영 후 삭제
+      // (동시 수정 시에도 참조되지 않는 파일이 남거나 사용 중인 파일이 지워지지 않도록 함)
+      if (image != null && !image.isEmpty()) {
+        newImagePath = fileService.saveImage(image, "posts");
+        log.info("새 이미지 업로드 완료: {}", newImagePath);
       }
 
-      String imagePath = post.getImagePath();
+      // 본인 게시글 확인은 수정 쿼리의 조건으로 처리 (별도 조회 없음)
+      String releasedImagePath = postService.updateOwnPost(
+          id, userDetails.getUsername(), userDetails.getName(), title, content, newImagePath,
+          "true".equals(deleteImage));
+      newImagePath = null;
 
-      // 이미지 삭제 요청 처리
-      if ("true".equals(deleteImage) && imagePath != null) {
-        fileService.deleteImage(imagePath);
-        imagePath = null;
-        log.info("이미지 삭제 완료");
+      if (releasedImagePath != null) {
+        fileService.deleteImage(releasedImagePath);
+        log.info("기존 이미지 삭제 완료: {}", releasedImagePath);
       }
 
-      // 새 이미지 업로드 처리
-      if (image != null && !image.isEmpty()) {
-        // 기존 이미지 삭제
-        if (post.getImagePath() != null) {
-          fileService.deleteImage(post.getImagePath());
-        }
-        imagePath = fileService.saveImage(image, "posts");
-        log.info("새 이미지 업로드 완료: {}", imagePath);
-      }
-
-      postService.updatePostWithImage(id, title, content, imagePath);
       redirectAttributes.addFlashAttribute("successMessage", "게시글이 성공적으로 수정되었습니다.");
+      redirectAttributes.addFlashAttribute(AFTER_WRITE_ATTRIBUTE, true);
+      return "redirect:/posts/" + id;
+    } catch (NotAuthorException e) {
+      redirectAttributes.addFlashAttribute("errorMessage", e.getMessage());
       return "redirect:/posts/" + id;
     } catch (IllegalArgumentException e) {
       redirectAttributes.addFlashAttribute("errorMessage", e.getMessage());
@@ -230,6 +301,10 @@ public class PostController {
       log.error("게시글 수정 실패", e);
       redirectAttributes.addFlashAttribute("errorMessage", "게시글 수정 중 오류가 발생했습니다.");
       return "redirect:/posts/" + id + "/edit";
+    } finally {
+      if (newImagePath != null) {
+        fileService.deleteImage(newImagePath);
+      }
     }
   }
 
@@ -250,22 +325,13 @@ public class PostController {
     }
 
     try {
-      Post post = postService.findPostById(id);
-
-      // 본인 게시글인지 확인
-      if (!post.getAuthor().equals(userDetails.getName())) {
-        redirectAttributes.addFlashAttribute("errorMessage", "본인이 작성한 게시글만 삭제할 수 있습니다.");
-        return "redirect:/posts/" + id;
-      }
-
-      // 게시글 이미지 삭제
-      if (post.getImagePath() != null) {
-        fileService.deleteImage(post.getImagePath());
-        log.info("게시글 이미지 삭제: {}", post.getImagePath());
-      }
-
-      postService.deletePost(id);
+      // 본인 게시글 확인과 삭제 표시를 한 번에 처리하고, 댓글/이미지 정리는 PostPurgeJob이 백그라운드에서 처리
+      postService.deleteOwnPost(id, userDetails.getUsername(), userDetails.getName());
+      readSnapshotCache.evictPost(id);
       redirectAttributes.addFlashAttribute("successMessage", "게시글이 성공적으로 삭제되었습니다.");
+    } catch (NotAuthorException e) {
+      redirectAttributes.addFlashAttribute("errorMessage", e.getMessage());
+      return "redirect:/posts/" + id;
     } catch (IllegalArgumentException e) {
       redirectAttributes.addFlashAttribute("errorMessage", e.getMessage());
     } catch (Exception e) {
@@ -274,4 +340,16 @@ public class PostController {
     }
     return "redirect:/posts";
   }
+
+  /**
+   * 지금까지 렌더링한 HTML을 클라이언트로 내보냄 (목록 스트리밍의 묶음 경계)
+   * 클라이언트가 연결을 끊었으면 예외로 렌더링을 중단하여 남은 묶음을 조회하지 않음
+   */
+  private static void flushRenderedHtml(HttpServletResponse response) {
+    try {
+      response.flushBuffer();
+    } catch (IOException e) {
+      throw new UncheckedIOException("클라이언트 연결이 끊겨 목록 렌더링을 중단합니다.", e);
+    }
+  }
 }
@@ -4,6 +4,7 @@ import com.example.board.domain.User;
 import com.example.board.dto.PasswordResetRequestDto;
 import com.example.board.dto.ProfileUpdateRequestDto;
 import com.example.board.dto.SignupRequestDto;
+import com.example.board.dto.UserViewDto;
 import com.example.board.exception.DuplicateUsernameException;
 import com.example.board.security.CustomUserDetails;
 import com.example.board.service.UserService;
@@ -221,7 +222,7 @@ public class UserController {
     ProfileUpdateRequestDto dto = new ProfileUpdateRequestDto();
     dto.setName(user.getName());
     model.addAttribute("profileUpdateRequestDto", dto);
-    model.addAttribute("user", user);
+    model.addAttribute("user", UserViewDto.from(user));
     return "user/mypage";
   }
 
@@ -251,7 +252,7 @@ public class UserController {
 
     // 1. 검증 에러가 있는 경우
     if (bindingResult.hasErrors()) {
-      model.addAttribute("user", currentUser);
+      model.addAttribute("user", UserViewDto.from(currentUser));
       model.addAttribute("nameError", true);
       return "user/mypage";
     }
@@ -262,7 +263,7 @@ public class UserController {
       log.info("이름 수정 성공: {} -> 이름: {}", currentUser.getUsername(), dto.getName());
 
       // 3. Spring Security 인증 정보 갱신
-      CustomUserDetails newUserDetails = new CustomUserDetails(updatedUser);
+      CustomUserDetails newUserDetails = new CustomUserDetails(updatedUser, userDetails.getAuthorities());
       Authentication newAuth = new UsernamePasswordAuthenticationToken(
           newUserDetails,
           null,
@@ -276,12 +277,12 @@ public class UserController {
       return "redirect:/mypage";
 
     } catch (IllegalArgumentException e) {
-      model.addAttribute("user", currentUser);
+      model.addAttribute("user", UserViewDto.from(currentUser));
       model.addAttribute("nameErrorMessage", e.getMessage());
       log.warn("이름 수정 실패: {}", e.getMessage());
       return "user/mypage";
     } catch (Exception e) {
-      model.addAttribute("user", currentUser);
+      model.addAttribute("user", UserViewDto.from(currentUser));
       model.addAttribute("nameErrorMessage", "이름 수정 중 오류가 발생했습니다.");
       log.error("이름 수정 중 예상치 못한 오류 발생", e);
       return "user/mypage";
@@ -0,0 +1,75 @@
+package com.example.board.datagen;
+
+import java.util.SplittableRandom;
+
+/**
+ * 합성 데이터용 한국어 텍스트 생성기
+ * 고정된 단어 목록을 조합하므로 같은 난수 시드에서는 항상 같은 문장을 생성
+ */
+final class KoreanTextGenerator {
+
+  private static final String[] FAMILY_NAMES = {
+      "김", "이", "박", "최", "정", "강", "조", "윤", "장", "임", "한", "오", "서", "신", "권", "황"};
+
+  private static final String[] GIVEN_NAMES = {
+      "민준", "서연", "도윤", "하은", "시우", "지우", "주원", "서윤", "하준", "지민",
+      "예준", "수아", "건우", "지아", "현우", "다은", "우진", "채원", "선우", "윤서"};
+
+  private static final String[] SUBJECTS = {
+      "오늘", "아침", "저녁", "주말", "겨울밤", "첫눈", "오두막", "숲길", "모닥불", "창밖",
+      "따뜻한 차", "산책길", "작은 새", "눈사람", "별빛", "벽난로", "하루", "친구", "고양이", "편지"};
+
+  private static final String[] PREDICATES = {
+      "정말 포근했어요", "조금 쓸쓸했어요", "생각보다 즐거웠어요", "마음이 편안해졌어요",
+      "오래 기억에 남을 것 같아요", "괜히 웃음이 났어요", "천천히 흘러갔어요", "유난히 반짝였어요",
+      "다시 보고 싶어요", "기분이 좋아졌어요", "조용히 지나갔어요", "새로운 느낌이었어요"};
+
+  private static final String[] CONNECTORS = {
+      "그리고", "그래서", "하지만", "문득", "그러다", "덕분에", "오랜만에", "그런데"};
+
+  private static final String[] REPLIES = {
+      "저도 같은 마음이에요", "따뜻한 글 고마워요", "읽으면서 힐링됐어요", "공감해요",
+      "다음 이야기도 기대할게요", "사진이 너무 예뻐요", "저도 그런 날이 있었어요", "오늘도 수고 많으셨어요"};
+
+  private KoreanTextGenerator() {
+  }
+
+  /**
+   * 회원 번호로부터 이름 생성 (게시글/댓글 작성자명과 일치시키기 위해 난수 대신 번호 사용)
+   */
+  static String name(int index) {
+    int combinations = FAMILY_NAMES.length * GIVEN_NAMES.length;
+    String name = FAMILY_NAMES[index % FAMILY_NAMES.length]
+        + GIVEN_NAMES[(index / FAMILY_NAMES.length) % GIVEN_NAMES.length];
+    return index < combinations ? name : name + (index / combinations);
+  }
+
+  static String title(SplittableRandom random) {
+    return pick(random, SUBJECTS) + " " + pick(random, PREDICATES);
+  }
+
+  /**
+   * 가변 길이 본문 생성
+   * 대부분은 짧고 일부는 긴 글이 되도록 문장 수를 치우치게 선택
+   */
+  static String content(SplittableRandom random) {
+    int sentences = 1 + (int) (40 * Math.pow(random.nextDouble(), 3));
+    StringBuilder content = new StringBuilder(sentences * 30);
+    for (int i = 0; i < sentences; i++) {
+      if (i > 0) {
+        content.append(i % 4 == 0 ? "\n" : " ").append(pick(random, CONNECTORS)).append(' ');
+      }
+      content.append(pick(random, SUBJECTS)).append("은 ").append(pick(random, PREDICATES)).append('.');
+    }
+    return content.toString();
+  }
+
+  static String comment(SplittableRandom random) {
+    String reply = pick(random, REPLIES);
+    return random.nextInt(3) == 0 ? reply + " " + pick(random, SUBJECTS) + "은 " + pick(random, PREDICATES) + "." : reply;
+  }
+
+  private static String pick(SplittableRandom random, String[] words) {
+    return words[random.nextInt(words.length)];
+  }
+}
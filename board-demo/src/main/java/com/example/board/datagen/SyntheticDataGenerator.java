@@ -0,0 +1,268 @@
+package com.example.board.datagen;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.context.annotation.Profile;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * 벤치마크용 대용량 합성 데이터 생성기
+ * datagen 프로파일에서만 동작하며, 엔티티를 거치지 않고 JDBC 배치 INSERT로 직접 적재
+ *
+ * 실행 예:
+ * java -jar app.jar --spring.profiles.active=datagen --datagen.posts=1000000 --datagen.seed=7
+ * (PostgreSQL은 JDBC URL에 reWriteBatchedInserts=true 를 붙이면 다중 행 INSERT로 전송됨)
+ *
+ * - 같은 시드와 설정이면 항상 같은 데이터가 생성됨 (청크별 독립 난수 사용)
+ * - 청크 단위로 병렬 처리하며, 각 청크는 미리 할당된 ID 범위를 사용하므로 서로 겹치지 않음
+ * - 기존 데이터 뒤에 이어서 적재하고, 끝나면 IDENTITY 시퀀스를 최대 ID 뒤로 맞춤
+ * - 이미지는 게시글마다 별도 파일 (게시글 수정 시 교체된 이미지를 바로 지우므로 파일을 공유하면 안 됨)
+ * - 댓글 트리는 화면과 같이 두 단계(댓글/대댓글)까지만 생성
+ */
+@Component
+@Profile("datagen")
+@RequiredArgsConstructor
+@Slf4j
+public class SyntheticDataGenerator implements ApplicationRunner {
+
+  // 1x1 투명 PNG (placeholder 이미지 원본)
+  private static final byte[] PLACEHOLDER_PNG = Base64.getDecoder().decode(
+      "iVBORw0KGgoAAAANSUhEUgAAAAEAAAABCAYAAAAfFcSJAAAADUlEQVR42mNk+M9QDwADhgGAWjR9awAAAABJRU5ErkJggg==");
+  private static final String PLACEHOLDER_DIR = "posts/placeholder";
+
+  private final JdbcTemplate jdbcTemplate;
+  private final TransactionTemplate transactionTemplate;
+  private final PasswordEncoder passwordEncoder;
+
+  @Value("${datagen.users:10000}")
+  private int userCount;
+
+  @Value("${datagen.posts:100000}")
+  private int postCount;
+
+  // 게시글 하나당 최대 댓글 수 (실제 분포는 소수 게시글에 몰리도록 치우침)
+  @Value("${datagen.max-comments-per-post:200}")
+  private int maxCommentsPerPost;
+
+  // 댓글 수 분포의 치우침 정도 (클수록 대부분 게시글의 댓글이 적어짐)
+  @Value("${datagen.comment-skew:4.0}")
+  private double commentSkew;
+
+  // 이미지가 첨부된 게시글 비율
+  @Value("${datagen.image-ratio:0.2}")
+  private double imageRatio;
+
+  @Value("${datagen.seed:42}")
+  private long seed;
+
+  @Value("${datagen.chunk-size:1000}")
+  private int chunkSize;
+
+  @Value("${datagen.batch-size:1000}")
+  private int batchSize;
+
+  @Value("${datagen.threads:4}")
+  private int threads;
+
+  // 생성일시 기준점 (재현성을 위해 현재 시각 대신 고정값 사용)
+  @Value("${datagen.base-time:2025-01-01T00:00:00}")
+  private String baseTime;
+
+  @Value("${file.upload-dir:uploads}")
+  private String uploadDir;
+
+  @Override
+  public void run(ApplicationArguments args) throws Exception {
+    long start = System.currentTimeMillis();
+    log.info("합성 데이터 생성 시작: users={}, posts={}, seed={}, threads={}", userCount, postCount, seed, threads);
+
+    Files.createDirectories(Paths.get(uploadDir, PLACEHOLDER_DIR));
+
+    long userBase = nextId("users");
+    long postBase = nextId("posts");
+    long commentBase = nextId("comments");
+    LocalDateTime base = LocalDateTime.parse(baseTime);
+    String encodedPassword = passwordEncoder.encode("password");
+
+    ExecutorService executor = Executors.newFixedThreadPool(threads);
+    try {
+      List<Future<?>> futures = new ArrayList<>();
+      for (int from = 0; from < userCount; from += chunkSize) {
+        int chunkFrom = from;
+        int chunkTo = Math.min(from + chunkSize, userCount);
+        futures.add(executor.submit(() -> insertUsers(userBase, chunkFrom, chunkTo, encodedPassword, base)));
+      }
+      awaitAll(futures);
+      log.info("회원 {}명 생성 완료", userCount);
+
+      futures.clear();
+      int chunkCount = (postCount + chunkSize - 1) / chunkSize;
+      for (int chunk = 0; chunk < chunkCount; chunk++) {
+        int chunkIndex = chunk;
+        futures.add(executor.submit(() -> insertPostChunk(postBase, commentBase, chunkIndex, base)));
+      }
+      awaitAll(futures);
+    } finally {
+      executor.shutdown();
+    }
+
+    resetIdentity("users");
+    resetIdentity("posts");
+    resetIdentity("comments");
+    log.info("합성 데이터 생성 완료: {}ms", System.currentTimeMillis() - start);
+  }
+
+  /**
+   * 회원 청크 적재 (비밀번호는 모두 "password", 이름은 회원 번호로 결정)
+   */
+  private void insertUsers(long idBase, int from, int to, String encodedPassword, LocalDateTime base) {
+    List<Object[]> rows = new ArrayList<>(to - from);
+    for (int i = from; i < to; i++) {
+      Timestamp createdAt = Timestamp.valueOf(base.minusDays(365).plusMinutes(i));
+      rows.add(new Object[]{idBase + i, username(i), encodedPassword, KoreanTextGenerator.name(i),
+          createdAt, createdAt});
+    }
+    transactionTemplate.executeWithoutResult(status -> jdbcTemplate.batchUpdate(
+        "INSERT INTO users (id, username, password, name, created_at, updated_at) VALUES (?, ?, ?, ?, ?, ?)",
+        rows, batchSize, SyntheticDataGenerator::setAll));
+  }
+
+  /**
+   * 게시글 청크와 그 댓글 트리를 하나의 트랜잭션으로 적재
+   * 댓글 ID는 청크마다 (청크 크기 x 게시글당 최대 댓글 수) 만큼 미리 예약된 범위를 사용
+   * 이미지 파일은 게시글 행보다 먼저 써서 없는 파일을 가리키는 게시글이 생기지 않도록 함
+   */
+  private void insertPostChunk(long postBase, long commentBase, int chunk, LocalDateTime base) {
+    SplittableRandom random = new SplittableRandom(seed * 31 + chunk);
+    int from = chunk * chunkSize;
+    int to = Math.min(from + chunkSize, postCount);
+
+    List<Object[]> posts = new ArrayList<>(to - from);
+    List<Object[]> comments = new ArrayList<>();
+    long commentId = commentBase + (long) chunk * chunkSize * maxCommentsPerPost;
+
+    for (int i = from; i < to; i++) {
+      long postId = postBase + i;
+      // 게시글 ID가 클수록 최신 글이 되도록 생성일시를 증가시킴
+      LocalDateTime postCreatedAt = base.minusSeconds((long) (postCount - i) * 30);
+      String imagePath = random.nextDouble() < imageRatio ? writePlaceholderImage(postId) : null;
+      String title = KoreanTextGenerator.title(random);
+      String content = KoreanTextGenerator.content(random);
+      int postAuthor = randomUser(random);
+      posts.add(new Object[]{postId, title, content, KoreanTextGenerator.name(postAuthor), username(postAuthor),
+          Timestamp.valueOf(postCreatedAt), Timestamp.valueOf(postCreatedAt), imagePath});
+
+      int commentCount = (int) (maxCommentsPerPost * Math.pow(random.nextDouble(), commentSkew));
+      List<Long> topLevelIds = new ArrayList<>();
+      for (int c = 0; c < commentCount; c++) {
+        // 60% 확률로 앞서 작성된 최상위 댓글의 대댓글로 작성 (화면은 댓글/대댓글 두 단계만 표시)
+        Long parentId = !topLevelIds.isEmpty() && random.nextInt(10) < 6
+            ? topLevelIds.get(random.nextInt(topLevelIds.size()))
+            : null;
+        if (parentId == null) {
+          topLevelIds.add(commentId);
+        }
+        Timestamp createdAt = Timestamp.valueOf(postCreatedAt.plusMinutes(c + 1L));
+        String comment = KoreanTextGenerator.comment(random);
+        int commentAuthor = randomUser(random);
+        comments.add(new Object[]{commentId++, comment, KoreanTextGenerator.name(commentAuthor),
+            username(commentAuthor), createdAt, createdAt, postId, parentId});
+      }
+    }
+
+    transactionTemplate.executeWithoutResult(status -> {
+      jdbcTemplate.batchUpdate(
+          "INSERT INTO posts (id, title, content, author, author_username, created_at, updated_at, "
+              + "image_path) VALUES (?, ?, ?, ?, ?, ?, ?, ?)",
+          posts, batchSize, SyntheticDataGenerator::setAll);
+      jdbcTemplate.batchUpdate(
+          "INSERT INTO comments (id, content, author, author_username, created_at, updated_at, post_id, "
+              + "parent_id) VALUES (?, ?, ?, ?, ?, ?, ?, ?)",
+          comments, batchSize, SyntheticDataGenerator::setAll);
+    });
+    log.info("게시글 청크 {} 적재 완료: 게시글 {}건, 댓글 {}건", chunk, posts.size(), comments.size());
+  }
+
+  /**
+   * 작성자로 쓸 생성 회원 번호 (표시 이름과 로그인 아이디를 함께 저장해야 알림/본인 확인이 동작)
+   */
+  private int randomUser(SplittableRandom random) {
+    // 일부 회원이 글을 많이 쓰도록 작성자 분포도 치우침
+    int index = (int) (userCount * Math.pow(random.nextDouble(), 2));
+    return Math.min(index, userCount - 1);
+  }
+
+  private static String username(int index) {
+    return String.format("user%07d", index);
+  }
+
+  private static void setAll(PreparedStatement ps, Object[] row) throws SQLException {
+    for (int i = 0; i < row.length; i++) {
+      ps.setObject(i + 1, row[i]);
+    }
+  }
+
+  private long nextId(String table) {
+    Long maxId = jdbcTemplate.queryForObject("SELECT MAX(id) FROM " + table, Long.class);
+    return maxId == null ? 1 : maxId + 1;
+  }
+
+  /**
+   * 명시적 ID로 적재한 뒤 IDENTITY 시퀀스를 최대 ID 다음으로 맞춤
+   */
+  private void resetIdentity(String table) {
+    long next = nextId(table);
+    String database = jdbcTemplate.execute(
+        (ConnectionCallback<String>) connection -> connection.getMetaData().getDatabaseProductName());
+
+    if ("PostgreSQL".equals(database)) {
+      jdbcTemplate.execute("SELECT setval(pg_get_serial_sequence('" + table + "', 'id'), " + next + ", false)");
+    } else {
+      jdbcTemplate.execute("ALTER TABLE " + table + " ALTER COLUMN id RESTART WITH " + next);
+    }
+  }
+
+  /**
+   * 게시글 전용 placeholder 이미지 저장
+   *
+   * @return 게시글에 저장할 이미지 경로
+   */
+  private String writePlaceholderImage(long postId) {
+    String fileName = "post-" + postId + ".png";
+    try {
+      Files.write(Paths.get(uploadDir, PLACEHOLDER_DIR, fileName), PLACEHOLDER_PNG);
+    } catch (IOException e) {
+      throw new UncheckedIOException("placeholder 이미지 저장 실패: " + fileName, e);
+    }
+    return "/" + PLACEHOLDER_DIR + "/" + fileName;
+  }
+
+  private static void awaitAll(List<Future<?>> futures) throws Exception {
+    for (Future<?> future : futures) {
+      future.get();
+    }
+  }
+}
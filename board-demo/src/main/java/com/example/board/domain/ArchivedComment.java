@@ -0,0 +1,43 @@
+package com.example.board.domain;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 보관된 댓글 엔티티
+ * 보관된 게시글에 달린 댓글/대댓글을 원래 ID와 부모 관계(parent_id) 그대로 보관하는 읽기 전용 엔티티
+ */
+@Entity
+@Table(name = "archived_comments", indexes = @Index(name = "idx_archived_comments_post_id", columnList = "post_id"))
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class ArchivedComment {
+
+    @Id
+    private Long id;
+
+    @Column(nullable = false, length = 500)
+    private String content;
+
+    @Column(nullable = false, length = 50)
+    private String author;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+
+    @Column(name = "post_id", nullable = false)
+    private Long postId;
+
+    @Column(name = "parent_id")
+    private Long parentId;
+
+    @Column(name = "archived_at", nullable = false)
+    private LocalDateTime archivedAt;
+}
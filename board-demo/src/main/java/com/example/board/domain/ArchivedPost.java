@@ -0,0 +1,53 @@
+package com.example.board.domain;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 보관된 게시글 엔티티
+ * 오래되어 더 이상 활동이 없는 게시글을 posts 테이블에서 옮겨 보관하는 읽기 전용 엔티티
+ * 원래 게시글 ID를 그대로 유지하며, 행은 PostArchiveJob의 일괄 SQL로만 생성됨
+ */
+@Entity
+@Table(name = "archived_posts")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class ArchivedPost {
+
+  @Id
+  private Long id;
+
+  @Column(nullable = false, length = 200)
+  private String title;
+
+  @Column(nullable = false, columnDefinition = "TEXT")
+  private String content;
+
+  @Column(nullable = false, length = 50)
+  private String author;
+
+  @Column(name = "created_at", nullable = false)
+  private LocalDateTime createdAt;
+
+  @Column(name = "updated_at", nullable = false)
+  private LocalDateTime updatedAt;
+
+  @Column(name = "image_path", length = 500)
+  private String imagePath;
+
+  @Column(name = "archived_at", nullable = false)
+  private LocalDateTime archivedAt;
+
+  /**
+   * 화면 표시용 게시글로 변환 (영속화되지 않는 읽기 전용 객체)
+   *
+   * @return 복원된 게시글
+   */
+  public Post toPost() {
+    return Post.restore(id, title, content, author, imagePath, createdAt, updatedAt);
+  }
+}
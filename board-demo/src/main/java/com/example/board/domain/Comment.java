@@ -34,6 +34,10 @@ public class Comment {
     @Column(nullable = false, length = 50)
     private String author;
 
+    // 작성자 로그인 아이디 (알림 받는 사람 구분용, 이름은 중복될 수 있음 / 이 컬럼 이전에 작성된 댓글은 null)
+    @Column(name = "author_username", length = 20)
+    private String authorUsername;
+
     @Column(name = "created_at", nullable = false, updatable = false)
     private LocalDateTime createdAt;
 
@@ -64,13 +68,28 @@ public class Comment {
     private List<Comment> children = new ArrayList<>();
 
     @Builder
-    public Comment(String content, String author, Post post, Comment parent) {
+    public Comment(String content, String author, String authorUsername, Post post, Comment parent) {
         this.content = content;
         this.author = author;
+        this.authorUsername = authorUsername;
         this.post = post;
         this.parent = parent;
     }
 
+    /**
+     * 보관된 댓글 복원
+     * 보관 테이블의 데이터를 화면에 보여주기 위한 읽기 전용 객체로만 사용 (저장 대상 아님)
+     * @return ID와 생성/수정일시가 채워진 댓글
+     */
+    public static Comment restore(Long id, String content, String author, Post post, Comment parent,
+                                  LocalDateTime createdAt, LocalDateTime updatedAt) {
+        Comment comment = new Comment(content, author, null, post, parent);
+        comment.id = id;
+        comment.createdAt = createdAt;
+        comment.updatedAt = updatedAt;
+        return comment;
+    }
+
     /**
      * 댓글 내용 수정
      * @param content 수정할 내용
@@ -0,0 +1,54 @@
+package com.example.board.domain;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 댓글 변경 기록 엔티티 (증분 동기화용)
+ * 게시글별로 단조 증가하는 변경 순번(seq)을 붙여 댓글 작성/수정/삭제를 기록
+ * 삭제는 댓글 행이 사라진 뒤에도 클라이언트가 알 수 있도록 tombstone으로 남김
+ * 게시글이 정리(purge)되거나 보관(archive)될 때 함께 삭제되고, 보관 기간이 지난 기록은 CommentChangePruneJob이 삭제
+ */
+@Entity
+@Table(name = "comment_changes",
+    indexes = {
+        @Index(name = "idx_comment_changes_post_seq", columnList = "post_id, seq", unique = true),
+        @Index(name = "idx_comment_changes_changed_at", columnList = "changed_at")
+    })
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class CommentChange {
+
+  @Id
+  @GeneratedValue(strategy = GenerationType.IDENTITY)
+  private Long id;
+
+  @Column(name = "post_id", nullable = false)
+  private Long postId;
+
+  // 게시글 안에서의 변경 순번 (posts.change_seq에서 발급)
+  @Column(nullable = false)
+  private long seq;
+
+  @Column(name = "comment_id", nullable = false)
+  private Long commentId;
+
+  @Enumerated(EnumType.STRING)
+  @Column(nullable = false, length = 10)
+  private CommentChangeType type;
+
+  @Column(name = "changed_at", nullable = false)
+  private LocalDateTime changedAt;
+
+  public CommentChange(Long postId, long seq, Long commentId, CommentChangeType type, LocalDateTime changedAt) {
+    this.postId = postId;
+    this.seq = seq;
+    this.commentId = commentId;
+    this.type = type;
+    this.changedAt = changedAt;
+  }
+}
@@ -0,0 +1,10 @@
+package com.example.board.domain;
+
+/**
+ * 댓글 변경 종류 (증분 동기화용)
+ */
+public enum CommentChangeType {
+  CREATED,
+  UPDATED,
+  DELETED
+}
@@ -0,0 +1,41 @@
+package com.example.board.domain;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 주기 작업 임대(lease) 엔티티
+ * 여러 인스턴스 중 하나만 작업을 실행하도록 작업별로 한 행을 두고 소유자와 만료 시각을 기록
+ * 재개 가능한 배치 작업의 진행 위치(checkpoint)도 함께 저장
+ * 행은 JobLeaseManager의 조건부 UPDATE로만 갱신됨
+ */
+@Entity
+@Table(name = "job_leases")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class JobLease {
+
+  @Id
+  @Column(name = "job_name", length = 100)
+  private String jobName;
+
+  // 현재 임대를 가진 인스턴스 ID (없으면 null)
+  @Column(length = 200)
+  private String owner;
+
+  @Column(name = "lease_until", nullable = false)
+  private LocalDateTime leaseUntil;
+
+  @Column(columnDefinition = "TEXT")
+  private String checkpoint;
+
+  @Column(name = "last_started_at")
+  private LocalDateTime lastStartedAt;
+
+  @Column(name = "last_finished_at")
+  private LocalDateTime lastFinishedAt;
+}
@@ -0,0 +1,58 @@
+package com.example.board.domain;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 알림 엔티티 (알림함)
+ * 받는 사람은 게시글/댓글 작성자의 로그인 아이디(username)로 구분 (표시 이름은 중복되거나 바뀔 수 있음)
+ * 저장은 NotificationService가 JDBC로 INSERT하므로 이 엔티티는 조회/읽음 처리에만 사용
+ * 댓글 하나에 알림은 하나 (comment_id 유니크, 다시 전달된 댓글 작성 이벤트로 중복 저장되지 않음)
+ */
+@Entity
+@Table(name = "notifications",
+    indexes = {
+        @Index(name = "idx_notifications_recipient_id", columnList = "recipient, id"),
+        @Index(name = "idx_notifications_comment_id", columnList = "comment_id", unique = true)
+    })
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class Notification {
+
+  @Id
+  @GeneratedValue(strategy = GenerationType.IDENTITY)
+  private Long id;
+
+  // 받는 사람 로그인 아이디
+  @Column(nullable = false, length = 50)
+  private String recipient;
+
+  @Enumerated(EnumType.STRING)
+  @Column(nullable = false, length = 10)
+  private NotificationType type;
+
+  @Column(name = "post_id", nullable = false)
+  private Long postId;
+
+  @Column(name = "comment_id", nullable = false)
+  private Long commentId;
+
+  // 댓글 작성자
+  @Column(nullable = false, length = 50)
+  private String actor;
+
+  // 댓글 내용 앞부분
+  @Column(nullable = false, length = 100)
+  private String preview;
+
+  @Column(name = "created_at", nullable = false, updatable = false)
+  private LocalDateTime createdAt;
+
+  // 읽지 않았으면 null
+  @Column(name = "read_at")
+  private LocalDateTime readAt;
+}
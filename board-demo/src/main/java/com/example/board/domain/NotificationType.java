@@ -0,0 +1,11 @@
+package com.example.board.domain;
+
+/**
+ * 알림 종류
+ */
+public enum NotificationType {
+  // 내 게시글에 댓글
+  COMMENT,
+  // 내 댓글에 답글
+  REPLY
+}
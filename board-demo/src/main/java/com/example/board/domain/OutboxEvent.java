@@ -0,0 +1,77 @@
+package com.example.board.domain;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 아웃박스 이벤트 엔티티 (transactional outbox)
+ * 도메인 이벤트를 상태 변경과 같은 트랜잭션에서 기록하여, 커밋된 변경의 이벤트만 빠짐없이 전달되도록 함
+ * OutboxRelay가 전달을 마치면 dispatched_at을, 재시도를 포기하면 dead_at을 채우고, 각각 보관 기간이 지나면 삭제
+ * 전달 대기 조회 인덱스에 dead_at을 포함하여 포기한 이벤트는 조회 범위에서 빠짐
+ */
+@Entity
+@Table(name = "outbox_events",
+    indexes = @Index(name = "idx_outbox_events_pending", columnList = "dispatched_at, dead_at, id"))
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class OutboxEvent {
+
+  @Id
+  @GeneratedValue(strategy = GenerationType.IDENTITY)
+  private Long id;
+
+  // 순서 보장 단위 (aggregate_type + aggregate_id)
+  @Column(name = "aggregate_type", nullable = false, length = 20)
+  private String aggregateType;
+
+  @Column(name = "aggregate_id", nullable = false)
+  private Long aggregateId;
+
+  // 이벤트 레코드 이름 (PostCreated 등)
+  @Column(name = "event_type", nullable = false, length = 50)
+  private String eventType;
+
+  @Column(nullable = false, columnDefinition = "TEXT")
+  private String payload;
+
+  @Column(name = "created_at", nullable = false, updatable = false)
+  private LocalDateTime createdAt;
+
+  // 실패한 전달 횟수
+  @Column(nullable = false)
+  private int attempts;
+
+  // 실패 후 다음 전달 시각 (이 시각 전에는 같은 집합의 이후 이벤트도 대기)
+  @Column(name = "next_attempt_at")
+  private LocalDateTime nextAttemptAt;
+
+  @Column(name = "last_error", length = 500)
+  private String lastError;
+
+  @Column(name = "dispatched_at")
+  private LocalDateTime dispatchedAt;
+
+  // 최대 재시도를 넘겨 포기한 시각
+  @Column(name = "dead_at")
+  private LocalDateTime deadAt;
+
+  public OutboxEvent(String aggregateType, Long aggregateId, String eventType, String payload,
+      LocalDateTime createdAt) {
+    this.aggregateType = aggregateType;
+    this.aggregateId = aggregateId;
+    this.eventType = eventType;
+    this.payload = payload;
+    this.createdAt = createdAt;
+  }
+
+  /**
+   * 순서 보장 단위 키
+   */
+  public String aggregateKey() {
+    return aggregateType + ":" + aggregateId;
+  }
+}
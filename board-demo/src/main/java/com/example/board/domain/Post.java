@@ -5,15 +5,19 @@ import lombok.AccessLevel;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.SQLRestriction;
 
 import java.time.LocalDateTime;
 
 /**
  * 게시글 엔티티
  * 게시판의 게시글 정보를 담는 JPA 엔티티 클래스
+ * 삭제된 게시글(deleted_at 설정)은 모든 엔티티 조회에서 제외되며, 댓글/이미지 정리 후 PostPurgeJob이 행을 삭제
  */
 @Entity
-@Table(name = "posts")
+@Table(name = "posts",
+    indexes = @Index(name = "idx_posts_deleted_at", columnList = "deleted_at"))
+@SQLRestriction("deleted_at IS NULL")
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class Post {
@@ -31,6 +35,10 @@ public class Post {
   @Column(nullable = false, length = 50)
   private String author;
 
+  // 작성자 로그인 아이디 (알림 받는 사람 구분용, 이름은 중복될 수 있음 / 이 컬럼 이전에 작성된 글은 null)
+  @Column(name = "author_username", length = 20)
+  private String authorUsername;
+
   @Column(name = "created_at", nullable = false, updatable = false)
   private LocalDateTime createdAt;
 
@@ -40,14 +48,39 @@ public class Post {
   @Column(name = "image_path", length = 500)
   private String imagePath;
 
+  // 삭제 요청 시각 (tombstone, null이면 정상 게시글)
+  @Column(name = "deleted_at")
+  private LocalDateTime deletedAt;
+
+  // 댓글 변경 순번 (댓글 증분 동기화의 워터마크, CommentChangeService가 조건부 UPDATE로만 증가시킴)
+  @Column(name = "change_seq", insertable = false, updatable = false,
+      columnDefinition = "BIGINT DEFAULT 0 NOT NULL")
+  private long changeSeq;
+
   @Builder
-  public Post(String title, String content, String author, String imagePath) {
+  public Post(String title, String content, String author, String authorUsername, String imagePath) {
     this.title = title;
     this.content = content;
     this.author = author;
+    this.authorUsername = authorUsername;
     this.imagePath = imagePath;
   }
 
+  /**
+   * 보관된 게시글 복원
+   * 보관 테이블의 데이터를 화면에 보여주기 위한 읽기 전용 객체로만 사용 (저장 대상 아님)
+   *
+   * @return ID와 생성/수정일시가 채워진 게시글
+   */
+  public static Post restore(Long id, String title, String content, String author, String imagePath,
+      LocalDateTime createdAt, LocalDateTime updatedAt) {
+    Post post = new Post(title, content, author, null, imagePath);
+    post.id = id;
+    post.createdAt = createdAt;
+    post.updatedAt = updatedAt;
+    return post;
+  }
+
   /**
    * 게시글 수정
    *
@@ -81,6 +114,17 @@ public class Post {
     this.imagePath = imagePath;
   }
 
+  /**
+   * 발급한 댓글 변경 순번을 엔티티에 반영
+   * DB 값은 CommentChangeService가 UPDATE로 갱신하고, 여기서는 같은 트랜잭션의 다음 발급이 이어지도록 상태만 맞춤
+   * (updatable = false이므로 변경 감지로 UPDATE되지 않음)
+   *
+   * @param changeSeq 마지막으로 발급한 변경 순번
+   */
+  public void syncChangeSeq(long changeSeq) {
+    this.changeSeq = changeSeq;
+  }
+
   /**
    * 엔티티 저장 전 실행 - 생성일시, 수정일시 설정
    */
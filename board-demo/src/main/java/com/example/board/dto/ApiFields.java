@@ -0,0 +1,50 @@
+package com.example.board.dto;
+
+import com.example.board.exception.InvalidApiRequestException;
+import com.fasterxml.jackson.databind.ser.impl.SimpleBeanPropertyFilter;
+import com.fasterxml.jackson.databind.ser.impl.SimpleFilterProvider;
+import org.springframework.http.converter.json.MappingJacksonValue;
+
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+/**
+ * API 응답 필드 선택 (sparse fieldset, ?fields=id,title)
+ * @JsonFilter(FILTER_ID)가 붙은 DTO에서 요청한 필드만 직렬화
+ * 필터를 지정하지 않은 응답은 전역 기본 필터(전체 필드)로 직렬화됨 (ApiConfig)
+ */
+public final class ApiFields {
+
+  public static final String FILTER_ID = "apiFields";
+
+  private ApiFields() {
+  }
+
+  /**
+   * 요청한 필드만 직렬화하도록 응답 본문 감싸기
+   *
+   * @param body    응답 본문
+   * @param fields  쉼표로 구분한 필드 목록 (비어 있으면 전체 필드)
+   * @param allowed 선택 가능한 필드
+   * @return 필터가 지정된 응답 본문
+   * @throws InvalidApiRequestException 선택할 수 없는 필드를 요청한 경우
+   */
+  public static MappingJacksonValue select(Object body, String fields, Set<String> allowed) {
+    MappingJacksonValue value = new MappingJacksonValue(body);
+    if (fields == null || fields.isBlank()) {
+      value.setFilters(new SimpleFilterProvider().addFilter(FILTER_ID, SimpleBeanPropertyFilter.serializeAll()));
+      return value;
+    }
+
+    Set<String> requested = new LinkedHashSet<>();
+    Arrays.stream(fields.split(",")).map(String::trim).filter(field -> !field.isEmpty()).forEach(requested::add);
+    for (String field : requested) {
+      if (!allowed.contains(field)) {
+        throw new InvalidApiRequestException("선택할 수 없는 필드입니다: " + field + " (가능한 필드: " + allowed + ")");
+      }
+    }
+    value.setFilters(new SimpleFilterProvider().addFilter(FILTER_ID, SimpleBeanPropertyFilter.filterOutAllExcept(requested)));
+    return value;
+  }
+}
@@ -0,0 +1,19 @@
+package com.example.board.dto;
+
+import com.example.board.domain.CommentChangeType;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 댓글 변경 항목 (증분 동기화 응답)
+ * CREATED/UPDATED는 댓글의 현재 상태를 함께 담고, DELETED(tombstone)는 commentId만 담음
+ */
+@Getter
+@AllArgsConstructor
+public class CommentChangeDto {
+
+  private final long seq;
+  private final CommentChangeType type;
+  private final Long commentId;
+  private final CommentViewDto comment;
+}
@@ -0,0 +1,25 @@
+package com.example.board.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * 댓글 증분 동기화 응답
+ * 클라이언트는 changes를 순서대로 반영한 뒤 watermark를 다음 요청의 since로 사용
+ * hasMore가 true이면 바로 이어서 다시 요청
+ * reset이 true이면 since 이후의 변경 기록이 보관 기간이 지나 정리된 것이므로, 댓글 트리 전체를 다시 받고
+ * 그 응답의 워터마크부터 다시 동기화 (changes는 비어 있음)
+ */
+@Getter
+@AllArgsConstructor
+public class CommentDeltaDto {
+
+  private final Long postId;
+  private final long since;
+  private final long watermark;
+  private final boolean hasMore;
+  private final boolean reset;
+  private final List<CommentChangeDto> changes;
+}
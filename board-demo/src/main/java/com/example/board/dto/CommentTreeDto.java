@@ -0,0 +1,20 @@
+package com.example.board.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * 게시글 댓글 트리 응답 (API용)
+ * watermark는 이후 증분 동기화(/comments/changes?since=)의 시작점
+ */
+@Getter
+@AllArgsConstructor
+public class CommentTreeDto {
+
+  private final Long postId;
+  private final long commentCount;
+  private final long watermark;
+  private final List<CommentViewDto> comments;
+}
@@ -0,0 +1,125 @@
+package com.example.board.dto;
+
+import com.example.board.domain.Comment;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 댓글 화면 표시용 DTO
+ * 대댓글(children)까지 포함한 트리 구조를 엔티티 지연 로딩 없이 표현
+ */
+@Getter
+public class CommentViewDto {
+
+  private final Long id;
+  private final String content;
+  private final String author;
+  private final Long postId;
+  private final Long parentId;
+  private final LocalDateTime createdAt;
+  private final LocalDateTime updatedAt;
+
+  // 트리 조립 시에만 채워지며 외부에는 읽기 전용으로 노출
+  private final List<CommentViewDto> children = new ArrayList<>();
+
+  // JPQL 생성자 표현식에서도 사용 (CommentRepository.findViewsByPostId)
+  public CommentViewDto(Long id, String content, String author, Long postId, Long parentId,
+      LocalDateTime createdAt, LocalDateTime updatedAt) {
+    this.id = id;
+    this.content = content;
+    this.author = author;
+    this.postId = postId;
+    this.parentId = parentId;
+    this.createdAt = createdAt;
+    this.updatedAt = updatedAt;
+  }
+
+  /**
+   * 댓글 엔티티를 화면용 DTO로 변환 (children 제외)
+   * 연관 엔티티는 ID만 사용하므로 지연 로딩이 발생하지 않음
+   *
+   * @param comment 댓글 엔티티
+   * @return 댓글 DTO
+   */
+  public static CommentViewDto from(Comment comment) {
+    return new CommentViewDto(
+        comment.getId(),
+        comment.getContent(),
+        comment.getAuthor(),
+        comment.getPost().getId(),
+        comment.getParent() != null ? comment.getParent().getId() : null,
+        comment.getCreatedAt(),
+        comment.getUpdatedAt());
+  }
+
+  /**
+   * 평면 댓글 목록을 트리 구조로 조립
+   * 게시글의 전체 댓글을 한 번에 조회한 뒤 메모리에서 부모-자식 관계를 연결
+   *
+   * @param comments 게시글의 전체 댓글 (생성일시 오름차순)
+   * @return 최상위 댓글 목록 (각 댓글의 children에 대댓글 포함)
+   */
+  public static List<CommentViewDto> buildTree(List<Comment> comments) {
+    return assembleTree(comments.stream().map(CommentViewDto::from).toList());
+  }
+
+  /**
+   * 평면 댓글 DTO 목록을 트리 구조로 조립
+   * 프로젝션 쿼리로 바로 만든 DTO를 엔티티 없이 트리로 연결
+   *
+   * @param views 게시글의 전체 댓글 DTO (생성일시 오름차순, children은 비어 있어야 함)
+   * @return 최상위 댓글 목록 (각 댓글의 children에 대댓글 포함)
+   */
+  public static List<CommentViewDto> assembleTree(List<CommentViewDto> views) {
+    Map<Long, CommentViewDto> byId = new HashMap<>(views.size() * 2);
+    for (CommentViewDto view : views) {
+      byId.put(view.getId(), view);
+    }
+
+    List<CommentViewDto> roots = new ArrayList<>();
+    for (CommentViewDto view : views) {
+      CommentViewDto parent = view.getParentId() != null ? byId.get(view.getParentId()) : null;
+      if (parent != null) {
+        parent.children.add(view);
+      } else if (view.getParentId() == null) {
+        roots.add(view);
+      }
+    }
+    return roots;
+  }
+
+  /**
+   * 트리에 포함된 전체 댓글 수 (대댓글 포함)
+   *
+   * @param roots 최상위 댓글 목록
+   * @return 댓글 수
+   */
+  public static long countAll(List<CommentViewDto> roots) {
+    long count = 0;
+    for (CommentViewDto root : roots) {
+      count += 1 + countAll(root.children);
+    }
+    return count;
+  }
+
+  /**
+   * 대댓글 목록 (읽기 전용)
+   */
+  public List<CommentViewDto> getChildren() {
+    return Collections.unmodifiableList(children);
+  }
+
+  /**
+   * 대댓글인지 확인
+   * @return 부모 댓글이 있으면 true, 없으면 false
+   */
+  public boolean isReply() {
+    return this.parentId != null;
+  }
+}
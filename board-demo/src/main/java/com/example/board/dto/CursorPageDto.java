@@ -0,0 +1,18 @@
+package com.example.board.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * 커서 기반 페이지 응답
+ * nextCursor가 null이면 마지막 페이지
+ */
+@Getter
+@AllArgsConstructor
+public class CursorPageDto<T> {
+
+  private final List<T> items;
+  private final String nextCursor;
+}
@@ -0,0 +1,31 @@
+package com.example.board.dto;
+
+import com.example.board.domain.NotificationType;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+/**
+ * 알림함 화면용 DTO (NotificationRepository 프로젝션)
+ */
+@Getter
+@AllArgsConstructor
+public class NotificationViewDto {
+
+  private final Long id;
+  private final NotificationType type;
+  private final Long postId;
+  private final Long commentId;
+  private final String actor;
+  private final String preview;
+  private final LocalDateTime createdAt;
+  private final LocalDateTime readAt;
+
+  /**
+   * 읽지 않은 알림인지 확인
+   */
+  public boolean isUnread() {
+    return readAt == null;
+  }
+}
@@ -0,0 +1,52 @@
+package com.example.board.dto;
+
+import com.example.board.exception.InvalidApiRequestException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * 게시글 목록 커서 (키셋 페이지네이션 위치)
+ * 마지막으로 받은 게시글의 (생성일시, ID)를 불투명한 문자열로 인코딩하여 클라이언트에 전달
+ *
+ * @param createdAt 마지막 게시글의 생성일시
+ * @param id        마지막 게시글 ID (생성일시가 같은 게시글 구분용)
+ */
+public record PostCursor(LocalDateTime createdAt, Long id) {
+
+  /**
+   * 첫 페이지 위치 (모든 게시글보다 뒤)
+   */
+  public static final PostCursor FIRST = new PostCursor(LocalDateTime.of(9999, 12, 31, 23, 59, 59), Long.MAX_VALUE);
+
+  public static PostCursor after(PostSummaryDto post) {
+    return new PostCursor(post.getCreatedAt(), post.getId());
+  }
+
+  public String encode() {
+    String raw = createdAt + "|" + id;
+    return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+  }
+
+  /**
+   * 커서 문자열 해석
+   *
+   * @param cursor 클라이언트가 보낸 커서 (없으면 첫 페이지)
+   * @return 커서
+   * @throws InvalidApiRequestException 커서 형식이 잘못된 경우
+   */
+  public static PostCursor decode(String cursor) {
+    if (cursor == null || cursor.isBlank()) {
+      return FIRST;
+    }
+    try {
+      String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+      int separator = raw.lastIndexOf('|');
+      return new PostCursor(LocalDateTime.parse(raw.substring(0, separator)), Long.parseLong(raw.substring(separator + 1)));
+    } catch (IllegalArgumentException | IndexOutOfBoundsException | DateTimeParseException e) {
+      throw new InvalidApiRequestException("잘못된 커서입니다.");
+    }
+  }
+}
@@ -0,0 +1,21 @@
+package com.example.board.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * 게시글 상세 화면 DTO
+ * 게시글, 댓글 트리, 댓글 수를 묶은 불변 객체
+ * 댓글 조회가 실패하거나 시간 안에 끝나지 않으면 commentsAvailable이 false이고 댓글은 비어 있음
+ */
+@Getter
+@Builder
+public class PostDetailViewDto {
+
+  private final PostViewDto post;
+  private final List<CommentViewDto> comments;
+  private final long commentCount;
+  private final boolean commentsAvailable;
+}
@@ -0,0 +1,24 @@
+package com.example.board.dto;
+
+import com.fasterxml.jackson.annotation.JsonFilter;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+/**
+ * 게시글 요약 DTO (API 목록/검색용)
+ * JPQL 생성자 표현식으로 필요한 컬럼만 조회하므로 본문(content)은 읽지 않고 엔티티도 만들지 않음
+ */
+@Getter
+@AllArgsConstructor
+@JsonFilter(ApiFields.FILTER_ID)
+public class PostSummaryDto {
+
+  private final Long id;
+  private final String title;
+  private final String author;
+  private final String imagePath;
+  private final LocalDateTime createdAt;
+  private final LocalDateTime updatedAt;
+}
@@ -0,0 +1,47 @@
+package com.example.board.dto;
+
+import com.example.board.domain.Post;
+import com.fasterxml.jackson.annotation.JsonFilter;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+/**
+ * 게시글 화면 표시용 DTO
+ * 트랜잭션 밖(템플릿 렌더링 등)에서 안전하게 사용할 수 있는 불변 객체
+ * API 상세 조회에서는 JPQL 생성자 표현식으로 엔티티 없이 바로 생성
+ */
+@Getter
+@Builder
+@AllArgsConstructor
+@JsonFilter(ApiFields.FILTER_ID)
+public class PostViewDto {
+
+  private final Long id;
+  private final String title;
+  private final String content;
+  private final String author;
+  private final String imagePath;
+  private final LocalDateTime createdAt;
+  private final LocalDateTime updatedAt;
+
+  /**
+   * 게시글 엔티티를 화면용 DTO로 변환
+   *
+   * @param post 게시글 엔티티
+   * @return 게시글 DTO
+   */
+  public static PostViewDto from(Post post) {
+    return PostViewDto.builder()
+        .id(post.getId())
+        .title(post.getTitle())
+        .content(post.getContent())
+        .author(post.getAuthor())
+        .imagePath(post.getImagePath())
+        .createdAt(post.getCreatedAt())
+        .updatedAt(post.getUpdatedAt())
+        .build();
+  }
+}
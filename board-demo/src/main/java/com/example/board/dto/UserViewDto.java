@@ -0,0 +1,36 @@
+package com.example.board.dto;
+
+import com.example.board.domain.User;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+/**
+ * 회원 화면 표시용 DTO
+ * 비밀번호 해시 등 화면에 필요 없는 값을 제외한 불변 객체
+ */
+@Getter
+@Builder
+public class UserViewDto {
+
+  private final Long id;
+  private final String username;
+  private final String name;
+  private final LocalDateTime createdAt;
+
+  /**
+   * 회원 엔티티를 화면용 DTO로 변환
+   *
+   * @param user 회원 엔티티
+   * @return 회원 DTO
+   */
+  public static UserViewDto from(User user) {
+    return UserViewDto.builder()
+        .id(user.getId())
+        .username(user.getUsername())
+        .name(user.getName())
+        .createdAt(user.getCreatedAt())
+        .build();
+  }
+}
@@ -0,0 +1,27 @@
+package com.example.board.event;
+
+/**
+ * 댓글/대댓글 작성
+ *
+ * @param postId          게시글 ID
+ * @param commentId       작성된 댓글 ID
+ * @param parentId        부모 댓글 ID (최상위 댓글이면 null)
+ * @param author            댓글 작성자 (표시 이름)
+ * @param authorUsername    댓글 작성자 로그인 아이디
+ * @param content           댓글 내용
+ * @param repliedToUsername 댓글이 달린 대상 작성자의 로그인 아이디
+ *                          (최상위 댓글이면 게시글 작성자, 대댓글이면 부모 댓글 작성자 / 알 수 없으면 null)
+ */
+public record CommentCreated(Long postId, Long commentId, Long parentId, String author, String authorUsername,
+    String content, String repliedToUsername) implements DomainEvent {
+
+  @Override
+  public String aggregateType() {
+    return AGGREGATE_POST;
+  }
+
+  @Override
+  public Long aggregateId() {
+    return postId;
+  }
+}
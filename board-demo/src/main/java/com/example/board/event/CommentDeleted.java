@@ -0,0 +1,22 @@
+package com.example.board.event;
+
+import java.util.List;
+
+/**
+ * 댓글 삭제 (함께 지워진 대댓글 포함)
+ *
+ * @param postId     게시글 ID
+ * @param commentIds 삭제된 댓글 ID 목록 (첫 번째가 요청한 댓글)
+ */
+public record CommentDeleted(Long postId, List<Long> commentIds) implements DomainEvent {
+
+  @Override
+  public String aggregateType() {
+    return AGGREGATE_POST;
+  }
+
+  @Override
+  public Long aggregateId() {
+    return postId;
+  }
+}
@@ -0,0 +1,23 @@
+package com.example.board.event;
+
+/**
+ * 도메인 이벤트
+ * 쓰기 트랜잭션 안에서 DomainEventPublisher로 아웃박스(outbox_events)에 기록되고,
+ * 커밋된 뒤 OutboxRelay가 같은 집합(aggregate)의 이벤트끼리는 기록된 순서대로 리스너에 전달
+ *
+ * - 이벤트는 JSON으로 저장되므로 필드는 직렬화 가능한 값만 사용
+ * - 리스너 실패 시 다시 전달되므로(at-least-once) 리스너는 같은 이벤트를 여러 번 받아도 안전해야 함
+ */
+public sealed interface DomainEvent
+    permits PostCreated, PostUpdated, PostDeleted, CommentCreated, CommentDeleted, UserRenamed {
+
+  String AGGREGATE_POST = "post";
+  String AGGREGATE_USER = "user";
+
+  /**
+   * 순서 보장 단위 (댓글 이벤트도 게시글 단위로 묶음 - 댓글 쓰기가 게시글 행 잠금으로 직렬화되는 것과 같은 단위)
+   */
+  String aggregateType();
+
+  Long aggregateId();
+}
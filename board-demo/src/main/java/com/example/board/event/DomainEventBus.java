@@ -0,0 +1,63 @@
+package com.example.board.event;
+
+import com.example.board.exception.DomainEventDispatchException;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+import org.springframework.util.ClassUtils;
+
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * 프로세스 내 도메인 이벤트 버스
+ * 등록된 DomainEventListener 빈을 이벤트 타입별로 묶어 두고, OutboxRelay가 꺼낸 이벤트를 전달
+ *
+ * - 한 리스너가 실패해도 나머지 리스너는 모두 실행한 뒤 DomainEventDispatchException으로 알림
+ * - 재시도 시에는 이미 성공한 리스너도 다시 실행되므로 리스너는 멱등해야 함
+ */
+@Component
+@Slf4j
+public class DomainEventBus {
+
+  private final Map<Class<?>, List<DomainEventListener<?>>> listeners;
+  private final MeterRegistry meterRegistry;
+
+  public DomainEventBus(ObjectProvider<DomainEventListener<?>> listeners, MeterRegistry meterRegistry) {
+    this.listeners = listeners.orderedStream()
+        .collect(Collectors.groupingBy(DomainEventListener::eventType));
+    this.meterRegistry = meterRegistry;
+  }
+
+  /**
+   * 이벤트 타입에 등록된 리스너 모두에 전달
+   *
+   * @param event 도메인 이벤트
+   * @throws DomainEventDispatchException 리스너 중 하나 이상이 실패한 경우
+   */
+  @SuppressWarnings("unchecked")
+  public void dispatch(DomainEvent event) {
+    String eventType = event.getClass().getSimpleName();
+    DomainEventDispatchException failure = null;
+    for (DomainEventListener<?> listener : listeners.getOrDefault(event.getClass(), List.of())) {
+      String listenerName = ClassUtils.getUserClass(listener).getSimpleName();
+      try {
+        ((DomainEventListener<DomainEvent>) listener).on(event);
+      } catch (RuntimeException e) {
+        log.warn("도메인 이벤트 처리 실패: event={}, listener={}", eventType, listenerName, e);
+        meterRegistry.counter("board.events.listener.failures", "event", eventType, "listener", listenerName)
+            .increment();
+        if (failure == null) {
+          failure = new DomainEventDispatchException("도메인 이벤트 처리 실패: " + eventType, e);
+        } else {
+          failure.addSuppressed(e);
+        }
+      }
+    }
+    if (failure != null) {
+      throw failure;
+    }
+  }
+}
@@ -0,0 +1,18 @@
+package com.example.board.event;
+
+/**
+ * 도메인 이벤트 리스너
+ * 빈으로 등록하면 DomainEventBus가 eventType()의 이벤트를 전달
+ * 같은 이벤트를 다시 받을 수 있으므로(재시도) 멱등하게 처리해야 함
+ *
+ * @param <E> 받을 이벤트 타입
+ */
+public interface DomainEventListener<E extends DomainEvent> {
+
+  Class<E> eventType();
+
+  /**
+   * 이벤트 처리 (예외를 던지면 OutboxRelay가 지연 후 다시 전달하고, 그동안 같은 집합의 이후 이벤트는 대기)
+   */
+  void on(E event);
+}
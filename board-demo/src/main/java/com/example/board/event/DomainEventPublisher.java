@@ -0,0 +1,54 @@
+package com.example.board.event;
+
+import com.example.board.domain.OutboxEvent;
+import com.example.board.repository.OutboxEventRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDateTime;
+
+/**
+ * 도메인 이벤트 발행
+ * 이벤트를 호출한 쓰기 트랜잭션 안에서 아웃박스에 기록하므로, 롤백된 변경의 이벤트는 남지 않고
+ * 커밋된 변경의 이벤트는 인스턴스가 죽어도 유실되지 않음
+ *
+ * 커밋 직후 OutboxRelay를 깨워 바로 전달하고, 깨우지 못한 경우에도 주기 폴링으로 전달
+ */
+@Component
+@RequiredArgsConstructor
+public class DomainEventPublisher {
+
+  private final OutboxEventRepository outboxEventRepository;
+  private final ObjectMapper objectMapper;
+  private final OutboxRelay outboxRelay;
+
+  /**
+   * 아웃박스에 이벤트 기록 (진행 중인 트랜잭션 필수)
+   *
+   * @param event 도메인 이벤트
+   */
+  @Transactional(propagation = Propagation.MANDATORY)
+  public void publish(DomainEvent event) {
+    String payload;
+    try {
+      payload = objectMapper.writeValueAsString(event);
+    } catch (JsonProcessingException e) {
+      throw new IllegalStateException("도메인 이벤트 직렬화 실패: " + event.getClass().getSimpleName(), e);
+    }
+    outboxEventRepository.save(new OutboxEvent(event.aggregateType(), event.aggregateId(),
+        event.getClass().getSimpleName(), payload, LocalDateTime.now()));
+
+    TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+      @Override
+      public void afterCommit() {
+        outboxRelay.wakeUp();
+      }
+    });
+  }
+}
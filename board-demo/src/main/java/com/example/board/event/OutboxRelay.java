@@ -0,0 +1,298 @@
+package com.example.board.event;
+
+import com.example.board.domain.OutboxEvent;
+import com.example.board.repository.OutboxEventRepository;
+import com.example.board.scheduling.ClusterJobRunner;
+import com.example.board.scheduling.JobContext;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 아웃박스 릴레이
+ * 커밋된 아웃박스 이벤트를 꺼내 DomainEventBus로 전달하고 전달 완료를 표시
+ *
+ * - 전달은 전용 스레드 하나에서 순서대로 수행하며, 클러스터에서는 임대를 획득한 인스턴스 한 곳에서만 실행
+ *   (다른 인스턴스에서 커밋된 이벤트는 poll-interval-ms 안에 전달됨)
+ * - 같은 집합(aggregate)의 이벤트는 기록 순서대로 전달하고, 하나가 실패하면 재시도가 끝날 때까지 뒤의 이벤트도 대기
+ * - 실패한 이벤트는 지수 백오프(retry.base-ms ~ retry.max-ms)로 다시 전달하고, max-attempts를 넘기면 포기(dead_at)
+ *   포기한 이벤트는 더 이상 같은 집합의 이벤트를 막지 않고 전달 대기 조회에서 빠지며, dead-retention-ms가 지나면 삭제
+ * - 전달 지연(기록 ~ 전달)은 board.outbox.lag 타이머, 밀린 양은 board.outbox.pending/oldest_pending_age 게이지로 기록
+ */
+@Component
+@Slf4j
+public class OutboxRelay {
+
+  private static final String JOB_NAME = "outbox-relay";
+  private static final String CLEANUP_JOB_NAME = "outbox-cleanup";
+  private static final int ERROR_LENGTH = 500;
+
+  private static final Map<String, Class<? extends DomainEvent>> EVENT_TYPES =
+      Arrays.stream(DomainEvent.class.getPermittedSubclasses())
+          .<Class<? extends DomainEvent>>map(type -> type.asSubclass(DomainEvent.class))
+          .collect(Collectors.toUnmodifiableMap(Class::getSimpleName, Function.identity()));
+
+  private final OutboxEventRepository outboxEventRepository;
+  private final TransactionTemplate transactionTemplate;
+  private final ClusterJobRunner clusterJobRunner;
+  private final DomainEventBus eventBus;
+  private final ObjectMapper objectMapper;
+
+  private final int batchSize;
+  private final int maxAttempts;
+  private final long retryBaseMillis;
+  private final long retryMaxMillis;
+  private final long leaseTtlMillis;
+  private final long retentionMillis;
+  private final long deadRetentionMillis;
+
+  private final ExecutorService executor;
+  private final AtomicBoolean scheduled = new AtomicBoolean();
+
+  private final AtomicLong pendingCount = new AtomicLong();
+  private final AtomicLong oldestPendingAgeMillis = new AtomicLong();
+  private final Timer lag;
+  private final Counter dispatched;
+  private final Counter failures;
+  private final Counter dead;
+
+  public OutboxRelay(OutboxEventRepository outboxEventRepository,
+      TransactionTemplate transactionTemplate,
+      ClusterJobRunner clusterJobRunner,
+      DomainEventBus eventBus,
+      ObjectMapper objectMapper,
+      MeterRegistry meterRegistry,
+      @Value("${outbox.batch-size:200}") int batchSize,
+      @Value("${outbox.max-attempts:10}") int maxAttempts,
+      @Value("${outbox.retry.base-ms:1000}") long retryBaseMillis,
+      @Value("${outbox.retry.max-ms:600000}") long retryMaxMillis,
+      @Value("${outbox.lease-ttl-ms:30000}") long leaseTtlMillis,
+      @Value("${outbox.retention-ms:86400000}") long retentionMillis,
+      @Value("${outbox.dead-retention-ms:604800000}") long deadRetentionMillis) {
+    this.outboxEventRepository = outboxEventRepository;
+    this.transactionTemplate = transactionTemplate;
+    this.clusterJobRunner = clusterJobRunner;
+    this.eventBus = eventBus;
+    this.objectMapper = objectMapper;
+    this.batchSize = batchSize;
+    this.maxAttempts = maxAttempts;
+    this.retryBaseMillis = retryBaseMillis;
+    this.retryMaxMillis = retryMaxMillis;
+    this.leaseTtlMillis = leaseTtlMillis;
+    this.retentionMillis = retentionMillis;
+    this.deadRetentionMillis = deadRetentionMillis;
+    this.executor = Executors.newSingleThreadExecutor(runnable -> {
+      Thread thread = new Thread(runnable, "outbox-relay");
+      thread.setDaemon(true);
+      return thread;
+    });
+
+    Gauge.builder("board.outbox.pending", pendingCount, AtomicLong::get)
+        .description("전달 대기 중인 아웃박스 이벤트 수")
+        .register(meterRegistry);
+    Gauge.builder("board.outbox.oldest_pending_age", oldestPendingAgeMillis, AtomicLong::get)
+        .description("가장 오래된 전달 대기 이벤트의 경과 시간 (ms)")
+        .register(meterRegistry);
+    this.lag = Timer.builder("board.outbox.lag")
+        .description("아웃박스 이벤트 기록부터 전달까지 걸린 시간")
+        .register(meterRegistry);
+    this.dispatched = Counter.builder("board.outbox.dispatched")
+        .description("전달된 아웃박스 이벤트 수")
+        .register(meterRegistry);
+    this.failures = Counter.builder("board.outbox.failures")
+        .description("아웃박스 이벤트 전달 실패 수 (재시도 포함)")
+        .register(meterRegistry);
+    this.dead = Counter.builder("board.outbox.dead")
+        .description("재시도를 포기한 아웃박스 이벤트 수")
+        .register(meterRegistry);
+  }
+
+  /**
+   * 전달 작업 예약 (이미 예약되어 있으면 합쳐짐)
+   * 전달 중에 호출되면 현재 작업이 끝난 뒤 한 번 더 실행
+   */
+  public void wakeUp() {
+    if (!scheduled.compareAndSet(false, true)) {
+      return;
+    }
+    try {
+      executor.execute(this::run);
+    } catch (RejectedExecutionException e) {
+      // 종료 중
+      scheduled.set(false);
+    }
+  }
+
+  /**
+   * 주기 폴링 (기본: 1초 간격)
+   * 커밋 직후 깨우지 못한 이벤트, 다른 인스턴스에서 기록된 이벤트, 재시도 시각이 된 이벤트를 전달
+   */
+  @Scheduled(fixedDelayString = "${outbox.poll-interval-ms:1000}")
+  public void poll() {
+    wakeUp();
+  }
+
+  /**
+   * 보관 기간이 지난 전달 완료/포기 이벤트 삭제 (기본: 1시간 간격)
+   * 포기한 이벤트는 원인 확인을 위해 더 오래(dead-retention-ms) 보관
+   */
+  @Scheduled(fixedDelayString = "${outbox.cleanup-interval-ms:3600000}")
+  public void cleanup() {
+    clusterJobRunner.runExclusively(CLEANUP_JOB_NAME, Duration.ofMillis(leaseTtlMillis), context -> {
+      LocalDateTime now = LocalDateTime.now();
+      LocalDateTime cutoff = now.minus(Duration.ofMillis(retentionMillis));
+      LocalDateTime deadCutoff = now.minus(Duration.ofMillis(deadRetentionMillis));
+      Integer deleted = transactionTemplate.execute(status -> outboxEventRepository.deleteDispatchedBefore(cutoff));
+      Integer deadDeleted = transactionTemplate.execute(status -> outboxEventRepository.deleteDeadBefore(deadCutoff));
+      log.info("아웃박스 이벤트 정리: 전달 완료 {}건, 포기 {}건", deleted, deadDeleted);
+    });
+  }
+
+  @PreDestroy
+  public void shutdown() {
+    executor.shutdownNow();
+  }
+
+  private void run() {
+    scheduled.set(false);
+    try {
+      clusterJobRunner.runExclusively(JOB_NAME, Duration.ofMillis(leaseTtlMillis), this::dispatchPending);
+    } catch (RuntimeException e) {
+      // 다음 폴링에서 다시 시도
+      log.warn("아웃박스 전달 실패", e);
+    }
+  }
+
+  /**
+   * 전달 대기 중인 이벤트를 ID 순으로 batch-size씩 전달
+   */
+  private void dispatchPending(JobContext context) {
+    Set<String> blocked = new HashSet<>();
+    long afterId = 0;
+    while (context.isLeaseHeld()) {
+      List<OutboxEvent> batch = outboxEventRepository.findPendingAfter(afterId, PageRequest.of(0, batchSize));
+      if (batch.isEmpty()) {
+        break;
+      }
+      dispatchBatch(batch, blocked, context);
+      afterId = batch.get(batch.size() - 1).getId();
+      if (batch.size() < batchSize) {
+        break;
+      }
+    }
+    refreshBacklog();
+  }
+
+  /**
+   * 한 배치 전달 후 전달된 이벤트를 한 번에 완료 표시
+   *
+   * @param blocked 이번 실행에서 앞선 이벤트가 실패/대기 중인 집합 (뒤의 이벤트도 건너뜀)
+   */
+  private void dispatchBatch(List<OutboxEvent> batch, Set<String> blocked, JobContext context) {
+    LocalDateTime now = LocalDateTime.now();
+    List<Long> done = new ArrayList<>(batch.size());
+    for (OutboxEvent row : batch) {
+      if (!context.isLeaseHeld()) {
+        break;
+      }
+      String key = row.aggregateKey();
+      if (blocked.contains(key)) {
+        continue;
+      }
+      if (row.getNextAttemptAt() != null && row.getNextAttemptAt().isAfter(now)) {
+        blocked.add(key);
+        continue;
+      }
+      try {
+        eventBus.dispatch(deserialize(row));
+        done.add(row.getId());
+        lag.record(Duration.between(row.getCreatedAt(), LocalDateTime.now()));
+      } catch (RuntimeException e) {
+        blocked.add(key);
+        recordFailure(row, e);
+      }
+    }
+
+    if (!done.isEmpty()) {
+      LocalDateTime dispatchedAt = LocalDateTime.now();
+      transactionTemplate.executeWithoutResult(status -> outboxEventRepository.markDispatched(done, dispatchedAt));
+      dispatched.increment(done.size());
+    }
+  }
+
+  private DomainEvent deserialize(OutboxEvent row) {
+    Class<? extends DomainEvent> type = EVENT_TYPES.get(row.getEventType());
+    if (type == null) {
+      throw new IllegalStateException("알 수 없는 도메인 이벤트 타입: " + row.getEventType());
+    }
+    try {
+      return objectMapper.readValue(row.getPayload(), type);
+    } catch (IOException e) {
+      throw new IllegalStateException("도메인 이벤트 역직렬화 실패: id=" + row.getId(), e);
+    }
+  }
+
+  /**
+   * 실패 기록 (지수 백오프로 재시도 예약, 최대 횟수를 넘으면 포기)
+   */
+  private void recordFailure(OutboxEvent row, RuntimeException e) {
+    failures.increment();
+    int attempts = row.getAttempts() + 1;
+    String error = truncate(e.toString());
+    LocalDateTime now = LocalDateTime.now();
+    if (attempts >= maxAttempts) {
+      log.error("아웃박스 이벤트 전달 포기: id={}, type={}, aggregate={}, attempts={}",
+          row.getId(), row.getEventType(), row.aggregateKey(), attempts, e);
+      transactionTemplate.executeWithoutResult(status ->
+          outboxEventRepository.markDead(row.getId(), attempts, now, error));
+      dead.increment();
+      return;
+    }
+
+    long backoff = Math.min(retryMaxMillis, retryBaseMillis << Math.min(attempts - 1, 30));
+    log.warn("아웃박스 이벤트 전달 실패 - {}ms 후 재시도: id={}, type={}, attempts={}",
+        backoff, row.getId(), row.getEventType(), attempts);
+    transactionTemplate.executeWithoutResult(status ->
+        outboxEventRepository.recordFailure(row.getId(), attempts, now.plus(Duration.ofMillis(backoff)), error));
+  }
+
+  /**
+   * 밀린 양 게이지 갱신 (전달을 맡은 인스턴스에서만 갱신)
+   */
+  private void refreshBacklog() {
+    pendingCount.set(outboxEventRepository.countPending());
+    oldestPendingAgeMillis.set(outboxEventRepository.findOldestPendingCreatedAt()
+        .map(createdAt -> Duration.between(createdAt, LocalDateTime.now()).toMillis())
+        .orElse(0L));
+  }
+
+  private static String truncate(String message) {
+    return message.length() <= ERROR_LENGTH ? message : message.substring(0, ERROR_LENGTH);
+  }
+}
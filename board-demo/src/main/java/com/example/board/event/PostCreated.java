@@ -0,0 +1,17 @@
+package com.example.board.event;
+
+/**
+ * 게시글 작성
+ */
+public record PostCreated(Long postId, String author, String title) implements DomainEvent {
+
+  @Override
+  public String aggregateType() {
+    return AGGREGATE_POST;
+  }
+
+  @Override
+  public Long aggregateId() {
+    return postId;
+  }
+}
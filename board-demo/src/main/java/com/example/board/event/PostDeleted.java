@@ -0,0 +1,17 @@
+package com.example.board.event;
+
+/**
+ * 게시글 삭제 (삭제 표시 시점, 댓글/이미지 정리는 PostPurgeJob이 나중에 처리)
+ */
+public record PostDeleted(Long postId) implements DomainEvent {
+
+  @Override
+  public String aggregateType() {
+    return AGGREGATE_POST;
+  }
+
+  @Override
+  public Long aggregateId() {
+    return postId;
+  }
+}
@@ -0,0 +1,17 @@
+package com.example.board.event;
+
+/**
+ * 게시글 수정 (제목/내용/이미지)
+ */
+public record PostUpdated(Long postId) implements DomainEvent {
+
+  @Override
+  public String aggregateType() {
+    return AGGREGATE_POST;
+  }
+
+  @Override
+  public Long aggregateId() {
+    return postId;
+  }
+}
@@ -0,0 +1,17 @@
+package com.example.board.event;
+
+/**
+ * 회원 이름 변경
+ */
+public record UserRenamed(Long userId, String oldName, String newName) implements DomainEvent {
+
+  @Override
+  public String aggregateType() {
+    return AGGREGATE_USER;
+  }
+
+  @Override
+  public Long aggregateId() {
+    return userId;
+  }
+}
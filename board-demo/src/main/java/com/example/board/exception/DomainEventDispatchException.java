@@ -0,0 +1,16 @@
+package com.example.board.exception;
+
+/**
+ * 도메인 이벤트 전달 실패 예외
+ * 리스너 중 하나 이상이 실패했을 때 발생하며, 각 리스너의 예외는 suppressed로 포함
+ */
+public class DomainEventDispatchException extends RuntimeException {
+
+    public DomainEventDispatchException(String message) {
+        super(message);
+    }
+
+    public DomainEventDispatchException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
@@ -0,0 +1,12 @@
+package com.example.board.exception;
+
+/**
+ * 잘못된 API 요청 예외
+ * 커서, 필드 선택, 페이지 크기 등 API 요청 파라미터가 올바르지 않을 때 발생하는 예외
+ */
+public class InvalidApiRequestException extends RuntimeException {
+
+    public InvalidApiRequestException(String message) {
+        super(message);
+    }
+}
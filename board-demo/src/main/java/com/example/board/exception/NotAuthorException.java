@@ -0,0 +1,12 @@
+package com.example.board.exception;
+
+/**
+ * 작성자 불일치 예외
+ * 본인이 작성하지 않은 게시글/댓글을 수정하거나 삭제하려고 할 때 발생하는 예외
+ */
+public class NotAuthorException extends RuntimeException {
+
+    public NotAuthorException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,14 @@
+package com.example.board.exception;
+
+/**
+ * 조회 대상 없음 예외
+ * 게시글, 댓글, 알림 등 요청한 대상이 존재하지 않을 때 발생하는 예외
+ * 화면 컨트롤러의 기존 IllegalArgumentException 처리(오류 메시지 후 리다이렉트)를 그대로 따르도록 상속하며,
+ * API에서는 이 예외만 404로 응답 (그 밖의 IllegalArgumentException은 400)
+ */
+public class NotFoundException extends IllegalArgumentException {
+
+    public NotFoundException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,17 @@
+package com.example.board.exception;
+
+/**
+ * SQL 예산 초과 예외
+ * 하나의 요청에서 허용된 SQL 실행 횟수를 넘기거나 N+1 쿼리가 감지되었을 때 발생하는 예외
+ * (query.budget.fail-on-exceed=true 인 경우에만 발생)
+ */
+public class QueryBudgetExceededException extends RuntimeException {
+
+    public QueryBudgetExceededException(String message) {
+        super(message);
+    }
+
+    public QueryBudgetExceededException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
@@ -0,0 +1,493 @@
+package com.example.board.live;
+
+import com.example.board.dto.CommentDeltaDto;
+import com.example.board.service.CommentChangeService;
+import com.example.board.service.CommentsChangedEvent;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter.DataWithMediaType;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 실시간 댓글 허브 (Server-Sent Events)
+ * 열려 있는 게시글마다 채널을 두고, 댓글 쓰기가 커밋되면 변경분을 한 번만 조회/직렬화하여 채널의 모든 구독자에게 전달
+ * 클라이언트가 주기적으로 폴링하지 않아도 새 댓글을 받음
+ *
+ * - 연결은 비동기 서블릿(SseEmitter)으로 유지하므로 대기 중인 연결은 스레드를 점유하지 않음
+ * - 채널 작업(변경 조회, 새 구독자 합류)은 채널마다 한 번에 하나만 실행하여 구독자가 받는 변경 순서를 보장
+ * - 구독자마다 크기 제한 버퍼를 두고, 가득 차면(느린 구독자) 연결을 끊음
+ *   EventSource가 Last-Event-ID로 다시 연결하면 놓친 변경을 DB에서 다시 받음
+ * - 보낼 이벤트가 생긴 구독자는 전송 대기열에 한 번만 올리고, 전송 작업(실행기 스레드 수만큼)이 SEND_BATCH명씩 차례로 비움
+ *   연결 수와 관계없이 실행기에 올라가는 작업은 채널 작업 + 전송 작업 몇 개뿐이므로 heartbeat나 방송이 대기열을 넘치게 하지 않음
+ * - 전송 스레드는 모든 연결이 함께 쓰므로, 이벤트 하나의 전송이 write-timeout-ms를 넘기면 연결을 끊고 전송 스레드를 인터럽트
+ *   실행기가 포화되어 작업을 예약하지 못하면 연결은 그대로 두고 다음 변경 이벤트나 heartbeat에서 다시 예약
+ * - 연결 완료(complete)는 전송 작업에서만 호출하여 진행 중인 전송 뒤에서 다른 스레드가 기다리지 않게 함
+ * - 합류할 때 since(또는 Last-Event-ID) 이후의 변경을 먼저 보내고, 너무 많거나 보관 기간이 지나 정리되었으면 reset 이벤트로 새로고침을 요청
+ * - board.live.connections / board.live.channels: 현재 연결 수와 채널 수
+ */
+@Component
+@Slf4j
+public class LiveCommentHub {
+
+  // 전송 작업 하나가 연달아 비우는 최대 구독자 수 (넘으면 작업을 다시 예약하여 채널 작업이 뒤에 오래 밀리지 않게 함)
+  static final int SEND_BATCH = 64;
+
+  private final CommentChangeService commentChangeService;
+  private final ObjectMapper objectMapper;
+  private final ThreadPoolTaskExecutor liveExecutor;
+  private final MeterRegistry meterRegistry;
+
+  private final int bufferSize;
+  private final long timeoutMillis;
+  private final long reconnectMillis;
+  private final int maxConnections;
+  private final int replayLimit;
+  private final long writeTimeoutNanos;
+  private final int maxSenders;
+
+  private final Map<Long, PostChannel> channels = new ConcurrentHashMap<>();
+  // 보낼 이벤트가 있는 구독자 (구독자마다 한 번만 올라감)
+  private final Queue<LiveSubscriber> ready = new ConcurrentLinkedQueue<>();
+  private final AtomicInteger activeSenders = new AtomicInteger();
+  private final AtomicInteger connections = new AtomicInteger();
+  private final Counter frames;
+  private final Counter rejected;
+  private final Counter rejectedTasks;
+  private final Set<DataWithMediaType> heartbeat = SseEmitter.event().comment("ping").build();
+
+  public LiveCommentHub(CommentChangeService commentChangeService,
+      ObjectMapper objectMapper,
+      @Qualifier("liveExecutor") ThreadPoolTaskExecutor liveExecutor,
+      MeterRegistry meterRegistry,
+      @Value("${live.sse.buffer-size:32}") int bufferSize,
+      @Value("${live.sse.timeout-ms:1800000}") long timeoutMillis,
+      @Value("${live.sse.reconnect-ms:3000}") long reconnectMillis,
+      @Value("${live.sse.max-connections:20000}") int maxConnections,
+      @Value("${live.sse.replay-limit:200}") int replayLimit,
+      @Value("${live.sse.write-timeout-ms:5000}") long writeTimeoutMillis) {
+    this.commentChangeService = commentChangeService;
+    this.objectMapper = objectMapper;
+    this.liveExecutor = liveExecutor;
+    this.meterRegistry = meterRegistry;
+    this.bufferSize = bufferSize;
+    this.timeoutMillis = timeoutMillis;
+    this.reconnectMillis = reconnectMillis;
+    this.maxConnections = maxConnections;
+    this.replayLimit = replayLimit;
+    this.writeTimeoutNanos = TimeUnit.MILLISECONDS.toNanos(writeTimeoutMillis);
+    this.maxSenders = Math.max(1, liveExecutor.getCorePoolSize());
+
+    Gauge.builder("board.live.connections", connections, AtomicInteger::get)
+        .description("열려 있는 실시간 댓글(SSE) 연결 수")
+        .register(meterRegistry);
+    Gauge.builder("board.live.channels", channels, Map::size)
+        .description("구독자가 있는 게시글 수")
+        .register(meterRegistry);
+    this.frames = Counter.builder("board.live.frames")
+        .description("구독자에게 전송한 이벤트 수 (heartbeat 포함)")
+        .register(meterRegistry);
+    this.rejected = Counter.builder("board.live.rejected")
+        .description("최대 연결 수 초과로 거절한 연결 수")
+        .register(meterRegistry);
+    this.rejectedTasks = Counter.builder("board.live.tasks.rejected")
+        .description("전송 실행기 대기열이 가득 차 예약하지 못한 작업 수")
+        .register(meterRegistry);
+  }
+
+  /**
+   * 게시글 댓글 구독
+   *
+   * @param postId 게시글 ID
+   * @param since  클라이언트가 마지막으로 반영한 변경 순번 (null이면 지금 이후의 변경만)
+   * @return SSE 연결, 최대 연결 수를 넘으면 empty
+   */
+  public Optional<SseEmitter> subscribe(Long postId, Long since) {
+    if (connections.incrementAndGet() > maxConnections) {
+      connections.decrementAndGet();
+      rejected.increment();
+      return Optional.empty();
+    }
+
+    SseEmitter emitter = new SseEmitter(timeoutMillis);
+    LiveSubscriber subscriber = new LiveSubscriber(postId, emitter, bufferSize, since);
+    emitter.onCompletion(() -> disconnect(subscriber, "completed"));
+    emitter.onTimeout(() -> {
+      disconnect(subscriber, "timeout");
+      emitter.complete();
+    });
+    emitter.onError(error -> disconnect(subscriber, "error"));
+
+    // 응답 헤더를 바로 내보내고 재연결 간격을 알려줌
+    enqueue(subscriber, SseEmitter.event().comment("connected").reconnectTime(reconnectMillis).build());
+
+    // 채널 생성/제거와 원자적으로 합류 대기열에 추가 (heartbeat의 빈 채널 정리와 경합하지 않도록)
+    PostChannel channel = channels.compute(postId, (id, current) -> {
+      PostChannel target = current != null ? current : new PostChannel(id);
+      target.joiners.add(subscriber);
+      return target;
+    });
+    schedule(channel);
+    return Optional.of(emitter);
+  }
+
+  /**
+   * 댓글 쓰기가 커밋된 뒤 호출 (쓰기 요청 스레드에서는 채널 작업 예약만 하고 바로 반환)
+   */
+  @TransactionalEventListener
+  public void onCommentsChanged(CommentsChangedEvent event) {
+    PostChannel channel = channels.get(event.postId());
+    if (channel == null) {
+      return;
+    }
+    channel.requestedSeq.accumulateAndGet(event.seq(), Math::max);
+    schedule(channel);
+  }
+
+  /**
+   * 주기적 heartbeat
+   * 프록시의 유휴 연결 종료를 막고 끊어진 연결을 발견하며, 실패했던 채널/전송 작업을 다시 예약하고 빈 채널을 정리
+   */
+  @Scheduled(fixedDelayString = "${live.sse.heartbeat-ms:25000}")
+  public void heartbeat() {
+    for (PostChannel channel : channels.values()) {
+      for (LiveSubscriber subscriber : channel.subscribers) {
+        enqueue(subscriber, heartbeat);
+      }
+      if (channel.hasWork()) {
+        schedule(channel);
+      }
+      channels.computeIfPresent(channel.postId,
+          (id, current) -> current.isIdle() && !current.scheduled.get() ? null : current);
+    }
+    startSenders();
+  }
+
+  /**
+   * 전송 제한 시간 확인
+   * 클라이언트가 받지 않아 멈춘 전송은 연결을 끊고 전송 스레드를 인터럽트하여, 공유 전송 스레드를 계속 붙잡지 않게 함
+   * (인터럽트로 풀리지 않는 쓰기는 서블릿 컨테이너의 쓰기 제한 시간에 실패하며, 그때 연결을 완료)
+   */
+  @Scheduled(fixedDelayString = "${live.sse.write-check-ms:1000}")
+  public void evictStalledWriters() {
+    for (PostChannel channel : channels.values()) {
+      for (LiveSubscriber subscriber : channel.subscribers) {
+        evictIfStalled(subscriber);
+      }
+      for (LiveSubscriber subscriber : channel.joiners) {
+        evictIfStalled(subscriber);
+      }
+    }
+  }
+
+  /**
+   * 종료 시 모든 연결을 닫음 (클라이언트는 재연결 간격 후 다른 인스턴스로 다시 연결)
+   */
+  @PreDestroy
+  public void shutdown() {
+    for (PostChannel channel : channels.values()) {
+      for (LiveSubscriber subscriber : channel.subscribers) {
+        close(subscriber, "shutdown");
+      }
+      for (LiveSubscriber subscriber : channel.joiners) {
+        close(subscriber, "shutdown");
+      }
+    }
+  }
+
+  private void schedule(PostChannel channel) {
+    if (channel.scheduled.compareAndSet(false, true)) {
+      try {
+        liveExecutor.execute(() -> run(channel));
+      } catch (TaskRejectedException e) {
+        // 다음 변경 이벤트나 heartbeat에서 다시 예약
+        channel.scheduled.set(false);
+        rejectedTasks.increment();
+      }
+    }
+  }
+
+  /**
+   * 채널 작업 (채널마다 동시에 하나만 실행)
+   * 새 변경을 방송한 뒤 합류 대기 중인 구독자를 받아들이므로, 합류한 구독자는 놓친 변경 없이 이후 방송을 받음
+   */
+  private void run(PostChannel channel) {
+    do {
+      try {
+        if (channel.broadcastSeq < 0) {
+          channel.broadcastSeq = commentChangeService.currentWatermark(channel.postId);
+        }
+        broadcast(channel);
+        admit(channel);
+      } catch (RuntimeException e) {
+        // 다음 변경 이벤트나 heartbeat에서 다시 시도
+        log.warn("실시간 댓글 채널 작업 실패 - postId: {}", channel.postId, e);
+        channel.scheduled.set(false);
+        return;
+      }
+      channel.scheduled.set(false);
+    } while (channel.hasWork() && channel.scheduled.compareAndSet(false, true));
+  }
+
+  private void broadcast(PostChannel channel) {
+    while (channel.requestedSeq.get() > channel.broadcastSeq) {
+      CommentDeltaDto delta = commentChangeService.findChangesSince(channel.postId, channel.broadcastSeq, replayLimit);
+      if (delta.isReset()) {
+        // 방송하지 못한 구간이 보관 기간을 넘겨 정리된 경우 구독자 모두 전체를 다시 받게 함
+        Set<DataWithMediaType> reset = resetFrame(delta.getWatermark());
+        for (LiveSubscriber subscriber : channel.subscribers) {
+          enqueue(subscriber, reset);
+        }
+        channel.broadcastSeq = delta.getWatermark();
+        continue;
+      }
+      if (delta.getChanges().isEmpty()) {
+        // 변경 기록이 이미 정리된 경우 (게시글 삭제/보관)
+        channel.broadcastSeq = channel.requestedSeq.get();
+        return;
+      }
+      Set<DataWithMediaType> frame = changesFrame(delta);
+      for (LiveSubscriber subscriber : channel.subscribers) {
+        enqueue(subscriber, frame);
+      }
+      channel.broadcastSeq = delta.getWatermark();
+    }
+  }
+
+  private void admit(PostChannel channel) {
+    LiveSubscriber subscriber;
+    while ((subscriber = channel.joiners.poll()) != null) {
+      if (subscriber.isClosed()) {
+        continue;
+      }
+      Long since = subscriber.getSince();
+      try {
+        if (since != null && since < channel.broadcastSeq) {
+          CommentDeltaDto replay = commentChangeService.findChangesSince(channel.postId, since, replayLimit);
+          // 재전송할 구간이 너무 길거나 보관 기간이 지나 정리되었으면 전체를 다시 받게 함
+          enqueue(subscriber, replay.isHasMore() || replay.isReset()
+              ? resetFrame(channel.broadcastSeq) : changesFrame(replay));
+        }
+      } catch (RuntimeException e) {
+        // 놓친 변경을 보내지 못했으므로 연결을 끊어 재연결 시 다시 받게 함
+        close(subscriber, "error");
+        throw e;
+      }
+      channel.subscribers.add(subscriber);
+    }
+  }
+
+  private Set<DataWithMediaType> changesFrame(CommentDeltaDto delta) {
+    try {
+      return SseEmitter.event()
+          .id(Long.toString(delta.getWatermark()))
+          .name("comments")
+          .data(objectMapper.writeValueAsString(delta))
+          .build();
+    } catch (JsonProcessingException e) {
+      throw new IllegalStateException("댓글 변경 직렬화 실패", e);
+    }
+  }
+
+  private Set<DataWithMediaType> resetFrame(long watermark) {
+    return SseEmitter.event()
+        .id(Long.toString(watermark))
+        .name("reset")
+        .data(Long.toString(watermark))
+        .build();
+  }
+
+  /**
+   * 구독자 버퍼에 이벤트 추가 후 전송 예약
+   * 버퍼가 가득 차면 느린 구독자로 보고 연결을 끊음 (다른 구독자와 쓰기 요청에 영향을 주지 않도록)
+   */
+  private void enqueue(LiveSubscriber subscriber, Set<DataWithMediaType> frame) {
+    if (subscriber.isClosed()) {
+      return;
+    }
+    if (!subscriber.offer(frame)) {
+      close(subscriber, "slow");
+      return;
+    }
+    startDrain(subscriber);
+  }
+
+  /**
+   * 전송 대기열에 추가 (구독자마다 한 번만, 이미 대기 중이거나 전송 중이면 그 작업이 이어서 보냄)
+   */
+  private void startDrain(LiveSubscriber subscriber) {
+    if (subscriber.startDraining()) {
+      ready.add(subscriber);
+      startSenders();
+    }
+  }
+
+  /**
+   * 전송 대기 중인 구독자가 있으면 전송 작업 예약 (동시에 최대 실행기 스레드 수만큼)
+   * 실행기가 포화되어 예약하지 못하면 대기 중인 구독자는 그대로 두고 다음 이벤트나 heartbeat에서 다시 예약
+   */
+  private void startSenders() {
+    while (!ready.isEmpty()) {
+      int active = activeSenders.get();
+      if (active >= maxSenders) {
+        // 실행 중인 전송 작업이 끝나기 전에 대기열을 다시 확인
+        return;
+      }
+      if (!activeSenders.compareAndSet(active, active + 1)) {
+        continue;
+      }
+      try {
+        liveExecutor.execute(this::sendReady);
+      } catch (TaskRejectedException e) {
+        activeSenders.decrementAndGet();
+        rejectedTasks.increment();
+        return;
+      }
+    }
+  }
+
+  /**
+   * 전송 작업 (대기 중인 구독자를 SEND_BATCH명까지 차례로 비움)
+   * 끝난 뒤 남은 구독자가 있으면 작업을 다시 예약 (그사이 대기 중이던 채널 작업이 먼저 실행됨)
+   */
+  private void sendReady() {
+    try {
+      for (int i = 0; i < SEND_BATCH; i++) {
+        LiveSubscriber subscriber = ready.poll();
+        if (subscriber == null) {
+          break;
+        }
+        drain(subscriber);
+      }
+    } finally {
+      activeSenders.decrementAndGet();
+    }
+    startSenders();
+  }
+
+  private void drain(LiveSubscriber subscriber) {
+    try {
+      Set<DataWithMediaType> frame;
+      while (!subscriber.isClosed() && (frame = subscriber.poll()) != null) {
+        send(subscriber, frame);
+        frames.increment();
+      }
+    } catch (IOException | IllegalStateException e) {
+      // 클라이언트가 연결을 닫았거나 이미 완료된 연결, 또는 제한 시간을 넘겨 중단된 전송
+      disconnect(subscriber, "closed");
+    } finally {
+      subscriber.stopDraining();
+    }
+    if (subscriber.isClosed()) {
+      complete(subscriber);
+    } else if (subscriber.hasPending()) {
+      // 전송을 마치는 사이에 추가된 이벤트 (대기열 끝으로 다시 올림)
+      startDrain(subscriber);
+    }
+  }
+
+  private void send(LiveSubscriber subscriber, Set<DataWithMediaType> frame) throws IOException {
+    subscriber.beginSend();
+    try {
+      subscriber.getEmitter().send(frame);
+    } finally {
+      subscriber.endSend();
+      // 제한 시간 초과로 받은 인터럽트가 공유 스레드의 다음 작업에 남지 않도록
+      Thread.interrupted();
+    }
+  }
+
+  private void evictIfStalled(LiveSubscriber subscriber) {
+    if (subscriber.interruptIfStalled(writeTimeoutNanos)) {
+      // 연결 완료는 멈춘 전송이 끝난 뒤 전송 작업에서 처리
+      disconnect(subscriber, "stalled");
+    }
+  }
+
+  /**
+   * 서버 측 연결 종료
+   * 연결 완료는 전송 작업에서 처리 (진행 중인 전송이 있으면 그 작업이 마친 뒤 완료)
+   */
+  private void close(LiveSubscriber subscriber, String reason) {
+    if (disconnect(subscriber, reason)) {
+      startDrain(subscriber);
+    }
+  }
+
+  private void complete(LiveSubscriber subscriber) {
+    try {
+      subscriber.getEmitter().complete();
+    } catch (IllegalStateException e) {
+      // 이미 완료된 연결
+    }
+  }
+
+  /**
+   * 구독 해제 (연결 종료 콜백과 서버 측 종료가 겹쳐도 한 번만 처리)
+   *
+   * @return 처음 해제한 호출이면 true
+   */
+  private boolean disconnect(LiveSubscriber subscriber, String reason) {
+    if (!subscriber.close()) {
+      return false;
+    }
+    connections.decrementAndGet();
+    meterRegistry.counter("board.live.disconnects", "reason", reason).increment();
+    PostChannel channel = channels.get(subscriber.getPostId());
+    if (channel != null) {
+      channel.subscribers.remove(subscriber);
+      channel.joiners.remove(subscriber);
+    }
+    return true;
+  }
+
+  /**
+   * 게시글 하나의 구독 채널
+   */
+  private static class PostChannel {
+
+    private final Long postId;
+    private final Set<LiveSubscriber> subscribers = ConcurrentHashMap.newKeySet();
+    private final Queue<LiveSubscriber> joiners = new ConcurrentLinkedQueue<>();
+    private final AtomicBoolean scheduled = new AtomicBoolean();
+    private final AtomicLong requestedSeq = new AtomicLong();
+
+    // 구독자에게 방송을 마친 변경 순번 (채널 작업에서만 변경, 첫 작업 전에는 -1)
+    private volatile long broadcastSeq = -1;
+
+    private PostChannel(Long postId) {
+      this.postId = postId;
+    }
+
+    private boolean hasWork() {
+      return !joiners.isEmpty() || (broadcastSeq >= 0 && requestedSeq.get() > broadcastSeq);
+    }
+
+    private boolean isIdle() {
+      return subscribers.isEmpty() && joiners.isEmpty();
+    }
+  }
+}
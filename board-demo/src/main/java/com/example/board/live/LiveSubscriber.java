@@ -0,0 +1,123 @@
+package com.example.board.live;
+
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter.DataWithMediaType;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 실시간 댓글 구독자 (SSE 연결 하나)
+ * 보낼 이벤트는 크기 제한 버퍼에 쌓고, 전송은 구독자마다 한 번에 하나의 작업만 수행
+ * 전송 중인 스레드와 시작 시각을 기록하여 제한 시간을 넘긴 전송을 찾아 중단할 수 있게 함
+ */
+class LiveSubscriber {
+
+  private final Long postId;
+  private final SseEmitter emitter;
+  private final BlockingQueue<Set<DataWithMediaType>> buffer;
+  private final AtomicBoolean draining = new AtomicBoolean();
+  private final AtomicBoolean closed = new AtomicBoolean();
+
+  // 클라이언트가 마지막으로 반영한 변경 순번 (null이면 연결 시점 이후의 변경만 받음)
+  private final Long since;
+
+  // 전송 중인 스레드와 전송 시작 시각 (전송 중이 아니면 null)
+  private Thread sender;
+  private long sendStartedNanos;
+
+  LiveSubscriber(Long postId, SseEmitter emitter, int bufferSize, Long since) {
+    this.postId = postId;
+    this.emitter = emitter;
+    this.buffer = new ArrayBlockingQueue<>(bufferSize);
+    this.since = since;
+  }
+
+  Long getPostId() {
+    return postId;
+  }
+
+  SseEmitter getEmitter() {
+    return emitter;
+  }
+
+  Long getSince() {
+    return since;
+  }
+
+  /**
+   * 보낼 이벤트 추가
+   *
+   * @return 버퍼가 가득 차 추가하지 못하면 false (느린 구독자)
+   */
+  boolean offer(Set<DataWithMediaType> frame) {
+    return buffer.offer(frame);
+  }
+
+  Set<DataWithMediaType> poll() {
+    return buffer.poll();
+  }
+
+  boolean hasPending() {
+    return !buffer.isEmpty();
+  }
+
+  /**
+   * 전송 작업 시작 권한 획득 (이미 전송 중이면 false)
+   */
+  boolean startDraining() {
+    return draining.compareAndSet(false, true);
+  }
+
+  void stopDraining() {
+    draining.set(false);
+  }
+
+  /**
+   * 이벤트 하나의 전송 시작 (전송 스레드에서 호출)
+   */
+  synchronized void beginSend() {
+    sender = Thread.currentThread();
+    sendStartedNanos = System.nanoTime();
+  }
+
+  /**
+   * 이벤트 하나의 전송 종료 (이후에는 interruptIfStalled가 전송 스레드를 인터럽트하지 않음)
+   */
+  synchronized void endSend() {
+    sender = null;
+  }
+
+  /**
+   * 전송이 제한 시간을 넘겼으면 전송 스레드를 인터럽트
+   *
+   * @param timeoutNanos 이벤트 하나의 전송 제한 시간
+   * @return 제한 시간을 넘긴 전송이 있으면 true
+   */
+  synchronized boolean interruptIfStalled(long timeoutNanos) {
+    if (sender == null || System.nanoTime() - sendStartedNanos < timeoutNanos) {
+      return false;
+    }
+    sender.interrupt();
+    return true;
+  }
+
+  /**
+   * 연결 종료 표시
+   *
+   * @return 처음 종료한 호출이면 true
+   */
+  boolean close() {
+    if (!closed.compareAndSet(false, true)) {
+      return false;
+    }
+    buffer.clear();
+    return true;
+  }
+
+  boolean isClosed() {
+    return closed.get();
+  }
+}
@@ -0,0 +1,88 @@
+package com.example.board.monitoring;
+
+import com.zaxxer.hikari.HikariConfigMXBean;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.sql.SQLException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Hikari 커넥션 풀 크기 자동 조정 (db.pool.adaptive.enabled=true 일 때만 동작)
+ * 주기마다 커넥션 획득 대기 시간과 대기 스레드 수를 보고 최소/최대 범위 안에서 풀 크기를 조정
+ *
+ * - 평균 대기 시간이 기준을 넘거나 대기 스레드가 있으면 step만큼 늘림
+ * - 대기가 없고 사용 중인 커넥션이 풀의 절반 이하인 상태가 연속되면 1씩 줄임
+ */
+@Component
+@ConditionalOnProperty(name = "db.pool.adaptive.enabled", havingValue = "true")
+@Slf4j
+public class AdaptivePoolSizer {
+
+  // 연속으로 여유가 있어야 줄이는 주기 수
+  private static final int SHRINK_AFTER_IDLE_PERIODS = 6;
+
+  private final ConnectionHoldMonitor connectionHoldMonitor;
+  private final HikariDataSource hikariDataSource;
+  private final int minSize;
+  private final int maxSize;
+  private final int step;
+  private final long growWaitNanos;
+  private int idlePeriods;
+
+  public AdaptivePoolSizer(ConnectionHoldMonitor connectionHoldMonitor,
+      DataSource dataSource,
+      @Value("${db.pool.adaptive.min-size:5}") int minSize,
+      @Value("${db.pool.adaptive.max-size:30}") int maxSize,
+      @Value("${db.pool.adaptive.step:2}") int step,
+      @Value("${db.pool.adaptive.grow-wait-ms:5}") long growWaitMillis) throws SQLException {
+    this.connectionHoldMonitor = connectionHoldMonitor;
+    this.hikariDataSource = dataSource.unwrap(HikariDataSource.class);
+    this.minSize = minSize;
+    this.maxSize = maxSize;
+    this.step = step;
+    this.growWaitNanos = TimeUnit.MILLISECONDS.toNanos(growWaitMillis);
+  }
+
+  @Scheduled(fixedDelayString = "${db.pool.adaptive.interval-ms:10000}")
+  public void adjust() {
+    HikariPoolMXBean pool = hikariDataSource.getHikariPoolMXBean();
+    if (pool == null) {
+      return; // 풀이 아직 시작되지 않음
+    }
+    HikariConfigMXBean config = hikariDataSource.getHikariConfigMXBean();
+
+    long[] stats = connectionHoldMonitor.drainAcquireStats();
+    long averageWaitNanos = stats[1];
+    int waiting = pool.getThreadsAwaitingConnection();
+    int current = config.getMaximumPoolSize();
+
+    int target = current;
+    if (waiting > 0 || averageWaitNanos > growWaitNanos) {
+      idlePeriods = 0;
+      target = Math.min(maxSize, current + step);
+    } else if (pool.getActiveConnections() <= current / 2) {
+      if (++idlePeriods >= SHRINK_AFTER_IDLE_PERIODS) {
+        idlePeriods = 0;
+        target = Math.max(minSize, current - 1);
+      }
+    } else {
+      idlePeriods = 0;
+    }
+
+    if (target != current) {
+      config.setMaximumPoolSize(target);
+      if (config.getMinimumIdle() > target) {
+        config.setMinimumIdle(target);
+      }
+      log.info("커넥션 풀 크기 조정: {} -> {} (평균 대기 {}us, 대기 스레드 {}, 사용 중 {})",
+          current, target, TimeUnit.NANOSECONDS.toMicros(averageWaitNanos), waiting, pool.getActiveConnections());
+    }
+  }
+}
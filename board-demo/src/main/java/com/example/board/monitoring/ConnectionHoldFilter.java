@@ -0,0 +1,74 @@
+package com.example.board.monitoring;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 엔드포인트별 커넥션 점유 필터
+ * 요청마다 커넥션 점유 시간과 SQL 실행 시간을 집계하여 URI 패턴별 메트릭으로 기록
+ *
+ * - board.request.connection.hold: 요청 하나가 커넥션을 점유한 시간 합계
+ * - board.request.connection.sql: 그중 SQL 실행 시간 합계
+ * 두 값의 차이가 크면 렌더링/지연 로딩 동안 커넥션을 붙잡고 있다는 의미
+ */
+@Slf4j
+public class ConnectionHoldFilter extends OncePerRequestFilter {
+
+  private final MeterRegistry meterRegistry;
+  private final long slowHoldMillis;
+
+  public ConnectionHoldFilter(MeterRegistry meterRegistry, long slowHoldMillis) {
+    this.meterRegistry = meterRegistry;
+    this.slowHoldMillis = slowHoldMillis;
+  }
+
+  @Override
+  protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+      throws ServletException, IOException {
+    ConnectionUsage usage = ConnectionUsageHolder.start(request.getMethod() + " " + request.getRequestURI());
+    try {
+      filterChain.doFilter(request, response);
+    } finally {
+      ConnectionUsageHolder.clear();
+      record(request, usage);
+    }
+  }
+
+  private void record(HttpServletRequest request, ConnectionUsage usage) {
+    if (usage.getConnections() == 0) {
+      return;
+    }
+
+    // URI 대신 매핑된 패턴을 태그로 사용하여 메트릭 종류가 늘어나지 않도록 함
+    Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+    String uri = pattern != null ? pattern.toString() : "UNMAPPED";
+    String method = request.getMethod();
+
+    Timer.builder("board.request.connection.hold")
+        .description("요청별 커넥션 점유 시간")
+        .tags("uri", uri, "method", method)
+        .register(meterRegistry)
+        .record(usage.getHoldNanos(), TimeUnit.NANOSECONDS);
+    Timer.builder("board.request.connection.sql")
+        .description("요청별 SQL 실행 시간")
+        .tags("uri", uri, "method", method)
+        .register(meterRegistry)
+        .record(usage.getSqlNanos(), TimeUnit.NANOSECONDS);
+
+    if (TimeUnit.NANOSECONDS.toMillis(usage.getHoldNanos()) >= slowHoldMillis) {
+      log.warn("커넥션 점유 시간 초과 - {}: {}", usage.getEndpoint(), usage);
+    } else {
+      log.debug("커넥션 사용량 - {}: {}", usage.getEndpoint(), usage);
+    }
+  }
+}
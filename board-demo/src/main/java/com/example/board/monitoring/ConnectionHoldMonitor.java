@@ -0,0 +1,193 @@
+package com.example.board.monitoring;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * DB 커넥션 점유 모니터
+ * HoldTrackingDataSource가 빌려준 커넥션을 추적하여 점유 시간/획득 대기 시간을 메트릭으로 기록하고,
+ * 오래 반납되지 않는 커넥션(누수 또는 느린 점유)을 로그로 남김
+ * 빌려간 위치의 스택은 capture-stack을 켠 경우에만 남김 (커넥션 획득마다 스택을 채우므로 누수 조사 시에만 사용)
+ *
+ * - board.db.connection.acquire: 커넥션 획득 대기 시간
+ * - board.db.connection.hold: 커넥션 하나의 점유 시간
+ * - board.db.connection.open: 현재 빌려간 커넥션 수
+ */
+@Component
+@Slf4j
+public class ConnectionHoldMonitor {
+
+  private final long slowHoldMillis;
+  private final boolean captureStack;
+
+  private final Map<Long, Checkout> openCheckouts = new ConcurrentHashMap<>();
+  private final AtomicLong checkoutIds = new AtomicLong();
+  private final Timer acquireTimer;
+  private final Timer holdTimer;
+
+  // 풀 크기 조정용 구간 통계 (drainAcquireStats 호출 시 초기화)
+  private final LongAdder windowAcquires = new LongAdder();
+  private final LongAdder windowAcquireNanos = new LongAdder();
+
+  public ConnectionHoldMonitor(@Value("${db.hold.slow-hold-ms:2000}") long slowHoldMillis,
+      @Value("${db.hold.capture-stack:false}") boolean captureStack,
+      MeterRegistry meterRegistry) {
+    this.slowHoldMillis = slowHoldMillis;
+    this.captureStack = captureStack;
+    this.acquireTimer = Timer.builder("board.db.connection.acquire")
+        .description("커넥션 획득 대기 시간")
+        .publishPercentileHistogram()
+        .register(meterRegistry);
+    this.holdTimer = Timer.builder("board.db.connection.hold")
+        .description("커넥션 점유 시간 (획득부터 반납까지)")
+        .publishPercentileHistogram()
+        .register(meterRegistry);
+    Gauge.builder("board.db.connection.open", openCheckouts, Map::size)
+        .description("현재 빌려간 커넥션 수")
+        .register(meterRegistry);
+  }
+
+  /**
+   * 커넥션 획득 기록
+   *
+   * @param acquireNanos 획득 대기 시간
+   * @return 반납 시 넘겨줄 점유 정보
+   */
+  Checkout onCheckout(long acquireNanos) {
+    acquireTimer.record(acquireNanos, TimeUnit.NANOSECONDS);
+    windowAcquires.increment();
+    windowAcquireNanos.add(acquireNanos);
+
+    ConnectionUsage usage = ConnectionUsageHolder.current();
+    if (usage != null) {
+      usage.recordAcquire(acquireNanos);
+    }
+
+    Thread thread = Thread.currentThread();
+    Checkout checkout = new Checkout(checkoutIds.incrementAndGet(), thread.getName(),
+        usage != null ? usage.getEndpoint() : null, System.nanoTime(),
+        captureStack ? new Throwable("커넥션 획득 위치").getStackTrace() : null, new AtomicBoolean());
+    openCheckouts.put(checkout.id(), checkout);
+    return checkout;
+  }
+
+  /**
+   * 커넥션 반납 기록
+   */
+  void onRelease(Checkout checkout) {
+    if (openCheckouts.remove(checkout.id()) == null) {
+      return;
+    }
+    long holdNanos = System.nanoTime() - checkout.startNanos();
+    holdTimer.record(holdNanos, TimeUnit.NANOSECONDS);
+
+    ConnectionUsage usage = ConnectionUsageHolder.current();
+    if (usage != null) {
+      usage.recordHold(holdNanos);
+    }
+    if (checkout.reported().get()) {
+      log.info("느린 커넥션 점유 종료 - {}ms, thread={}, endpoint={}",
+          TimeUnit.NANOSECONDS.toMillis(holdNanos), checkout.thread(), checkout.endpoint());
+    }
+  }
+
+  /**
+   * SQL 실행 시간 기록
+   */
+  void onSqlExecuted(long nanos) {
+    ConnectionUsage usage = ConnectionUsageHolder.current();
+    if (usage != null) {
+      usage.recordSql(nanos);
+    }
+  }
+
+  /**
+   * 기준 시간보다 오래 반납되지 않은 커넥션을 점검하여 한 번씩 경고
+   */
+  @Scheduled(fixedDelayString = "${db.hold.check-interval-ms:5000}")
+  public void detectSlowHolds() {
+    long now = System.nanoTime();
+    for (Checkout checkout : openCheckouts.values()) {
+      long heldMillis = TimeUnit.NANOSECONDS.toMillis(now - checkout.startNanos());
+      if (heldMillis < slowHoldMillis || !checkout.reported().compareAndSet(false, true)) {
+        continue;
+      }
+      if (checkout.stack() != null) {
+        Throwable location = new Throwable("커넥션 획득 위치");
+        location.setStackTrace(checkout.stack());
+        log.warn("커넥션 장시간 점유(누수 의심) - {}ms, thread={}, endpoint={}",
+            heldMillis, checkout.thread(), checkout.endpoint(), location);
+      } else {
+        log.warn("커넥션 장시간 점유(누수 의심) - {}ms, thread={}, endpoint={}",
+            heldMillis, checkout.thread(), checkout.endpoint());
+      }
+    }
+  }
+
+  /**
+   * 현재 빌려간 커넥션 목록 (오래 점유한 순)
+   *
+   * @param stackDepth 포함할 스택 프레임 수
+   */
+  public List<Map<String, Object>> openConnections(int stackDepth) {
+    long now = System.nanoTime();
+    List<Checkout> checkouts = new ArrayList<>(openCheckouts.values());
+    checkouts.sort(Comparator.comparingLong(Checkout::startNanos));
+
+    List<Map<String, Object>> result = new ArrayList<>(checkouts.size());
+    for (Checkout checkout : checkouts) {
+      Map<String, Object> item = new LinkedHashMap<>();
+      item.put("heldMillis", TimeUnit.NANOSECONDS.toMillis(now - checkout.startNanos()));
+      item.put("thread", checkout.thread());
+      item.put("endpoint", checkout.endpoint());
+      if (checkout.stack() != null) {
+        item.put("stack", Arrays.stream(checkout.stack())
+            .filter(frame -> frame.getClassName().startsWith("com.example.board"))
+            .limit(stackDepth)
+            .map(StackTraceElement::toString)
+            .toList());
+      }
+      result.add(item);
+    }
+    return result;
+  }
+
+  /**
+   * 직전 호출 이후 구간의 커넥션 획득 통계를 반환하고 초기화
+   *
+   * @return [획득 횟수, 평균 대기 시간(나노초)]
+   */
+  public long[] drainAcquireStats() {
+    long count = windowAcquires.sumThenReset();
+    long nanos = windowAcquireNanos.sumThenReset();
+    return new long[]{count, count > 0 ? nanos / count : 0};
+  }
+
+  public long getSlowHoldMillis() {
+    return slowHoldMillis;
+  }
+
+  /**
+   * 빌려간 커넥션 하나의 점유 정보
+   */
+  record Checkout(long id, String thread, String endpoint, long startNanos, StackTraceElement[] stack,
+                  AtomicBoolean reported) {
+  }
+}
@@ -0,0 +1,31 @@
+package com.example.board.monitoring;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 커넥션 점유 현황 관리자 엔드포인트
+ * GET /actuator/connectionholds?stackDepth=10
+ * (management.endpoints.web.exposure.include 에 connectionholds 추가 필요, 관리자만 접근 가능)
+ */
+@Component
+@Endpoint(id = "connectionholds")
+@RequiredArgsConstructor
+public class ConnectionHoldsEndpoint {
+
+  private final ConnectionHoldMonitor connectionHoldMonitor;
+
+  @ReadOperation
+  public Map<String, Object> connectionHolds(@Nullable Integer stackDepth) {
+    Map<String, Object> result = new LinkedHashMap<>();
+    result.put("slowHoldMillis", connectionHoldMonitor.getSlowHoldMillis());
+    result.put("open", connectionHoldMonitor.openConnections(stackDepth != null ? stackDepth : 10));
+    return result;
+  }
+}
@@ -0,0 +1,48 @@
+package com.example.board.monitoring;
+
+import lombok.Getter;
+
+/**
+ * 요청 하나의 DB 커넥션 사용량
+ * 커넥션을 빌려서 반납할 때까지의 점유 시간과 그중 실제 SQL 실행 시간을 분리하여 집계
+ * 요청 처리 중 병렬 조회 스레드에서도 함께 갱신될 수 있으므로 기록을 동기화
+ */
+@Getter
+public class ConnectionUsage {
+
+  private final String endpoint;
+  private int connections;
+  private long acquireNanos;
+  private long holdNanos;
+  private long sqlNanos;
+
+  public ConnectionUsage(String endpoint) {
+    this.endpoint = endpoint;
+  }
+
+  synchronized void recordAcquire(long nanos) {
+    connections++;
+    acquireNanos += nanos;
+  }
+
+  synchronized void recordHold(long nanos) {
+    holdNanos += nanos;
+  }
+
+  synchronized void recordSql(long nanos) {
+    sqlNanos += nanos;
+  }
+
+  /**
+   * 점유 시간 중 SQL을 실행하지 않은 시간 (템플릿 렌더링, 지연 로딩 대기 등)
+   */
+  public long getIdleHoldNanos() {
+    return Math.max(0, holdNanos - sqlNanos);
+  }
+
+  @Override
+  public String toString() {
+    return String.format("connections=%d, hold=%.1fms, sql=%.1fms, acquire=%.1fms",
+        connections, holdNanos / 1_000_000.0, sqlNanos / 1_000_000.0, acquireNanos / 1_000_000.0);
+  }
+}
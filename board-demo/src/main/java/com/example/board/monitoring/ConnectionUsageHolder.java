@@ -0,0 +1,54 @@
+package com.example.board.monitoring;
+
+/**
+ * 현재 스레드(요청)의 커넥션 사용량을 보관하는 홀더
+ * ConnectionHoldFilter가 요청 시작 시 집계를 시작하고 종료 시 정리함
+ */
+public final class ConnectionUsageHolder {
+
+  private static final ThreadLocal<ConnectionUsage> CURRENT = new ThreadLocal<>();
+
+  private ConnectionUsageHolder() {
+  }
+
+  /**
+   * 현재 스레드에서 새 집계 시작
+   *
+   * @param endpoint 요청 식별 문자열 (로그용)
+   * @return 새로 시작된 집계
+   */
+  public static ConnectionUsage start(String endpoint) {
+    ConnectionUsage usage = new ConnectionUsage(endpoint);
+    CURRENT.set(usage);
+    return usage;
+  }
+
+  /**
+   * 현재 스레드의 집계 조회
+   *
+   * @return 진행 중인 집계 (요청 밖이면 null)
+   */
+  public static ConnectionUsage current() {
+    return CURRENT.get();
+  }
+
+  /**
+   * 다른 스레드에서 시작된 집계를 현재 스레드에 연결 (병렬 조회 작업용)
+   *
+   * @param usage 연결할 집계 (null이면 해제)
+   */
+  static void attach(ConnectionUsage usage) {
+    if (usage != null) {
+      CURRENT.set(usage);
+    } else {
+      CURRENT.remove();
+    }
+  }
+
+  /**
+   * 현재 스레드의 집계 종료
+   */
+  public static void clear() {
+    CURRENT.remove();
+  }
+}
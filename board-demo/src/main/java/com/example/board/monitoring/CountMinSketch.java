@@ -0,0 +1,87 @@
+package com.example.board.monitoring;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Count-Min Sketch
+ * 고정된 메모리(depth x width 카운터)로 항목별 빈도를 근사 집계하는 자료구조
+ * 추정값은 실제 빈도보다 작지 않으며(과대 추정만 발생), 카운터는 원자적으로 갱신되어 잠금이 필요 없음
+ */
+public class CountMinSketch {
+
+  private final int depth;
+  private final int width;
+  private final long mask;
+  private final long[] seeds;
+  private final AtomicLongArray counters;
+
+  /**
+   * @param depth 해시 함수 개수 (정확도 신뢰도)
+   * @param width 행당 카운터 수 (2의 거듭제곱으로 올림, 오차 범위)
+   */
+  public CountMinSketch(int depth, int width) {
+    if (depth <= 0 || width <= 0) {
+      throw new IllegalArgumentException("depth와 width는 0보다 커야 합니다.");
+    }
+    this.depth = depth;
+    int size = 1;
+    while (size < width) {
+      size <<= 1;
+    }
+    this.width = size;
+    this.mask = this.width - 1L;
+    this.seeds = new long[depth];
+    for (int i = 0; i < depth; i++) {
+      seeds[i] = mix(0x9E3779B97F4A7C15L * (i + 1));
+    }
+    this.counters = new AtomicLongArray(depth * this.width);
+  }
+
+  /**
+   * 항목 빈도 증가
+   *
+   * @param item  항목 (게시글 ID 등)
+   * @param count 증가량
+   */
+  public void add(long item, long count) {
+    for (int row = 0; row < depth; row++) {
+      counters.addAndGet(row * width + index(item, row), count);
+    }
+  }
+
+  /**
+   * 항목 빈도 추정 (모든 행 중 최솟값)
+   *
+   * @param item 항목
+   * @return 추정 빈도
+   */
+  public long estimate(long item) {
+    long min = Long.MAX_VALUE;
+    for (int row = 0; row < depth; row++) {
+      min = Math.min(min, counters.get(row * width + index(item, row)));
+    }
+    return min;
+  }
+
+  public int getDepth() {
+    return depth;
+  }
+
+  public int getWidth() {
+    return width;
+  }
+
+  private int index(long item, int row) {
+    return (int) (mix(item ^ seeds[row]) & mask);
+  }
+
+  /**
+   * SplitMix64 해시 혼합 함수
+   */
+  private static long mix(long value) {
+    long z = value + 0x9E3779B97F4A7C15L;
+    z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+    z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+    return z ^ (z >>> 31);
+  }
+}
@@ -0,0 +1,151 @@
+package com.example.board.monitoring;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.CallableStatement;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+/**
+ * 커넥션 점유 추적 DataSource
+ * 빌려준 커넥션을 프록시로 감싸 획득 대기/점유/SQL 실행 시간을 ConnectionHoldMonitor에 기록
+ * SQL 실행 시간은 Statement의 execute* 호출 시간만 포함 (ResultSet 순회 시간은 점유 시간으로만 집계)
+ */
+public class HoldTrackingDataSource extends DelegatingDataSource {
+
+  private final ObjectProvider<ConnectionHoldMonitor> monitorProvider;
+  private volatile ConnectionHoldMonitor monitor;
+
+  public HoldTrackingDataSource(DataSource targetDataSource, ObjectProvider<ConnectionHoldMonitor> monitorProvider) {
+    super(targetDataSource);
+    this.monitorProvider = monitorProvider;
+  }
+
+  @Override
+  public Connection getConnection() throws SQLException {
+    long start = System.nanoTime();
+    Connection connection = super.getConnection();
+    return track(connection, System.nanoTime() - start);
+  }
+
+  @Override
+  public Connection getConnection(String username, String password) throws SQLException {
+    long start = System.nanoTime();
+    Connection connection = super.getConnection(username, password);
+    return track(connection, System.nanoTime() - start);
+  }
+
+  private Connection track(Connection connection, long acquireNanos) {
+    ConnectionHoldMonitor holdMonitor = monitor();
+    ConnectionHoldMonitor.Checkout checkout = holdMonitor.onCheckout(acquireNanos);
+    return (Connection) Proxy.newProxyInstance(getClass().getClassLoader(), new Class<?>[]{Connection.class},
+        new ConnectionHandler(connection, holdMonitor, checkout));
+  }
+
+  /**
+   * 모니터 지연 조회 (DataSource 생성 시점의 순환 의존 방지)
+   */
+  private ConnectionHoldMonitor monitor() {
+    ConnectionHoldMonitor holdMonitor = monitor;
+    if (holdMonitor == null) {
+      holdMonitor = monitorProvider.getObject();
+      monitor = holdMonitor;
+    }
+    return holdMonitor;
+  }
+
+  private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+    try {
+      return method.invoke(target, args);
+    } catch (InvocationTargetException e) {
+      throw e.getTargetException();
+    }
+  }
+
+  /**
+   * 커넥션 프록시: close 시 반납 기록, Statement 생성 시 실행 시간 측정 프록시로 감쌈
+   */
+  private static final class ConnectionHandler implements InvocationHandler {
+
+    private final Connection target;
+    private final ConnectionHoldMonitor monitor;
+    private final ConnectionHoldMonitor.Checkout checkout;
+
+    ConnectionHandler(Connection target, ConnectionHoldMonitor monitor, ConnectionHoldMonitor.Checkout checkout) {
+      this.target = target;
+      this.monitor = monitor;
+      this.checkout = checkout;
+    }
+
+    @Override
+    public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+      switch (method.getName()) {
+        case "equals":
+          return proxy == args[0];
+        case "hashCode":
+          return System.identityHashCode(proxy);
+        case "close":
+          try {
+            return HoldTrackingDataSource.invoke(target, method, args);
+          } finally {
+            monitor.onRelease(checkout);
+          }
+        default:
+          Object result = HoldTrackingDataSource.invoke(target, method, args);
+          if (result instanceof Statement statement) {
+            return wrapStatement(statement);
+          }
+          return result;
+      }
+    }
+
+    private Statement wrapStatement(Statement statement) {
+      Class<?> type = statement instanceof CallableStatement ? CallableStatement.class
+          : statement instanceof PreparedStatement ? PreparedStatement.class : Statement.class;
+      return (Statement) Proxy.newProxyInstance(HoldTrackingDataSource.class.getClassLoader(), new Class<?>[]{type},
+          new StatementHandler(statement, monitor));
+    }
+  }
+
+  /**
+   * Statement 프록시: execute* 호출 시간을 SQL 실행 시간으로 기록
+   */
+  private static final class StatementHandler implements InvocationHandler {
+
+    private final Statement target;
+    private final ConnectionHoldMonitor monitor;
+
+    StatementHandler(Statement target, ConnectionHoldMonitor monitor) {
+      this.target = target;
+      this.monitor = monitor;
+    }
+
+    @Override
+    public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+      String name = method.getName();
+      if ("equals".equals(name)) {
+        return proxy == args[0];
+      }
+      if ("hashCode".equals(name)) {
+        return System.identityHashCode(proxy);
+      }
+      if (!name.startsWith("execute")) {
+        return HoldTrackingDataSource.invoke(target, method, args);
+      }
+      long start = System.nanoTime();
+      try {
+        return HoldTrackingDataSource.invoke(target, method, args);
+      } finally {
+        monitor.onSqlExecuted(System.nanoTime() - start);
+      }
+    }
+  }
+}
@@ -0,0 +1,222 @@
+package com.example.board.monitoring;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 인기 게시글(Top-K) 탐지기
+ * 상세 조회와 댓글 이벤트를 Count-Min Sketch로 집계하고, 상위 후보만 별도로 유지하여
+ * 게시글 수와 무관하게 일정한 메모리로 현재 가장 많이 읽히는 게시글과 이벤트 비율을 추정
+ *
+ * - 슬라이딩 윈도우: 현재/이전 두 개의 스케치를 주기적으로 교체하고, 이전 윈도우는 경과 비율만큼 가중치를 줄여 합산
+ * - 후보 관리: 최대 topK x 4개의 후보를 유지하며, 최솟값보다 큰 점수가 들어오면 최솟값 후보를 교체
+ * - 스케치와 기존 후보의 점수 갱신은 원자 연산으로 처리하고, 후보 추가/교체만 잠금으로 직렬화
+ *   (최솟값보다 작은 점수는 잠금 없이 걸러내므로 잠금은 새 후보가 순위에 들 때만 사용)
+ */
+@Component
+@Slf4j
+public class HotPostTracker {
+
+  private final int depth;
+  private final int width;
+  private final int topK;
+  private final int capacity;
+  private final long windowMillis;
+  private final long commentWeight;
+
+  private volatile CountMinSketch current;
+  private volatile CountMinSketch previous;
+  private volatile long windowStartMillis;
+
+  private final Map<Long, Long> candidates = new ConcurrentHashMap<>();
+  private final Object candidateLock = new Object();
+  private final AtomicLong totalEvents = new AtomicLong();
+  private volatile long minCandidateScore;
+
+  public HotPostTracker(@Value("${hotpost.sketch-depth:4}") int depth,
+      @Value("${hotpost.sketch-width:2048}") int width,
+      @Value("${hotpost.top-k:20}") int topK,
+      @Value("${hotpost.window-ms:60000}") long windowMillis,
+      @Value("${hotpost.comment-weight:5}") long commentWeight) {
+    this.depth = depth;
+    this.width = width;
+    this.topK = topK;
+    this.capacity = topK * 4;
+    this.windowMillis = windowMillis;
+    this.commentWeight = commentWeight;
+    this.current = new CountMinSketch(depth, width);
+    this.previous = new CountMinSketch(depth, width);
+    this.windowStartMillis = System.currentTimeMillis();
+  }
+
+  /**
+   * 게시글 상세 조회 이벤트 기록
+   *
+   * @param postId 게시글 ID
+   */
+  public void recordView(Long postId) {
+    record(postId, 1);
+  }
+
+  /**
+   * 댓글/대댓글 작성 이벤트 기록 (조회보다 큰 가중치)
+   *
+   * @param postId 게시글 ID
+   */
+  public void recordComment(Long postId) {
+    record(postId, commentWeight);
+  }
+
+  private void record(Long postId, long weight) {
+    if (postId == null) {
+      return;
+    }
+    current.add(postId, weight);
+    totalEvents.addAndGet(weight);
+    offer(postId, score(postId));
+  }
+
+  /**
+   * 현재 가장 인기 있는 게시글 목록
+   *
+   * @param limit 최대 개수 (topK를 넘을 수 없음)
+   * @return 점수 내림차순 인기 게시글 목록
+   */
+  public List<HotPost> topPosts(int limit) {
+    double windowMinutes = windowMillis / 60_000.0;
+    List<HotPost> hotPosts = new ArrayList<>();
+    for (Long postId : candidates.keySet()) {
+      long score = score(postId);
+      if (score > 0) {
+        hotPosts.add(new HotPost(postId, score, score / windowMinutes));
+      }
+    }
+    hotPosts.sort(Comparator.comparingLong(HotPost::score).reversed());
+    return hotPosts.subList(0, Math.min(Math.min(limit, topK), hotPosts.size()));
+  }
+
+  /**
+   * 캐시 예열 등에 사용할 인기 게시글 ID 목록
+   *
+   * @param limit 최대 개수
+   * @return 점수 내림차순 게시글 ID 목록
+   */
+  public List<Long> topPostIds(int limit) {
+    return topPosts(limit).stream().map(HotPost::postId).toList();
+  }
+
+  /**
+   * 집계 윈도우 교체
+   * 현재 윈도우를 이전 윈도우로 넘기고, 더 이상 점수가 없는 후보는 정리
+   */
+  @Scheduled(fixedRateString = "${hotpost.window-ms:60000}", initialDelayString = "${hotpost.window-ms:60000}")
+  public void rotateWindow() {
+    previous = current;
+    current = new CountMinSketch(depth, width);
+    windowStartMillis = System.currentTimeMillis();
+
+    synchronized (candidateLock) {
+      candidates.replaceAll((postId, score) -> score(postId));
+      candidates.values().removeIf(score -> score == 0);
+      refreshMinCandidateScore();
+    }
+  }
+
+  public int getTopK() {
+    return topK;
+  }
+
+  public long getWindowMillis() {
+    return windowMillis;
+  }
+
+  public long getTotalEvents() {
+    return totalEvents.get();
+  }
+
+  public int getCandidateCount() {
+    return candidates.size();
+  }
+
+  public int getSketchDepth() {
+    return current.getDepth();
+  }
+
+  public int getSketchWidth() {
+    return current.getWidth();
+  }
+
+  /**
+   * 슬라이딩 윈도우 점수 = 현재 윈도우 + 이전 윈도우 x (남은 비율)
+   */
+  private long score(long postId) {
+    double elapsed = Math.min(1.0, (System.currentTimeMillis() - windowStartMillis) / (double) windowMillis);
+    return current.estimate(postId) + (long) (previous.estimate(postId) * (1.0 - elapsed));
+  }
+
+  /**
+   * 후보 목록 갱신
+   * 이미 후보면 점수만 바꾸고, 빈 자리가 있으면 추가하며, 가득 찼으면 최솟값 후보보다 점수가 클 때만 교체
+   * 추가/교체는 잠금 안에서 크기와 최솟값을 다시 확인하므로 후보 수가 capacity를 넘지 않음
+   */
+  private void offer(long postId, long score) {
+    if (candidates.computeIfPresent(postId, (key, old) -> score) != null) {
+      return;
+    }
+    if (candidates.size() >= capacity && score <= minCandidateScore) {
+      // 잠금 없이 거르는 사전 확인 (잠금 안에서 다시 확인)
+      return;
+    }
+    synchronized (candidateLock) {
+      if (candidates.computeIfPresent(postId, (key, old) -> score) != null) {
+        return;
+      }
+      if (candidates.size() < capacity) {
+        candidates.put(postId, score);
+      } else {
+        Map.Entry<Long, Long> min = null;
+        for (Map.Entry<Long, Long> entry : candidates.entrySet()) {
+          if (min == null || entry.getValue() < min.getValue()) {
+            min = entry;
+          }
+        }
+        if (min == null || score <= min.getValue()) {
+          minCandidateScore = min == null ? 0 : min.getValue();
+          return;
+        }
+        candidates.remove(min.getKey());
+        candidates.put(postId, score);
+      }
+      if (candidates.size() >= capacity) {
+        refreshMinCandidateScore();
+      }
+    }
+  }
+
+  /**
+   * 후보 최솟값 갱신 (candidateLock 안에서만 호출)
+   * 잠금 밖의 사전 확인에만 쓰이는 근사값이며, 잠금 경로를 지날 때마다 실제 최솟값으로 다시 맞춰짐
+   */
+  private void refreshMinCandidateScore() {
+    minCandidateScore = candidates.values().stream().mapToLong(Long::longValue).min().orElse(0);
+  }
+
+  /**
+   * 인기 게시글 정보
+   *
+   * @param postId        게시글 ID
+   * @param score         윈도우 내 가중 이벤트 수 (추정치)
+   * @param ratePerMinute 분당 가중 이벤트 수
+   */
+  public record HotPost(Long postId, long score, double ratePerMinute) {
+  }
+}
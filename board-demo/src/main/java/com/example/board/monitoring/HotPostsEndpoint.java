@@ -0,0 +1,36 @@
+package com.example.board.monitoring;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 인기 게시글 관리자 엔드포인트
+ * GET /actuator/hotposts?limit=10
+ * (management.endpoints.web.exposure.include 에 hotposts 추가 필요, 관리자만 접근 가능)
+ */
+@Component
+@Endpoint(id = "hotposts")
+@RequiredArgsConstructor
+public class HotPostsEndpoint {
+
+  private final HotPostTracker hotPostTracker;
+
+  @ReadOperation
+  public Map<String, Object> hotPosts(@Nullable Integer limit) {
+    Map<String, Object> result = new LinkedHashMap<>();
+    result.put("windowMillis", hotPostTracker.getWindowMillis());
+    result.put("totalEvents", hotPostTracker.getTotalEvents());
+    result.put("candidates", hotPostTracker.getCandidateCount());
+    result.put("sketch", Map.of(
+        "depth", hotPostTracker.getSketchDepth(),
+        "width", hotPostTracker.getSketchWidth()));
+    result.put("posts", hotPostTracker.topPosts(limit != null ? limit : hotPostTracker.getTopK()));
+    return result;
+  }
+}
@@ -0,0 +1,76 @@
+package com.example.board.monitoring;
+
+import com.example.board.exception.QueryBudgetExceededException;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.Map;
+
+/**
+ * 요청 단위 SQL 예산 필터
+ * 요청마다 실행된 SQL 수를 집계하여 예산 초과 및 N+1 의심 쿼리를 로그로 남김
+ * 묶음 단위 조회(QueryCountHolder.paged)는 목록 길이에 비례해 반복되는 것이 정상이므로 검사에서 제외
+ * failOnExceed가 켜져 있으면 예외를 던져 통합 테스트를 실패시킴
+ */
+@Slf4j
+public class QueryBudgetFilter extends OncePerRequestFilter {
+
+  /**
+   * 요청 종료 후 집계 결과를 담는 request attribute 이름 (테스트 검증용)
+   */
+  public static final String QUERY_COUNT_ATTRIBUTE = QueryBudgetFilter.class.getName() + ".QUERY_COUNT";
+
+  private final int maxQueries;
+  private final int nPlusOneThreshold;
+  private final boolean failOnExceed;
+
+  public QueryBudgetFilter(int maxQueries, int nPlusOneThreshold, boolean failOnExceed) {
+    this.maxQueries = maxQueries;
+    this.nPlusOneThreshold = nPlusOneThreshold;
+    this.failOnExceed = failOnExceed;
+  }
+
+  @Override
+  protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+      throws ServletException, IOException {
+    QueryCount queryCount = QueryCountHolder.start();
+    try {
+      filterChain.doFilter(request, response);
+    } finally {
+      QueryCountHolder.clear();
+      request.setAttribute(QUERY_COUNT_ATTRIBUTE, queryCount);
+    }
+    checkBudget(request, queryCount);
+  }
+
+  /**
+   * 예산 초과 및 N+1 의심 쿼리 검사
+   */
+  private void checkBudget(HttpServletRequest request, QueryCount queryCount) {
+    String endpoint = request.getMethod() + " " + request.getRequestURI();
+    log.debug("SQL 집계 - {}: {}", endpoint, queryCount);
+
+    boolean violated = false;
+
+    if (queryCount.getBudgeted() > maxQueries) {
+      log.warn("SQL 예산 초과 - {}: {}회 실행 (예산 {}회)", endpoint, queryCount.getBudgeted(), maxQueries);
+      violated = true;
+    }
+
+    Map<String, Integer> repeated = queryCount.getRepeatedStatements(nPlusOneThreshold);
+    for (Map.Entry<String, Integer> entry : repeated.entrySet()) {
+      log.warn("N+1 의심 쿼리 - {}: {}회 반복 실행 [{}]", endpoint, entry.getValue(), entry.getKey());
+      violated = true;
+    }
+
+    if (violated && failOnExceed) {
+      throw new QueryBudgetExceededException(
+          "SQL 예산 위반 - " + endpoint + ": " + queryCount + ", 반복 쿼리 " + repeated.size() + "건");
+    }
+  }
+}
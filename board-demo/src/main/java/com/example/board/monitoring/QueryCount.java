@@ -0,0 +1,116 @@
+package com.example.board.monitoring;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 요청 단위 SQL 실행 집계
+ * 하나의 HTTP 요청 동안 실행된 SQL 문장 수와 문장별 반복 횟수를 기록
+ * 요청 처리 중 병렬 조회 스레드에서도 함께 기록될 수 있으므로 기록/조회를 동기화
+ *
+ * 묶음 단위 조회(QueryCountHolder.paged)에서 실행된 SQL은 전체 횟수에는 포함하되
+ * 예산과 N+1 검사 대상에서는 제외 (커서만 바꿔 같은 문장을 반복하는 것이 정상인 조회)
+ */
+public class QueryCount {
+
+  private int select;
+  private int insert;
+  private int update;
+  private int delete;
+  private int other;
+  private int paged;
+
+  // 동일 SQL 문장(파라미터 바인딩 전) 별 실행 횟수 - N+1 탐지용
+  private final Map<String, Integer> statements = new LinkedHashMap<>();
+
+  /**
+   * SQL 실행 기록
+   *
+   * @param sql   실행된 SQL 문장
+   * @param paged 묶음 단위 조회에서 실행되었는지 여부
+   */
+  synchronized void record(String sql, boolean paged) {
+    String normalized = sql.trim();
+    String prefix = normalized.length() > 6 ? normalized.substring(0, 6).toLowerCase() : normalized.toLowerCase();
+
+    switch (prefix) {
+      case "select" -> select++;
+      case "insert" -> insert++;
+      case "update" -> update++;
+      case "delete" -> delete++;
+      default -> {
+        // with ... select 등 CTE 구문은 조회로 취급
+        if (prefix.startsWith("with")) {
+          select++;
+        } else {
+          other++;
+        }
+      }
+    }
+    if (paged) {
+      this.paged++;
+    } else {
+      statements.merge(normalized, 1, Integer::sum);
+    }
+  }
+
+  /**
+   * 전체 SQL 실행 횟수
+   */
+  public synchronized int getTotal() {
+    return select + insert + update + delete + other;
+  }
+
+  /**
+   * 예산 검사 대상 SQL 실행 횟수 (묶음 단위 조회 제외)
+   */
+  public synchronized int getBudgeted() {
+    return getTotal() - paged;
+  }
+
+  /**
+   * 묶음 단위 조회에서 실행된 SQL 횟수
+   */
+  public synchronized int getPaged() {
+    return paged;
+  }
+
+  public synchronized int getSelect() {
+    return select;
+  }
+
+  public synchronized int getInsert() {
+    return insert;
+  }
+
+  public synchronized int getUpdate() {
+    return update;
+  }
+
+  public synchronized int getDelete() {
+    return delete;
+  }
+
+  /**
+   * 임계치 이상 반복 실행된 SQL 문장 조회 (N+1 의심 쿼리)
+   *
+   * @param threshold 반복 횟수 임계치
+   * @return SQL 문장과 실행 횟수
+   */
+  public synchronized Map<String, Integer> getRepeatedStatements(int threshold) {
+    Map<String, Integer> repeated = new LinkedHashMap<>();
+    statements.forEach((sql, count) -> {
+      if (count >= threshold) {
+        repeated.put(sql, count);
+      }
+    });
+    return Collections.unmodifiableMap(repeated);
+  }
+
+  @Override
+  public synchronized String toString() {
+    return "total=" + getTotal() + ", select=" + select + ", insert=" + insert
+        + ", update=" + update + ", delete=" + delete + ", paged=" + paged;
+  }
+}
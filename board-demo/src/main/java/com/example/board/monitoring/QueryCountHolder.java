@@ -0,0 +1,87 @@
+package com.example.board.monitoring;
+
+import java.util.function.Supplier;
+
+/**
+ * 현재 스레드(요청)의 SQL 집계를 보관하는 홀더
+ * QueryBudgetFilter가 요청 시작 시 집계를 시작하고 종료 시 정리함
+ */
+public final class QueryCountHolder {
+
+  private static final ThreadLocal<QueryCount> CURRENT = new ThreadLocal<>();
+  private static final ThreadLocal<Boolean> PAGED = new ThreadLocal<>();
+
+  private QueryCountHolder() {
+  }
+
+  /**
+   * 현재 스레드에서 새 집계 시작
+   *
+   * @return 새로 시작된 집계
+   */
+  public static QueryCount start() {
+    QueryCount queryCount = new QueryCount();
+    CURRENT.set(queryCount);
+    return queryCount;
+  }
+
+  /**
+   * 현재 스레드의 집계 조회
+   *
+   * @return 진행 중인 집계 (요청 밖이면 null)
+   */
+  public static QueryCount current() {
+    return CURRENT.get();
+  }
+
+  /**
+   * 다른 스레드에서 시작된 집계를 현재 스레드에 연결 (병렬 조회 작업용)
+   *
+   * @param queryCount 연결할 집계 (null이면 해제)
+   */
+  static void attach(QueryCount queryCount) {
+    if (queryCount != null) {
+      CURRENT.set(queryCount);
+    } else {
+      CURRENT.remove();
+    }
+  }
+
+  /**
+   * 묶음 단위 조회 실행
+   * 목록 스트리밍처럼 커서만 바꿔 같은 문장을 반복하는 조회를 감싸, 예산과 N+1 검사에서 제외함
+   *
+   * @param query 묶음 하나를 조회하는 작업
+   * @return 조회 결과
+   */
+  public static <T> T paged(Supplier<T> query) {
+    boolean outermost = PAGED.get() == null;
+    PAGED.set(Boolean.TRUE);
+    try {
+      return query.get();
+    } finally {
+      if (outermost) {
+        PAGED.remove();
+      }
+    }
+  }
+
+  /**
+   * 현재 스레드의 집계 종료
+   */
+  public static void clear() {
+    CURRENT.remove();
+  }
+
+  /**
+   * SQL 실행 기록 (집계 중이 아니면 무시)
+   *
+   * @param sql 실행된 SQL 문장
+   */
+  static void record(String sql) {
+    QueryCount queryCount = CURRENT.get();
+    if (queryCount != null && sql != null) {
+      queryCount.record(sql, PAGED.get() != null);
+    }
+  }
+}
@@ -0,0 +1,17 @@
+package com.example.board.monitoring;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+/**
+ * Hibernate StatementInspector 구현체
+ * Hibernate가 JDBC로 보내는 모든 SQL을 가로채 현재 요청의 집계에 기록
+ * SQL 자체는 변경하지 않음
+ */
+public class QueryCountInspector implements StatementInspector {
+
+  @Override
+  public String inspect(String sql) {
+    QueryCountHolder.record(sql);
+    return sql;
+  }
+}
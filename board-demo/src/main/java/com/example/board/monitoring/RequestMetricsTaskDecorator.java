@@ -0,0 +1,30 @@
+package com.example.board.monitoring;
+
+import org.springframework.core.task.TaskDecorator;
+
+/**
+ * 요청 집계 전파 TaskDecorator
+ * 요청 스레드의 SQL 집계와 커넥션 사용량 집계를 작업 스레드로 전달하여,
+ * 병렬로 실행된 조회도 원래 요청의 SQL 예산/커넥션 점유 메트릭에 포함되도록 함
+ */
+public class RequestMetricsTaskDecorator implements TaskDecorator {
+
+  @Override
+  public Runnable decorate(Runnable runnable) {
+    QueryCount queryCount = QueryCountHolder.current();
+    ConnectionUsage usage = ConnectionUsageHolder.current();
+    return () -> {
+      QueryCount previousQueryCount = QueryCountHolder.current();
+      ConnectionUsage previousUsage = ConnectionUsageHolder.current();
+      QueryCountHolder.attach(queryCount);
+      ConnectionUsageHolder.attach(usage);
+      try {
+        runnable.run();
+      } finally {
+        // CallerRunsPolicy로 요청 스레드에서 직접 실행된 경우에도 원래 상태로 복원
+        QueryCountHolder.attach(previousQueryCount);
+        ConnectionUsageHolder.attach(previousUsage);
+      }
+    };
+  }
+}
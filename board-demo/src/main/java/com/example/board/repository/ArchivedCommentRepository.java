@@ -0,0 +1,33 @@
+package com.example.board.repository;
+
+import com.example.board.domain.ArchivedComment;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+/**
+ * 보관된 댓글 Repository
+ */
+@Repository
+public interface ArchivedCommentRepository extends JpaRepository<ArchivedComment, Long> {
+
+    /**
+     * 보관된 게시글의 모든 댓글을 ID(작성) 순으로 조회
+     * 부모 댓글이 항상 대댓글보다 먼저 나오므로 순서대로 트리를 조립할 수 있음
+     * @param postId 게시글 ID
+     * @return 댓글 목록 (작성순)
+     */
+    @Query("SELECT c FROM ArchivedComment c WHERE c.postId = :postId ORDER BY c.id ASC")
+    List<ArchivedComment> findByPostIdOrderByIdAsc(@Param("postId") Long postId);
+
+    /**
+     * 보관된 게시글의 댓글 개수 조회
+     * @param postId 게시글 ID
+     * @return 댓글 개수 (대댓글 포함)
+     */
+    @Query("SELECT COUNT(c) FROM ArchivedComment c WHERE c.postId = :postId")
+    Long countByPostId(@Param("postId") Long postId);
+}
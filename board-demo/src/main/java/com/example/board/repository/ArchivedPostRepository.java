@@ -0,0 +1,12 @@
+package com.example.board.repository;
+
+import com.example.board.domain.ArchivedPost;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+/**
+ * 보관된 게시글 Repository
+ */
+@Repository
+public interface ArchivedPostRepository extends JpaRepository<ArchivedPost, Long> {
+}
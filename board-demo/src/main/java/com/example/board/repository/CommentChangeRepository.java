@@ -0,0 +1,27 @@
+package com.example.board.repository;
+
+import com.example.board.domain.CommentChange;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+/**
+ * 댓글 변경 기록 Repository
+ */
+@Repository
+public interface CommentChangeRepository extends JpaRepository<CommentChange, Long> {
+
+    /**
+     * 워터마크 이후의 변경 기록 조회 (순번 오름차순)
+     * @param postId 게시글 ID
+     * @param since 클라이언트가 마지막으로 반영한 변경 순번
+     * @param pageable 조회 개수 (offset 없이 크기만 사용)
+     * @return 변경 기록 목록
+     */
+    @Query("SELECT c FROM CommentChange c WHERE c.postId = :postId AND c.seq > :since ORDER BY c.seq ASC")
+    List<CommentChange> findChangesSince(@Param("postId") Long postId, @Param("since") long since, Pageable pageable);
+}
@@ -1,12 +1,17 @@
 package com.example.board.repository;
 
 import com.example.board.domain.Comment;
+import com.example.board.dto.CommentViewDto;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
 
 /**
  * 댓글 Repository
@@ -41,6 +46,49 @@ public interface CommentRepository extends JpaRepository<Comment, Long> {
     @Query("SELECT c FROM Comment c WHERE c.parent.id = :parentId ORDER BY c.createdAt ASC")
     List<Comment> findRepliesByParentId(@Param("parentId") Long parentId);
 
+    /**
+     * 특정 게시글의 모든 댓글을 DTO로 조회 (엔티티를 만들지 않는 프로젝션, 생성일시 순)
+     * @param postId 게시글 ID
+     * @return 댓글 DTO 목록 (children은 비어 있음, CommentViewDto.assembleTree로 조립)
+     */
+    @Query("SELECT new com.example.board.dto.CommentViewDto(c.id, c.content, c.author, c.post.id, p.id, c.createdAt, c.updatedAt) "
+            + "FROM Comment c LEFT JOIN c.parent p WHERE c.post.id = :postId ORDER BY c.createdAt ASC")
+    List<CommentViewDto> findViewsByPostId(@Param("postId") Long postId);
+
+    /**
+     * 여러 댓글을 DTO로 조회 (증분 동기화에서 변경된 댓글의 현재 상태 조회용)
+     * @param ids 댓글 ID 목록
+     * @return 댓글 DTO 목록 (children은 비어 있음)
+     */
+    @Query("SELECT new com.example.board.dto.CommentViewDto(c.id, c.content, c.author, c.post.id, p.id, c.createdAt, c.updatedAt) "
+            + "FROM Comment c LEFT JOIN c.parent p WHERE c.id IN :ids")
+    List<CommentViewDto> findViewsByIds(@Param("ids") List<Long> ids);
+
+    /**
+     * 댓글이 속한 게시글 ID 조회
+     * @param commentId 댓글 ID
+     * @return 게시글 ID (댓글이 없으면 empty)
+     */
+    @Query("SELECT c.post.id FROM Comment c WHERE c.id = :commentId")
+    Optional<Long> findPostIdById(@Param("commentId") Long commentId);
+
+    /**
+     * 여러 부모 댓글의 바로 아래 대댓글 ID 조회 (삭제할 하위 댓글을 한 단계씩 모을 때 사용)
+     * @param parentIds 부모 댓글 ID 목록
+     * @return 대댓글 ID 목록
+     */
+    @Query("SELECT c.id FROM Comment c WHERE c.parent.id IN :parentIds")
+    List<Long> findReplyIds(@Param("parentIds") List<Long> parentIds);
+
+    /**
+     * 최근 댓글이 많이 달린 게시글 ID 조회 (시작 시 캐시 예열 대상 선정용)
+     * @param since 이 시각 이후의 댓글만 집계
+     * @param pageable 조회할 게시글 수 (offset 없이 크기만 사용)
+     * @return 게시글 ID 목록 (댓글 수 내림차순)
+     */
+    @Query("SELECT c.post.id FROM Comment c WHERE c.createdAt >= :since GROUP BY c.post.id ORDER BY COUNT(c) DESC")
+    List<Long> findMostCommentedPostIds(@Param("since") LocalDateTime since, Pageable pageable);
+
     /**
      * 특정 게시글의 댓글 개수 조회
      * @param postId 게시글 ID
@@ -50,11 +98,12 @@ public interface CommentRepository extends JpaRepository<Comment, Long> {
     Long countByPostId(@Param("postId") Long postId);
 
     /**
-     * 특정 작성자의 댓글 목록 조회
+     * 특정 작성자의 댓글 목록 조회 (삭제 처리 중인 게시글의 댓글 제외)
      * @param author 작성자명
      * @return 해당 작성자의 댓글 목록
      */
-    List<Comment> findByAuthorOrderByCreatedAtDesc(String author);
+    @Query("SELECT c FROM Comment c WHERE c.author = :author AND c.post.deletedAt IS NULL ORDER BY c.createdAt DESC")
+    List<Comment> findByAuthorOrderByCreatedAtDesc(@Param("author") String author);
 
     /**
      * 특정 댓글과 그 하위 댓글들을 모두 삭제하기 위한 조회
@@ -64,4 +113,42 @@ public interface CommentRepository extends JpaRepository<Comment, Long> {
      */
     @Query("SELECT c FROM Comment c WHERE c.id = :commentId OR c.parent.id = :commentId")
     List<Comment> findCommentWithReplies(@Param("commentId") Long commentId);
+
+    /**
+     * 작성자 본인의 댓글 내용 수정 (작성자 확인과 수정을 하나의 UPDATE로 처리)
+     * 벌크 연산이므로 @PreUpdate가 실행되지 않아 수정일시를 직접 전달
+     * 작성자는 로그인 아이디로 확인 (아이디가 없는 기존 댓글만 이름으로 확인)
+     * @return 수정된 행 수 (0이면 댓글이 없거나 본인 댓글이 아님)
+     */
+    @Modifying
+    @Query("UPDATE Comment c SET c.content = :content, c.updatedAt = :now "
+            + "WHERE c.id = :id "
+            + "AND (c.authorUsername = :username OR (c.authorUsername IS NULL AND c.author = :author))")
+    int updateContentIfAuthor(@Param("id") Long id, @Param("username") String username,
+                              @Param("author") String author, @Param("content") String content,
+                              @Param("now") LocalDateTime now);
+
+    /**
+     * 작성자 본인의 댓글인 경우에만 그 하위 댓글들을 삭제
+     * 부모 댓글 삭제 전에 자기 참조 FK를 지키기 위해 가장 깊은 단계부터 한 단계씩 실행
+     * @param ids 삭제할 하위 댓글 ID 목록 (같은 단계)
+     * @param rootId 삭제를 요청한 댓글 ID (작성자 확인 대상)
+     * @return 삭제된 댓글 수
+     */
+    @Modifying
+    @Query("DELETE FROM Comment r WHERE r.id IN :ids "
+            + "AND EXISTS (SELECT 1 FROM Comment c WHERE c.id = :rootId "
+            + "AND (c.authorUsername = :username OR (c.authorUsername IS NULL AND c.author = :author)))")
+    int deleteRepliesIfAuthor(@Param("ids") List<Long> ids, @Param("rootId") Long rootId,
+                              @Param("username") String username, @Param("author") String author);
+
+    /**
+     * 작성자 본인의 댓글 삭제 (작성자 확인과 삭제를 하나의 DELETE로 처리)
+     * 작성자는 로그인 아이디로 확인 (아이디가 없는 기존 댓글만 이름으로 확인)
+     * @return 삭제된 행 수 (0이면 댓글이 없거나 본인 댓글이 아님)
+     */
+    @Modifying
+    @Query("DELETE FROM Comment c WHERE c.id = :id "
+            + "AND (c.authorUsername = :username OR (c.authorUsername IS NULL AND c.author = :author))")
+    int deleteIfAuthor(@Param("id") Long id, @Param("username") String username, @Param("author") String author);
 }
@@ -0,0 +1,81 @@
+package com.example.board.repository;
+
+import com.example.board.domain.Notification;
+import com.example.board.dto.NotificationViewDto;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 알림 Repository
+ */
+@Repository
+public interface NotificationRepository extends JpaRepository<Notification, Long> {
+
+    /**
+     * 알림함 첫 페이지 (최신순)
+     * @param recipient 받는 사람
+     * @param pageable 조회 개수 (offset 없이 크기만 사용)
+     * @return 알림 목록
+     */
+    @Query("SELECT new com.example.board.dto.NotificationViewDto(n.id, n.type, n.postId, n.commentId, n.actor, n.preview, n.createdAt, n.readAt) "
+            + "FROM Notification n WHERE n.recipient = :recipient ORDER BY n.id DESC")
+    List<NotificationViewDto> findInbox(@Param("recipient") String recipient, Pageable pageable);
+
+    /**
+     * 알림함 다음 페이지 (커서: 이전 페이지 마지막 알림 ID)
+     * @param recipient 받는 사람
+     * @param beforeId 이 ID보다 오래된 알림만
+     * @param pageable 조회 개수 (offset 없이 크기만 사용)
+     * @return 알림 목록
+     */
+    @Query("SELECT new com.example.board.dto.NotificationViewDto(n.id, n.type, n.postId, n.commentId, n.actor, n.preview, n.createdAt, n.readAt) "
+            + "FROM Notification n WHERE n.recipient = :recipient AND n.id < :beforeId ORDER BY n.id DESC")
+    List<NotificationViewDto> findInboxBefore(@Param("recipient") String recipient, @Param("beforeId") Long beforeId,
+                                              Pageable pageable);
+
+    /**
+     * 본인 알림 조회
+     * @param id 알림 ID
+     * @param recipient 받는 사람
+     * @return 알림 (다른 사람의 알림이면 empty)
+     */
+    Optional<Notification> findByIdAndRecipient(Long id, String recipient);
+
+    /**
+     * 읽지 않은 알림 수
+     * @param recipient 받는 사람
+     * @return 알림 수
+     */
+    long countByRecipientAndReadAtIsNull(String recipient);
+
+    /**
+     * 알림 하나 읽음 처리
+     * @return 수정된 행 수 (이미 읽었으면 0)
+     */
+    @Modifying
+    @Query("UPDATE Notification n SET n.readAt = :now WHERE n.id = :id AND n.recipient = :recipient AND n.readAt IS NULL")
+    int markRead(@Param("id") Long id, @Param("recipient") String recipient, @Param("now") LocalDateTime now);
+
+    /**
+     * 모든 알림 읽음 처리
+     * @return 수정된 행 수
+     */
+    @Modifying
+    @Query("UPDATE Notification n SET n.readAt = :now WHERE n.recipient = :recipient AND n.readAt IS NULL")
+    int markAllRead(@Param("recipient") String recipient, @Param("now") LocalDateTime now);
+
+    /**
+     * 댓글의 알림이 이미 저장되었는지 확인 (같은 이벤트가 다시 전달된 경우 중복 저장 방지)
+     * @param commentId 댓글 ID
+     * @return 알림이 있으면 true
+     */
+    boolean existsByCommentId(Long commentId);
+}
@@ -0,0 +1,87 @@
+package com.example.board.repository;
+
+import com.example.board.domain.OutboxEvent;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 아웃박스 이벤트 Repository
+ */
+@Repository
+public interface OutboxEventRepository extends JpaRepository<OutboxEvent, Long> {
+
+    /**
+     * 전달 대기 중인 이벤트 (기록 순서, 재시도 대기 중인 이벤트 포함)
+     * @param afterId  이 ID 이후부터 조회 (처음이면 0)
+     * @param pageable 조회 개수 (offset 없이 크기만 사용)
+     * @return 이벤트 목록
+     */
+    @Query("SELECT e FROM OutboxEvent e WHERE e.dispatchedAt IS NULL AND e.deadAt IS NULL AND e.id > :afterId "
+            + "ORDER BY e.id ASC")
+    List<OutboxEvent> findPendingAfter(@Param("afterId") Long afterId, Pageable pageable);
+
+    /**
+     * 전달 대기 중인 이벤트 수
+     */
+    @Query("SELECT COUNT(e) FROM OutboxEvent e WHERE e.dispatchedAt IS NULL AND e.deadAt IS NULL")
+    long countPending();
+
+    /**
+     * 가장 오래된 전달 대기 이벤트의 기록 시각
+     */
+    @Query("SELECT MIN(e.createdAt) FROM OutboxEvent e WHERE e.dispatchedAt IS NULL AND e.deadAt IS NULL")
+    Optional<LocalDateTime> findOldestPendingCreatedAt();
+
+    /**
+     * 전달 완료 표시
+     * @param ids 이벤트 ID 목록
+     * @param now 전달 시각
+     * @return 수정된 행 수
+     */
+    @Modifying
+    @Query("UPDATE OutboxEvent e SET e.dispatchedAt = :now WHERE e.id IN :ids")
+    int markDispatched(@Param("ids") List<Long> ids, @Param("now") LocalDateTime now);
+
+    /**
+     * 전달 실패 기록 (next_attempt_at 이후 재시도)
+     */
+    @Modifying
+    @Query("UPDATE OutboxEvent e SET e.attempts = :attempts, e.nextAttemptAt = :nextAttemptAt, e.lastError = :error "
+            + "WHERE e.id = :id")
+    int recordFailure(@Param("id") Long id, @Param("attempts") int attempts,
+                      @Param("nextAttemptAt") LocalDateTime nextAttemptAt, @Param("error") String error);
+
+    /**
+     * 재시도 포기 표시
+     */
+    @Modifying
+    @Query("UPDATE OutboxEvent e SET e.attempts = :attempts, e.deadAt = :now, e.lastError = :error WHERE e.id = :id")
+    int markDead(@Param("id") Long id, @Param("attempts") int attempts,
+                 @Param("now") LocalDateTime now, @Param("error") String error);
+
+    /**
+     * 보관 기간이 지난 전달 완료 이벤트 삭제
+     * @param cutoff 이 시각 이전에 전달된 이벤트
+     * @return 삭제된 행 수
+     */
+    @Modifying
+    @Query("DELETE FROM OutboxEvent e WHERE e.dispatchedAt < :cutoff")
+    int deleteDispatchedBefore(@Param("cutoff") LocalDateTime cutoff);
+
+    /**
+     * 보관 기간이 지난 포기 이벤트 삭제
+     * @param cutoff 이 시각 이전에 포기한 이벤트
+     * @return 삭제된 행 수
+     */
+    @Modifying
+    @Query("DELETE FROM OutboxEvent e WHERE e.deadAt < :cutoff")
+    int deleteDeadBefore(@Param("cutoff") LocalDateTime cutoff);
+}
@@ -1,11 +1,20 @@
 package com.example.board.repository;
 
 import com.example.board.domain.Post;
+import com.example.board.dto.PostSummaryDto;
+import com.example.board.dto.PostViewDto;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
 
 /**
  * 게시글 Repository
@@ -21,6 +30,80 @@ public interface PostRepository extends JpaRepository<Post, Long> {
     @Query("SELECT p FROM Post p ORDER BY p.createdAt DESC")
     List<Post> findAllByOrderByCreatedAtDesc();
 
+    /**
+     * 최신 게시글부터 한 묶음 조회 (목록 스트리밍의 첫 묶음)
+     * @param pageable 묶음 크기 (offset 없이 크기만 사용)
+     * @return 게시글 목록 (최신순)
+     */
+    @Query("SELECT p FROM Post p ORDER BY p.createdAt DESC, p.id DESC")
+    List<Post> findLatest(Pageable pageable);
+
+    /**
+     * 커서(마지막으로 읽은 게시글) 이후의 게시글을 한 묶음 조회 (키셋 페이지네이션)
+     * offset을 쓰지 않으므로 목록 뒤쪽으로 갈수록 느려지지 않음
+     * @param createdAt 커서 게시글의 생성일시
+     * @param id 커서 게시글 ID (생성일시가 같은 게시글 구분용)
+     * @param pageable 묶음 크기 (offset 없이 크기만 사용)
+     * @return 게시글 목록 (최신순)
+     */
+    @Query("SELECT p FROM Post p WHERE p.createdAt < :createdAt OR (p.createdAt = :createdAt AND p.id < :id) "
+            + "ORDER BY p.createdAt DESC, p.id DESC")
+    List<Post> findLatestBefore(@Param("createdAt") LocalDateTime createdAt, @Param("id") Long id, Pageable pageable);
+
+    /**
+     * 커서 이후의 게시글 요약 조회 (API 목록용, 본문 제외 프로젝션)
+     * @param createdAt 커서 게시글의 생성일시
+     * @param id 커서 게시글 ID
+     * @param pageable 조회 개수 (offset 없이 크기만 사용)
+     * @return 게시글 요약 목록 (최신순)
+     */
+    @Query("SELECT new com.example.board.dto.PostSummaryDto(p.id, p.title, p.author, p.imagePath, p.createdAt, p.updatedAt) "
+            + "FROM Post p WHERE p.createdAt < :createdAt OR (p.createdAt = :createdAt AND p.id < :id) "
+            + "ORDER BY p.createdAt DESC, p.id DESC")
+    List<PostSummaryDto> findSummariesBefore(@Param("createdAt") LocalDateTime createdAt, @Param("id") Long id,
+            Pageable pageable);
+
+    /**
+     * 제목으로 검색한 게시글 요약 조회 (API 검색용, 본문 제외 프로젝션)
+     * @param keyword 검색어 (LIKE 특수문자는 역슬래시로 이스케이프된 값)
+     * @param createdAt 커서 게시글의 생성일시
+     * @param id 커서 게시글 ID
+     * @param pageable 조회 개수 (offset 없이 크기만 사용)
+     * @return 게시글 요약 목록 (최신순)
+     */
+    @Query("SELECT new com.example.board.dto.PostSummaryDto(p.id, p.title, p.author, p.imagePath, p.createdAt, p.updatedAt) "
+            + "FROM Post p WHERE LOWER(p.title) LIKE LOWER(CONCAT('%', :keyword, '%')) ESCAPE '\\' "
+            + "AND (p.createdAt < :createdAt OR (p.createdAt = :createdAt AND p.id < :id)) "
+            + "ORDER BY p.createdAt DESC, p.id DESC")
+    List<PostSummaryDto> searchSummariesBefore(@Param("keyword") String keyword,
+            @Param("createdAt") LocalDateTime createdAt, @Param("id") Long id, Pageable pageable);
+
+    /**
+     * 게시글 상세 조회 (화면/API 공용 프로젝션, 엔티티를 만들지 않음)
+     * @param id 게시글 ID
+     * @return 게시글 DTO
+     */
+    @Query("SELECT new com.example.board.dto.PostViewDto(p.id, p.title, p.content, p.author, p.imagePath, p.createdAt, p.updatedAt) "
+            + "FROM Post p WHERE p.id = :id")
+    Optional<PostViewDto> findViewById(@Param("id") Long id);
+
+    /**
+     * 게시글의 현재 댓글 변경 순번 조회 (댓글 증분 동기화 워터마크)
+     * @param id 게시글 ID
+     * @return 변경 순번 (삭제/보관된 게시글이면 empty)
+     */
+    @Query("SELECT p.changeSeq FROM Post p WHERE p.id = :id")
+    Optional<Long> findChangeSeq(@Param("id") Long id);
+
+    /**
+     * 댓글 변경 순번 갱신 (findByIdForUpdate로 게시글 행을 잠근 트랜잭션에서만 호출)
+     * @param id 게시글 ID
+     * @param changeSeq 새 변경 순번
+     */
+    @Modifying
+    @Query("UPDATE Post p SET p.changeSeq = :changeSeq WHERE p.id = :id")
+    void updateChangeSeq(@Param("id") Long id, @Param("changeSeq") long changeSeq);
+
     /**
      * 제목으로 게시글 검색 (부분 일치, 대소문자 무시)
      * @param title 검색할 제목
@@ -34,6 +117,58 @@ public interface PostRepository extends JpaRepository<Post, Long> {
      * @return 해당 작성자의 게시글 목록
      */
     List<Post> findByAuthor(String author);
+
+    /**
+     * 게시글을 쓰기 잠금(SELECT ... FOR UPDATE)으로 조회
+     * 같은 게시글에 대한 동시 수정을 직렬화할 때 사용
+     * @param id 게시글 ID
+     * @return 게시글 (Optional)
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT p FROM Post p WHERE p.id = :id")
+    Optional<Post> findByIdForUpdate(@Param("id") Long id);
+
+    /**
+     * 작성자 본인의 게시글을 쓰기 잠금으로 조회
+     * 작성자 확인과 잠금을 한 번의 조회로 처리
+     * @param id 게시글 ID
+     * @param username 요청한 사용자 로그인 아이디
+     * @param author   요청한 사용자 이름 (작성자 아이디가 없는 기존 게시글에만 사용)
+     * @return 게시글 (본인 게시글이 아니거나 없으면 empty)
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT p FROM Post p WHERE p.id = :id "
+            + "AND (p.authorUsername = :username OR (p.authorUsername IS NULL AND p.author = :author))")
+    Optional<Post> findByIdAndAuthorForUpdate(@Param("id") Long id, @Param("username") String username,
+                                              @Param("author") String author);
+
+    /**
+     * 작성자 본인의 게시글 제목/내용 수정 (작성자 확인과 수정을 하나의 UPDATE로 처리)
+     * 벌크 연산이므로 @PreUpdate가 실행되지 않아 수정일시를 직접 전달
+     * 작성자는 로그인 아이디로 확인 (아이디가 없는 기존 게시글만 이름으로 확인)
+     * @return 수정된 행 수 (0이면 게시글이 없거나 본인 게시글이 아님)
+     */
+    @Modifying
+    @Query("UPDATE Post p SET p.title = :title, p.content = :content, p.updatedAt = :now "
+            + "WHERE p.id = :id "
+            + "AND (p.authorUsername = :username OR (p.authorUsername IS NULL AND p.author = :author)) "
+            + "AND p.deletedAt IS NULL")
+    int updateIfAuthor(@Param("id") Long id, @Param("username") String username, @Param("author") String author,
+                       @Param("title") String title, @Param("content") String content,
+                       @Param("now") LocalDateTime now);
+
+    /**
+     * 작성자 본인의 게시글 삭제 표시 (작성자 확인과 삭제 표시를 하나의 UPDATE로 처리)
+     * 작성자는 로그인 아이디로 확인 (아이디가 없는 기존 게시글만 이름으로 확인)
+     * @return 삭제 표시된 행 수 (0이면 게시글이 없거나 본인 게시글이 아님)
+     */
+    @Modifying
+    @Query("UPDATE Post p SET p.deletedAt = :now "
+            + "WHERE p.id = :id "
+            + "AND (p.authorUsername = :username OR (p.authorUsername IS NULL AND p.author = :author)) "
+            + "AND p.deletedAt IS NULL")
+    int markDeletedIfAuthor(@Param("id") Long id, @Param("username") String username,
+                            @Param("author") String author, @Param("now") LocalDateTime now);
 }
 
 
@@ -0,0 +1,213 @@
+package com.example.board.resilience;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.CallableStatement;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.SQLTimeoutException;
+import java.sql.SQLTransientConnectionException;
+import java.sql.Statement;
+
+/**
+ * 서킷 브레이커가 적용된 DataSource
+ * 커넥션 한 번의 대여(획득 ~ 반납)를 서킷 브레이커의 호출 한 번으로 기록하고, OPEN 상태에서는 커넥션 풀 대기 없이 즉시 실패시킴
+ * 트랜잭션 시작, 리포지토리 조회 등 모든 DB 접근이 커넥션 획득을 거치므로 한 곳에서 차단 가능
+ *
+ * 다음 중 하나라도 발생한 대여는 실패로 기록 (연결은 되지만 느린 DB도 차단하기 위함)
+ * - 커넥션 획득 실패
+ * - SQL 실행 시간 초과(SQLTimeoutException, SQLState 57014)
+ * - SQL 실행 또는 연결 확인(isValid)이 db.circuit.slow-call-ms 이상 걸림
+ * - 연결 확인(isValid) 실패
+ */
+public class CircuitBreakingDataSource extends DelegatingDataSource {
+
+  // 문장 취소(쿼리 시간 초과) SQLState - PostgreSQL, H2 공통
+  private static final String QUERY_CANCELED_STATE = "57014";
+
+  private final ObjectProvider<DatabaseCircuitBreaker> circuitBreakerProvider;
+  private volatile DatabaseCircuitBreaker circuitBreaker;
+
+  public CircuitBreakingDataSource(DataSource targetDataSource,
+      ObjectProvider<DatabaseCircuitBreaker> circuitBreakerProvider) {
+    super(targetDataSource);
+    this.circuitBreakerProvider = circuitBreakerProvider;
+  }
+
+  @Override
+  public Connection getConnection() throws SQLException {
+    DatabaseCircuitBreaker breaker = circuitBreaker();
+    if (!breaker.allowRequest()) {
+      throw new SQLTransientConnectionException("DB 서킷 브레이커가 열려 있어 연결을 시도하지 않습니다.");
+    }
+    try {
+      return guard(super.getConnection(), breaker);
+    } catch (SQLException e) {
+      breaker.recordFailure();
+      throw e;
+    }
+  }
+
+  @Override
+  public Connection getConnection(String username, String password) throws SQLException {
+    DatabaseCircuitBreaker breaker = circuitBreaker();
+    if (!breaker.allowRequest()) {
+      throw new SQLTransientConnectionException("DB 서킷 브레이커가 열려 있어 연결을 시도하지 않습니다.");
+    }
+    try {
+      return guard(super.getConnection(username, password), breaker);
+    } catch (SQLException e) {
+      breaker.recordFailure();
+      throw e;
+    }
+  }
+
+  private Connection guard(Connection connection, DatabaseCircuitBreaker breaker) {
+    return (Connection) Proxy.newProxyInstance(getClass().getClassLoader(), new Class<?>[]{Connection.class},
+        new ConnectionHandler(connection, breaker));
+  }
+
+  /**
+   * 서킷 브레이커 지연 조회 (DataSource 생성 시점의 순환 의존 방지)
+   */
+  private DatabaseCircuitBreaker circuitBreaker() {
+    DatabaseCircuitBreaker breaker = circuitBreaker;
+    if (breaker == null) {
+      breaker = circuitBreakerProvider.getObject();
+      circuitBreaker = breaker;
+    }
+    return breaker;
+  }
+
+  private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+    try {
+      return method.invoke(target, args);
+    } catch (InvocationTargetException e) {
+      throw e.getTargetException();
+    }
+  }
+
+  private static boolean isTimeout(Throwable e) {
+    return e instanceof SQLTimeoutException
+        || (e instanceof SQLException sqlException && QUERY_CANCELED_STATE.equals(sqlException.getSQLState()));
+  }
+
+  /**
+   * 커넥션 프록시: 대여 중 실패/지연 여부를 모아 두었다가 close 시 한 번 기록
+   * 커넥션은 한 스레드에서만 사용되므로 상태는 동기화하지 않음
+   */
+  private static final class ConnectionHandler implements InvocationHandler {
+
+    private final Connection target;
+    private final DatabaseCircuitBreaker breaker;
+    private boolean failed;
+    private boolean recorded;
+
+    ConnectionHandler(Connection target, DatabaseCircuitBreaker breaker) {
+      this.target = target;
+      this.breaker = breaker;
+    }
+
+    @Override
+    public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+      switch (method.getName()) {
+        case "equals":
+          return proxy == args[0];
+        case "hashCode":
+          return System.identityHashCode(proxy);
+        case "close":
+          try {
+            return CircuitBreakingDataSource.invoke(target, method, args);
+          } finally {
+            record();
+          }
+        case "isValid":
+          Object valid = observe(target, method, args, System.nanoTime());
+          if (!Boolean.TRUE.equals(valid)) {
+            failed = true;
+          }
+          return valid;
+        default:
+          Object result = CircuitBreakingDataSource.invoke(target, method, args);
+          if (result instanceof Statement statement) {
+            return wrapStatement(statement);
+          }
+          return result;
+      }
+    }
+
+    /**
+     * 호출 시간을 재고, 시간 초과 예외나 느린 호출이면 이번 대여를 실패로 표시
+     */
+    private Object observe(Object invocationTarget, Method method, Object[] args, long start) throws Throwable {
+      try {
+        return CircuitBreakingDataSource.invoke(invocationTarget, method, args);
+      } catch (Throwable e) {
+        if (isTimeout(e)) {
+          failed = true;
+        }
+        throw e;
+      } finally {
+        if (breaker.isSlowCall(System.nanoTime() - start)) {
+          failed = true;
+        }
+      }
+    }
+
+    private void record() {
+      if (recorded) {
+        return;
+      }
+      recorded = true;
+      if (failed) {
+        breaker.recordFailure();
+      } else {
+        breaker.recordSuccess();
+      }
+    }
+
+    private Statement wrapStatement(Statement statement) throws SQLException {
+      breaker.applyStatementTimeout(statement);
+      Class<?> type = statement instanceof CallableStatement ? CallableStatement.class
+          : statement instanceof PreparedStatement ? PreparedStatement.class : Statement.class;
+      return (Statement) Proxy.newProxyInstance(CircuitBreakingDataSource.class.getClassLoader(),
+          new Class<?>[]{type}, new StatementHandler(statement, this));
+    }
+  }
+
+  /**
+   * Statement 프록시: execute* 호출의 시간 초과/지연을 커넥션 단위로 모음
+   */
+  private static final class StatementHandler implements InvocationHandler {
+
+    private final Statement target;
+    private final ConnectionHandler connection;
+
+    StatementHandler(Statement target, ConnectionHandler connection) {
+      this.target = target;
+      this.connection = connection;
+    }
+
+    @Override
+    public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+      String name = method.getName();
+      if ("equals".equals(name)) {
+        return proxy == args[0];
+      }
+      if ("hashCode".equals(name)) {
+        return System.identityHashCode(proxy);
+      }
+      if (!name.startsWith("execute")) {
+        return CircuitBreakingDataSource.invoke(target, method, args);
+      }
+      return connection.observe(target, method, args, System.nanoTime());
+    }
+  }
+}
@@ -0,0 +1,137 @@
+package com.example.board.resilience;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * 데이터베이스 서킷 브레이커
+ * DB 접근 실패(연결 실패, SQL 시간 초과, 느린 SQL)가 연속으로 발생하면 OPEN 상태로 전환하여 이후 요청을 즉시 실패시키고(읽기 전용 모드),
+ * 일정 시간이 지나면 HALF_OPEN 상태에서 한 번의 시도로 복구 여부를 확인
+ * 실패 판정은 CircuitBreakingDataSource가 커넥션 대여 단위로 수행
+ *
+ * 상태는 board.db.circuit.state 게이지로 노출 (0=CLOSED, 1=HALF_OPEN, 2=OPEN)
+ */
+@Component
+@Slf4j
+public class DatabaseCircuitBreaker {
+
+  public enum State {
+    CLOSED, HALF_OPEN, OPEN
+  }
+
+  private final int failureThreshold;
+  private final long openDurationMillis;
+  private final long slowCallNanos;
+  private final int statementTimeoutSeconds;
+
+  private final AtomicReference<State> state = new AtomicReference<>(State.CLOSED);
+  private final AtomicInteger consecutiveFailures = new AtomicInteger();
+  private final AtomicBoolean trialInFlight = new AtomicBoolean();
+  private volatile long openedAtMillis;
+
+  public DatabaseCircuitBreaker(@Value("${db.circuit.failure-threshold:5}") int failureThreshold,
+      @Value("${db.circuit.open-duration-ms:30000}") long openDurationMillis,
+      @Value("${db.circuit.slow-call-ms:2000}") long slowCallMillis,
+      @Value("${db.circuit.statement-timeout-s:0}") int statementTimeoutSeconds,
+      MeterRegistry meterRegistry) {
+    this.failureThreshold = failureThreshold;
+    this.openDurationMillis = openDurationMillis;
+    this.slowCallNanos = TimeUnit.MILLISECONDS.toNanos(slowCallMillis);
+    this.statementTimeoutSeconds = statementTimeoutSeconds;
+
+    Gauge.builder("board.db.circuit.state", state, current -> current.get() == State.CLOSED ? 0
+            : current.get() == State.HALF_OPEN ? 1 : 2)
+        .description("DB 서킷 브레이커 상태 (0=CLOSED, 1=HALF_OPEN, 2=OPEN)")
+        .register(meterRegistry);
+  }
+
+  /**
+   * DB 접근 허용 여부
+   * OPEN 상태에서 대기 시간이 지나면 HALF_OPEN으로 전환하고 한 번의 시도만 허용
+   *
+   * @return 접근 허용 시 true
+   */
+  public boolean allowRequest() {
+    State current = state.get();
+    if (current == State.CLOSED) {
+      return true;
+    }
+    if (current == State.OPEN && System.currentTimeMillis() - openedAtMillis >= openDurationMillis) {
+      if (state.compareAndSet(State.OPEN, State.HALF_OPEN)) {
+        log.info("DB 서킷 브레이커 HALF_OPEN - 복구 여부 확인");
+      }
+    }
+    return state.get() == State.HALF_OPEN && trialInFlight.compareAndSet(false, true);
+  }
+
+  /**
+   * DB 접근 성공 기록
+   */
+  public void recordSuccess() {
+    consecutiveFailures.set(0);
+    trialInFlight.set(false);
+    State previous = state.getAndSet(State.CLOSED);
+    if (previous != State.CLOSED) {
+      log.info("DB 서킷 브레이커 CLOSED - 정상 모드로 복구");
+    }
+  }
+
+  /**
+   * DB 접근 실패 기록
+   * HALF_OPEN 상태에서 실패하거나 연속 실패가 임계치에 도달하면 OPEN으로 전환
+   */
+  public void recordFailure() {
+    trialInFlight.set(false);
+    int failures = consecutiveFailures.incrementAndGet();
+    State current = state.get();
+    if (current == State.HALF_OPEN || (current == State.CLOSED && failures >= failureThreshold)) {
+      if (state.compareAndSet(current, State.OPEN)) {
+        openedAtMillis = System.currentTimeMillis();
+        log.warn("DB 서킷 브레이커 OPEN - 읽기 전용 모드로 전환 (연속 실패 {}회)", failures);
+      }
+    }
+  }
+
+  /**
+   * 느린 호출 여부 (연결은 되지만 응답이 느린 DB를 실패로 판정)
+   *
+   * @param elapsedNanos SQL 실행/연결 확인에 걸린 시간
+   * @return slow-call-ms 이상이면 true
+   */
+  public boolean isSlowCall(long elapsedNanos) {
+    return slowCallNanos > 0 && elapsedNanos >= slowCallNanos;
+  }
+
+  /**
+   * SQL 실행 시간 제한 적용 (statement-timeout-s가 0이면 적용하지 않음)
+   * 이미 제한이 지정된 Statement(JPA 쿼리 힌트 등)는 그대로 둠
+   */
+  public void applyStatementTimeout(Statement statement) throws SQLException {
+    if (statementTimeoutSeconds > 0 && statement.getQueryTimeout() == 0) {
+      statement.setQueryTimeout(statementTimeoutSeconds);
+    }
+  }
+
+  /**
+   * 읽기 전용(점검) 모드 여부
+   *
+   * @return CLOSED가 아니면 true
+   */
+  public boolean isReadOnlyMode() {
+    return state.get() != State.CLOSED;
+  }
+
+  public State getState() {
+    return state.get();
+  }
+}
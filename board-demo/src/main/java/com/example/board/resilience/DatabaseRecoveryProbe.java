@@ -0,0 +1,37 @@
+package com.example.board.resilience;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+
+/**
+ * DB 복구 확인 작업
+ * 서킷 브레이커가 열려 있는 동안 주기적으로 연결을 시도하여, 요청이 없어도 자동으로 정상 모드로 복구
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class DatabaseRecoveryProbe {
+
+  private final DatabaseCircuitBreaker circuitBreaker;
+  private final DataSource dataSource;
+
+  @Scheduled(fixedDelayString = "${db.circuit.probe-interval-ms:5000}")
+  public void probe() {
+    if (!circuitBreaker.isReadOnlyMode()) {
+      return;
+    }
+    // CircuitBreakingDataSource를 거치므로 OPEN 대기 시간이 지난 경우에만 실제 연결을 시도함
+    // 연결 확인이 실패하거나 느리면 반납 시 실패로, 아니면 성공으로 기록됨
+    try (Connection connection = dataSource.getConnection()) {
+      connection.isValid(2);
+    } catch (SQLException e) {
+      log.debug("DB 복구 확인 실패: {}", e.getMessage());
+    }
+  }
+}
@@ -0,0 +1,61 @@
+package com.example.board.resilience;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.util.StreamUtils;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * 읽기 전용 모드 필터
+ * DB 서킷 브레이커가 열려 있는 동안 쓰기 요청(GET/HEAD 외)을 DB에 닿기 전에 점검 안내(503)로 응답
+ * 로그인 처리도 DB 조회가 필요하므로 Security 필터보다 먼저 실행
+ */
+public class ReadOnlyModeFilter extends OncePerRequestFilter {
+
+  private static final String MAINTENANCE_PAGE = "static/maintenance.html";
+  private static final String MAINTENANCE_JSON =
+      "{\"message\":\"서비스 점검 중입니다. 잠시 후 다시 시도해주세요.\",\"readOnly\":true}";
+
+  private final DatabaseCircuitBreaker circuitBreaker;
+  private final byte[] maintenancePage;
+
+  public ReadOnlyModeFilter(DatabaseCircuitBreaker circuitBreaker) throws IOException {
+    this.circuitBreaker = circuitBreaker;
+    this.maintenancePage = StreamUtils.copyToByteArray(new ClassPathResource(MAINTENANCE_PAGE).getInputStream());
+  }
+
+  @Override
+  protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+      throws ServletException, IOException {
+    if (!circuitBreaker.isReadOnlyMode() || isReadRequest(request)) {
+      filterChain.doFilter(request, response);
+      return;
+    }
+
+    response.setStatus(HttpStatus.SERVICE_UNAVAILABLE.value());
+    response.setHeader("Retry-After", "30");
+    response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+
+    String accept = request.getHeader("Accept");
+    if (accept != null && accept.contains(MediaType.APPLICATION_JSON_VALUE)) {
+      response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+      response.getOutputStream().write(MAINTENANCE_JSON.getBytes(StandardCharsets.UTF_8));
+    } else {
+      response.setContentType(MediaType.TEXT_HTML_VALUE);
+      response.getOutputStream().write(maintenancePage);
+    }
+  }
+
+  private static boolean isReadRequest(HttpServletRequest request) {
+    String method = request.getMethod();
+    return "GET".equals(method) || "HEAD".equals(method) || "OPTIONS".equals(method);
+  }
+}
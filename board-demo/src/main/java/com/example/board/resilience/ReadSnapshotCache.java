@@ -0,0 +1,98 @@
+package com.example.board.resilience;
+
+import com.example.board.dto.CommentViewDto;
+import com.example.board.dto.PostViewDto;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * 마지막 정상 조회 결과 스냅샷
+ * DB 장애로 읽기 전용 모드가 되었을 때 목록/상세 화면을 마지막으로 성공한 데이터로 보여주기 위한 캐시
+ * 상세 화면은 최근 조회된 게시글만 최대 maxPosts개까지 보관 (LRU)
+ * 요청마다 다시 저장하지 않도록 보관본이 refresh-ms보다 오래된 경우에만 갱신 (isPostListStale, isDetailStale)
+ */
+@Component
+public class ReadSnapshotCache {
+
+  private final long refreshMillis;
+  private volatile List<PostViewDto> postList;
+  private volatile long postListStoredAt;
+  private final Map<Long, DetailSnapshot> details;
+
+  public ReadSnapshotCache(@Value("${db.snapshot.max-posts:1000}") int maxPosts,
+      @Value("${db.snapshot.refresh-ms:10000}") long refreshMillis) {
+    this.refreshMillis = refreshMillis;
+    this.details = Collections.synchronizedMap(new LinkedHashMap<>(16, 0.75f, true) {
+      @Override
+      protected boolean removeEldestEntry(Map.Entry<Long, DetailSnapshot> eldest) {
+        return size() > maxPosts;
+      }
+    });
+  }
+
+  /**
+   * 게시글 목록 스냅샷 저장
+   */
+  public void storePostList(List<PostViewDto> posts) {
+    postList = posts;
+    postListStoredAt = System.currentTimeMillis();
+  }
+
+  /**
+   * 게시글 목록 스냅샷을 갱신할 때인지 확인
+   *
+   * @return 보관본이 없거나 refresh-ms보다 오래되었으면 true
+   */
+  public boolean isPostListStale() {
+    return postList == null || System.currentTimeMillis() - postListStoredAt >= refreshMillis;
+  }
+
+  /**
+   * 게시글 상세 스냅샷 저장 (화면용 DTO는 불변이므로 그대로 보관)
+   */
+  public void storeDetail(PostViewDto post, List<CommentViewDto> comments, Long commentCount) {
+    details.put(post.getId(), new DetailSnapshot(post, comments, commentCount, System.currentTimeMillis()));
+  }
+
+  /**
+   * 게시글 상세 스냅샷을 갱신할 때인지 확인
+   *
+   * @param postId 게시글 ID
+   * @return 보관본이 없거나 refresh-ms보다 오래되었으면 true
+   */
+  public boolean isDetailStale(Long postId) {
+    DetailSnapshot snapshot = details.get(postId);
+    return snapshot == null || System.currentTimeMillis() - snapshot.storedAt() >= refreshMillis;
+  }
+
+  /**
+   * 삭제된 게시글을 스냅샷에서 제거 (장애 중에 삭제된 글이 다시 보이지 않도록 함)
+   */
+  public void evictPost(Long postId) {
+    details.remove(postId);
+    List<PostViewDto> posts = postList;
+    if (posts != null) {
+      postList = posts.stream().filter(post -> !post.getId().equals(postId)).toList();
+    }
+  }
+
+  public Optional<List<PostViewDto>> getPostList() {
+    return Optional.ofNullable(postList);
+  }
+
+  public Optional<DetailSnapshot> getDetail(Long postId) {
+    return Optional.ofNullable(details.get(postId));
+  }
+
+  /**
+   * 게시글 상세 스냅샷
+   */
+  public record DetailSnapshot(PostViewDto post, List<CommentViewDto> comments, Long commentCount, long storedAt) {
+  }
+}
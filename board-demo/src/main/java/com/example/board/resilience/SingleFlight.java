@@ -0,0 +1,99 @@
+package com.example.board.resilience;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * 요청 병합(single-flight)
+ * 같은 키에 대한 조회가 진행 중이면 새로 조회하지 않고 진행 중인 결과를 함께 기다림
+ * 인기 게시글에 요청이 몰려도 DB에는 키마다 동시에 한 번의 조회만 전달됨
+ *
+ * - 결과는 모든 대기자가 공유하므로 불변 객체(화면용 DTO)에만 사용
+ * - 완료되는 즉시 키를 제거하므로 결과를 캐싱하지는 않음 (이후 요청은 새로 조회)
+ * - 호출자마다 복사된 Future를 돌려주어 한 호출자의 취소가 다른 대기자에게 영향을 주지 않음
+ * - board.singleflight.loads: 실제 조회 수 / board.singleflight.collapsed: 진행 중인 조회에 합류한 수
+ *
+ * @param <K> 조회 키
+ * @param <V> 조회 결과
+ */
+public class SingleFlight<K, V> {
+
+  private final Map<K, CompletableFuture<V>> inFlight = new ConcurrentHashMap<>();
+  private final Counter loads;
+  private final Counter collapsed;
+
+  public SingleFlight(String name, MeterRegistry meterRegistry) {
+    this.loads = Counter.builder("board.singleflight.loads")
+        .description("실제로 실행된 조회 수")
+        .tag("name", name)
+        .register(meterRegistry);
+    this.collapsed = Counter.builder("board.singleflight.collapsed")
+        .description("진행 중인 조회에 합류하여 생략된 조회 수")
+        .tag("name", name)
+        .register(meterRegistry);
+    Gauge.builder("board.singleflight.in_flight", inFlight, Map::size)
+        .description("진행 중인 조회 수")
+        .tag("name", name)
+        .register(meterRegistry);
+  }
+
+  /**
+   * 키에 대한 조회 실행 또는 진행 중인 조회에 합류
+   *
+   * @param key    조회 키
+   * @param loader 진행 중인 조회가 없을 때만 호출되는 비동기 조회
+   * @return 조회 결과 Future (호출자 전용 복사본)
+   */
+  public CompletableFuture<V> load(K key, Supplier<CompletableFuture<V>> loader) {
+    CompletableFuture<V> promise = new CompletableFuture<>();
+    CompletableFuture<V> existing = inFlight.putIfAbsent(key, promise);
+    if (existing != null) {
+      collapsed.increment();
+      return existing.copy();
+    }
+    return start(key, promise, loader);
+  }
+
+  /**
+   * 진행 중인 조회에 합류하지 않고 항상 새로 조회
+   * 쓰기 직후의 조회처럼 쓰기 이전에 시작된 조회 결과를 받으면 안 되는 경우에 사용하며,
+   * 이후 같은 키의 조회는 기존 조회 대신 이 조회에 합류함
+   *
+   * @param key    조회 키
+   * @param loader 비동기 조회
+   * @return 조회 결과 Future (호출자 전용 복사본)
+   */
+  public CompletableFuture<V> loadFresh(K key, Supplier<CompletableFuture<V>> loader) {
+    CompletableFuture<V> promise = new CompletableFuture<>();
+    inFlight.put(key, promise);
+    return start(key, promise, loader);
+  }
+
+  private CompletableFuture<V> start(K key, CompletableFuture<V> promise, Supplier<CompletableFuture<V>> loader) {
+    loads.increment();
+    CompletableFuture<V> source;
+    try {
+      source = loader.get();
+    } catch (RuntimeException e) {
+      source = CompletableFuture.failedFuture(e);
+    }
+    source.whenComplete((value, error) -> {
+      // 완료 전에 키를 제거하여 이후 요청이 끝난 조회에 합류하지 않도록 함 (새 조회로 교체된 경우는 그대로 둠)
+      inFlight.remove(key, promise);
+      if (error != null) {
+        promise.completeExceptionally(error instanceof CompletionException && error.getCause() != null
+            ? error.getCause() : error);
+      } else {
+        promise.complete(value);
+      }
+    });
+    return promise.copy();
+  }
+}
@@ -0,0 +1,16 @@
+package com.example.board.scheduling;
+
+/**
+ * 클러스터 단일 실행 작업
+ * ClusterJobRunner가 임대를 획득한 인스턴스에서만 실행
+ */
+@FunctionalInterface
+public interface ClusterJob {
+
+  /**
+   * 작업 실행
+   *
+   * @param context 진행 위치 저장/임대 확인용 컨텍스트
+   */
+  void execute(JobContext context);
+}
@@ -0,0 +1,95 @@
+package com.example.board.scheduling;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 클러스터 단일 실행 작업 실행기
+ * 여러 인스턴스에서 같은 @Scheduled 메서드가 동시에 호출되어도 임대를 획득한 한 곳에서만 작업을 실행
+ *
+ * - 실행 중에는 임대 시간의 1/3 주기로 임대를 연장하여, 인스턴스가 죽으면 임대 만료 후 다른 인스턴스가 이어받음
+ * - 실행 시간은 board.job.duration 타이머(job, outcome 태그)로 기록
+ */
+@Component
+@Slf4j
+public class ClusterJobRunner {
+
+  private final JobLeaseManager leaseManager;
+  private final MeterRegistry meterRegistry;
+  private final ScheduledExecutorService renewalExecutor;
+
+  public ClusterJobRunner(JobLeaseManager leaseManager, MeterRegistry meterRegistry) {
+    this.leaseManager = leaseManager;
+    this.meterRegistry = meterRegistry;
+    this.renewalExecutor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+      Thread thread = new Thread(runnable, "job-lease-renewal");
+      thread.setDaemon(true);
+      return thread;
+    });
+  }
+
+  /**
+   * 임대를 획득한 경우에만 작업 실행
+   *
+   * @param jobName  작업 이름 (임대 단위)
+   * @param leaseTtl 임대 유지 시간 (연장 주기의 3배)
+   * @param job      실행할 작업
+   * @return 이 인스턴스에서 실행했으면 true
+   */
+  public boolean runExclusively(String jobName, Duration leaseTtl, ClusterJob job) {
+    if (!leaseManager.tryAcquire(jobName, leaseTtl)) {
+      log.debug("다른 인스턴스가 실행 중이므로 건너뜀: {}", jobName);
+      meterRegistry.counter("board.job.skipped", "job", jobName).increment();
+      return false;
+    }
+
+    AtomicBoolean leaseHeld = new AtomicBoolean(true);
+    long renewMillis = Math.max(1000, leaseTtl.toMillis() / 3);
+    ScheduledFuture<?> renewal = renewalExecutor.scheduleAtFixedRate(() -> {
+      try {
+        if (!leaseManager.renew(jobName, leaseTtl)) {
+          log.warn("작업 임대를 잃음: {}", jobName);
+          leaseHeld.set(false);
+        }
+      } catch (RuntimeException e) {
+        log.warn("작업 임대 연장 실패: {}", jobName, e);
+      }
+    }, renewMillis, renewMillis, TimeUnit.MILLISECONDS);
+
+    Timer.Sample sample = Timer.start(meterRegistry);
+    String outcome = "success";
+    try {
+      job.execute(new JobContext(jobName, leaseManager, leaseHeld));
+      if (!leaseHeld.get()) {
+        outcome = "lease-lost";
+      }
+      return true;
+    } catch (RuntimeException e) {
+      outcome = "failure";
+      throw e;
+    } finally {
+      renewal.cancel(false);
+      sample.stop(meterRegistry.timer("board.job.duration", "job", jobName, "outcome", outcome));
+      try {
+        leaseManager.release(jobName);
+      } catch (RuntimeException e) {
+        log.warn("작업 임대 반납 실패 (만료 후 자동 해제): {}", jobName, e);
+      }
+    }
+  }
+
+  @PreDestroy
+  public void shutdown() {
+    renewalExecutor.shutdownNow();
+  }
+}
@@ -0,0 +1,57 @@
+package com.example.board.scheduling;
+
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 작업 실행 컨텍스트
+ * 배치 작업이 진행 위치를 저장하고, 임대를 잃었는지 확인하여 중단할 수 있도록 함
+ */
+public class JobContext {
+
+  private final String jobName;
+  private final JobLeaseManager leaseManager;
+  private final AtomicBoolean leaseHeld;
+
+  JobContext(String jobName, JobLeaseManager leaseManager, AtomicBoolean leaseHeld) {
+    this.jobName = jobName;
+    this.leaseManager = leaseManager;
+    this.leaseHeld = leaseHeld;
+  }
+
+  public String getJobName() {
+    return jobName;
+  }
+
+  /**
+   * 이전 실행이 중단된 위치 (없으면 empty)
+   */
+  public Optional<String> getCheckpoint() {
+    return leaseManager.loadCheckpoint(jobName);
+  }
+
+  /**
+   * 진행 위치 저장
+   * 임대를 잃은 뒤에는 저장되지 않음
+   */
+  public void saveCheckpoint(String checkpoint) {
+    if (!leaseManager.saveCheckpoint(jobName, checkpoint)) {
+      leaseHeld.set(false);
+    }
+  }
+
+  /**
+   * 진행 위치 삭제 (작업을 끝까지 완료한 경우)
+   */
+  public void clearCheckpoint() {
+    saveCheckpoint(null);
+  }
+
+  /**
+   * 임대 유지 여부
+   * false가 되면 다른 인스턴스가 작업을 가져갔을 수 있으므로 다음 배치 전에 중단해야 함
+   */
+  public boolean isLeaseHeld() {
+    return leaseHeld.get();
+  }
+}
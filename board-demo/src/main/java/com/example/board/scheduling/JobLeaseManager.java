@@ -0,0 +1,138 @@
+package com.example.board.scheduling;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * 작업 임대 관리자
+ * job_leases 테이블의 조건부 UPDATE로 작업별 임대를 획득/갱신/반납
+ * 각 문장은 자동 커밋으로 즉시 반영되어 다른 인스턴스가 바로 볼 수 있음
+ *
+ * 만료 시각은 애플리케이션 시각 기준이므로 인스턴스 간 시계 차이보다 임대 시간을 충분히 길게 설정해야 함
+ */
+@Component
+@Slf4j
+public class JobLeaseManager {
+
+  private final NamedParameterJdbcTemplate jdbcTemplate;
+  private final String instanceId;
+
+  public JobLeaseManager(NamedParameterJdbcTemplate jdbcTemplate,
+      @Value("${jobs.instance-id:}") String instanceId) {
+    this.jdbcTemplate = jdbcTemplate;
+    this.instanceId = instanceId.isBlank() ? defaultInstanceId() : instanceId;
+  }
+
+  /**
+   * 임대 획득 시도
+   * 만료되었거나 이미 자신이 가진 임대만 가져올 수 있음
+   *
+   * @param jobName 작업 이름
+   * @param ttl     임대 유지 시간
+   * @return 획득 성공 시 true
+   */
+  public boolean tryAcquire(String jobName, Duration ttl) {
+    LocalDateTime now = LocalDateTime.now();
+    ensureRow(jobName, now);
+
+    int updated = jdbcTemplate.update("""
+        UPDATE job_leases SET owner = :owner, lease_until = :until, last_started_at = :now
+        WHERE job_name = :job AND (lease_until < :now OR owner = :owner OR owner IS NULL)
+        """, params(jobName).addValue("until", now.plus(ttl)).addValue("now", now));
+    return updated == 1;
+  }
+
+  /**
+   * 임대 연장
+   *
+   * @return 여전히 자신이 임대를 가지고 있으면 true
+   */
+  public boolean renew(String jobName, Duration ttl) {
+    int updated = jdbcTemplate.update(
+        "UPDATE job_leases SET lease_until = :until WHERE job_name = :job AND owner = :owner",
+        params(jobName).addValue("until", LocalDateTime.now().plus(ttl)));
+    return updated == 1;
+  }
+
+  /**
+   * 임대 반납 (다른 인스턴스가 다음 주기에 바로 획득할 수 있도록 함)
+   */
+  public void release(String jobName) {
+    LocalDateTime now = LocalDateTime.now();
+    jdbcTemplate.update("""
+        UPDATE job_leases SET owner = NULL, lease_until = :now, last_finished_at = :now
+        WHERE job_name = :job AND owner = :owner
+        """, params(jobName).addValue("now", now));
+  }
+
+  /**
+   * 진행 위치 조회
+   */
+  public Optional<String> loadCheckpoint(String jobName) {
+    List<String> checkpoints = jdbcTemplate.queryForList(
+        "SELECT checkpoint FROM job_leases WHERE job_name = :job", params(jobName), String.class);
+    return checkpoints.stream().filter(checkpoint -> checkpoint != null).findFirst();
+  }
+
+  /**
+   * 진행 위치 저장 (임대를 가진 경우에만)
+   *
+   * @param checkpoint 진행 위치 (null이면 삭제)
+   * @return 저장 성공 시 true
+   */
+  public boolean saveCheckpoint(String jobName, String checkpoint) {
+    int updated = jdbcTemplate.update(
+        "UPDATE job_leases SET checkpoint = :checkpoint WHERE job_name = :job AND owner = :owner",
+        params(jobName).addValue("checkpoint", checkpoint));
+    return updated == 1;
+  }
+
+  public String getInstanceId() {
+    return instanceId;
+  }
+
+  /**
+   * 작업 행이 없으면 만료된 상태로 생성 (동시에 생성하는 경우 한쪽은 중복 키로 무시)
+   */
+  private void ensureRow(String jobName, LocalDateTime now) {
+    Integer count = jdbcTemplate.queryForObject(
+        "SELECT COUNT(*) FROM job_leases WHERE job_name = :job", params(jobName), Integer.class);
+    if (count != null && count > 0) {
+      return;
+    }
+    try {
+      jdbcTemplate.update("INSERT INTO job_leases (job_name, lease_until) VALUES (:job, :now)",
+          params(jobName).addValue("now", now));
+    } catch (DuplicateKeyException e) {
+      log.debug("다른 인스턴스가 먼저 작업 행을 생성함: {}", jobName);
+    }
+  }
+
+  private MapSqlParameterSource params(String jobName) {
+    return new MapSqlParameterSource()
+        .addValue("job", jobName)
+        .addValue("owner", instanceId);
+  }
+
+  private static String defaultInstanceId() {
+    String host;
+    try {
+      host = InetAddress.getLocalHost().getHostName();
+    } catch (UnknownHostException e) {
+      host = "unknown";
+    }
+    return host + "-" + UUID.randomUUID().toString().substring(0, 8);
+  }
+}
@@ -17,18 +17,24 @@ import java.util.Collections;
 public class CustomUserDetails implements UserDetails {
 
   private final User user;
+  private final Collection<? extends GrantedAuthority> authorities;
 
   public CustomUserDetails(User user) {
+    this(user, Collections.singletonList(new SimpleGrantedAuthority("ROLE_USER")));
+  }
+
+  public CustomUserDetails(User user, Collection<? extends GrantedAuthority> authorities) {
     this.user = user;
+    this.authorities = authorities;
   }
 
   /**
    * 사용자 권한 반환
-   * 현재는 모든 사용자에게 ROLE_USER 권한 부여
+   * 기본은 ROLE_USER, 관리자로 지정된 사용자는 ROLE_ADMIN 추가
    */
   @Override
   public Collection<? extends GrantedAuthority> getAuthorities() {
-    return Collections.singletonList(new SimpleGrantedAuthority("ROLE_USER"));
+    return authorities;
   }
 
   @Override
@@ -4,12 +4,16 @@ import com.example.board.domain.User;
 import com.example.board.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.List;
+
 /**
  * Spring Security UserDetailsService 구현체
  * 사용자명으로 사용자를 조회하여 인증에 사용할 UserDetails 객체를 반환
@@ -21,6 +25,10 @@ public class CustomUserDetailsService implements UserDetailsService {
 
   private final UserRepository userRepository;
 
+  // 관리자 권한(ROLE_ADMIN)을 부여할 사용자명 목록 (쉼표 구분)
+  @Value("${board.admin-usernames:}")
+  private List<String> adminUsernames;
+
   /**
    * 사용자명으로 UserDetails 조회
    * Spring Security가 로그인 시 자동으로 호출
@@ -41,6 +49,11 @@ public class CustomUserDetailsService implements UserDetailsService {
         });
 
     log.debug("사용자 인증 성공: {}", username);
+    if (adminUsernames.contains(username)) {
+      return new CustomUserDetails(user, List.of(
+          new SimpleGrantedAuthority("ROLE_USER"),
+          new SimpleGrantedAuthority("ROLE_ADMIN")));
+    }
     return new CustomUserDetails(user);
   }
 }
@@ -0,0 +1,93 @@
+package com.example.board.service;
+
+import com.example.board.domain.ArchivedComment;
+import com.example.board.domain.ArchivedPost;
+import com.example.board.domain.Comment;
+import com.example.board.domain.Post;
+import com.example.board.repository.ArchivedCommentRepository;
+import com.example.board.repository.ArchivedPostRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * 보관 데이터 조회 서비스
+ * posts/comments 에서 찾지 못한 게시글과 댓글을 보관 테이블에서 읽어 오는 서비스 클래스
+ * 보관된 데이터는 읽기 전용이며 수정/삭제/댓글 작성 대상이 아님
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class ArchiveService {
+
+  private final ArchivedPostRepository archivedPostRepository;
+  private final ArchivedCommentRepository archivedCommentRepository;
+
+  /**
+   * 보관된 게시글 조회
+   *
+   * @param id 게시글 ID
+   * @return 복원된 게시글 (Optional)
+   */
+  public Optional<Post> findPost(Long id) {
+    return archivedPostRepository.findById(id).map(ArchivedPost::toPost);
+  }
+
+  /**
+   * 보관된 게시글의 모든 댓글 조회 (부모-자식 관계 복원)
+   *
+   * @param postId 게시글 ID
+   * @return 댓글 목록 (작성순, 각 댓글의 children에 대댓글 포함)
+   */
+  public List<Comment> findAllComments(Long postId) {
+    List<ArchivedComment> archivedComments = archivedCommentRepository.findByPostIdOrderByIdAsc(postId);
+    if (archivedComments.isEmpty()) {
+      return List.of();
+    }
+
+    Post post = findPost(postId).orElse(null);
+    if (post == null) {
+      return List.of();
+    }
+
+    Map<Long, Comment> byId = new HashMap<>(archivedComments.size() * 2);
+    List<Comment> comments = new ArrayList<>(archivedComments.size());
+    for (ArchivedComment archived : archivedComments) {
+      Comment parent = archived.getParentId() != null ? byId.get(archived.getParentId()) : null;
+      Comment comment = Comment.restore(archived.getId(), archived.getContent(), archived.getAuthor(), post, parent,
+          archived.getCreatedAt(), archived.getUpdatedAt());
+      if (parent != null) {
+        parent.addChild(comment);
+      }
+      byId.put(comment.getId(), comment);
+      comments.add(comment);
+    }
+    return comments;
+  }
+
+  /**
+   * 보관된 게시글의 최상위 댓글 조회
+   *
+   * @param postId 게시글 ID
+   * @return 최상위 댓글 목록 (대댓글은 children으로 접근)
+   */
+  public List<Comment> findTopLevelComments(Long postId) {
+    return findAllComments(postId).stream().filter(Comment::isTopLevel).toList();
+  }
+
+  /**
+   * 보관된 게시글의 댓글 개수 조회
+   *
+   * @param postId 게시글 ID
+   * @return 댓글 개수 (대댓글 포함)
+   */
+  public Long getCommentCount(Long postId) {
+    return archivedCommentRepository.countByPostId(postId);
+  }
+}
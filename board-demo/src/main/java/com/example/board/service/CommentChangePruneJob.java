@@ -0,0 +1,93 @@
+package com.example.board.service;
+
+import com.example.board.scheduling.ClusterJobRunner;
+import com.example.board.scheduling.JobContext;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 댓글 변경 기록 정리 작업
+ * 보관 기간(retention-hours)이 지난 comment_changes 행을 배치 단위로 삭제
+ *
+ * - 삭제 대상 조회는 comment_changes.changed_at 인덱스를 사용하고, 배치마다 짧은 트랜잭션으로 삭제
+ * - 정리된 구간 이후를 요청한 클라이언트는 CommentChangeService가 reset 응답으로 전체 다시 받기를 요청
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class CommentChangePruneJob {
+
+  private static final String JOB_NAME = "comment-change-prune";
+
+  private final NamedParameterJdbcTemplate jdbcTemplate;
+  private final TransactionTemplate transactionTemplate;
+  private final ClusterJobRunner clusterJobRunner;
+
+  @Value("${comment.changes.retention-hours:72}")
+  private long retentionHours;
+
+  @Value("${comment.changes.batch-size:5000}")
+  private int batchSize;
+
+  @Value("${comment.changes.lease-ttl-ms:60000}")
+  private long leaseTtlMillis;
+
+  /**
+   * 주기 실행 (기본: 10분 간격)
+   */
+  @Scheduled(fixedDelayString = "${comment.changes.prune-interval-ms:600000}")
+  public void run() {
+    clusterJobRunner.runExclusively(JOB_NAME, Duration.ofMillis(leaseTtlMillis), this::pruneExpiredChanges);
+  }
+
+  /**
+   * 보관 기간이 지난 변경 기록을 오래된 순으로 삭제
+   *
+   * @return 삭제된 변경 기록 수
+   */
+  private int pruneExpiredChanges(JobContext context) {
+    MapSqlParameterSource params = new MapSqlParameterSource("cutoff", LocalDateTime.now().minusHours(retentionHours));
+    long start = System.currentTimeMillis();
+    int pruned = 0;
+
+    int deleted;
+    do {
+      if (!context.isLeaseHeld()) {
+        break;
+      }
+      deleted = transactionTemplate.execute(status -> deleteBatch(params));
+      pruned += deleted;
+    } while (deleted == batchSize);
+
+    if (pruned > 0) {
+      log.info("댓글 변경 기록 정리 완료: {}건, {}ms", pruned, System.currentTimeMillis() - start);
+    }
+    return pruned;
+  }
+
+  /**
+   * 보관 기간이 지난 변경 기록을 한 배치만큼 삭제 (하나의 트랜잭션)
+   *
+   * @return 삭제된 변경 기록 수
+   */
+  private int deleteBatch(MapSqlParameterSource params) {
+    List<Long> ids = jdbcTemplate.queryForList(
+        "SELECT id FROM comment_changes WHERE changed_at < :cutoff ORDER BY changed_at LIMIT " + batchSize,
+        params, Long.class);
+    if (ids.isEmpty()) {
+      return 0;
+    }
+    return jdbcTemplate.update("DELETE FROM comment_changes WHERE id IN (:ids)",
+        new MapSqlParameterSource("ids", ids));
+  }
+}
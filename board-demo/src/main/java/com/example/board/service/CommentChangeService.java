@@ -0,0 +1,163 @@
+package com.example.board.service;
+
+import com.example.board.domain.CommentChange;
+import com.example.board.domain.CommentChangeType;
+import com.example.board.domain.Post;
+import com.example.board.dto.CommentChangeDto;
+import com.example.board.dto.CommentDeltaDto;
+import com.example.board.dto.CommentViewDto;
+import com.example.board.exception.NotFoundException;
+import com.example.board.repository.CommentChangeRepository;
+import com.example.board.repository.CommentRepository;
+import com.example.board.repository.PostRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 댓글 변경 기록 / 증분 동기화 서비스
+ * 댓글 작성/수정/삭제를 게시글별 변경 순번(posts.change_seq)과 함께 기록하고,
+ * 클라이언트가 보낸 워터마크 이후의 변경만 돌려줌 (스레드 전체를 다시 받지 않음)
+ *
+ * - 순번은 게시글 행을 잠근(SELECT ... FOR UPDATE) 트랜잭션에서만 발급하므로
+ *   같은 게시글 안에서는 순번 순서와 커밋 순서가 같음 (늦게 커밋된 작은 순번을 클라이언트가 건너뛰지 않음)
+ * - 삭제는 tombstone(DELETED)으로 남기므로 클라이언트가 화면에서 지울 수 있음
+ * - 기록할 때마다 CommentsChangedEvent를 발행하여 실시간 구독(LiveCommentHub)에 알림
+ * - 변경 기록은 보관 기간(CommentChangePruneJob)이 지나면 지우므로, 그보다 오래된 워터마크로 요청하면
+ *   reset 응답으로 전체 다시 받기를 요청 (기록이 없는 구간을 건너뛰지 않음)
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class CommentChangeService {
+
+  private final PostRepository postRepository;
+  private final CommentRepository commentRepository;
+  private final CommentChangeRepository commentChangeRepository;
+  private final ArchiveService archiveService;
+  private final ApplicationEventPublisher eventPublisher;
+
+  /**
+   * 댓글 쓰기 전 게시글 행 잠금 (같은 게시글의 댓글 쓰기를 직렬화)
+   *
+   * @param postId 게시글 ID
+   * @return 잠근 게시글
+   * @throws NotFoundException 게시글이 존재하지 않는 경우
+   */
+  @Transactional
+  public Post lockPost(Long postId) {
+    return postRepository.findByIdForUpdate(postId)
+        .orElseThrow(() -> new NotFoundException("해당 게시글이 존재하지 않습니다. ID: " + postId));
+  }
+
+  /**
+   * 댓글 변경 기록 (호출한 쓰기 트랜잭션에 참여하여 함께 커밋/롤백)
+   *
+   * @param lockedPost lockPost로 잠근 게시글
+   * @param type       변경 종류
+   * @param commentIds 변경된 댓글 ID 목록 (댓글마다 순번 하나씩 발급)
+   * @return 마지막으로 발급한 변경 순번 (기록할 댓글이 없으면 현재 순번)
+   */
+  @Transactional
+  public long record(Post lockedPost, CommentChangeType type, List<Long> commentIds) {
+    if (commentIds.isEmpty()) {
+      return lockedPost.getChangeSeq();
+    }
+    LocalDateTime now = LocalDateTime.now();
+    long seq = lockedPost.getChangeSeq();
+    List<CommentChange> changes = new ArrayList<>(commentIds.size());
+    for (Long commentId : commentIds) {
+      changes.add(new CommentChange(lockedPost.getId(), ++seq, commentId, type, now));
+    }
+    postRepository.updateChangeSeq(lockedPost.getId(), seq);
+    // 같은 트랜잭션에서 다시 기록해도 이어서 발급하도록 잠근 엔티티의 순번도 맞춤
+    lockedPost.syncChangeSeq(seq);
+    commentChangeRepository.saveAll(changes);
+    eventPublisher.publishEvent(new CommentsChangedEvent(lockedPost.getId(), seq));
+    return seq;
+  }
+
+  /**
+   * 현재 워터마크 (댓글 트리를 처음 받을 때 함께 전달, 트리 조회 전에 읽어야 변경을 놓치지 않음)
+   *
+   * @param postId 게시글 ID
+   * @return 변경 순번 (보관된 게시글은 더 이상 변경되지 않으므로 0)
+   */
+  public long currentWatermark(Long postId) {
+    return postRepository.findChangeSeq(postId).orElse(0L);
+  }
+
+  /**
+   * 워터마크 이후의 댓글 변경 조회
+   * 같은 댓글이 여러 번 바뀌었으면 마지막 변경만 돌려주고, 작성/수정은 댓글의 현재 상태를 함께 담음
+   *
+   * @param postId 게시글 ID
+   * @param since  클라이언트가 마지막으로 반영한 변경 순번
+   * @param limit  한 번에 읽을 변경 기록 수
+   * @return 증분 동기화 응답 (since 직후의 기록이 이미 정리되었으면 reset 응답)
+   * @throws NotFoundException 게시글이 존재하지 않는 경우
+   */
+  public CommentDeltaDto findChangesSince(Long postId, long since, int limit) {
+    Optional<Long> currentSeq = postRepository.findChangeSeq(postId);
+    if (currentSeq.isEmpty()) {
+      if (archiveService.findPost(postId).isEmpty()) {
+        throw new NotFoundException("해당 게시글이 존재하지 않습니다. ID: " + postId);
+      }
+      // 보관된 게시글은 더 이상 바뀌지 않음
+      return new CommentDeltaDto(postId, since, since, false, false, List.of());
+    }
+
+    List<CommentChange> changes = commentChangeRepository.findChangesSince(postId, since, PageRequest.ofSize(limit + 1));
+    // 순번은 빈틈없이 발급되므로 since 바로 다음 순번이 없으면 보관 기간이 지나 정리된 구간
+    boolean pruned = since < currentSeq.get() && (changes.isEmpty() || changes.get(0).getSeq() != since + 1);
+    if (pruned) {
+      return new CommentDeltaDto(postId, since, currentSeq.get(), false, true, List.of());
+    }
+    boolean hasMore = changes.size() > limit;
+    if (hasMore) {
+      changes = changes.subList(0, limit);
+    }
+    if (changes.isEmpty()) {
+      return new CommentDeltaDto(postId, since, since, false, false, List.of());
+    }
+
+    // 댓글별 마지막 변경만 남김 (순번 순서 유지)
+    Map<Long, CommentChange> latest = new LinkedHashMap<>();
+    for (CommentChange change : changes) {
+      latest.remove(change.getCommentId());
+      latest.put(change.getCommentId(), change);
+    }
+
+    List<Long> liveIds = latest.values().stream()
+        .filter(change -> change.getType() != CommentChangeType.DELETED)
+        .map(CommentChange::getCommentId)
+        .toList();
+    Map<Long, CommentViewDto> current = liveIds.isEmpty() ? Map.of()
+        : commentRepository.findViewsByIds(liveIds).stream()
+            .collect(Collectors.toMap(CommentViewDto::getId, Function.identity()));
+
+    List<CommentChangeDto> result = new ArrayList<>(latest.size());
+    for (CommentChange change : latest.values()) {
+      CommentViewDto comment = current.get(change.getCommentId());
+      if (change.getType() != CommentChangeType.DELETED && comment == null) {
+        // 이 구간 뒤에서 삭제된 댓글 - 삭제 기록은 다음 구간에 오지만 지금 tombstone으로 알려도 결과는 같음
+        result.add(new CommentChangeDto(change.getSeq(), CommentChangeType.DELETED, change.getCommentId(), null));
+      } else {
+        result.add(new CommentChangeDto(change.getSeq(), change.getType(), change.getCommentId(), comment));
+      }
+    }
+    long watermark = changes.get(changes.size() - 1).getSeq();
+    return new CommentDeltaDto(postId, since, watermark, hasMore, false, result);
+  }
+}
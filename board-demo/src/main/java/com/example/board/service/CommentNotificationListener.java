@@ -0,0 +1,28 @@
+package com.example.board.service;
+
+import com.example.board.event.CommentCreated;
+import com.example.board.event.DomainEventListener;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+/**
+ * 댓글 작성 시 게시글/부모 댓글 작성자에게 알림
+ * 알림 저장이 커밋되어야 전달이 끝나므로, 저장에 실패하면 아웃박스가 다시 전달
+ * 다시 전달되어도 NotificationService가 같은 댓글의 알림을 한 번만 저장
+ */
+@Component
+@RequiredArgsConstructor
+public class CommentNotificationListener implements DomainEventListener<CommentCreated> {
+
+  private final NotificationService notificationService;
+
+  @Override
+  public Class<CommentCreated> eventType() {
+    return CommentCreated.class;
+  }
+
+  @Override
+  public void on(CommentCreated event) {
+    notificationService.save(event);
+  }
+}
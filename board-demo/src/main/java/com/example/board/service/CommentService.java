@@ -1,14 +1,23 @@
 package com.example.board.service;
 
 import com.example.board.domain.Comment;
+import com.example.board.domain.CommentChangeType;
 import com.example.board.domain.Post;
 import com.example.board.dto.CommentDto;
+import com.example.board.dto.CommentViewDto;
+import com.example.board.event.CommentCreated;
+import com.example.board.event.CommentDeleted;
+import com.example.board.event.DomainEventPublisher;
+import com.example.board.exception.NotAuthorException;
+import com.example.board.exception.NotFoundException;
 import com.example.board.repository.CommentRepository;
 import com.example.board.repository.PostRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
 
 /**
@@ -22,59 +31,96 @@ public class CommentService {
 
     private final CommentRepository commentRepository;
     private final PostRepository postRepository;
+    private final ArchiveService archiveService;
+    private final CommentChangeService commentChangeService;
+    private final DomainEventPublisher eventPublisher;
 
     /**
      * 특정 게시글의 모든 댓글 조회 (최상위 댓글만)
      * 대댓글은 각 댓글의 children 필드를 통해 접근
+     * 게시글이 보관된 경우 보관된 댓글을 조회 (현재 댓글이 없을 때만 게시글 위치를 확인)
      * @param postId 게시글 ID
      * @return 최상위 댓글 목록
      */
     public List<Comment> findTopLevelCommentsByPostId(Long postId) {
-        return commentRepository.findTopLevelCommentsByPostId(postId);
+        List<Comment> comments = commentRepository.findTopLevelCommentsByPostId(postId);
+        return comments.isEmpty() && isArchivedPost(postId) ? archiveService.findTopLevelComments(postId) : comments;
     }
 
     /**
      * 특정 게시글의 모든 댓글 조회 (계층 구조 포함)
+     * 게시글이 보관된 경우 보관된 댓글을 조회 (현재 댓글이 없을 때만 게시글 위치를 확인)
      * @param postId 게시글 ID
      * @return 모든 댓글 목록 (시간순)
      */
     public List<Comment> findAllCommentsByPostId(Long postId) {
-        return commentRepository.findByPostIdOrderByCreatedAtAsc(postId);
+        List<Comment> comments = commentRepository.findByPostIdOrderByCreatedAtAsc(postId);
+        return comments.isEmpty() && isArchivedPost(postId) ? archiveService.findAllComments(postId) : comments;
+    }
+
+    /**
+     * 특정 게시글의 댓글 트리 조회 (화면용 DTO)
+     * 전체 댓글을 DTO 프로젝션으로 한 번에 조회한 뒤 메모리에서 트리로 조립 (엔티티 생성/지연 로딩 없음)
+     * 게시글이 보관된 경우 보관된 댓글을 조회 (현재 댓글이 없을 때만 게시글 위치를 확인)
+     * @param postId 게시글 ID
+     * @return 최상위 댓글 목록 (각 댓글의 children에 대댓글 포함)
+     */
+    public List<CommentViewDto> findCommentTreeByPostId(Long postId) {
+        List<CommentViewDto> views = commentRepository.findViewsByPostId(postId);
+        if (views.isEmpty() && isArchivedPost(postId)) {
+            return CommentViewDto.buildTree(archiveService.findAllComments(postId));
+        }
+        return CommentViewDto.assembleTree(views);
+    }
+
+    /**
+     * 댓글 상세 조회 (화면용 DTO)
+     * @param commentId 댓글 ID
+     * @return 댓글 DTO
+     * @throws NotFoundException 댓글이 존재하지 않는 경우
+     */
+    public CommentViewDto findCommentViewById(Long commentId) {
+        return CommentViewDto.from(findCommentById(commentId));
     }
 
     /**
      * 댓글 상세 조회
      * @param commentId 댓글 ID
      * @return 댓글 정보
-     * @throws IllegalArgumentException 댓글이 존재하지 않는 경우
+     * @throws NotFoundException 댓글이 존재하지 않는 경우
      */
     public Comment findCommentById(Long commentId) {
         return commentRepository.findById(commentId)
-                .orElseThrow(() -> new IllegalArgumentException("해당 댓글이 존재하지 않습니다. ID: " + commentId));
+                .orElseThrow(() -> new NotFoundException("해당 댓글이 존재하지 않습니다. ID: " + commentId));
     }
 
     /**
      * 댓글 작성 (최상위 댓글)
      * @param postId 게시글 ID
      * @param dto 댓글 데이터
+     * @param authorUsername 작성자 로그인 아이디 (알림 받는 사람 구분)
      * @return 저장된 댓글
-     * @throws IllegalArgumentException 게시글이 존재하지 않는 경우
+     * @throws NotFoundException 게시글이 존재하지 않는 경우
      */
     @Transactional
-    public Comment createComment(Long postId, CommentDto dto) {
-        // 게시글 존재 여부 확인
-        Post post = postRepository.findById(postId)
-                .orElseThrow(() -> new IllegalArgumentException("해당 게시글이 존재하지 않습니다. ID: " + postId));
+    public Comment createComment(Long postId, CommentDto dto, String authorUsername) {
+        // 게시글 존재 여부 확인 (행 잠금으로 같은 게시글의 댓글 변경 순번을 직렬화)
+        Post post = commentChangeService.lockPost(postId);
 
         // 댓글 생성
         Comment comment = Comment.builder()
                 .content(dto.getContent())
                 .author(dto.getAuthor())
+                .authorUsername(authorUsername)
                 .post(post)
                 .parent(null) // 최상위 댓글
                 .build();
 
-        return commentRepository.save(comment);
+        Comment saved = commentRepository.save(comment);
+        commentChangeService.record(post, CommentChangeType.CREATED, List.of(saved.getId()));
+        eventPublisher.publish(new CommentCreated(postId, saved.getId(), null, saved.getAuthor(),
+                authorUsername, saved.getContent(), post.getAuthorUsername()));
+        return saved;
     }
 
     /**
@@ -82,18 +128,18 @@ public class CommentService {
      * @param postId 게시글 ID
      * @param parentId 부모 댓글 ID
      * @param dto 댓글 데이터
+     * @param authorUsername 작성자 로그인 아이디 (알림 받는 사람 구분)
      * @return 저장된 대댓글
-     * @throws IllegalArgumentException 게시글 또는 부모 댓글이 존재하지 않는 경우
+     * @throws NotFoundException 게시글 또는 부모 댓글이 존재하지 않는 경우
      */
     @Transactional
-    public Comment createReply(Long postId, Long parentId, CommentDto dto) {
-        // 게시글 존재 여부 확인
-        Post post = postRepository.findById(postId)
-                .orElseThrow(() -> new IllegalArgumentException("해당 게시글이 존재하지 않습니다. ID: " + postId));
+    public Comment createReply(Long postId, Long parentId, CommentDto dto, String authorUsername) {
+        // 게시글 존재 여부 확인 (행 잠금으로 같은 게시글의 댓글 변경 순번을 직렬화)
+        Post post = commentChangeService.lockPost(postId);
 
         // 부모 댓글 존재 여부 확인
         Comment parentComment = commentRepository.findById(parentId)
-                .orElseThrow(() -> new IllegalArgumentException("해당 댓글이 존재하지 않습니다. ID: " + parentId));
+                .orElseThrow(() -> new NotFoundException("해당 댓글이 존재하지 않습니다. ID: " + parentId));
 
         // 부모 댓글이 같은 게시글에 속하는지 확인
         if (!parentComment.getPost().getId().equals(postId)) {
@@ -104,6 +150,7 @@ public class CommentService {
         Comment reply = Comment.builder()
                 .content(dto.getContent())
                 .author(dto.getAuthor())
+                .authorUsername(authorUsername)
                 .post(post)
                 .parent(parentComment)
                 .build();
@@ -113,53 +160,113 @@ public class CommentService {
         // 부모 댓글의 children 목록에 추가
         parentComment.addChild(savedReply);
 
+        commentChangeService.record(post, CommentChangeType.CREATED, List.of(savedReply.getId()));
+        eventPublisher.publish(new CommentCreated(postId, savedReply.getId(), parentId, savedReply.getAuthor(),
+                authorUsername, savedReply.getContent(), parentComment.getAuthorUsername()));
         return savedReply;
     }
 
     /**
-     * 댓글 수정
+     * 본인 댓글 수정
+     * 작성자 확인과 수정을 조건부 UPDATE 한 번으로 처리
      * @param commentId 댓글 ID
-     * @param dto 수정할 댓글 데이터
-     * @return 수정된 댓글
-     * @throws IllegalArgumentException 댓글이 존재하지 않는 경우
+     * @param username 요청한 사용자 로그인 아이디
+     * @param author 요청한 사용자 이름 (작성자 아이디가 없는 기존 댓글에만 사용)
+     * @param content 수정할 내용
+     * @throws NotFoundException 댓글이 존재하지 않는 경우
+     * @throws NotAuthorException 본인 댓글이 아닌 경우
      */
     @Transactional
-    public Comment updateComment(Long commentId, CommentDto dto) {
-        Comment comment = findCommentById(commentId);
-
-        // 댓글 내용 수정
-        comment.updateContent(dto.getContent());
-
-        return comment; // JPA 더티 체킹으로 자동 업데이트
+    public void updateOwnComment(Long commentId, String username, String author, String content) {
+        Post post = lockPostOfComment(commentId);
+        if (commentRepository.updateContentIfAuthor(commentId, username, author, content, LocalDateTime.now()) == 0) {
+            throw missingOrNotAuthor(commentId, "수정");
+        }
+        commentChangeService.record(post, CommentChangeType.UPDATED, List.of(commentId));
     }
 
     /**
-     * 댓글 삭제
-     * 대댓글이 있는 경우 함께 삭제됨 (CASCADE)
+     * 본인 댓글 삭제 (모든 하위 댓글 포함)
+     * 작성자 조건을 건 하위 댓글 삭제와 댓글 삭제를 하나의 트랜잭션에서 처리 (엔티티를 조회하지 않음)
+     * 하위 댓글은 가장 깊은 단계부터 지우고, 삭제된 모든 댓글을 변경 기록과 이벤트에 남김
      * @param commentId 댓글 ID
-     * @throws IllegalArgumentException 댓글이 존재하지 않는 경우
+     * @param username 요청한 사용자 로그인 아이디
+     * @param author 요청한 사용자 이름 (작성자 아이디가 없는 기존 댓글에만 사용)
+     * @throws NotFoundException 댓글이 존재하지 않는 경우
+     * @throws NotAuthorException 본인 댓글이 아닌 경우
      */
     @Transactional
-    public void deleteComment(Long commentId) {
-        Comment comment = findCommentById(commentId);
+    public void deleteOwnComment(Long commentId, String username, String author) {
+        // 게시글 행 잠금으로 같은 게시글의 대댓글 작성과 직렬화되므로 모은 하위 댓글이 삭제 전에 바뀌지 않음
+        Post post = lockPostOfComment(commentId);
+        List<List<Long>> levels = findDescendantLevels(commentId);
+        for (int i = levels.size() - 1; i >= 0; i--) {
+            commentRepository.deleteRepliesIfAuthor(levels.get(i), commentId, username, author);
+        }
+        if (commentRepository.deleteIfAuthor(commentId, username, author) == 0) {
+            throw missingOrNotAuthor(commentId, "삭제");
+        }
+        List<Long> deletedIds = new ArrayList<>();
+        deletedIds.add(commentId);
+        levels.forEach(deletedIds::addAll);
+        commentChangeService.record(post, CommentChangeType.DELETED, deletedIds);
+        eventPublisher.publish(new CommentDeleted(post.getId(), deletedIds));
+    }
 
-        // 부모 댓글이 있는 경우 부모의 children 목록에서 제거
-        if (comment.getParent() != null) {
-            comment.getParent().getChildren().remove(comment);
+    /**
+     * 하위 댓글 ID를 단계별로 조회 (바로 아래 대댓글부터, 대댓글의 대댓글도 포함)
+     * @param commentId 댓글 ID
+     * @return 단계별 하위 댓글 ID 목록 (하위 댓글이 없으면 빈 목록)
+     */
+    private List<List<Long>> findDescendantLevels(Long commentId) {
+        List<List<Long>> levels = new ArrayList<>();
+        List<Long> parents = List.of(commentId);
+        while (true) {
+            List<Long> replies = commentRepository.findReplyIds(parents);
+            if (replies.isEmpty()) {
+                return levels;
+            }
+            levels.add(replies);
+            parents = replies;
         }
+    }
+
+    /**
+     * 댓글이 속한 게시글 행 잠금 (댓글 변경 순번 발급 전)
+     */
+    private Post lockPostOfComment(Long commentId) {
+        Long postId = commentRepository.findPostIdById(commentId)
+                .orElseThrow(() -> new NotFoundException("해당 댓글이 존재하지 않습니다. ID: " + commentId));
+        return commentChangeService.lockPost(postId);
+    }
 
-        commentRepository.delete(comment);
-        // @OneToMany(cascade = CascadeType.ALL, orphanRemoval = true)로 인해
-        // 하위 댓글들도 자동으로 삭제됨
+    /**
+     * 조건부 수정/삭제가 실패한 원인 판별 (실패한 경우에만 추가 조회)
+     */
+    private RuntimeException missingOrNotAuthor(Long commentId, String action) {
+        if (commentRepository.existsById(commentId)) {
+            return new NotAuthorException("본인이 작성한 댓글만 " + action + "할 수 있습니다.");
+        }
+        return new NotFoundException("해당 댓글이 존재하지 않습니다. ID: " + commentId);
     }
 
     /**
      * 특정 게시글의 댓글 개수 조회
+     * 게시글이 보관된 경우 보관된 댓글 수를 조회
      * @param postId 게시글 ID
      * @return 댓글 개수 (대댓글 포함)
      */
     public Long getCommentCount(Long postId) {
-        return commentRepository.countByPostId(postId);
+        Long count = commentRepository.countByPostId(postId);
+        return count == 0 && isArchivedPost(postId) ? archiveService.getCommentCount(postId) : count;
+    }
+
+    /**
+     * 보관된 게시글 여부 (현재 게시글 테이블에 없으면 보관 대상으로 봄)
+     * 댓글이 비었다는 이유만으로 보관 테이블을 읽지 않도록 게시글 위치로 판단
+     */
+    private boolean isArchivedPost(Long postId) {
+        return !postRepository.existsById(postId);
     }
 
     /**
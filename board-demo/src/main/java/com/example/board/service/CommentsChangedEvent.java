@@ -0,0 +1,11 @@
+package com.example.board.service;
+
+/**
+ * 게시글의 댓글이 바뀌었음을 알리는 이벤트
+ * 변경을 기록한 쓰기 트랜잭션 안에서 발행되며, 구독자는 커밋 이후(@TransactionalEventListener)에만 받음
+ *
+ * @param postId 게시글 ID
+ * @param seq    이번 트랜잭션에서 발급한 마지막 변경 순번
+ */
+public record CommentsChangedEvent(Long postId, long seq) {
+}
@@ -0,0 +1,189 @@
+package com.example.board.service;
+
+import com.example.board.domain.Notification;
+import com.example.board.domain.NotificationType;
+import com.example.board.dto.CursorPageDto;
+import com.example.board.dto.NotificationViewDto;
+import com.example.board.event.CommentCreated;
+import com.example.board.exception.NotFoundException;
+import com.example.board.repository.NotificationRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 알림 서비스 (알림함)
+ * 내 게시글에 댓글이, 내 댓글에 답글이 달리면 알림을 남김
+ * 받는 사람은 로그인 아이디(username)로 구분 (표시 이름은 중복되거나 바뀔 수 있음)
+ *
+ * - 댓글 작성 이벤트(아웃박스)를 받은 릴레이 스레드에서 바로 저장하므로 댓글 작성 응답은 알림 저장을 기다리지 않음
+ * - 저장이 커밋된 뒤에야 이벤트 전달이 완료되므로, 인스턴스가 비정상 종료되거나 저장에 실패해도 아웃박스가 다시 전달
+ * - 같은 댓글의 알림은 한 번만 저장 (notifications.comment_id 유니크, 다시 전달된 이벤트는 건너뜀)
+ * - 읽지 않은 알림 수는 UnreadNotificationCounter가 캐시
+ */
+@Service
+public class NotificationService {
+
+  private static final String INSERT_SQL = "INSERT INTO notifications "
+      + "(recipient, type, post_id, comment_id, actor, preview, created_at) "
+      + "VALUES (:recipient, :type, :postId, :commentId, :actor, :preview, :createdAt)";
+
+  private static final int PREVIEW_LENGTH = 100;
+
+  private final NotificationRepository notificationRepository;
+  private final NamedParameterJdbcTemplate jdbcTemplate;
+  private final TransactionTemplate transactionTemplate;
+  private final UnreadNotificationCounter unreadCounter;
+  private final Counter written;
+
+  public NotificationService(NotificationRepository notificationRepository,
+      NamedParameterJdbcTemplate jdbcTemplate,
+      TransactionTemplate transactionTemplate,
+      UnreadNotificationCounter unreadCounter,
+      MeterRegistry meterRegistry) {
+    this.notificationRepository = notificationRepository;
+    this.jdbcTemplate = jdbcTemplate;
+    this.transactionTemplate = transactionTemplate;
+    this.unreadCounter = unreadCounter;
+    this.written = Counter.builder("board.notifications.written")
+        .description("저장된 알림 수")
+        .register(meterRegistry);
+  }
+
+  /**
+   * 알림 저장 (CommentNotificationListener가 댓글 작성 이벤트를 받아 호출)
+   * 자기 글/댓글에 단 댓글과 받는 사람을 알 수 없는 댓글은 알리지 않음
+   * 실패하면 예외를 그대로 던져 아웃박스가 나중에 다시 전달하도록 함
+   *
+   * @param event 댓글 작성 이벤트
+   * @return 새로 저장했으면 true (같은 댓글의 알림이 이미 있거나 알릴 대상이 아니면 false)
+   */
+  public boolean save(CommentCreated event) {
+    String recipient = event.repliedToUsername();
+    if (recipient == null || recipient.isBlank() || recipient.equals(event.authorUsername())) {
+      return false;
+    }
+    NewNotification notification = new NewNotification(
+        recipient,
+        event.parentId() == null ? NotificationType.COMMENT : NotificationType.REPLY,
+        event.postId(),
+        event.commentId(),
+        event.author(),
+        preview(event.content()),
+        LocalDateTime.now());
+
+    boolean saved = Boolean.TRUE.equals(transactionTemplate.execute(status -> insertNew(notification)));
+    if (saved) {
+      written.increment();
+      unreadCounter.add(recipient, 1);
+    }
+    return saved;
+  }
+
+  /**
+   * 알림함 (최신순, 커서 기반)
+   *
+   * @param recipient 받는 사람
+   * @param before    이전 페이지의 nextCursor (첫 페이지면 null)
+   * @param size      페이지 크기
+   * @return 알림 페이지
+   */
+  @Transactional(readOnly = true)
+  public CursorPageDto<NotificationViewDto> findInbox(String recipient, Long before, int size) {
+    PageRequest limit = PageRequest.ofSize(size + 1);
+    List<NotificationViewDto> rows = before == null
+        ? notificationRepository.findInbox(recipient, limit)
+        : notificationRepository.findInboxBefore(recipient, before, limit);
+    if (rows.size() <= size) {
+      return new CursorPageDto<>(rows, null);
+    }
+    List<NotificationViewDto> items = rows.subList(0, size);
+    return new CursorPageDto<>(items, String.valueOf(items.get(size - 1).getId()));
+  }
+
+  /**
+   * 읽지 않은 알림 수 (캐시)
+   *
+   * @param recipient 받는 사람
+   * @return 알림 수
+   */
+  public long countUnread(String recipient) {
+    return unreadCounter.get(recipient);
+  }
+
+  /**
+   * 알림 읽음 처리
+   *
+   * @param id        알림 ID
+   * @param recipient 받는 사람 (본인 알림만 처리)
+   * @return 알림이 가리키는 댓글로 이동할 주소
+   * @throws NotFoundException 본인 알림이 아니거나 존재하지 않는 경우
+   */
+  @Transactional
+  public String markRead(Long id, String recipient) {
+    Notification notification = notificationRepository.findByIdAndRecipient(id, recipient)
+        .orElseThrow(() -> new NotFoundException("해당 알림이 존재하지 않습니다. ID: " + id));
+    if (notificationRepository.markRead(id, recipient, LocalDateTime.now()) == 1) {
+      unreadCounter.add(recipient, -1);
+    }
+    return "/posts/" + notification.getPostId() + "#comment-" + notification.getCommentId();
+  }
+
+  /**
+   * 모든 알림 읽음 처리
+   *
+   * @param recipient 받는 사람
+   */
+  @Transactional
+  public void markAllRead(String recipient) {
+    int updated = notificationRepository.markAllRead(recipient, LocalDateTime.now());
+    unreadCounter.add(recipient, -updated);
+  }
+
+  /**
+   * 같은 댓글의 알림이 없을 때만 INSERT (댓글 작성 이벤트가 다시 전달된 경우 건너뜀)
+   *
+   * @return 저장했으면 true
+   */
+  private boolean insertNew(NewNotification notification) {
+    if (notificationRepository.existsByCommentId(notification.commentId())) {
+      return false;
+    }
+    return jdbcTemplate.update(INSERT_SQL, notification.toParams()) == 1;
+  }
+
+  private static String preview(String content) {
+    if (content == null) {
+      return "";
+    }
+    String singleLine = content.replaceAll("\\s+", " ").strip();
+    return singleLine.length() <= PREVIEW_LENGTH ? singleLine : singleLine.substring(0, PREVIEW_LENGTH - 1) + "…";
+  }
+
+  /**
+   * 저장할 알림
+   */
+  private record NewNotification(String recipient, NotificationType type, Long postId, Long commentId,
+      String actor, String preview, LocalDateTime createdAt) {
+
+    private SqlParameterSource toParams() {
+      return new MapSqlParameterSource()
+          .addValue("recipient", recipient)
+          .addValue("type", type.name())
+          .addValue("postId", postId)
+          .addValue("commentId", commentId)
+          .addValue("actor", actor)
+          .addValue("preview", preview)
+          .addValue("createdAt", createdAt);
+    }
+  }
+}
@@ -0,0 +1,171 @@
+package com.example.board.service;
+
+import com.example.board.scheduling.ClusterJobRunner;
+import com.example.board.scheduling.JobContext;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 오래된 게시글 보관 작업
+ * 일정 기간 동안 수정도 새 댓글도 없었던 게시글과 그 댓글 트리를 보관 테이블로 일괄 이동하여
+ * posts/comments 테이블(과 인덱스)을 최근 데이터 위주로 작게 유지
+ *
+ * - 배치 단위로 트랜잭션을 나누어 긴 잠금을 피함
+ * - 게시글 행을 먼저 잠가 이동 도중 새 댓글이 달리지 않도록 함
+ * - 엔티티를 거치지 않고 INSERT ... SELECT / DELETE 집합 연산으로 처리
+ * - 여러 인스턴스 중 임대를 획득한 한 곳에서만 실행하고, 처리한 마지막 게시글 ID를 체크포인트로 저장하여
+ *   중단되면 다음 실행(또는 임대를 이어받은 인스턴스)이 그 다음부터 이어서 처리
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class PostArchiveJob {
+
+  private static final String JOB_NAME = "post-archive";
+
+  private static final String COLD_POSTS = """
+      SELECT p.id FROM posts p
+      WHERE p.updated_at < :cutoff AND p.deleted_at IS NULL
+        AND NOT EXISTS (SELECT 1 FROM comments c WHERE c.post_id = p.id AND c.updated_at >= :cutoff)
+      """;
+
+  private final NamedParameterJdbcTemplate jdbcTemplate;
+  private final TransactionTemplate transactionTemplate;
+  private final ClusterJobRunner clusterJobRunner;
+
+  @Value("${archive.enabled:true}")
+  private boolean enabled;
+
+  // 마지막 활동 후 이 기간이 지나면 보관 대상
+  @Value("${archive.after-days:365}")
+  private int afterDays;
+
+  @Value("${archive.batch-size:500}")
+  private int batchSize;
+
+  @Value("${archive.lease-ttl-ms:300000}")
+  private long leaseTtlMillis;
+
+  /**
+   * 주기 실행 (기본: 매일 03:30)
+   */
+  @Scheduled(cron = "${archive.cron:0 30 3 * * *}")
+  public void run() {
+    if (!enabled) {
+      return;
+    }
+    LocalDateTime cutoff = LocalDateTime.now().minusDays(afterDays);
+    clusterJobRunner.runExclusively(JOB_NAME, Duration.ofMillis(leaseTtlMillis),
+        context -> archiveColdPosts(cutoff, context));
+  }
+
+  /**
+   * 기준 시각 이전에 마지막 활동이 있었던 게시글을 모두 보관 (체크포인트 없이 처음부터)
+   *
+   * @param cutoff 기준 시각
+   * @return 보관된 게시글 수
+   */
+  public int archiveColdPosts(LocalDateTime cutoff) {
+    return archiveColdPosts(cutoff, null);
+  }
+
+  /**
+   * 기준 시각 이전에 마지막 활동이 있었던 게시글을 체크포인트 이후부터 보관
+   * 임대를 잃으면 다음 배치 전에 중단
+   *
+   * @param cutoff  기준 시각
+   * @param context 작업 컨텍스트 (null이면 체크포인트 없이 실행)
+   * @return 보관된 게시글 수
+   */
+  private int archiveColdPosts(LocalDateTime cutoff, JobContext context) {
+    long start = System.currentTimeMillis();
+    long afterId = context != null ? context.getCheckpoint().map(Long::parseLong).orElse(0L) : 0L;
+    int total = 0;
+
+    while (context == null || context.isLeaseHeld()) {
+      long lastId = afterId;
+      BatchResult result = transactionTemplate.execute(status -> archiveBatch(cutoff, lastId));
+      if (result == null) {
+        if (context != null) {
+          context.clearCheckpoint();
+        }
+        break;
+      }
+      total += result.moved();
+      afterId = result.lastCandidateId();
+      if (context != null) {
+        context.saveCheckpoint(String.valueOf(afterId));
+      }
+    }
+
+    if (total > 0) {
+      log.info("게시글 보관 완료: {}건, {}ms (기준 {})", total, System.currentTimeMillis() - start, cutoff);
+    }
+    return total;
+  }
+
+  /**
+   * 한 배치 이동 (하나의 트랜잭션)
+   *
+   * @param afterId 이 ID 이후의 게시글만 대상
+   * @return 배치 결과 (더 이상 대상이 없으면 null)
+   */
+  private BatchResult archiveBatch(LocalDateTime cutoff, long afterId) {
+    MapSqlParameterSource params = new MapSqlParameterSource()
+        .addValue("cutoff", cutoff)
+        .addValue("afterId", afterId)
+        .addValue("now", LocalDateTime.now());
+
+    List<Long> candidates = jdbcTemplate.queryForList(
+        COLD_POSTS + " AND p.id > :afterId ORDER BY p.id LIMIT " + batchSize, params, Long.class);
+    if (candidates.isEmpty()) {
+      return null;
+    }
+    long lastCandidateId = candidates.get(candidates.size() - 1);
+
+    // 게시글 행 잠금 후 조건 재확인 (그 사이 수정/댓글이 생긴 게시글 제외)
+    params.addValue("ids", candidates);
+    jdbcTemplate.queryForList("SELECT id FROM posts WHERE id IN (:ids) FOR UPDATE", params, Long.class);
+    List<Long> ids = jdbcTemplate.queryForList(COLD_POSTS + " AND p.id IN (:ids)", params, Long.class);
+    if (ids.isEmpty()) {
+      return new BatchResult(lastCandidateId, 0);
+    }
+    params.addValue("ids", ids);
+
+    jdbcTemplate.update("""
+        INSERT INTO archived_posts (id, title, content, author, created_at, updated_at, image_path, archived_at)
+        SELECT id, title, content, author, created_at, updated_at, image_path, :now FROM posts WHERE id IN (:ids)
+        """, params);
+    jdbcTemplate.update("""
+        INSERT INTO archived_comments (id, content, author, created_at, updated_at, post_id, parent_id, archived_at)
+        SELECT id, content, author, created_at, updated_at, post_id, parent_id, :now FROM comments WHERE post_id IN (:ids)
+        """, params);
+
+    // 자기 참조 FK 때문에 부모 관계를 먼저 끊고 한 번에 삭제 (보관 테이블에는 parent_id가 그대로 남음)
+    jdbcTemplate.update("UPDATE comments SET parent_id = NULL WHERE post_id IN (:ids) AND parent_id IS NOT NULL", params);
+    jdbcTemplate.update("DELETE FROM comments WHERE post_id IN (:ids)", params);
+    jdbcTemplate.update("DELETE FROM comment_changes WHERE post_id IN (:ids)", params);
+    jdbcTemplate.update("DELETE FROM posts WHERE id IN (:ids)", params);
+
+    return new BatchResult(lastCandidateId, ids.size());
+  }
+
+  /**
+   * 배치 결과
+   *
+   * @param lastCandidateId 이번 배치에서 확인한 마지막 게시글 ID (다음 배치 시작점)
+   * @param moved           실제로 이동한 게시글 수
+   */
+  private record BatchResult(long lastCandidateId, int moved) {
+  }
+}
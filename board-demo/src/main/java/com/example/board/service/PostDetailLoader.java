@@ -0,0 +1,138 @@
+package com.example.board.service;
+
+import com.example.board.dto.CommentViewDto;
+import com.example.board.dto.PostDetailViewDto;
+import com.example.board.dto.PostViewDto;
+import com.example.board.exception.NotFoundException;
+import com.example.board.resilience.SingleFlight;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+/**
+ * 게시글 상세 화면 조회기
+ * 댓글 트리는 병렬 조회 실행기에 맡기고 게시글은 요청 스레드에서 조회하여(각각 별도의 읽기 전용 트랜잭션),
+ * 제한 시간 안에 결과를 합쳐 화면 지연 시간이 두 조회의 합이 아닌 최댓값이 되도록 함
+ * 요청 스레드는 어차피 결과를 기다려야 하므로 게시글 조회까지 넘기지 않아 실행기 사용량을 절반으로 줄임
+ *
+ * - 게시글 조회 실패는 그대로 전파 (없는 게시글, DB 장애 → 읽기 전용 스냅샷)
+ * - 댓글 조회가 실패하거나 시간을 넘기면 댓글 없이 게시글만 보여줌
+ * - 같은 게시글에 대한 동시 조회는 SingleFlight로 합쳐 DB에는 한 번만 조회
+ *   (쓰기 직후의 조회는 쓰기 이전에 시작된 조회에 합류하면 방금 쓴 내용이 빠지므로 합치지 않음)
+ */
+@Component
+@Slf4j
+public class PostDetailLoader {
+
+  private final PostService postService;
+  private final CommentService commentService;
+  private final ThreadPoolTaskExecutor readExecutor;
+  private final long timeoutMillis;
+  private final SingleFlight<Long, PostViewDto> postLoads;
+  private final SingleFlight<Long, List<CommentViewDto>> commentLoads;
+
+  public PostDetailLoader(PostService postService,
+      CommentService commentService,
+      @Qualifier("readExecutor") ThreadPoolTaskExecutor readExecutor,
+      @Value("${post.detail.fetch-timeout-ms:2000}") long timeoutMillis,
+      MeterRegistry meterRegistry) {
+    this.postService = postService;
+    this.commentService = commentService;
+    this.readExecutor = readExecutor;
+    this.timeoutMillis = timeoutMillis;
+    this.postLoads = new SingleFlight<>("post", meterRegistry);
+    this.commentLoads = new SingleFlight<>("comment-tree", meterRegistry);
+  }
+
+  /**
+   * 게시글 상세 화면 데이터 조회
+   *
+   * @param postId 게시글 ID
+   * @return 상세 화면 DTO
+   * @throws NotFoundException 게시글이 존재하지 않는 경우
+   */
+  public PostDetailViewDto load(Long postId) {
+    return load(postId, false);
+  }
+
+  /**
+   * 게시글 상세 화면 데이터 조회
+   *
+   * @param postId     게시글 ID
+   * @param afterWrite 쓰기 직후의 조회 여부 (진행 중인 조회에 합류하지 않고 새로 조회)
+   * @return 상세 화면 DTO
+   * @throws NotFoundException 게시글이 존재하지 않는 경우
+   */
+  public PostDetailViewDto load(Long postId, boolean afterWrite) {
+    long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeoutMillis);
+
+    Supplier<CompletableFuture<List<CommentViewDto>>> commentLoader =
+        () -> CompletableFuture.supplyAsync(() -> commentService.findCommentTreeByPostId(postId), readExecutor);
+    // 먼저 도착한 요청은 자기 스레드에서 바로 조회하고, 그동안 들어온 같은 게시글 요청은 그 결과를 기다림
+    Supplier<CompletableFuture<PostViewDto>> postLoader =
+        () -> CompletableFuture.completedFuture(postService.findPostView(postId));
+
+    CompletableFuture<List<CommentViewDto>> commentsFuture = afterWrite
+        ? commentLoads.loadFresh(postId, commentLoader) : commentLoads.load(postId, commentLoader);
+    CompletableFuture<PostViewDto> postFuture = afterWrite
+        ? postLoads.loadFresh(postId, postLoader) : postLoads.load(postId, postLoader);
+
+    PostViewDto post;
+    try {
+      post = await(postFuture, deadline);
+    } catch (RuntimeException e) {
+      commentsFuture.cancel(true);
+      throw e;
+    }
+
+    List<CommentViewDto> comments;
+    boolean commentsAvailable = true;
+    try {
+      comments = await(commentsFuture, deadline);
+    } catch (RuntimeException e) {
+      log.warn("댓글 조회 실패, 댓글 없이 표시: postId={}, {}", postId, e.toString());
+      commentsFuture.cancel(true);
+      comments = List.of();
+      commentsAvailable = false;
+    }
+
+    return PostDetailViewDto.builder()
+        .post(post)
+        .comments(comments)
+        .commentCount(CommentViewDto.countAll(comments))
+        .commentsAvailable(commentsAvailable)
+        .build();
+  }
+
+  /**
+   * 기한까지 결과 대기 (작업에서 발생한 예외는 원래 예외로 다시 던짐)
+   */
+  private static <T> T await(CompletableFuture<T> future, long deadlineNanos) {
+    try {
+      return future.get(Math.max(0, deadlineNanos - System.nanoTime()), TimeUnit.NANOSECONDS);
+    } catch (TimeoutException e) {
+      throw new QueryTimeoutException("게시글 상세 조회 시간 초과", e);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new QueryTimeoutException("게시글 상세 조회 중단", e);
+    } catch (ExecutionException | CompletionException e) {
+      Throwable cause = e.getCause();
+      if (cause instanceof RuntimeException runtimeException) {
+        throw runtimeException;
+      }
+      throw new IllegalStateException(cause);
+    }
+  }
+}
@@ -0,0 +1,181 @@
+package com.example.board.service;
+
+import com.example.board.scheduling.ClusterJobRunner;
+import com.example.board.scheduling.JobContext;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * 삭제된 게시글 정리 작업
+ * 삭제 표시(deleted_at)된 게시글의 댓글을 배치 단위 집합 연산으로 지우고, 마지막으로 게시글 행과 이미지를 정리
+ *
+ * - 댓글은 대댓글이 없는 댓글(잎)부터 배치 단위로 삭제하여 자기 참조 FK를 지키면서 긴 트랜잭션을 피함
+ * - 게시글 행은 댓글이 모두 지워진 뒤 같은 트랜잭션에서 남은 댓글이 없는지 확인하고 삭제
+ * - 이미지는 게시글 행 삭제가 커밋된 뒤, 다른 게시글이 같은 파일을 참조하지 않을 때만 삭제
+ * - 삭제 대기 게시글 조회는 posts.deleted_at 인덱스를 사용하고, 정리할 게시글이 없으면
+ *   다음 조회까지의 간격을 max-idle-interval-ms까지 두 배씩 늘림 (찾으면 다시 interval-ms 주기)
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class PostPurgeJob {
+
+  private static final String JOB_NAME = "post-purge";
+
+  private final NamedParameterJdbcTemplate jdbcTemplate;
+  private final TransactionTemplate transactionTemplate;
+  private final ClusterJobRunner clusterJobRunner;
+  private final FileService fileService;
+
+  @Value("${post.purge.batch-size:1000}")
+  private int batchSize;
+
+  // 한 번 실행에서 정리할 최대 게시글 수
+  @Value("${post.purge.max-posts-per-run:100}")
+  private int maxPostsPerRun;
+
+  @Value("${post.purge.lease-ttl-ms:60000}")
+  private long leaseTtlMillis;
+
+  @Value("${post.purge.interval-ms:5000}")
+  private long intervalMillis;
+
+  // 정리할 게시글이 없을 때 늘려 가는 조회 간격의 상한
+  @Value("${post.purge.max-idle-interval-ms:60000}")
+  private long maxIdleIntervalMillis;
+
+  private volatile long idleIntervalMillis;
+  private volatile long nextRunAtMillis;
+
+  /**
+   * 주기 실행 (기본: 5초 간격, 정리할 게시글이 없으면 간격을 늘려 건너뜀)
+   */
+  @Scheduled(fixedDelayString = "${post.purge.interval-ms:5000}")
+  public void run() {
+    if (System.currentTimeMillis() < nextRunAtMillis) {
+      return;
+    }
+    clusterJobRunner.runExclusively(JOB_NAME, Duration.ofMillis(leaseTtlMillis), this::purgeDeletedPosts);
+  }
+
+  /**
+   * 삭제 표시된 게시글을 오래된 순으로 정리
+   *
+   * @return 완전히 삭제된 게시글 수
+   */
+  private int purgeDeletedPosts(JobContext context) {
+    List<Long> postIds = jdbcTemplate.queryForList(
+        "SELECT id FROM posts WHERE deleted_at IS NOT NULL ORDER BY deleted_at LIMIT " + maxPostsPerRun,
+        new MapSqlParameterSource(), Long.class);
+    if (postIds.isEmpty()) {
+      idleIntervalMillis = idleIntervalMillis == 0 ? intervalMillis
+          : Math.min(maxIdleIntervalMillis, idleIntervalMillis * 2);
+      nextRunAtMillis = System.currentTimeMillis() + idleIntervalMillis;
+      return 0;
+    }
+    idleIntervalMillis = 0;
+    nextRunAtMillis = 0;
+
+    int purged = 0;
+    for (Long postId : postIds) {
+      if (!context.isLeaseHeld()) {
+        break;
+      }
+      try {
+        if (purgePost(postId, context)) {
+          purged++;
+        }
+      } catch (RuntimeException e) {
+        // 다음 실행에서 다시 시도
+        log.warn("삭제된 게시글 정리 실패: postId={}", postId, e);
+      }
+    }
+    return purged;
+  }
+
+  /**
+   * 게시글 하나의 댓글/행/이미지 정리
+   *
+   * @return 게시글 행까지 삭제되었으면 true
+   */
+  private boolean purgePost(Long postId, JobContext context) {
+    MapSqlParameterSource params = new MapSqlParameterSource("postId", postId);
+    long start = System.currentTimeMillis();
+    int deletedComments = 0;
+
+    int deleted;
+    do {
+      if (!context.isLeaseHeld()) {
+        return false;
+      }
+      deleted = transactionTemplate.execute(status -> deleteCommentBatch(params));
+      deletedComments += deleted;
+    } while (deleted > 0);
+
+    List<String> imagePaths = jdbcTemplate.queryForList(
+        "SELECT image_path FROM posts WHERE id = :postId", params, String.class);
+    Boolean removed = transactionTemplate.execute(status -> {
+      Integer remaining = jdbcTemplate.queryForObject(
+          "SELECT COUNT(*) FROM comments WHERE post_id = :postId", params, Integer.class);
+      if (remaining != null && remaining > 0) {
+        // 삭제 표시 직전에 작성된 댓글이 남은 경우 다음 실행에서 마저 정리
+        return false;
+      }
+      jdbcTemplate.update("DELETE FROM comment_changes WHERE post_id = :postId", params);
+      jdbcTemplate.update("DELETE FROM notifications WHERE post_id = :postId", params);
+      return jdbcTemplate.update("DELETE FROM posts WHERE id = :postId AND deleted_at IS NOT NULL", params) == 1;
+    });
+    if (!Boolean.TRUE.equals(removed)) {
+      return false;
+    }
+
+    String imagePath = imagePaths.isEmpty() ? null : imagePaths.get(0);
+    if (imagePath != null && !isImageReferenced(imagePath)) {
+      fileService.deleteImage(imagePath);
+    }
+
+    log.info("삭제된 게시글 정리 완료: postId={}, 댓글 {}건, {}ms",
+        postId, deletedComments, System.currentTimeMillis() - start);
+    return true;
+  }
+
+  /**
+   * 대댓글이 없는 댓글을 한 배치만큼 삭제 (하나의 트랜잭션)
+   *
+   * @return 삭제된 댓글 수
+   */
+  private int deleteCommentBatch(MapSqlParameterSource params) {
+    List<Long> ids = jdbcTemplate.queryForList("""
+        SELECT c.id FROM comments c
+        WHERE c.post_id = :postId
+          AND NOT EXISTS (SELECT 1 FROM comments r WHERE r.parent_id = c.id)
+        ORDER BY c.id LIMIT
+        """ + batchSize, params, Long.class);
+    if (ids.isEmpty()) {
+      return 0;
+    }
+    return jdbcTemplate.update("DELETE FROM comments WHERE id IN (:ids)",
+        new MapSqlParameterSource("ids", ids));
+  }
+
+  /**
+   * 다른 게시글(보관 포함)이 같은 이미지를 참조하는지 확인
+   */
+  private boolean isImageReferenced(String imagePath) {
+    MapSqlParameterSource params = new MapSqlParameterSource("imagePath", imagePath);
+    Integer live = jdbcTemplate.queryForObject(
+        "SELECT COUNT(*) FROM posts WHERE image_path = :imagePath", params, Integer.class);
+    Integer archived = jdbcTemplate.queryForObject(
+        "SELECT COUNT(*) FROM archived_posts WHERE image_path = :imagePath", params, Integer.class);
+    return (live != null && live > 0) || (archived != null && archived > 0);
+  }
+}
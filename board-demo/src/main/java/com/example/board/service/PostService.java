@@ -1,11 +1,22 @@
 package com.example.board.service;
 
 import com.example.board.domain.Post;
+import com.example.board.dto.PostCursor;
+import com.example.board.dto.PostSummaryDto;
+import com.example.board.dto.PostViewDto;
+import com.example.board.event.DomainEventPublisher;
+import com.example.board.event.PostCreated;
+import com.example.board.event.PostDeleted;
+import com.example.board.event.PostUpdated;
+import com.example.board.exception.NotAuthorException;
+import com.example.board.exception.NotFoundException;
 import com.example.board.repository.PostRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 /**
@@ -18,6 +29,8 @@ import java.util.List;
 public class PostService {
 
   private final PostRepository postRepository;
+  private final ArchiveService archiveService;
+  private final DomainEventPublisher eventPublisher;
 
   /**
    * 모든 게시글 목록 조회 (최신순)
@@ -28,101 +41,202 @@ public class PostService {
     return postRepository.findAllByOrderByCreatedAtDesc();
   }
 
+  /**
+   * 모든 게시글 목록 조회 (화면용 DTO, 최신순)
+   * 트랜잭션 안에서 DTO로 변환하므로 렌더링 중에는 커넥션을 점유하지 않음
+   *
+   * @return 게시글 DTO 목록
+   */
+  public List<PostViewDto> findAllPostViews() {
+    return findAllPosts().stream().map(PostViewDto::from).toList();
+  }
+
+  /**
+   * 게시글 목록의 다음 묶음 조회 (화면용 DTO, 최신순)
+   * 목록 스트리밍(PostViewStream)에서 묶음마다 호출되며, 호출마다 짧은 읽기 트랜잭션으로 처리
+   *
+   * @param cursor 마지막으로 읽은 게시글 (첫 묶음이면 null)
+   * @param size   묶음 크기
+   * @return 게시글 DTO 목록 (size보다 적으면 마지막 묶음)
+   */
+  public List<PostViewDto> findPostViewsAfter(PostViewDto cursor, int size) {
+    PageRequest chunk = PageRequest.ofSize(size);
+    List<Post> posts = cursor == null
+        ? postRepository.findLatest(chunk)
+        : postRepository.findLatestBefore(cursor.getCreatedAt(), cursor.getId(), chunk);
+    return posts.stream().map(PostViewDto::from).toList();
+  }
+
+  /**
+   * 게시글 요약 목록 조회 (API용, 본문 제외, 최신순)
+   *
+   * @param cursor 마지막으로 받은 게시글 위치 (첫 페이지는 PostCursor.FIRST)
+   * @param limit  조회 개수
+   * @return 게시글 요약 목록
+   */
+  public List<PostSummaryDto> findPostSummaries(PostCursor cursor, int limit) {
+    return postRepository.findSummariesBefore(cursor.createdAt(), cursor.id(), PageRequest.ofSize(limit));
+  }
+
+  /**
+   * 제목으로 게시글 요약 검색 (API용, 본문 제외, 최신순)
+   *
+   * @param keyword 검색어 (부분 일치, 대소문자 무시)
+   * @param cursor  마지막으로 받은 게시글 위치 (첫 페이지는 PostCursor.FIRST)
+   * @param limit   조회 개수
+   * @return 게시글 요약 목록
+   */
+  public List<PostSummaryDto> searchPostSummaries(String keyword, PostCursor cursor, int limit) {
+    String escaped = keyword.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_");
+    return postRepository.searchSummariesBefore(escaped, cursor.createdAt(), cursor.id(), PageRequest.ofSize(limit));
+  }
+
+  /**
+   * 게시글 상세 조회 (화면/API 공용, 엔티티를 만들지 않는 프로젝션)
+   * 현재 게시글에 없으면 보관된 게시글에서 조회
+   *
+   * @param id 게시글 ID
+   * @return 게시글 DTO
+   * @throws NotFoundException 게시글이 존재하지 않는 경우
+   */
+  public PostViewDto findPostView(Long id) {
+    return postRepository.findViewById(id)
+        .or(() -> archiveService.findPost(id).map(PostViewDto::from))
+        .orElseThrow(() -> new NotFoundException("해당 게시글이 존재하지 않습니다. ID: " + id));
+  }
+
   /**
    * 게시글 상세 조회
+   * 현재 게시글에 없으면 보관된 게시글에서 조회 (보관된 게시글은 읽기 전용)
    * 
    * @param id 게시글 ID
    * @return 게시글 정보
-   * @throws IllegalArgumentException 게시글이 존재하지 않는 경우
+   * @throws NotFoundException 게시글이 존재하지 않는 경우
    */
   public Post findPostById(Long id) {
     return postRepository.findById(id)
-        .orElseThrow(() -> new IllegalArgumentException("해당 게시글이 존재하지 않습니다. ID: " + id));
+        .or(() -> archiveService.findPost(id))
+        .orElseThrow(() -> new NotFoundException("해당 게시글이 존재하지 않습니다. ID: " + id));
   }
 
   /**
    * 게시글 작성
    * 
-   * @param title   제목
-   * @param content 내용
-   * @param author  작성자
+   * @param title          제목
+   * @param content        내용
+   * @param author         작성자
+   * @param authorUsername 작성자 로그인 아이디 (알림 받는 사람)
    * @return 저장된 게시글
    */
   @Transactional
-  public Post createPost(String title, String content, String author) {
+  public Post createPost(String title, String content, String author, String authorUsername) {
     Post post = Post.builder()
         .title(title)
         .content(content)
         .author(author)
+        .authorUsername(authorUsername)
         .build();
 
-    return postRepository.save(post);
+    Post saved = postRepository.save(post);
+    eventPublisher.publish(new PostCreated(saved.getId(), saved.getAuthor(), saved.getTitle()));
+    return saved;
   }
 
   /**
    * 게시글 작성 (이미지 포함)
    * 
-   * @param title     제목
-   * @param content   내용
-   * @param author    작성자
-   * @param imagePath 이미지 경로
+   * @param title          제목
+   * @param content        내용
+   * @param author         작성자
+   * @param authorUsername 작성자 로그인 아이디 (알림 받는 사람)
+   * @param imagePath      이미지 경로
    * @return 저장된 게시글
    */
   @Transactional
-  public Post createPostWithImage(String title, String content, String author, String imagePath) {
+  public Post createPostWithImage(String title, String content, String author, String authorUsername,
+      String imagePath) {
     Post post = Post.builder()
         .title(title)
         .content(content)
         .author(author)
+        .authorUsername(authorUsername)
         .imagePath(imagePath)
         .build();
 
-    return postRepository.save(post);
+    Post saved = postRepository.save(post);
+    eventPublisher.publish(new PostCreated(saved.getId(), saved.getAuthor(), saved.getTitle()));
+    return saved;
   }
 
   /**
-   * 게시글 수정
-   * 
-   * @param id      게시글 ID
-   * @param title   수정할 제목
-   * @param content 수정할 내용
-   * @return 수정된 게시글
-   * @throws IllegalArgumentException 게시글이 존재하지 않는 경우
+   * 본인 게시글 수정 (이미지 교체/삭제 포함)
+   * 작성자 확인을 수정 쿼리의 조건으로 처리하여 미리 조회하지 않음
+   * - 이미지 변경이 없으면 조건부 UPDATE 한 번으로 처리
+   * - 이미지 변경이 있으면 작성자 조건으로 행을 잠가 조회한 뒤 수정하고, 교체된 기존 이미지를 반환
+   * 반환된 경로의 파일 삭제는 호출하는 쪽에서 커밋 이후에 처리
+   *
+   * @param id           게시글 ID
+   * @param username     요청한 사용자 로그인 아이디
+   * @param author       요청한 사용자 이름 (작성자 아이디가 없는 기존 게시글에만 사용)
+   * @param title        수정할 제목
+   * @param content      수정할 내용
+   * @param newImagePath 새로 저장된 이미지 경로 (없으면 null)
+   * @param removeImage  기존 이미지 삭제 요청 여부
+   * @return 더 이상 참조되지 않는 기존 이미지 경로 (없으면 null)
+   * @throws NotFoundException 게시글이 존재하지 않는 경우
+   * @throws NotAuthorException       본인 게시글이 아닌 경우
    */
   @Transactional
-  public Post updatePost(Long id, String title, String content) {
-    Post post = findPostById(id);
-    post.update(title, content);
-    return post;
+  public String updateOwnPost(Long id, String username, String author, String title, String content,
+      String newImagePath, boolean removeImage) {
+    if (newImagePath == null && !removeImage) {
+      if (postRepository.updateIfAuthor(id, username, author, title, content, LocalDateTime.now()) == 0) {
+        throw missingOrNotAuthor(id, "수정");
+      }
+      eventPublisher.publish(new PostUpdated(id));
+      return null;
+    }
+
+    Post post = postRepository.findByIdAndAuthorForUpdate(id, username, author)
+        .orElseThrow(() -> missingOrNotAuthor(id, "수정"));
+
+    String oldImagePath = post.getImagePath();
+    String imagePath = removeImage ? null : oldImagePath;
+    if (newImagePath != null) {
+      imagePath = newImagePath;
+    }
+
+    post.updateWithImage(title, content, imagePath);
+    eventPublisher.publish(new PostUpdated(id));
+    return oldImagePath != null && !oldImagePath.equals(imagePath) ? oldImagePath : null;
   }
 
   /**
-   * 게시글 수정 (이미지 포함)
-   * 
-   * @param id        게시글 ID
-   * @param title     수정할 제목
-   * @param content   수정할 내용
-   * @param imagePath 수정할 이미지 경로
-   * @return 수정된 게시글
-   * @throws IllegalArgumentException 게시글이 존재하지 않는 경우
+   * 본인 게시글 삭제
+   * 작성자 확인과 삭제 표시(tombstone)를 조건부 UPDATE 한 번으로 처리
+   *
+   * @param id       게시글 ID
+   * @param username 요청한 사용자 로그인 아이디
+   * @param author   요청한 사용자 이름 (작성자 아이디가 없는 기존 게시글에만 사용)
+   * @throws NotFoundException 게시글이 존재하지 않는 경우
+   * @throws NotAuthorException       본인 게시글이 아닌 경우
    */
   @Transactional
-  public Post updatePostWithImage(Long id, String title, String content, String imagePath) {
-    Post post = findPostById(id);
-    post.updateWithImage(title, content, imagePath);
-    return post;
+  public void deleteOwnPost(Long id, String username, String author) {
+    if (postRepository.markDeletedIfAuthor(id, username, author, LocalDateTime.now()) == 0) {
+      throw missingOrNotAuthor(id, "삭제");
+    }
+    eventPublisher.publish(new PostDeleted(id));
   }
 
   /**
-   * 게시글 삭제
-   * 
-   * @param id 게시글 ID
-   * @throws IllegalArgumentException 게시글이 존재하지 않는 경우
+   * 조건부 수정/삭제가 실패한 원인 판별 (실패한 경우에만 추가 조회)
    */
-  @Transactional
-  public void deletePost(Long id) {
-    Post post = findPostById(id);
-    postRepository.delete(post);
+  private RuntimeException missingOrNotAuthor(Long id, String action) {
+    if (postRepository.existsById(id)) {
+      return new NotAuthorException("본인이 작성한 게시글만 " + action + "할 수 있습니다.");
+    }
+    return new NotFoundException("해당 게시글이 존재하지 않습니다. ID: " + id);
   }
 
   /**
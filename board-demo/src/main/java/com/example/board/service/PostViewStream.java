@@ -0,0 +1,129 @@
+package com.example.board.service;
+
+import com.example.board.dto.PostViewDto;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.transaction.TransactionException;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.function.BiFunction;
+import java.util.function.Consumer;
+
+/**
+ * 게시글 목록 스트리밍 소스
+ * 템플릿의 th:each가 순회하는 만큼만 묶음(chunk) 단위로 조회하여 목록 길이와 관계없이 요청당 메모리를 일정하게 유지
+ * 묶음마다 별도의 짧은 읽기 트랜잭션으로 조회하므로 렌더링 내내 커넥션을 점유하지 않음
+ *
+ * - 첫 묶음은 생성 시 미리 조회 (DB 장애면 컨트롤러에서 스냅샷 목록으로 전환할 수 있도록)
+ * - 다음 묶음을 조회하기 전에 beforeFetch를 호출하여 지금까지 렌더링한 HTML을 먼저 내보냄
+ * - 렌더링 도중 조회에 실패하면 이미 보낸 부분까지만 보여주고 목록을 끝냄
+ * - 끝까지 순회하면 앞부분(snapshotLimit개)을 onComplete로 전달 (읽기 전용 모드 스냅샷용)
+ * - 한 번만 순회할 수 있음
+ */
+@Slf4j
+public class PostViewStream implements Iterable<PostViewDto> {
+
+  private final BiFunction<PostViewDto, Integer, List<PostViewDto>> chunkLoader;
+  private final int chunkSize;
+  private final Runnable beforeFetch;
+  private final int snapshotLimit;
+  private final Consumer<List<PostViewDto>> onComplete;
+  private final List<PostViewDto> firstChunk;
+  private boolean iterated;
+
+  /**
+   * @param chunkLoader   (커서, 묶음 크기) → 다음 묶음 (첫 묶음의 커서는 null)
+   * @param chunkSize     묶음 크기
+   * @param beforeFetch   다음 묶음 조회 직전에 호출 (응답 flush)
+   * @param snapshotLimit onComplete로 전달할 최대 게시글 수
+   * @param onComplete    끝까지 순회했을 때 앞부분 게시글을 받는 콜백
+   */
+  public PostViewStream(BiFunction<PostViewDto, Integer, List<PostViewDto>> chunkLoader, int chunkSize,
+      Runnable beforeFetch, int snapshotLimit, Consumer<List<PostViewDto>> onComplete) {
+    this.chunkLoader = chunkLoader;
+    this.chunkSize = chunkSize;
+    this.beforeFetch = beforeFetch;
+    this.snapshotLimit = snapshotLimit;
+    this.onComplete = onComplete;
+    this.firstChunk = chunkLoader.apply(null, chunkSize);
+  }
+
+  /**
+   * 게시글이 하나도 없는지 확인 (첫 묶음 기준이므로 추가 조회 없음)
+   */
+  public boolean isEmpty() {
+    return firstChunk.isEmpty();
+  }
+
+  @Override
+  public Iterator<PostViewDto> iterator() {
+    if (iterated) {
+      throw new IllegalStateException("게시글 목록 스트림은 한 번만 순회할 수 있습니다.");
+    }
+    iterated = true;
+    return new ChunkIterator();
+  }
+
+  private class ChunkIterator implements Iterator<PostViewDto> {
+
+    private final List<PostViewDto> snapshot = new ArrayList<>();
+    private List<PostViewDto> chunk = firstChunk;
+    private int index;
+    private boolean lastChunk = firstChunk.size() < chunkSize;
+    private boolean failed;
+    private boolean completed;
+
+    @Override
+    public boolean hasNext() {
+      if (index < chunk.size()) {
+        return true;
+      }
+      if (!lastChunk) {
+        fetchNextChunk();
+        if (index < chunk.size()) {
+          return true;
+        }
+      }
+      complete();
+      return false;
+    }
+
+    @Override
+    public PostViewDto next() {
+      if (!hasNext()) {
+        throw new NoSuchElementException();
+      }
+      PostViewDto post = chunk.get(index++);
+      if (snapshot.size() < snapshotLimit) {
+        snapshot.add(post);
+      }
+      return post;
+    }
+
+    private void fetchNextChunk() {
+      PostViewDto cursor = chunk.get(chunk.size() - 1);
+      beforeFetch.run();
+      try {
+        chunk = chunkLoader.apply(cursor, chunkSize);
+        lastChunk = chunk.size() < chunkSize;
+      } catch (DataAccessException | TransactionException e) {
+        log.warn("게시글 목록 스트리밍 중 조회 실패, 이후 목록 생략: {}", e.getMessage());
+        chunk = List.of();
+        lastChunk = true;
+        failed = true;
+      }
+      index = 0;
+    }
+
+    private void complete() {
+      if (completed || failed) {
+        return;
+      }
+      completed = true;
+      onComplete.accept(List.copyOf(snapshot));
+    }
+  }
+}
@@ -0,0 +1,99 @@
+package com.example.board.service;
+
+import com.example.board.repository.NotificationRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 읽지 않은 알림 수 캐시
+ * 모든 화면 상단의 알림 배지가 매번 COUNT 쿼리를 실행하지 않도록 사용자별 카운터를 메모리에 유지
+ *
+ * - 처음 조회할 때와 ttl-ms가 지난 뒤에만 DB에서 다시 셈 (다른 인스턴스에서 저장/읽음 처리한 알림 반영)
+ * - 이 인스턴스에서 알림을 저장하거나 읽음 처리하면 카운터를 바로 증감
+ * - 조회와 증감이 겹치면 잠시 어긋날 수 있으나 다음 재계산에서 맞춰짐
+ */
+@Component
+public class UnreadNotificationCounter {
+
+  private final NotificationRepository notificationRepository;
+  private final long ttlMillis;
+  private final int maxEntries;
+
+  private final Map<String, Entry> counts = new ConcurrentHashMap<>();
+
+  public UnreadNotificationCounter(NotificationRepository notificationRepository,
+      @Value("${notification.unread-cache.ttl-ms:60000}") long ttlMillis,
+      @Value("${notification.unread-cache.max-entries:10000}") int maxEntries) {
+    this.notificationRepository = notificationRepository;
+    this.ttlMillis = ttlMillis;
+    this.maxEntries = maxEntries;
+  }
+
+  /**
+   * 읽지 않은 알림 수
+   *
+   * @param recipient 받는 사람
+   * @return 알림 수 (캐시에 없거나 만료됐을 때만 DB 조회)
+   */
+  public long get(String recipient) {
+    long now = System.currentTimeMillis();
+    Entry entry = counts.get(recipient);
+    if (entry == null || now - entry.loadedAt > ttlMillis) {
+      entry = new Entry(notificationRepository.countByRecipientAndReadAtIsNull(recipient), now);
+      if (counts.size() >= maxEntries) {
+        evictOne();
+      }
+      counts.put(recipient, entry);
+    }
+    return Math.max(0, entry.count.get());
+  }
+
+  /**
+   * 카운터 증감 (캐시에 없는 사용자는 다음 조회 때 DB에서 셈)
+   *
+   * @param recipient 받는 사람
+   * @param delta     증감할 수
+   */
+  public void add(String recipient, long delta) {
+    Entry entry = counts.get(recipient);
+    if (entry != null) {
+      entry.count.addAndGet(delta);
+    }
+  }
+
+  /**
+   * 캐시 항목 제거 (다음 조회 때 DB에서 다시 셈)
+   *
+   * @param recipient 받는 사람
+   */
+  public void invalidate(String recipient) {
+    counts.remove(recipient);
+  }
+
+  /**
+   * 크기 제한을 넘으면 임의의 항목 하나 제거 (다음 조회 때 다시 셈)
+   */
+  private void evictOne() {
+    Iterator<String> keys = counts.keySet().iterator();
+    if (keys.hasNext()) {
+      keys.next();
+      keys.remove();
+    }
+  }
+
+  private static class Entry {
+
+    private final AtomicLong count;
+    private final long loadedAt;
+
+    private Entry(long count, long loadedAt) {
+      this.count = new AtomicLong(count);
+      this.loadedAt = loadedAt;
+    }
+  }
+}
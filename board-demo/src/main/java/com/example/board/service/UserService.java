@@ -2,6 +2,8 @@ package com.example.board.service;
 
 import com.example.board.domain.User;
 import com.example.board.dto.SignupRequestDto;
+import com.example.board.event.DomainEventPublisher;
+import com.example.board.event.UserRenamed;
 import com.example.board.exception.DuplicateUsernameException;
 import com.example.board.exception.InvalidLoginException;
 import com.example.board.repository.UserRepository;
@@ -21,6 +23,7 @@ public class UserService {
 
   private final UserRepository userRepository;
   private final PasswordEncoder passwordEncoder;
+  private final DomainEventPublisher eventPublisher;
 
   /**
    * 회원가입 처리
@@ -118,7 +121,11 @@ public class UserService {
     User user = userRepository.findById(userId)
         .orElseThrow(() -> new IllegalArgumentException("회원 정보를 찾을 수 없습니다."));
 
+    String oldName = user.getName();
     user.changeName(newName);
+    if (!oldName.equals(newName)) {
+      eventPublisher.publish(new UserRenamed(userId, oldName, newName));
+    }
     return user;
   }
 }
@@ -0,0 +1,246 @@
+package com.example.board.startup;
+
+import com.example.board.dto.PostDetailViewDto;
+import com.example.board.repository.CommentRepository;
+import com.example.board.resilience.ReadSnapshotCache;
+import com.example.board.service.PostDetailLoader;
+import com.example.board.service.PostService;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.core.env.Environment;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * 시작 시 예열(warm-up)
+ * 배포 직후 빈 커넥션 풀, 빈 스냅샷 캐시, 식지 않은 JIT 상태로 트래픽을 받지 않도록 시작 단계에서 미리 데워둠
+ *
+ * - ApplicationRunner로 실행되므로 끝날 때까지 readiness가 ACCEPTING_TRAFFIC이 되지 않음
+ *   (/actuator/health/readiness, 로드밸런서는 이 상태를 보고 트래픽을 보냄)
+ * - 제한 시간(warmup.budget-ms)을 넘기면 남은 예열을 중단하고 그대로 트래픽을 받음 (예열 실패로 기동을 막지 않음)
+ * - 테스트에서는 warmup.enabled=false로 끔 (src/test/resources/application.properties)
+ *
+ * 예열 순서
+ * 1. 커넥션 풀: warmup.connections개의 커넥션을 동시에 빌려 풀에 미리 만들어 둠
+ * 2. 캐시: 최신 목록 한 묶음과 최근 댓글이 많은 게시글의 상세(댓글 트리)를 조회하여 스냅샷 캐시에 적재
+ * 3. JIT: 자기 자신에게 목록/상세 페이지를 warmup.render-iterations번 요청 (필터, 보안, 템플릿, 쿼리 경로 전체)
+ */
+@Component
+@ConditionalOnProperty(name = "warmup.enabled", havingValue = "true", matchIfMissing = true)
+@Order(Ordered.LOWEST_PRECEDENCE)
+@Slf4j
+public class ApplicationWarmup implements ApplicationRunner {
+
+  private final DataSource dataSource;
+  private final PostService postService;
+  private final PostDetailLoader postDetailLoader;
+  private final CommentRepository commentRepository;
+  private final ReadSnapshotCache readSnapshotCache;
+  private final Environment environment;
+  private final MeterRegistry meterRegistry;
+  private final WarmupRequestVerifier warmupRequestVerifier;
+
+  @Value("${warmup.budget-ms:30000}")
+  private long budgetMillis;
+
+  @Value("${warmup.connections:5}")
+  private int connections;
+
+  @Value("${warmup.list-size:200}")
+  private int listSize;
+
+  @Value("${warmup.hot-posts:20}")
+  private int hotPosts;
+
+  // 인기 게시글 집계 기간 (최근 N시간 동안 댓글이 많은 게시글)
+  @Value("${warmup.hot-window-hours:24}")
+  private long hotWindowHours;
+
+  @Value("${warmup.render-iterations:20}")
+  private int renderIterations;
+
+  private volatile boolean cancelled;
+
+  public ApplicationWarmup(DataSource dataSource,
+      PostService postService,
+      PostDetailLoader postDetailLoader,
+      CommentRepository commentRepository,
+      ReadSnapshotCache readSnapshotCache,
+      Environment environment,
+      MeterRegistry meterRegistry,
+      WarmupRequestVerifier warmupRequestVerifier) {
+    this.dataSource = dataSource;
+    this.postService = postService;
+    this.postDetailLoader = postDetailLoader;
+    this.commentRepository = commentRepository;
+    this.readSnapshotCache = readSnapshotCache;
+    this.environment = environment;
+    this.meterRegistry = meterRegistry;
+    this.warmupRequestVerifier = warmupRequestVerifier;
+  }
+
+  @Override
+  public void run(ApplicationArguments args) {
+    long started = System.nanoTime();
+    // 제한 시간을 지키기 위해 별도 스레드에서 실행 (조회가 멈춰도 기동은 계속됨)
+    CompletableFuture<Void> warmup = new CompletableFuture<>();
+    Thread worker = new Thread(() -> {
+      try {
+        warmUp();
+        warmup.complete(null);
+      } catch (Throwable e) {
+        warmup.completeExceptionally(e);
+      }
+    }, "app-warmup");
+    worker.setDaemon(true);
+    worker.start();
+
+    String outcome;
+    try {
+      warmup.get(budgetMillis, TimeUnit.MILLISECONDS);
+      outcome = "completed";
+    } catch (TimeoutException e) {
+      cancelled = true;
+      worker.interrupt();
+      outcome = "budget_exceeded";
+      log.warn("예열 제한 시간({}ms) 초과, 남은 예열을 건너뛰고 트래픽을 받습니다.", budgetMillis);
+    } catch (ExecutionException e) {
+      outcome = "failed";
+      log.warn("예열 실패, 예열 없이 트래픽을 받습니다: {}", e.getCause().toString());
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      cancelled = true;
+      outcome = "interrupted";
+    }
+
+    long elapsed = System.nanoTime() - started;
+    Timer.builder("board.startup.warmup")
+        .description("시작 시 예열 소요 시간")
+        .tag("outcome", outcome)
+        .register(meterRegistry)
+        .record(elapsed, TimeUnit.NANOSECONDS);
+    log.info("예열 종료 - 결과: {}, 소요: {}ms", outcome, TimeUnit.NANOSECONDS.toMillis(elapsed));
+  }
+
+  private void warmUp() throws SQLException {
+    primeConnectionPool();
+    List<Long> hotPostIds = preloadSnapshots();
+    exerciseRenderPaths(hotPostIds);
+  }
+
+  /**
+   * 커넥션을 동시에 여러 개 빌려 풀이 미리 물리 커넥션을 만들도록 함
+   */
+  private void primeConnectionPool() throws SQLException {
+    List<Connection> borrowed = new ArrayList<>(connections);
+    try {
+      for (int i = 0; i < connections && !cancelled; i++) {
+        Connection connection = dataSource.getConnection();
+        borrowed.add(connection);
+        connection.isValid(1);
+      }
+    } finally {
+      for (Connection connection : borrowed) {
+        connection.close();
+      }
+    }
+    log.info("예열: 커넥션 {}개 준비", borrowed.size());
+  }
+
+  /**
+   * 최신 목록과 인기 게시글 상세를 조회하여 스냅샷 캐시에 적재
+   *
+   * @return 예열한 인기 게시글 ID 목록
+   */
+  private List<Long> preloadSnapshots() {
+    readSnapshotCache.storePostList(postService.findPostViewsAfter(null, listSize));
+
+    List<Long> candidates = commentRepository.findMostCommentedPostIds(
+        LocalDateTime.now().minusHours(hotWindowHours), PageRequest.ofSize(hotPosts));
+    List<Long> loaded = new ArrayList<>(candidates.size());
+    for (Long postId : candidates) {
+      if (cancelled) {
+        break;
+      }
+      try {
+        PostDetailViewDto detail = postDetailLoader.load(postId);
+        if (detail.isCommentsAvailable()) {
+          readSnapshotCache.storeDetail(detail.getPost(), detail.getComments(), detail.getCommentCount());
+        }
+        loaded.add(postId);
+      } catch (IllegalArgumentException e) {
+        // 집계 이후 삭제된 게시글
+        log.debug("예열 대상 게시글 없음: {}", postId);
+      }
+    }
+    log.info("예열: 최신 목록과 인기 게시글 {}개 상세를 스냅샷에 적재", loaded.size());
+    return loaded;
+  }
+
+  /**
+   * 자기 자신에게 주요 페이지를 반복 요청하여 요청 처리 경로 전체를 JIT 컴파일 대상으로 만듦
+   * 내장 서버 포트가 없으면 (MockMvc 테스트 등) 건너뜀
+   */
+  private void exerciseRenderPaths(List<Long> hotPostIds) {
+    Integer port = environment.getProperty("local.server.port", Integer.class);
+    if (port == null || renderIterations <= 0) {
+      return;
+    }
+
+    HttpClient client = HttpClient.newBuilder()
+        .connectTimeout(Duration.ofSeconds(2))
+        .build();
+    List<URI> pages = new ArrayList<>();
+    pages.add(URI.create("http://localhost:" + port + "/posts"));
+    hotPostIds.stream()
+        .limit(5)
+        .map(id -> URI.create("http://localhost:" + port + "/posts/" + id))
+        .forEach(pages::add);
+
+    int requests = 0;
+    for (int i = 0; i < renderIterations && !cancelled; i++) {
+      for (URI page : pages) {
+        HttpRequest request = HttpRequest.newBuilder(page)
+            // 인기 게시글 집계에서 제외되도록 예열 토큰을 실어 보냄 (WarmupRequestVerifier)
+            .header(WarmupRequestVerifier.REQUEST_HEADER, warmupRequestVerifier.token())
+            .timeout(Duration.ofSeconds(5))
+            .GET()
+            .build();
+        try {
+          client.send(request, HttpResponse.BodyHandlers.discarding());
+          requests++;
+        } catch (InterruptedException e) {
+          Thread.currentThread().interrupt();
+          return;
+        } catch (Exception e) {
+          log.warn("예열 요청 실패 ({}): {}", page, e.toString());
+          return;
+        }
+      }
+    }
+    log.info("예열: 페이지 요청 {}회", requests);
+  }
+}
@@ -0,0 +1,52 @@
+package com.example.board.startup;
+
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.stereotype.Component;
+
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.util.UUID;
+
+/**
+ * 예열 요청 판별
+ * 기동할 때마다 새로 만든 토큰을 예열 요청의 헤더로 보내고, 토큰이 맞으면서 루프백 주소에서 온 요청만 예열로 인정
+ * 외부 클라이언트가 헤더를 흉내 내어 인기 게시글 집계를 건너뛸 수 없도록 함
+ */
+@Component
+public class WarmupRequestVerifier {
+
+  static final String REQUEST_HEADER = "X-Board-Warmup";
+
+  private final String token = UUID.randomUUID().toString();
+
+  /**
+   * 예열 요청에 실을 토큰 (ApplicationWarmup 전용)
+   */
+  String token() {
+    return token;
+  }
+
+  /**
+   * 예열 요청 여부 확인
+   *
+   * @param request HTTP 요청
+   * @return 이 인스턴스의 예열 작업이 보낸 요청이면 true
+   */
+  public boolean isWarmupRequest(HttpServletRequest request) {
+    String header = request.getHeader(REQUEST_HEADER);
+    return header != null
+        && MessageDigest.isEqual(header.getBytes(StandardCharsets.UTF_8), token.getBytes(StandardCharsets.UTF_8))
+        && isLoopback(request.getRemoteAddr());
+  }
+
+  private static boolean isLoopback(String address) {
+    try {
+      // 원격 주소는 항상 IP 문자열이므로 이름 조회가 일어나지 않음
+      return address != null && InetAddress.getByName(address).isLoopbackAddress();
+    } catch (UnknownHostException e) {
+      return false;
+    }
+  }
+}
@@ -0,0 +1,57 @@
+/**
+ * 폼 유효성 검사
+ */
+function validateForm() {
+    const content = document.getElementById('content').value.trim();
+
+    if (!content) {
+        alert('댓글 내용을 입력해주세요.');
+        document.getElementById('content').focus();
+        return false;
+    }
+
+    if (content.length > 500) {
+        alert('댓글은 500자 이하로 작성해주세요.');
+        document.getElementById('content').focus();
+        return false;
+    }
+
+    return confirm('댓글을 수정하시겠습니까?');
+}
+
+/**
+ * 글자 수 카운터
+ */
+function updateCharCount() {
+    const content = document.getElementById('content').value;
+    const charCount = document.getElementById('charCount');
+    charCount.textContent = content.length;
+
+    // 글자 수에 따른 색상 변경
+    if (content.length > 450) {
+        charCount.style.color = '#dc3545'; // 빨간색
+    } else if (content.length > 400) {
+        charCount.style.color = '#ffc107'; // 노란색
+    } else {
+        charCount.style.color = '#666'; // 기본 색상
+    }
+}
+
+/**
+ * 페이지 로드 시 실행
+ */
+document.addEventListener('DOMContentLoaded', function() {
+    const contentTextarea = document.getElementById('content');
+
+    // 초기 글자 수 표시
+    updateCharCount();
+
+    // 입력 시마다 글자 수 업데이트
+    contentTextarea.addEventListener('input', updateCharCount);
+
+    // 텍스트 영역에 포커스
+    contentTextarea.focus();
+
+    // 커서를 텍스트 끝으로 이동
+    contentTextarea.setSelectionRange(contentTextarea.value.length, contentTextarea.value.length);
+});
@@ -0,0 +1,249 @@
+// 대댓글 폼 토글
+function toggleReplyForm(commentId) {
+    const replyForm = document.getElementById('reply-form-' + commentId);
+    if (replyForm) {
+        replyForm.classList.toggle('show');
+        // 폼이 열릴 때 textarea에 포커스
+        if (replyForm.classList.contains('show')) {
+            const textarea = replyForm.querySelector('textarea');
+            if (textarea) {
+                textarea.focus();
+            }
+        }
+    }
+}
+
+// 이미지 모달 열기
+function openImageModal(src) {
+    const modal = document.getElementById('imageModal');
+    const modalImg = document.getElementById('modalImage');
+    modalImg.src = src;
+    modal.classList.add('show');
+    document.body.style.overflow = 'hidden';
+}
+
+// 이미지 모달 닫기
+function closeImageModal() {
+    const modal = document.getElementById('imageModal');
+    modal.classList.remove('show');
+    document.body.style.overflow = 'auto';
+}
+
+// ESC 키로 모달 닫기
+document.addEventListener('keydown', function(e) {
+    if (e.key === 'Escape') {
+        closeImageModal();
+    }
+});
+
+// 댓글/대댓글 비동기 작성
+// 새 댓글 카드 HTML 조각만 받아 제자리에 끼워 넣으므로 상세 페이지 전체를 다시 받지 않음
+// 인증 만료(로그인 페이지로 리다이렉트)로 조각을 받지 못하면 일반 폼 제출로 대체
+document.addEventListener('submit', function(e) {
+    const form = e.target;
+    if (!form.matches('form[data-async-comment]') || !window.fetch) {
+        return;
+    }
+    e.preventDefault();
+
+    const submitButton = form.querySelector('button[type="submit"]');
+    if (submitButton) {
+        submitButton.disabled = true;
+    }
+
+    fetch(form.action, {
+        method: 'POST',
+        headers: {
+            'X-Requested-With': 'XMLHttpRequest',
+            'Accept': 'text/html',
+            'Content-Type': 'application/x-www-form-urlencoded'
+        },
+        // _csrf 히든 필드도 함께 전송됨
+        body: new URLSearchParams(new FormData(form)),
+        credentials: 'same-origin'
+    }).then(function(response) {
+        if (response.redirected || response.status === 401 || response.status === 403) {
+            form.submit();
+            return;
+        }
+        return response.text().then(function(html) {
+            const node = toElement(html);
+            if (!response.ok) {
+                showCommentError(form, node);
+                return;
+            }
+            insertComment(form, node);
+            form.reset();
+        });
+    }).catch(function() {
+        // 네트워크 오류는 저장 여부를 알 수 없으므로 자동 재제출하지 않고 다시 시도하게 둠
+        alert('댓글 전송에 실패했습니다. 잠시 후 다시 시도해주세요.');
+    }).finally(function() {
+        if (submitButton) {
+            submitButton.disabled = false;
+        }
+    });
+});
+
+function toElement(html) {
+    const template = document.createElement('template');
+    template.innerHTML = html.trim();
+    return template.content.firstElementChild;
+}
+
+// 작성한 댓글 카드를 목록에 추가하고 댓글 수 갱신
+function insertComment(form, node) {
+    clearCommentError(form);
+    if (!node) {
+        return;
+    }
+
+    // 실시간 구독으로 같은 댓글이 먼저 표시됐으면 버튼이 있는 카드로 교체만 함
+    const existing = document.getElementById(node.id);
+    if (existing) {
+        existing.replaceWith(node);
+    } else if (form.dataset.asyncComment === 'reply') {
+        const parentCard = document.getElementById('comment-' + form.dataset.parentId);
+        repliesListOf(parentCard).appendChild(node);
+        adjustCommentCount(1);
+    } else {
+        document.getElementById('comment-items').appendChild(node);
+        const empty = document.querySelector('.empty-comments');
+        if (empty) {
+            empty.remove();
+        }
+        adjustCommentCount(1);
+    }
+    if (form.dataset.asyncComment === 'reply') {
+        toggleReplyForm(form.dataset.parentId);
+    }
+    node.scrollIntoView({ behavior: 'smooth', block: 'nearest' });
+}
+
+// 첫 대댓글이면 대댓글 목록 영역을 만듦
+function repliesListOf(parentCard) {
+    let replies = parentCard.querySelector('.replies-list');
+    if (!replies) {
+        replies = document.createElement('div');
+        replies.className = 'replies-list';
+        parentCard.appendChild(replies);
+    }
+    return replies;
+}
+
+function showCommentError(form, node) {
+    clearCommentError(form);
+    if (node) {
+        form.parentNode.insertBefore(node, form);
+    }
+}
+
+function clearCommentError(form) {
+    const previous = form.parentNode.querySelector('.comment-submit-error');
+    if (previous) {
+        previous.remove();
+    }
+}
+
+// 실시간 댓글 (Server-Sent Events)
+// 다른 사용자가 작성/수정/삭제한 댓글을 새로고침 없이 반영
+// 실시간으로 받은 카드는 읽기 전용으로 표시 (답글/수정 버튼은 새로고침하면 표시)
+(function() {
+    const list = document.querySelector('.comments-list[data-live-url]');
+    if (!list || !window.EventSource) {
+        return;
+    }
+    // 이미 반영한 변경 순번 (재연결 시에는 브라우저가 Last-Event-ID로 이어받음)
+    let applied = 0;
+    const source = new EventSource(list.dataset.liveUrl);
+
+    source.addEventListener('comments', function(e) {
+        const delta = JSON.parse(e.data);
+        delta.changes.forEach(function(change) {
+            if (change.seq <= applied) {
+                return;
+            }
+            applied = change.seq;
+            applyLiveChange(change);
+        });
+    });
+
+    // 끊긴 동안의 변경이 너무 많으면 전체를 다시 받음
+    source.addEventListener('reset', function() {
+        source.close();
+        location.reload();
+    });
+})();
+
+function applyLiveChange(change) {
+    const existing = document.getElementById('comment-' + change.commentId);
+    if (change.type === 'DELETED') {
+        if (existing) {
+            // 최상위 댓글이 지워지면 대댓글도 함께 사라짐 (대댓글 tombstone은 이후 무시됨)
+            adjustCommentCount(-(1 + existing.querySelectorAll('.reply-card').length));
+            existing.remove();
+        }
+        return;
+    }
+    if (existing) {
+        existing.querySelector('.comment-content').textContent = change.comment.content;
+        return;
+    }
+    // 내가 비동기로 작성한 댓글은 이미 카드가 있으므로 위에서 걸러짐
+    const comment = change.comment;
+    if (comment.parentId) {
+        const parentCard = document.getElementById('comment-' + comment.parentId);
+        if (!parentCard) {
+            return;
+        }
+        const parentAuthor = parentCard.querySelector('.comment-author').textContent;
+        repliesListOf(parentCard).appendChild(liveCard('reply-card', comment, parentAuthor));
+    } else {
+        document.getElementById('comment-items').appendChild(liveCard('comment-card', comment, null));
+        const empty = document.querySelector('.empty-comments');
+        if (empty) {
+            empty.remove();
+        }
+    }
+    adjustCommentCount(1);
+}
+
+// fragments/comment.html의 카드와 같은 구조 (textContent만 사용하여 내용을 HTML로 해석하지 않음)
+function liveCard(className, comment, parentAuthor) {
+    const card = document.createElement('div');
+    card.className = className;
+    card.id = 'comment-' + comment.id;
+
+    if (parentAuthor !== null) {
+        const indicator = document.createElement('div');
+        indicator.className = 'reply-indicator';
+        indicator.innerHTML = '<i class="fas fa-reply"></i> <span></span>님에게 답글';
+        indicator.querySelector('span').textContent = parentAuthor;
+        card.appendChild(indicator);
+    }
+
+    const header = document.createElement('div');
+    header.className = 'comment-header';
+    const author = document.createElement('span');
+    author.className = 'comment-author';
+    author.textContent = comment.author;
+    const date = document.createElement('span');
+    date.className = 'comment-date';
+    date.textContent = comment.createdAt.substring(0, 16).replace('T', ' ');
+    header.appendChild(author);
+    header.appendChild(date);
+    card.appendChild(header);
+
+    const content = document.createElement('div');
+    content.className = 'comment-content';
+    content.textContent = comment.content;
+    card.appendChild(content);
+    return card;
+}
+
+function adjustCommentCount(diff) {
+    const count = document.querySelector('.comment-count');
+    if (count && !isNaN(parseInt(count.textContent, 10))) {
+        count.textContent = parseInt(count.textContent, 10) + diff;
+    }
+}
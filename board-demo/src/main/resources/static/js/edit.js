@@ -0,0 +1,150 @@
+// 글자 수 카운터
+function updateCharCount(inputId, countId, maxLength) {
+    const input = document.getElementById(inputId);
+    const counter = document.getElementById(countId);
+
+    // 초기 글자 수 설정
+    counter.textContent = input.value.length;
+
+    input.addEventListener('input', function() {
+        const currentLength = this.value.length;
+        counter.textContent = currentLength;
+
+        // 글자 수 제한 근처에서 색상 변경
+        if (currentLength > maxLength * 0.9) {
+            counter.style.color = '#ef4444';
+        } else if (currentLength > maxLength * 0.7) {
+            counter.style.color = '#FFB300';
+        } else {
+            counter.style.color = '#8D6E63';
+        }
+    });
+}
+
+// 각 입력 필드에 글자 수 카운터 적용
+updateCharCount('title', 'titleCount', 200);
+updateCharCount('content', 'contentCount', 5000);
+
+// 원본 값 저장 (변경사항 감지용)
+const originalTitle = document.getElementById('title').value;
+const originalContent = document.getElementById('content').value;
+
+// 폼 제출 처리
+document.getElementById('editForm').addEventListener('submit', function(e) {
+    const submitBtn = document.getElementById('submitBtn');
+    const title = document.getElementById('title').value.trim();
+    const content = document.getElementById('content').value.trim();
+
+    // 유효성 검사
+    if (!title || !content) {
+        e.preventDefault();
+        alert('제목과 내용을 모두 입력해주세요.');
+        return;
+    }
+
+    // 변경사항 확인
+    if (title === originalTitle && content === originalContent) {
+        e.preventDefault();
+        alert('변경된 내용이 없습니다.');
+        return;
+    }
+
+    // 제출 버튼 로딩 상태
+    submitBtn.classList.add('loading');
+    submitBtn.innerHTML = '<i class="fas fa-spinner fa-spin"></i> 수정 중...';
+    submitBtn.disabled = true;
+});
+
+// 페이지 이탈 경고
+let hasUnsavedChanges = false;
+const inputs = ['title', 'content'];
+
+inputs.forEach(id => {
+    document.getElementById(id).addEventListener('input', function() {
+        const currentTitle = document.getElementById('title').value;
+        const currentContent = document.getElementById('content').value;
+
+        hasUnsavedChanges = (currentTitle !== originalTitle || currentContent !== originalContent);
+    });
+});
+
+window.addEventListener('beforeunload', function(e) {
+    if (hasUnsavedChanges) {
+        e.preventDefault();
+        e.returnValue = '수정 중인 내용이 있습니다. 페이지를 떠나시겠습니까?';
+    }
+});
+
+// 폼 제출 시 경고 해제
+document.getElementById('editForm').addEventListener('submit', function() {
+    hasUnsavedChanges = false;
+});
+
+// 이미지 미리보기
+function previewImage(input) {
+    const preview = document.getElementById('imagePreview');
+    const previewImg = document.getElementById('previewImg');
+    const placeholder = document.getElementById('uploadPlaceholder');
+
+    if (input.files && input.files[0]) {
+        const file = input.files[0];
+
+        // 파일 크기 체크 (10MB)
+        if (file.size > 10 * 1024 * 1024) {
+            alert('파일 크기는 10MB를 초과할 수 없습니다.');
+            input.value = '';
+            return;
+        }
+
+        // 파일 타입 체크
+        const allowedTypes = ['image/jpeg', 'image/png', 'image/gif', 'image/webp'];
+        if (!allowedTypes.includes(file.type)) {
+            alert('JPG, PNG, GIF, WEBP 형식의 이미지만 업로드 가능합니다.');
+            input.value = '';
+            return;
+        }
+
+        const reader = new FileReader();
+        reader.onload = function(e) {
+            previewImg.src = e.target.result;
+            preview.style.display = 'inline-block';
+            placeholder.style.display = 'none';
+            hasUnsavedChanges = true;
+        };
+        reader.readAsDataURL(file);
+    }
+}
+
+// 이미지 제거
+function removeImage() {
+    const input = document.getElementById('image');
+    const preview = document.getElementById('imagePreview');
+    const placeholder = document.getElementById('uploadPlaceholder');
+
+    input.value = '';
+    preview.style.display = 'none';
+    placeholder.style.display = 'block';
+}
+
+// 드래그 앤 드롭
+const uploadArea = document.getElementById('imageUploadArea');
+
+if (uploadArea) {
+    uploadArea.addEventListener('dragover', function(e) {
+        e.preventDefault();
+        this.classList.add('dragover');
+    });
+
+    uploadArea.addEventListener('dragleave', function(e) {
+        e.preventDefault();
+        this.classList.remove('dragover');
+    });
+
+    uploadArea.addEventListener('drop', function(e) {
+        e.preventDefault();
+        this.classList.remove('dragover');
+        const input = document.getElementById('image');
+        input.files = e.dataTransfer.files;
+        previewImage(input);
+    });
+}
@@ -0,0 +1,24 @@
+(function() {
+    const form = document.querySelector('form');
+    const submitBtn = document.getElementById('submitBtn');
+    let isSubmitting = false;
+
+    form.addEventListener('submit', function(e) {
+        if (isSubmitting) {
+            e.preventDefault();
+            return false;
+        }
+        isSubmitting = true;
+        submitBtn.disabled = true;
+        submitBtn.innerHTML = '<i class="fas fa-spinner fa-spin"></i> 처리 중...';
+    });
+
+    // 페이지 로드 시 버튼 상태 초기화 (뒤로가기 시)
+    window.addEventListener('pageshow', function(e) {
+        if (e.persisted) {
+            isSubmitting = false;
+            submitBtn.disabled = false;
+            submitBtn.innerHTML = '<i class="fas fa-door-open"></i> 오두막 들어가기';
+        }
+    });
+})();
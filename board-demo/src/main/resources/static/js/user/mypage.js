@@ -0,0 +1,12 @@
+// 폼 중복 제출 방지
+document.addEventListener('DOMContentLoaded', function() {
+    const nameForm = document.querySelector('form');
+    const nameUpdateBtn = document.getElementById('nameUpdateBtn');
+
+    if (nameForm && nameUpdateBtn) {
+        nameForm.addEventListener('submit', function() {
+            nameUpdateBtn.disabled = true;
+            nameUpdateBtn.innerHTML = '<i class="fas fa-spinner fa-spin"></i>';
+        });
+    }
+});
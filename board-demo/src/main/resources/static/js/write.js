@@ -0,0 +1,136 @@
+// 글자 수 카운터
+function updateCharCount(inputId, countId, maxLength) {
+    const input = document.getElementById(inputId);
+    const counter = document.getElementById(countId);
+
+    input.addEventListener('input', function() {
+        const currentLength = this.value.length;
+        counter.textContent = currentLength;
+
+        // 글자 수 제한 근처에서 색상 변경
+        if (currentLength > maxLength * 0.9) {
+            counter.style.color = '#ef4444';
+        } else if (currentLength > maxLength * 0.7) {
+            counter.style.color = '#FFB300';
+        } else {
+            counter.style.color = '#8D6E63';
+        }
+    });
+}
+
+// 각 입력 필드에 글자 수 카운터 적용
+updateCharCount('title', 'titleCount', 200);
+updateCharCount('content', 'contentCount', 5000);
+updateCharCount('author', 'authorCount', 50);
+
+// 초기값 반영 (작성자 기본값이 있는 경우)
+document.getElementById('authorCount').textContent = document.getElementById('author').value.length;
+
+// 폼 제출 처리
+document.getElementById('writeForm').addEventListener('submit', function(e) {
+    const submitBtn = document.getElementById('submitBtn');
+    const title = document.getElementById('title').value.trim();
+    const content = document.getElementById('content').value.trim();
+    const author = document.getElementById('author').value.trim();
+
+    // 유효성 검사
+    if (!title || !content || !author) {
+        e.preventDefault();
+        alert('모든 필드를 입력해주세요.');
+        return;
+    }
+
+    // 제출 버튼 로딩 상태
+    submitBtn.classList.add('loading');
+    submitBtn.innerHTML = '<i class="fas fa-spinner fa-spin"></i> 작성 중...';
+    submitBtn.disabled = true;
+});
+
+// 페이지 이탈 경고
+let hasUnsavedChanges = false;
+const inputs = ['title', 'content', 'author'];
+
+inputs.forEach(id => {
+    document.getElementById(id).addEventListener('input', function() {
+        hasUnsavedChanges = true;
+    });
+});
+
+window.addEventListener('beforeunload', function(e) {
+    if (hasUnsavedChanges) {
+        e.preventDefault();
+        e.returnValue = '작성 중인 내용이 있습니다. 페이지를 떠나시겠습니까?';
+    }
+});
+
+// 폼 제출 시 경고 해제
+document.getElementById('writeForm').addEventListener('submit', function() {
+    hasUnsavedChanges = false;
+});
+
+// 이미지 미리보기
+function previewImage(input) {
+    const preview = document.getElementById('imagePreview');
+    const previewImg = document.getElementById('previewImg');
+    const placeholder = document.getElementById('uploadPlaceholder');
+
+    if (input.files && input.files[0]) {
+        const file = input.files[0];
+
+        // 파일 크기 체크 (10MB)
+        if (file.size > 10 * 1024 * 1024) {
+            alert('파일 크기는 10MB를 초과할 수 없습니다.');
+            input.value = '';
+            return;
+        }
+
+        // 파일 타입 체크
+        const allowedTypes = ['image/jpeg', 'image/png', 'image/gif', 'image/webp'];
+        if (!allowedTypes.includes(file.type)) {
+            alert('JPG, PNG, GIF, WEBP 형식의 이미지만 업로드 가능합니다.');
+            input.value = '';
+            return;
+        }
+
+        const reader = new FileReader();
+        reader.onload = function(e) {
+            previewImg.src = e.target.result;
+            preview.style.display = 'inline-block';
+            placeholder.style.display = 'none';
+            hasUnsavedChanges = true;
+        };
+        reader.readAsDataURL(file);
+    }
+}
+
+// 이미지 제거
+function removeImage() {
+    const input = document.getElementById('image');
+    const preview = document.getElementById('imagePreview');
+    const placeholder = document.getElementById('uploadPlaceholder');
+
+    input.value = '';
+    preview.style.display = 'none';
+    placeholder.style.display = 'block';
+}
+
+// 드래그 앤 드롭
+const uploadArea = document.getElementById('imageUploadArea');
+
+uploadArea.addEventListener('dragover', function(e) {
+    e.preventDefault();
+    this.classList.add('dragover');
+});
+
+uploadArea.addEventListener('dragleave', function(e) {
+    e.preventDefault();
+    this.classList.remove('dragover');
+});
+
+uploadArea.addEventListener('drop', function(e) {
+    e.preventDefault();
+    this.classList.remove('dragover');
+    const input = document.getElementById('image');
+    input.files = e.dataTransfer.files;
+    previewImage(input);
+});
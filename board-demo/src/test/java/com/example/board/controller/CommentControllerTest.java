@@ -0,0 +1,85 @@
+package com.example.board.controller;
+
+import com.example.board.domain.Comment;
+import com.example.board.domain.Post;
+import com.example.board.domain.User;
+import com.example.board.repository.CommentRepository;
+import com.example.board.repository.PostRepository;
+import com.example.board.security.CustomUserDetails;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.csrf;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.user;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * 댓글 비동기 작성 오류 응답 테스트
+ * 없는 게시글/댓글은 404, 다른 게시글의 댓글에 단 대댓글처럼 잘못된 요청은 400으로 구분하는지 검증
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:comment-controller;DB_CLOSE_DELAY=-1",
+        "spring.jpa.hibernate.ddl-auto=create-drop"
+})
+@AutoConfigureMockMvc
+class CommentControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private PostRepository postRepository;
+
+    @Autowired
+    private CommentRepository commentRepository;
+
+    @Test
+    void replyToMissingPostIsNotFound() throws Exception {
+        mockMvc.perform(reply(Long.MAX_VALUE, Long.MAX_VALUE))
+                .andExpect(status().isNotFound())
+                .andExpect(jsonPath("$.status").value(404));
+    }
+
+    @Test
+    void replyToCommentOfAnotherPostIsBadRequest() throws Exception {
+        Post post = savePost();
+        Post otherPost = savePost();
+        Comment otherComment = commentRepository.save(Comment.builder()
+                .content("다른 게시글의 댓글")
+                .author("작성자")
+                .post(otherPost)
+                .build());
+
+        mockMvc.perform(reply(post.getId(), otherComment.getId()))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.detail").value("댓글과 게시글이 일치하지 않습니다."));
+    }
+
+    private Post savePost() {
+        return postRepository.save(Post.builder()
+                .title("게시글")
+                .content("내용")
+                .author("작성자")
+                .build());
+    }
+
+    private MockHttpServletRequestBuilder reply(Long postId, Long parentId) {
+        return post("/posts/" + postId + "/comments/" + parentId + "/reply")
+                .accept(MediaType.APPLICATION_JSON)
+                .param("content", "대댓글")
+                .param("author", "작성자")
+                .with(user(new CustomUserDetails(User.builder()
+                        .username("tester")
+                        .password("password")
+                        .name("작성자")
+                        .build())))
+                .with(csrf());
+    }
+}
@@ -0,0 +1,239 @@
+package com.example.board.event;
+
+import com.example.board.repository.OutboxEventRepository;
+import com.example.board.service.NotificationService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+
+/**
+ * 아웃박스 릴레이 테스트
+ * 집합 단위 대기, 지수 백오프 재시도, 최대 재시도 후 포기와 정리, 알림 재전달 멱등성, 롤백 시 이벤트 미기록을 검증
+ * 주기 폴링은 끄고(poll-interval-ms) 커밋 직후 깨우기와 직접 wakeUp()으로만 전달하며,
+ * 재시도는 next_attempt_at을 과거로 당겨 바로 실행
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:outbox-relay;DB_CLOSE_DELAY=-1",
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "outbox.poll-interval-ms=3600000",
+        "outbox.cleanup-interval-ms=3600000",
+        "outbox.max-attempts=3",
+        "outbox.retry.base-ms=60000",
+        "outbox.retry.max-ms=600000",
+        "outbox.dead-retention-ms=0"
+})
+class OutboxRelayTest {
+
+    private static final Duration TIMEOUT = Duration.ofSeconds(10);
+    private static final AtomicLong POST_IDS = new AtomicLong(1_000);
+
+    @Autowired
+    private DomainEventPublisher publisher;
+
+    @Autowired
+    private OutboxRelay relay;
+
+    @Autowired
+    private OutboxEventRepository outboxEventRepository;
+
+    @Autowired
+    private NotificationService notificationService;
+
+    @Autowired
+    private RecordingListener listener;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void failedEventBlocksLaterEventsOfSameAggregateOnly() {
+        Long blockedPost = POST_IDS.incrementAndGet();
+        Long otherPost = POST_IDS.incrementAndGet();
+        listener.failing.add("blocked-1");
+
+        publish(new PostCreated(blockedPost, "작성자", "blocked-1"),
+                new PostCreated(blockedPost, "작성자", "blocked-2"),
+                new PostCreated(otherPost, "작성자", "other-1"));
+
+        // 같은 배치에서 앞선 실패가 먼저 기록되므로 다른 집합이 전달되면 판정 가능
+        await().atMost(TIMEOUT).until(() -> listener.handled.contains("other-1"));
+        assertThat(listener.handled).doesNotContain("blocked-1", "blocked-2");
+        assertThat(attempts(blockedPost, "blocked-1")).isEqualTo(1);
+        assertThat(attempts(blockedPost, "blocked-2")).isZero();
+
+        // 실패 원인이 사라지면 막혀 있던 이벤트가 기록 순서대로 전달됨
+        listener.failing.remove("blocked-1");
+        retryNow(blockedPost);
+        await().atMost(TIMEOUT).until(() -> listener.handled.contains("blocked-2"));
+        assertThat(listener.handled.stream().filter(title -> title.startsWith("blocked-")))
+                .containsExactly("blocked-1", "blocked-2");
+    }
+
+    @Test
+    void failureSchedulesRetryWithExponentialBackoff() {
+        Long postId = POST_IDS.incrementAndGet();
+        listener.failing.add("backoff");
+
+        // DB 시각 정밀도(마이크로초)로 잘리는 것을 감안하여 하한은 밀리초로 내림
+        LocalDateTime before = LocalDateTime.now().truncatedTo(ChronoUnit.MILLIS);
+        publish(new PostCreated(postId, "작성자", "backoff"));
+        await().atMost(TIMEOUT).until(() -> attempts(postId, "backoff") == 1);
+        assertThat(nextAttemptAt(postId))
+                .isBetween(before.plusSeconds(60), LocalDateTime.now().plusSeconds(60));
+
+        before = LocalDateTime.now().truncatedTo(ChronoUnit.MILLIS);
+        retryNow(postId);
+        await().atMost(TIMEOUT).until(() -> attempts(postId, "backoff") == 2);
+        assertThat(nextAttemptAt(postId))
+                .isBetween(before.plusSeconds(120), LocalDateTime.now().plusSeconds(120));
+    }
+
+    @Test
+    void eventIsMarkedDeadAfterMaxAttemptsAndStopsBlocking() {
+        Long postId = POST_IDS.incrementAndGet();
+        listener.failing.add("dead-1");
+
+        publish(new PostCreated(postId, "작성자", "dead-1"),
+                new PostCreated(postId, "작성자", "dead-2"));
+        for (int attempt = 1; attempt < 3; attempt++) {
+            int expected = attempt;
+            await().atMost(TIMEOUT).until(() -> attempts(postId, "dead-1") == expected);
+            retryNow(postId);
+        }
+        await().atMost(TIMEOUT).until(() -> isDead(postId, "dead-1"));
+        assertThat(attempts(postId, "dead-1")).isEqualTo(3);
+
+        // 포기한 이벤트는 전달 대기 조회에서 빠지고 같은 집합의 이후 이벤트를 더 이상 막지 않음
+        Long deadId = eventId(postId, "dead-1");
+        assertThat(outboxEventRepository.findPendingAfter(0L, PageRequest.ofSize(1_000)))
+                .noneMatch(event -> event.getId().equals(deadId));
+        relay.wakeUp();
+        await().atMost(TIMEOUT).until(() -> listener.handled.contains("dead-2"));
+        assertThat(listener.handled).doesNotContain("dead-1");
+
+        // 보관 기간(dead-retention-ms)이 지난 포기 이벤트는 정리 작업에서 삭제
+        relay.cleanup();
+        assertThat(outboxEventRepository.findById(deadId)).isEmpty();
+    }
+
+    @Test
+    void redeliveredCommentEventStoresOneNotification() {
+        Long postId = POST_IDS.incrementAndGet();
+        CommentCreated event = new CommentCreated(postId, postId * 10, null,
+                "댓글 작성자", "commenter", "댓글 내용", "post-owner");
+
+        assertThat(notificationService.save(event)).isTrue();
+        assertThat(notificationService.save(event)).isFalse();
+
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM notifications WHERE comment_id = ?", Long.class, event.commentId()))
+                .isEqualTo(1L);
+    }
+
+    @Test
+    void rolledBackTransactionLeavesNoOutboxRow() {
+        Long postId = POST_IDS.incrementAndGet();
+
+        transactionTemplate.executeWithoutResult(status -> {
+            publisher.publish(new PostUpdated(postId));
+            status.setRollbackOnly();
+        });
+
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM outbox_events WHERE aggregate_id = ?", Long.class, postId))
+                .isZero();
+    }
+
+    private void publish(DomainEvent... events) {
+        transactionTemplate.executeWithoutResult(status -> {
+            for (DomainEvent event : events) {
+                publisher.publish(event);
+            }
+        });
+    }
+
+    /**
+     * 재시도 대기 중인 이벤트를 바로 전달하도록 next_attempt_at을 과거로 당기고 릴레이를 깨움
+     */
+    private void retryNow(Long postId) {
+        jdbcTemplate.update("UPDATE outbox_events SET next_attempt_at = ? "
+                        + "WHERE aggregate_id = ? AND next_attempt_at IS NOT NULL AND dead_at IS NULL",
+                Timestamp.valueOf(LocalDateTime.now().minusSeconds(1)), postId);
+        relay.wakeUp();
+    }
+
+    private Map<String, Object> row(Long postId, String title) {
+        return jdbcTemplate.queryForMap("SELECT id, attempts, dead_at FROM outbox_events "
+                + "WHERE aggregate_id = ? AND payload LIKE ?", postId, "%\"" + title + "\"%");
+    }
+
+    private Long eventId(Long postId, String title) {
+        return ((Number) row(postId, title).get("id")).longValue();
+    }
+
+    private int attempts(Long postId, String title) {
+        return ((Number) row(postId, title).get("attempts")).intValue();
+    }
+
+    private boolean isDead(Long postId, String title) {
+        return row(postId, title).get("dead_at") != null;
+    }
+
+    private LocalDateTime nextAttemptAt(Long postId) {
+        return jdbcTemplate.queryForObject("SELECT next_attempt_at FROM outbox_events "
+                + "WHERE aggregate_id = ? AND next_attempt_at IS NOT NULL", LocalDateTime.class, postId);
+    }
+
+    @TestConfiguration
+    static class ListenerConfig {
+
+        @Bean
+        RecordingListener recordingListener() {
+            return new RecordingListener();
+        }
+    }
+
+    /**
+     * 전달된 게시글 작성 이벤트의 제목을 순서대로 기록 (failing에 있는 제목이면 실패)
+     */
+    static class RecordingListener implements DomainEventListener<PostCreated> {
+
+        private final Set<String> failing = ConcurrentHashMap.newKeySet();
+        private final List<String> handled = new CopyOnWriteArrayList<>();
+
+        @Override
+        public Class<PostCreated> eventType() {
+            return PostCreated.class;
+        }
+
+        @Override
+        public void on(PostCreated event) {
+            if (failing.contains(event.title())) {
+                throw new IllegalStateException("테스트 실패: " + event.title());
+            }
+            handled.add(event.title());
+        }
+    }
+}
@@ -0,0 +1,253 @@
+package com.example.board.live;
+
+import com.example.board.controller.CommentApiController;
+import com.example.board.domain.CommentChangeType;
+import com.example.board.dto.CommentChangeDto;
+import com.example.board.dto.CommentDeltaDto;
+import com.example.board.service.CommentChangeService;
+import com.example.board.service.CommentService;
+import com.example.board.service.CommentsChangedEvent;
+import com.example.board.service.PostService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * 실시간 댓글 허브 테스트
+ * 방송, Last-Event-ID 재전송, 느린 구독자 정리, 최대 연결 수 초과 시 503, 전송 실행기 포화와 멈춘 전송 중단,
+ * 스레드 수 + 대기열 크기보다 많은 구독자에게도 연결을 끊지 않고 보내는지 검증
+ * 전송 실행기는 테스트에서 직접 실행하여 전송 시점을 제어
+ */
+class LiveCommentHubTest {
+
+    private static final Long POST_ID = 1L;
+    private static final int REPLAY_LIMIT = 200;
+    private static final int POOL_SIZE = 2;
+
+    private CommentChangeService commentChangeService;
+    private ManualExecutor executor;
+    private SimpleMeterRegistry meterRegistry;
+    private LiveCommentHub hub;
+    private MockMvc mockMvc;
+
+    @Test
+    void broadcastSendsOneQueryToEverySubscriber() throws Exception {
+        createHub(10, 32);
+        MvcResult first = subscribe(stream());
+        MvcResult second = subscribe(stream());
+        executor.runAll();
+        when(commentChangeService.findChangesSince(POST_ID, 3L, REPLAY_LIMIT))
+                .thenReturn(delta(3, 4, deleted(4, 10L)));
+
+        hub.onCommentsChanged(new CommentsChangedEvent(POST_ID, 4L));
+        executor.runAll();
+
+        assertThat(content(first)).contains("id:4\nevent:comments\n").contains("\"commentId\":10");
+        assertThat(content(second)).contains("id:4\nevent:comments\n").contains("\"commentId\":10");
+        verify(commentChangeService, times(1)).findChangesSince(eq(POST_ID), anyLong(), anyInt());
+    }
+
+    @Test
+    void lastEventIdReplaysMissedChangesBeforeJoining() throws Exception {
+        createHub(10, 32);
+        when(commentChangeService.findChangesSince(POST_ID, 1L, REPLAY_LIMIT))
+                .thenReturn(delta(1, 3, deleted(2, 11L), deleted(3, 12L)));
+
+        // Last-Event-ID가 since보다 우선
+        MvcResult result = subscribe(stream().param("since", "0").header("Last-Event-ID", "1"));
+        executor.runAll();
+
+        assertThat(content(result)).contains("id:3\nevent:comments\n")
+                .contains("\"commentId\":11").contains("\"commentId\":12");
+        verify(commentChangeService, times(1)).findChangesSince(POST_ID, 1L, REPLAY_LIMIT);
+    }
+
+    @Test
+    void replayOfPrunedChangesRequestsReset() throws Exception {
+        createHub(10, 32);
+        when(commentChangeService.findChangesSince(POST_ID, 0L, REPLAY_LIMIT))
+                .thenReturn(new CommentDeltaDto(POST_ID, 0, 3, false, true, List.of()));
+
+        MvcResult result = subscribe(stream().header("Last-Event-ID", "0"));
+        executor.runAll();
+
+        assertThat(content(result)).contains("id:3\nevent:reset\n").doesNotContain("event:comments");
+    }
+
+    @Test
+    void subscriberWithFullBufferIsDisconnected() throws Exception {
+        createHub(10, 1);
+        MvcResult result = subscribe(stream());
+        executor.runAll();
+
+        // 첫 heartbeat는 버퍼에 쌓이고 전송 전이므로 두 번째 heartbeat에서 버퍼가 넘침
+        hub.heartbeat();
+        hub.heartbeat();
+        executor.runAll();
+
+        assertThat(disconnects("slow")).isEqualTo(1.0);
+        assertThat(connections()).isZero();
+        assertThat(content(result)).doesNotContain(":ping");
+    }
+
+    @Test
+    void connectionsOverCapAreRejectedWith503() throws Exception {
+        createHub(1, 32);
+        subscribe(stream());
+
+        mockMvc.perform(stream())
+                .andExpect(status().isServiceUnavailable())
+                .andExpect(header().string("Retry-After", "30"));
+
+        assertThat(meterRegistry.get("board.live.rejected").counter().count()).isEqualTo(1.0);
+        assertThat(connections()).isEqualTo(1.0);
+    }
+
+    @Test
+    void saturatedExecutorRetriesOnHeartbeatWithoutDisconnecting() throws Exception {
+        createHub(10, 32);
+        executor.capacity = 0;
+
+        MvcResult result = subscribe(stream());
+
+        // 연결 이벤트 전송과 채널 작업 모두 거절되지만 연결은 유지
+        assertThat(meterRegistry.get("board.live.tasks.rejected").counter().count()).isEqualTo(2.0);
+        assertThat(connections()).isEqualTo(1.0);
+        assertThat(content(result)).isEmpty();
+
+        executor.capacity = Integer.MAX_VALUE;
+        hub.heartbeat();
+        executor.runAll();
+
+        assertThat(content(result)).contains(":connected");
+    }
+
+    @Test
+    void heartbeatAndBroadcastReachMoreSubscribersThanExecutorCapacity() throws Exception {
+        createHub(1_000, 32);
+        // 실제 실행기처럼 스레드 수 + 대기열 크기를 넘는 작업은 거절
+        executor.capacity = POOL_SIZE + 3;
+        int subscriberCount = LiveCommentHub.SEND_BATCH * 2 + 10;
+        when(commentChangeService.findChangesSince(POST_ID, 3L, REPLAY_LIMIT))
+                .thenReturn(delta(3, 4, deleted(4, 10L)));
+
+        List<MvcResult> results = new ArrayList<>();
+        for (int i = 0; i < subscriberCount; i++) {
+            results.add(subscribe(stream()));
+        }
+        executor.runAll();
+        hub.heartbeat();
+        hub.onCommentsChanged(new CommentsChangedEvent(POST_ID, 4L));
+        executor.runAll();
+
+        assertThat(meterRegistry.get("board.live.tasks.rejected").counter().count()).isZero();
+        assertThat(connections()).isEqualTo(subscriberCount);
+        for (MvcResult result : results) {
+            assertThat(content(result)).contains(":connected", ":ping", "id:4\nevent:comments\n");
+        }
+    }
+
+    @Test
+    void stalledSendIsInterruptedAndInterruptIsNotLeaked() {
+        LiveSubscriber subscriber = new LiveSubscriber(POST_ID, new SseEmitter(), 1, null);
+
+        subscriber.beginSend();
+        assertThat(subscriber.interruptIfStalled(Long.MAX_VALUE)).isFalse();
+        assertThat(subscriber.interruptIfStalled(0)).isTrue();
+        assertThat(Thread.interrupted()).isTrue();
+
+        subscriber.endSend();
+        assertThat(subscriber.interruptIfStalled(0)).isFalse();
+        assertThat(Thread.currentThread().isInterrupted()).isFalse();
+    }
+
+    private void createHub(int maxConnections, int bufferSize) {
+        commentChangeService = mock(CommentChangeService.class);
+        when(commentChangeService.currentWatermark(POST_ID)).thenReturn(3L);
+        executor = new ManualExecutor();
+        executor.setCorePoolSize(POOL_SIZE);
+        meterRegistry = new SimpleMeterRegistry();
+        hub = new LiveCommentHub(commentChangeService, new ObjectMapper(), executor, meterRegistry,
+                bufferSize, 60_000, 3_000, maxConnections, REPLAY_LIMIT, 5_000);
+        mockMvc = MockMvcBuilders.standaloneSetup(new CommentApiController(
+                mock(PostService.class), mock(CommentService.class), commentChangeService, hub)).build();
+    }
+
+    private MockHttpServletRequestBuilder stream() {
+        return get("/api/v1/posts/{postId}/comments/stream", POST_ID);
+    }
+
+    private MvcResult subscribe(MockHttpServletRequestBuilder builder) throws Exception {
+        return mockMvc.perform(builder).andExpect(request().asyncStarted()).andReturn();
+    }
+
+    private String content(MvcResult result) throws Exception {
+        return result.getResponse().getContentAsString(StandardCharsets.UTF_8);
+    }
+
+    private double disconnects(String reason) {
+        return meterRegistry.get("board.live.disconnects").tag("reason", reason).counter().count();
+    }
+
+    private double connections() {
+        return meterRegistry.get("board.live.connections").gauge().value();
+    }
+
+    private static CommentDeltaDto delta(long since, long watermark, CommentChangeDto... changes) {
+        return new CommentDeltaDto(POST_ID, since, watermark, false, false, List.of(changes));
+    }
+
+    private static CommentChangeDto deleted(long seq, Long commentId) {
+        return new CommentChangeDto(seq, CommentChangeType.DELETED, commentId, null);
+    }
+
+    /**
+     * 테스트에서 직접 실행하는 전송 실행기 (capacity를 넘으면 실제 실행기처럼 거절)
+     */
+    private static class ManualExecutor extends ThreadPoolTaskExecutor {
+
+        private final Queue<Runnable> tasks = new ArrayDeque<>();
+        private int capacity = Integer.MAX_VALUE;
+
+        @Override
+        public void execute(Runnable task) {
+            if (tasks.size() >= capacity) {
+                throw new TaskRejectedException("전송 실행기 대기열이 가득 찼습니다.");
+            }
+            tasks.add(task);
+        }
+
+        void runAll() {
+            Runnable task;
+            while ((task = tasks.poll()) != null) {
+                task.run();
+            }
+        }
+    }
+}
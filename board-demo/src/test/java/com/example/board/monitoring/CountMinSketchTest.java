@@ -0,0 +1,79 @@
+package com.example.board.monitoring;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Count-Min Sketch 정확도 테스트
+ * 추정값이 실제 빈도보다 작지 않고, 과대 추정이 이론 오차 범위(e/width x 전체 건수) 안에 드는지 검증
+ */
+class CountMinSketchTest {
+
+    @Test
+    void neverUnderestimates() {
+        CountMinSketch sketch = new CountMinSketch(4, 256);
+        Map<Long, Long> actual = skewedStream(sketch, 5_000, 200_000, 1L);
+
+        actual.forEach((item, count) -> assertThat(sketch.estimate(item)).isGreaterThanOrEqualTo(count));
+    }
+
+    @Test
+    void overestimateStaysWithinErrorBound() {
+        int depth = 5;
+        CountMinSketch sketch = new CountMinSketch(depth, 1024);
+        long total = 200_000;
+        Map<Long, Long> actual = skewedStream(sketch, 10_000, total, 2L);
+
+        // 항목마다 오차가 e/width x N을 넘을 확률은 e^-depth (약 0.7%) 이하
+        double bound = Math.E / sketch.getWidth() * total;
+        long exceeded = actual.entrySet().stream()
+                .filter(entry -> sketch.estimate(entry.getKey()) - entry.getValue() > bound)
+                .count();
+        assertThat((double) exceeded / actual.size()).isLessThanOrEqualTo(Math.exp(-depth) * 2);
+    }
+
+    @Test
+    void unseenItemOfSparseSketchEstimatesZero() {
+        CountMinSketch sketch = new CountMinSketch(4, 1024);
+        sketch.add(1L, 3);
+        sketch.add(2L, 5);
+
+        assertThat(sketch.estimate(1L)).isEqualTo(3);
+        assertThat(sketch.estimate(2L)).isEqualTo(5);
+        assertThat(sketch.estimate(999L)).isZero();
+    }
+
+    @Test
+    void widthIsRoundedUpToPowerOfTwo() {
+        CountMinSketch sketch = new CountMinSketch(3, 1000);
+
+        assertThat(sketch.getWidth()).isEqualTo(1024);
+        assertThat(sketch.getDepth()).isEqualTo(3);
+    }
+
+    @Test
+    void rejectsNonPositiveDimensions() {
+        assertThatThrownBy(() -> new CountMinSketch(0, 16)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new CountMinSketch(4, 0)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    /**
+     * 앞쪽 항목에 빈도가 몰린 스트림을 스케치에 넣고 실제 빈도를 반환
+     */
+    private Map<Long, Long> skewedStream(CountMinSketch sketch, int items, long total, long seed) {
+        Random random = new Random(seed);
+        Map<Long, Long> actual = new HashMap<>();
+        for (long i = 0; i < total; i++) {
+            long item = (long) (items * Math.pow(random.nextDouble(), 3));
+            sketch.add(item, 1);
+            actual.merge(item, 1L, Long::sum);
+        }
+        return actual;
+    }
+}
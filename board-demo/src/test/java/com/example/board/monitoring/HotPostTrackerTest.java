@@ -0,0 +1,111 @@
+package com.example.board.monitoring;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 인기 게시글(Top-K) 탐지 테스트
+ */
+class HotPostTrackerTest {
+
+    private static final long WINDOW_MS = 600_000;
+
+    @Test
+    void topPostsAreOrderedByScore() {
+        HotPostTracker tracker = new HotPostTracker(4, 2048, 3, WINDOW_MS, 5);
+        recordViews(tracker, 1L, 10);
+        recordViews(tracker, 2L, 30);
+        recordViews(tracker, 3L, 20);
+        recordViews(tracker, 4L, 5);
+
+        assertThat(tracker.topPostIds(3)).containsExactly(2L, 3L, 1L);
+        assertThat(tracker.topPosts(10)).hasSize(3);
+    }
+
+    @Test
+    void commentsWeighMoreThanViews() {
+        HotPostTracker tracker = new HotPostTracker(4, 2048, 2, WINDOW_MS, 5);
+        recordViews(tracker, 1L, 8);
+        tracker.recordComment(2L);
+        tracker.recordComment(2L);
+
+        assertThat(tracker.topPostIds(2)).containsExactly(2L, 1L);
+        assertThat(tracker.topPosts(1).get(0).score()).isEqualTo(10);
+    }
+
+    @Test
+    void heavyHitterReplacesLowestCandidateWhenFull() {
+        // topK 1 -> 후보 4개
+        HotPostTracker tracker = new HotPostTracker(4, 2048, 1, WINDOW_MS, 5);
+        for (long postId = 1; postId <= 4; postId++) {
+            recordViews(tracker, postId, (int) postId);
+        }
+        recordViews(tracker, 100L, 50);
+
+        assertThat(tracker.getCandidateCount()).isEqualTo(4);
+        assertThat(tracker.topPostIds(1)).containsExactly(100L);
+    }
+
+    @Test
+    void candidatesStayBoundedUnderConcurrentViews() throws Exception {
+        int topK = 5;
+        HotPostTracker tracker = new HotPostTracker(4, 4096, topK, WINDOW_MS, 5);
+        int threads = 8;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        try {
+            for (int t = 0; t < threads; t++) {
+                int offset = t;
+                executor.execute(() -> {
+                    await(start);
+                    for (int i = 0; i < 20_000; i++) {
+                        // 1~5번은 인기 게시글, 나머지는 긴 꼬리
+                        long postId = i % 4 == 0 ? 1 + (i / 4) % 5 : 100 + (i * 31L + offset) % 5_000;
+                        tracker.recordView(postId);
+                    }
+                });
+            }
+            start.countDown();
+        } finally {
+            executor.shutdown();
+            assertThat(executor.awaitTermination(30, TimeUnit.SECONDS)).isTrue();
+        }
+
+        assertThat(tracker.getCandidateCount()).isLessThanOrEqualTo(topK * 4);
+        List<Long> top = tracker.topPostIds(topK);
+        assertThat(top).containsExactlyInAnyOrder(1L, 2L, 3L, 4L, 5L);
+    }
+
+    @Test
+    void rotateWindowDropsCandidatesWithoutScore() {
+        HotPostTracker tracker = new HotPostTracker(4, 2048, 2, WINDOW_MS, 5);
+        recordViews(tracker, 1L, 3);
+
+        tracker.rotateWindow();
+        tracker.rotateWindow();
+
+        assertThat(tracker.getCandidateCount()).isZero();
+        assertThat(tracker.topPosts(2)).isEmpty();
+    }
+
+    private void recordViews(HotPostTracker tracker, Long postId, int count) {
+        for (int i = 0; i < count; i++) {
+            tracker.recordView(postId);
+        }
+    }
+
+    private void await(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,131 @@
+package com.example.board.monitoring;
+
+import com.example.board.domain.Comment;
+import com.example.board.domain.Post;
+import com.example.board.domain.User;
+import com.example.board.repository.CommentRepository;
+import com.example.board.repository.PostRepository;
+import com.example.board.security.CustomUserDetails;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.csrf;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.user;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+
+/**
+ * 요청 단위 SQL 실행 횟수 테스트
+ * 주요 화면과 댓글 작성 요청의 SQL 수를 고정하여 N+1 회귀를 잡아냄
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:query-budget;DB_CLOSE_DELAY=-1",
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.jpa.open-in-view=false",
+        "query.budget.fail-on-exceed=true"
+})
+@AutoConfigureMockMvc
+class QueryBudgetTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private PostRepository postRepository;
+
+    @Autowired
+    private CommentRepository commentRepository;
+
+    private Post post;
+    private Comment parentComment;
+
+    @BeforeEach
+    void setUp() {
+        post = postRepository.save(Post.builder()
+                .title("테스트 게시글")
+                .content("테스트 내용")
+                .author("작성자")
+                .build());
+
+        parentComment = commentRepository.save(Comment.builder()
+                .content("첫 번째 댓글")
+                .author("작성자")
+                .post(post)
+                .build());
+        commentRepository.save(Comment.builder()
+                .content("두 번째 댓글")
+                .author("작성자")
+                .post(post)
+                .build());
+        commentRepository.save(Comment.builder()
+                .content("대댓글")
+                .author("작성자")
+                .post(post)
+                .parent(parentComment)
+                .build());
+    }
+
+    @Test
+    void postListRunsSingleQuery() throws Exception {
+        QueryCount queryCount = queryCountOf(mockMvc.perform(get("/posts")).andReturn());
+
+        assertThat(queryCount.getTotal()).isEqualTo(1);
+    }
+
+    @Test
+    void postDetailQueries() throws Exception {
+        QueryCount queryCount = queryCountOf(mockMvc.perform(get("/posts/" + post.getId())).andReturn());
+
+        // 게시글 + 전체 댓글 (트리 조립과 댓글 수 계산은 메모리에서 처리)
+        assertThat(queryCount.getTotal()).isEqualTo(2);
+    }
+
+    @Test
+    void createCommentQueries() throws Exception {
+        QueryCount queryCount = queryCountOf(mockMvc.perform(post("/posts/" + post.getId() + "/comments")
+                .param("content", "새 댓글")
+                .param("author", "작성자")
+                .with(user(loginUser()))
+                .with(csrf())).andReturn());
+
+        // 게시글 조회(행 잠금) + 댓글 저장 + 댓글 변경 순번 갱신 + 변경 기록 저장 + 아웃박스 이벤트 저장
+        assertThat(queryCount.getSelect()).isEqualTo(1);
+        assertThat(queryCount.getInsert()).isEqualTo(3);
+        assertThat(queryCount.getTotal()).isEqualTo(5);
+    }
+
+    @Test
+    void createReplyQueries() throws Exception {
+        QueryCount queryCount = queryCountOf(mockMvc.perform(
+                post("/posts/" + post.getId() + "/comments/" + parentComment.getId() + "/reply")
+                        .param("content", "새 대댓글")
+                        .param("author", "작성자")
+                        .with(user(loginUser()))
+                        .with(csrf())).andReturn());
+
+        // 게시글 조회(행 잠금) + 부모 댓글 조회 + 대댓글 저장 + 댓글 변경 순번 갱신 + 변경 기록 저장 + 아웃박스 이벤트 저장
+        assertThat(queryCount.getSelect()).isEqualTo(2);
+        assertThat(queryCount.getInsert()).isEqualTo(3);
+        assertThat(queryCount.getTotal()).isEqualTo(6);
+    }
+
+    private QueryCount queryCountOf(MvcResult result) {
+        QueryCount queryCount = (QueryCount) result.getRequest().getAttribute(QueryBudgetFilter.QUERY_COUNT_ATTRIBUTE);
+        assertThat(queryCount).isNotNull();
+        return queryCount;
+    }
+
+    private CustomUserDetails loginUser() {
+        return new CustomUserDetails(User.builder()
+                .username("tester")
+                .password("password")
+                .name("작성자")
+                .build());
+    }
+}
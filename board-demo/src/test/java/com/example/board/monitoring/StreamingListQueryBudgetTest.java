@@ -0,0 +1,62 @@
+package com.example.board.monitoring;
+
+import com.example.board.domain.Post;
+import com.example.board.repository.PostRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * 게시글 목록 스트리밍의 SQL 예산 테스트
+ * 묶음 조회가 N+1 임계치 이상 반복되어도 예산 위반으로 보지 않는지 검증 (묶음 크기를 작게 하여 여러 묶음을 조회)
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:streaming-query-budget;DB_CLOSE_DELAY=-1",
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.jpa.open-in-view=false",
+        "query.budget.fail-on-exceed=true",
+        "post.list.chunk-size=2"
+})
+@AutoConfigureMockMvc
+class StreamingListQueryBudgetTest {
+
+    private static final int POSTS = 9;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private PostRepository postRepository;
+
+    @Test
+    void streamingManyChunksStaysWithinBudget() throws Exception {
+        IntStream.rangeClosed(1, POSTS).forEach(i -> postRepository.save(Post.builder()
+                .title("스트리밍 게시글 " + i)
+                .content("내용")
+                .author("작성자")
+                .build()));
+
+        MvcResult result = mockMvc.perform(get("/posts"))
+                .andExpect(status().isOk())
+                .andReturn();
+
+        QueryCount queryCount = (QueryCount) result.getRequest().getAttribute(QueryBudgetFilter.QUERY_COUNT_ATTRIBUTE);
+        assertThat(queryCount).isNotNull();
+        // 2개씩 5묶음 (마지막 묶음이 덜 차면 더 조회하지 않음)
+        assertThat(queryCount.getPaged()).isEqualTo(5);
+        assertThat(queryCount.getBudgeted()).isZero();
+        assertThat(queryCount.getRepeatedStatements(3)).isEmpty();
+
+        String html = result.getResponse().getContentAsString();
+        IntStream.rangeClosed(1, POSTS).forEach(i -> assertThat(html).contains("스트리밍 게시글 " + i));
+    }
+}
@@ -0,0 +1,99 @@
+package com.example.board.resilience;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.ObjectProvider;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.SQLTimeoutException;
+import java.sql.SQLTransientConnectionException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * 서킷 브레이커 DataSource 테스트
+ * 연결은 되지만 느리거나 시간 초과가 나는 DB에서도 서킷이 열리는지 검증
+ */
+class CircuitBreakingDataSourceTest {
+
+    private static final int THRESHOLD = 3;
+
+    private DatabaseCircuitBreaker breaker;
+    private PreparedStatement statement;
+    private CircuitBreakingDataSource dataSource;
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        breaker = new DatabaseCircuitBreaker(THRESHOLD, 60_000, 50, 0, new SimpleMeterRegistry());
+
+        statement = mock(PreparedStatement.class);
+        Connection connection = mock(Connection.class);
+        when(connection.prepareStatement(anyString())).thenReturn(statement);
+        DataSource target = mock(DataSource.class);
+        when(target.getConnection()).thenReturn(connection);
+
+        @SuppressWarnings("unchecked")
+        ObjectProvider<DatabaseCircuitBreaker> provider = mock(ObjectProvider.class);
+        when(provider.getObject()).thenReturn(breaker);
+        dataSource = new CircuitBreakingDataSource(target, provider);
+    }
+
+    @Test
+    void slowStatementsOpenCircuit() throws SQLException {
+        when(statement.execute()).thenAnswer(invocation -> {
+            Thread.sleep(80);
+            return true;
+        });
+
+        for (int i = 0; i < THRESHOLD; i++) {
+            runStatement();
+        }
+
+        assertThat(breaker.getState()).isEqualTo(DatabaseCircuitBreaker.State.OPEN);
+        assertThatThrownBy(dataSource::getConnection).isInstanceOf(SQLTransientConnectionException.class);
+    }
+
+    @Test
+    void statementTimeoutsOpenCircuit() throws SQLException {
+        when(statement.execute()).thenThrow(new SQLTimeoutException("canceled"));
+
+        for (int i = 0; i < THRESHOLD; i++) {
+            try (Connection connection = dataSource.getConnection()) {
+                assertThatThrownBy(() -> connection.prepareStatement("SELECT 1").execute())
+                        .isInstanceOf(SQLTimeoutException.class);
+            }
+        }
+
+        assertThat(breaker.getState()).isEqualTo(DatabaseCircuitBreaker.State.OPEN);
+    }
+
+    @Test
+    void fastStatementResetsConsecutiveFailures() throws SQLException {
+        when(statement.execute()).thenAnswer(invocation -> {
+            Thread.sleep(80);
+            return true;
+        });
+        for (int i = 0; i < THRESHOLD - 1; i++) {
+            runStatement();
+        }
+
+        when(statement.execute()).thenReturn(true);
+        runStatement();
+
+        assertThat(breaker.getState()).isEqualTo(DatabaseCircuitBreaker.State.CLOSED);
+    }
+
+    private void runStatement() throws SQLException {
+        try (Connection connection = dataSource.getConnection()) {
+            connection.prepareStatement("SELECT 1").execute();
+        }
+    }
+}
@@ -0,0 +1,141 @@
+package com.example.board.resilience;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 요청 병합(SingleFlight) 테스트
+ * 진행 중인 조회 합류, 오류 전파, 완료 후 정리, 쓰기 직후 새 조회를 검증
+ */
+class SingleFlightTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private SingleFlight<Long, String> singleFlight;
+    private AtomicInteger loaderCalls;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        singleFlight = new SingleFlight<>("test", meterRegistry);
+        loaderCalls = new AtomicInteger();
+    }
+
+    @Test
+    void concurrentLoadsOfSameKeyShareOneLoad() {
+        CompletableFuture<String> source = new CompletableFuture<>();
+
+        CompletableFuture<String> first = singleFlight.load(1L, () -> pending(source));
+        CompletableFuture<String> second = singleFlight.load(1L, () -> pending(new CompletableFuture<>()));
+        source.complete("게시글");
+
+        assertThat(loaderCalls).hasValue(1);
+        assertThat(first.join()).isEqualTo("게시글");
+        assertThat(second.join()).isEqualTo("게시글");
+        assertThat(counter("board.singleflight.loads")).isEqualTo(1.0);
+        assertThat(counter("board.singleflight.collapsed")).isEqualTo(1.0);
+    }
+
+    @Test
+    void differentKeysLoadSeparately() {
+        singleFlight.load(1L, () -> pending(new CompletableFuture<>()));
+        singleFlight.load(2L, () -> pending(new CompletableFuture<>()));
+
+        assertThat(loaderCalls).hasValue(2);
+        assertThat(inFlight()).isEqualTo(2.0);
+    }
+
+    @Test
+    void failurePropagatesToEveryWaiterUnwrapped() {
+        CompletableFuture<String> source = new CompletableFuture<>();
+        CompletableFuture<String> first = singleFlight.load(1L, () -> pending(source));
+        CompletableFuture<String> second = singleFlight.load(1L, () -> pending(new CompletableFuture<>()));
+
+        IllegalArgumentException failure = new IllegalArgumentException("해당 게시글이 존재하지 않습니다.");
+        source.completeExceptionally(new CompletionException(failure));
+
+        assertThatThrownBy(first::join).hasCause(failure);
+        assertThatThrownBy(second::join).hasCause(failure);
+    }
+
+    @Test
+    void loaderThrowingSynchronouslyFailsFutureAndFreesKey() {
+        IllegalStateException failure = new IllegalStateException("조회 실패");
+
+        CompletableFuture<String> result = singleFlight.load(1L, () -> {
+            loaderCalls.incrementAndGet();
+            throw failure;
+        });
+
+        assertThatThrownBy(result::join).hasCause(failure);
+        assertThat(inFlight()).isZero();
+        singleFlight.load(1L, () -> pending(CompletableFuture.completedFuture("재조회")));
+        assertThat(loaderCalls).hasValue(2);
+    }
+
+    @Test
+    void completedLoadIsNotCached() {
+        assertThat(singleFlight.load(1L, () -> pending(CompletableFuture.completedFuture("첫 조회"))).join())
+                .isEqualTo("첫 조회");
+        assertThat(inFlight()).isZero();
+
+        assertThat(singleFlight.load(1L, () -> pending(CompletableFuture.completedFuture("두 번째 조회"))).join())
+                .isEqualTo("두 번째 조회");
+        assertThat(loaderCalls).hasValue(2);
+        assertThat(counter("board.singleflight.collapsed")).isZero();
+    }
+
+    @Test
+    void cancellingOneWaiterDoesNotAffectOthers() {
+        CompletableFuture<String> source = new CompletableFuture<>();
+        CompletableFuture<String> first = singleFlight.load(1L, () -> pending(source));
+        CompletableFuture<String> second = singleFlight.load(1L, () -> pending(new CompletableFuture<>()));
+
+        first.cancel(true);
+        source.complete("게시글");
+
+        assertThat(first).isCancelled();
+        assertThat(second.join()).isEqualTo("게시글");
+    }
+
+    @Test
+    void freshLoadSkipsInFlightLoadAndLaterCallersJoinIt() {
+        CompletableFuture<String> before = new CompletableFuture<>();
+        CompletableFuture<String> fresh = new CompletableFuture<>();
+
+        CompletableFuture<String> stale = singleFlight.load(1L, () -> pending(before));
+        CompletableFuture<String> afterWrite = singleFlight.loadFresh(1L, () -> pending(fresh));
+        CompletableFuture<String> later = singleFlight.load(1L, () -> pending(new CompletableFuture<>()));
+
+        // 쓰기 이전 조회가 먼저 끝나도 새 조회를 키에서 지우지 않음
+        before.complete("쓰기 전");
+        assertThat(inFlight()).isEqualTo(1.0);
+        fresh.complete("쓰기 후");
+
+        assertThat(loaderCalls).hasValue(2);
+        assertThat(stale.join()).isEqualTo("쓰기 전");
+        assertThat(afterWrite.join()).isEqualTo("쓰기 후");
+        assertThat(later.join()).isEqualTo("쓰기 후");
+        assertThat(inFlight()).isZero();
+    }
+
+    private CompletableFuture<String> pending(CompletableFuture<String> source) {
+        loaderCalls.incrementAndGet();
+        return source;
+    }
+
+    private double counter(String name) {
+        return meterRegistry.get(name).tag("name", "test").counter().count();
+    }
+
+    private double inFlight() {
+        return meterRegistry.get("board.singleflight.in_flight").tag("name", "test").gauge().value();
+    }
+}
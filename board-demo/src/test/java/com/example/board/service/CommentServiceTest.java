@@ -0,0 +1,103 @@
+package com.example.board.service;
+
+import com.example.board.domain.Comment;
+import com.example.board.domain.Post;
+import com.example.board.exception.NotAuthorException;
+import com.example.board.repository.CommentRepository;
+import com.example.board.repository.PostRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 댓글 삭제 테스트
+ * 대댓글의 대댓글까지 함께 지워지고, 지워진 모든 댓글이 변경 기록과 삭제 이벤트에 남는지,
+ * 본인 댓글이 아니면(이름이 같은 다른 사용자 포함) 아무것도 지워지지 않는지 검증
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:comment-service;DB_CLOSE_DELAY=-1",
+        "spring.jpa.hibernate.ddl-auto=create-drop"
+})
+class CommentServiceTest {
+
+    private static final String AUTHOR = "작성자";
+    private static final String USERNAME = "writer";
+
+    @Autowired
+    private CommentService commentService;
+
+    @Autowired
+    private PostRepository postRepository;
+
+    @Autowired
+    private CommentRepository commentRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private Post post;
+    private Comment root;
+    private Comment reply;
+    private Comment nestedReply;
+    private Comment sibling;
+
+    @BeforeEach
+    void setUp() {
+        post = postRepository.save(Post.builder()
+                .title("게시글")
+                .content("내용")
+                .author(AUTHOR)
+                .authorUsername(USERNAME)
+                .build());
+        root = saveComment("댓글", post, null);
+        reply = saveComment("대댓글", post, root);
+        nestedReply = saveComment("대댓글의 대댓글", post, reply);
+        sibling = saveComment("다른 댓글", post, null);
+    }
+
+    @Test
+    void deletingCommentRemovesAllDescendants() {
+        commentService.deleteOwnComment(root.getId(), USERNAME, AUTHOR);
+
+        List<Long> deletedIds = List.of(root.getId(), reply.getId(), nestedReply.getId());
+        assertThat(commentRepository.findAllById(deletedIds)).isEmpty();
+        assertThat(commentRepository.existsById(sibling.getId())).isTrue();
+
+        assertThat(jdbcTemplate.queryForList(
+                "SELECT comment_id FROM comment_changes WHERE post_id = ? AND type = 'DELETED'",
+                Long.class, post.getId()))
+                .containsExactlyInAnyOrderElementsOf(deletedIds);
+        String payload = jdbcTemplate.queryForObject(
+                "SELECT payload FROM outbox_events WHERE aggregate_id = ? AND event_type = 'CommentDeleted'",
+                String.class, post.getId());
+        assertThat(payload).contains("\"commentIds\":[" + root.getId() + "," + reply.getId() + ","
+                + nestedReply.getId() + "]");
+    }
+
+    @Test
+    void deletingOthersCommentRemovesNothing() {
+        // 표시 이름은 중복될 수 있으므로 같은 이름이어도 로그인 아이디가 다르면 본인 댓글이 아님
+        assertThatThrownBy(() -> commentService.deleteOwnComment(root.getId(), "someone-else", AUTHOR))
+                .isInstanceOf(NotAuthorException.class);
+
+        assertThat(commentRepository.findAllById(List.of(root.getId(), reply.getId(), nestedReply.getId())))
+                .hasSize(3);
+    }
+
+    private Comment saveComment(String content, Post post, Comment parent) {
+        return commentRepository.save(Comment.builder()
+                .content(content)
+                .author(AUTHOR)
+                .authorUsername(USERNAME)
+                .post(post)
+                .parent(parent)
+                .build());
+    }
+}
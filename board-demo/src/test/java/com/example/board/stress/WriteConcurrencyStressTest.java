@@ -0,0 +1,288 @@
+package com.example.board.stress;
+
+import com.example.board.domain.Comment;
+import com.example.board.domain.Post;
+import com.example.board.domain.User;
+import com.example.board.dto.CommentDto;
+import com.example.board.repository.CommentRepository;
+import com.example.board.repository.PostRepository;
+import com.example.board.security.CustomUserDetails;
+import com.example.board.service.CommentService;
+import com.example.board.service.PostService;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockMultipartHttpServletRequestBuilder;
+import org.springframework.transaction.TransactionException;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.csrf;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.user;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.multipart;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.redirectedUrl;
+
+/**
+ * 쓰기 경로 동시성 스트레스 테스트
+ * 같은 게시글에 여러 스레드가 동시에 댓글/대댓글 작성, 부모 댓글 삭제, 이미지 수정을 수행한 뒤
+ * 고아 댓글이 없는지, 댓글 수가 일치하는지, 이미지 파일이 유실/누수되지 않았는지 검증
+ *
+ * 실행: ./gradlew stressTest (기본 check에는 포함되지 않으며 -PstressTest로 포함)
+ */
+@Tag("stress")
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:stress;DB_CLOSE_DELAY=-1;LOCK_TIMEOUT=10000",
+        "spring.jpa.hibernate.ddl-auto=create-drop"
+})
+@AutoConfigureMockMvc
+class WriteConcurrencyStressTest {
+
+    private static final Logger log = LoggerFactory.getLogger(WriteConcurrencyStressTest.class);
+
+    private static final Path UPLOAD_DIR = createUploadDir();
+    private static final String AUTHOR = "작성자";
+    private static final String USERNAME = "stress";
+    private static final int THREADS = 16;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private PostService postService;
+
+    @Autowired
+    private CommentService commentService;
+
+    @Autowired
+    private PostRepository postRepository;
+
+    @Autowired
+    private CommentRepository commentRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @DynamicPropertySource
+    static void uploadDir(DynamicPropertyRegistry registry) {
+        registry.add("file.upload-dir", UPLOAD_DIR::toString);
+    }
+
+    @Test
+    void concurrentCommentsAndRepliesKeepCountConsistent() throws Exception {
+        Post post = postService.createPost("동시 댓글", "내용", AUTHOR, USERNAME);
+        List<Long> parentIds = Stream.of(1, 2, 3, 4, 5)
+                .map(i -> commentService.createComment(post.getId(), commentDto("부모 " + i), USERNAME).getId())
+                .toList();
+
+        StressResult result = runConcurrently(THREADS, 25, (thread, op) -> {
+            if (op % 2 == 0) {
+                commentService.createComment(post.getId(), commentDto("댓글 " + thread + "-" + op), USERNAME);
+            } else {
+                Long parentId = parentIds.get((thread + op) % parentIds.size());
+                commentService.createReply(post.getId(), parentId, commentDto("대댓글 " + thread + "-" + op), USERNAME);
+            }
+        });
+
+        result.log("댓글/대댓글 동시 작성");
+        assertThat(result.unexpected).isEmpty();
+        assertThat(result.failures.get()).isZero();
+        assertThat(commentService.getCommentCount(post.getId()))
+                .isEqualTo(parentIds.size() + result.successes.get());
+        assertCommentCountConsistent(post.getId());
+        assertNoOrphanComments();
+    }
+
+    @Test
+    void replyRacingParentDeleteLeavesNoOrphans() throws Exception {
+        Post post = postService.createPost("삭제 경쟁", "내용", AUTHOR, USERNAME);
+
+        for (int round = 0; round < 30; round++) {
+            Long parentId = commentService.createComment(post.getId(), commentDto("부모 " + round), USERNAME).getId();
+            AtomicInteger replies = new AtomicInteger();
+
+            StressResult result = runConcurrently(5, 1, (thread, op) -> {
+                if (thread == 0) {
+                    commentService.deleteOwnComment(parentId, USERNAME, AUTHOR);
+                } else {
+                    commentService.createReply(post.getId(), parentId, commentDto("경쟁 대댓글 " + thread), USERNAME);
+                    replies.incrementAndGet();
+                }
+            });
+
+            assertThat(result.unexpected).isEmpty();
+            long remainingReplies = commentRepository.findRepliesByParentId(parentId).size();
+            if (commentRepository.existsById(parentId)) {
+                assertThat(remainingReplies).isEqualTo(replies.get());
+            } else {
+                assertThat(remainingReplies).isZero();
+            }
+        }
+
+        assertCommentCountConsistent(post.getId());
+        assertNoOrphanComments();
+    }
+
+    @Test
+    void concurrentImageEditsDoNotLoseOrLeakFiles() throws Exception {
+        Post post = postService.createPostWithImage("이미지 경쟁", "내용", AUTHOR, USERNAME, null);
+
+        StressResult result = runConcurrently(8, 5, (thread, op) -> {
+            boolean removeOnly = (thread + op) % 4 == 0;
+            MockMultipartHttpServletRequestBuilder request = multipart("/posts/" + post.getId() + "/edit");
+            if (removeOnly) {
+                request.param("deleteImage", "true");
+            } else {
+                request.file(new MockMultipartFile("image", "snow.png", "image/png", new byte[]{1, 2, 3, (byte) op}));
+            }
+            request.param("title", "수정 " + thread + "-" + op)
+                    .param("content", "내용 " + thread + "-" + op)
+                    .with(user(loginUser()))
+                    .with(csrf());
+            mockMvc.perform(request).andExpect(redirectedUrl("/posts/" + post.getId()));
+        });
+
+        result.log("게시글 이미지 동시 수정");
+        assertThat(result.unexpected).isEmpty();
+        assertThat(result.failures.get()).isZero();
+
+        Post updated = postRepository.findById(post.getId()).orElseThrow();
+        Set<Path> referenced = updated.getImagePath() == null
+                ? Set.of()
+                : Set.of(UPLOAD_DIR.resolve(updated.getImagePath().substring(1)).normalize());
+        assertThat(filesOnDisk()).isEqualTo(referenced);
+    }
+
+    // ========================================
+    // 불변식 검증
+    // ========================================
+
+    private void assertNoOrphanComments() {
+        Integer orphans = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM comments c WHERE c.parent_id IS NOT NULL "
+                        + "AND NOT EXISTS (SELECT 1 FROM comments p WHERE p.id = c.parent_id)",
+                Integer.class);
+        assertThat(orphans).isZero();
+    }
+
+    private void assertCommentCountConsistent(Long postId) {
+        List<Comment> comments = commentService.findAllCommentsByPostId(postId);
+        assertThat(commentService.getCommentCount(postId)).isEqualTo(comments.size());
+    }
+
+    private Set<Path> filesOnDisk() throws IOException {
+        Path postsDir = UPLOAD_DIR.resolve("posts");
+        if (!Files.exists(postsDir)) {
+            return Set.of();
+        }
+        try (Stream<Path> files = Files.walk(postsDir)) {
+            return files.filter(Files::isRegularFile).map(Path::normalize).collect(Collectors.toSet());
+        }
+    }
+
+    // ========================================
+    // 동시 실행 도구
+    // ========================================
+
+    @FunctionalInterface
+    private interface StressTask {
+        void run(int thread, int op) throws Exception;
+    }
+
+    /**
+     * 모든 스레드를 동시에 출발시켜 작업을 반복 실행
+     * DB 제약/잠금으로 인한 실패와 존재하지 않는 대상(IllegalArgumentException)은 정상적인 실패로 집계
+     */
+    private StressResult runConcurrently(int threads, int opsPerThread, StressTask task) throws InterruptedException {
+        StressResult result = new StressResult(threads * opsPerThread);
+        CountDownLatch startGate = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+
+        for (int t = 0; t < threads; t++) {
+            int thread = t;
+            executor.submit(() -> {
+                startGate.await();
+                for (int op = 0; op < opsPerThread; op++) {
+                    try {
+                        task.run(thread, op);
+                        result.successes.incrementAndGet();
+                    } catch (IllegalArgumentException | DataAccessException | TransactionException e) {
+                        result.failures.incrementAndGet();
+                    } catch (Throwable e) {
+                        result.unexpected.add(e);
+                    }
+                }
+                return null;
+            });
+        }
+
+        long start = System.nanoTime();
+        startGate.countDown();
+        executor.shutdown();
+        assertThat(executor.awaitTermination(2, TimeUnit.MINUTES)).isTrue();
+        result.elapsedNanos = System.nanoTime() - start;
+        return result;
+    }
+
+    private static final class StressResult {
+        private final int operations;
+        private final AtomicInteger successes = new AtomicInteger();
+        private final AtomicInteger failures = new AtomicInteger();
+        private final ConcurrentLinkedQueue<Throwable> unexpected = new ConcurrentLinkedQueue<>();
+        private long elapsedNanos;
+
+        private StressResult(int operations) {
+            this.operations = operations;
+        }
+
+        private void log(String name) {
+            double seconds = elapsedNanos / 1_000_000_000.0;
+            log.info("[stress] {}: {}건 (성공 {}, 실패 {}) {}초, 처리량 {} ops/s",
+                    name, operations, successes.get(), failures.get(),
+                    String.format("%.2f", seconds), String.format("%.1f", operations / seconds));
+        }
+    }
+
+    private static CommentDto commentDto(String content) {
+        return new CommentDto(content, AUTHOR, null);
+    }
+
+    private static CustomUserDetails loginUser() {
+        return new CustomUserDetails(User.builder()
+                .username(USERNAME)
+                .password("password")
+                .name(AUTHOR)
+                .build());
+    }
+
+    private static Path createUploadDir() {
+        try {
+            return Files.createTempDirectory("stress-uploads");
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}